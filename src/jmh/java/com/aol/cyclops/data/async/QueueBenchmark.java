@@ -0,0 +1,137 @@
+package com.aol.cyclops.data.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aol.cyclops.data.async.wait.WaitStrategy;
+
+/**
+ * Throughput and per element latency of transferring data between a producer thread and a consumer thread
+ * via an async.Queue, for each of the Queue types available from QueueFactories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class QueueBenchmark {
+
+    static final int ELEMENTS = 10_000;
+
+    @Param({ "boundedQueue", "unboundedQueue", "unboundedNonBlockingQueue", "boundedNonBlockingQueue",
+            "singleWriterboundedNonBlockingQueue", "synchronousQueue", "boundedNonBlockingQueueSpinPark",
+            "boundedNonBlockingQueueIdle" })
+    public String factory;
+
+    @Param({ "1024" })
+    public int boundedSize;
+
+    private QueueFactory<Integer> queueFactory;
+    private ExecutorService producer;
+    private Queue<Integer> queue;
+
+    @Setup
+    public void setup() {
+        queueFactory = factory(factory, boundedSize);
+        producer = Executors.newSingleThreadExecutor();
+    }
+
+    @Setup(Level.Invocation)
+    public void buildQueue() {
+        queue = queueFactory.build();
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeQueue() {
+        queue.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        producer.shutdownNow();
+    }
+
+    static QueueFactory<Integer> factory(final String name, final int boundedSize) {
+        switch (name) {
+        case "boundedQueue":
+            return QueueFactories.boundedQueue(boundedSize);
+        case "unboundedQueue":
+            return QueueFactories.unboundedQueue();
+        case "unboundedNonBlockingQueue":
+            return QueueFactories.unboundedNonBlockingQueue();
+        case "boundedNonBlockingQueue":
+            return QueueFactories.boundedNonBlockingQueue(boundedSize);
+        case "singleWriterboundedNonBlockingQueue":
+            return QueueFactories.singleWriterboundedNonBlockingQueue(boundedSize);
+        case "synchronousQueue":
+            return QueueFactories.synchronousQueue();
+        case "boundedNonBlockingQueueSpinPark":
+            return QueueFactories.boundedNonBlockingQueue(boundedSize, WaitStrategy.spinPark());
+        case "boundedNonBlockingQueueIdle":
+            return QueueFactories.boundedNonBlockingQueue(boundedSize, WaitStrategy.idle(() -> new BackoffIdleStrategy(
+                                                                                                                      100, 10, 1,
+                                                                                                                      1_000_000)));
+        default:
+            throw new IllegalArgumentException(
+                                               "Unknown QueueFactory " + name);
+        }
+    }
+
+    /**
+     * One producer thread offers ELEMENTS values while the benchmark thread takes them
+     */
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void transfer(final Blackhole bh) {
+        final Queue<Integer> queue = this.queue;
+        producer.execute(() -> {
+            for (int i = 0; i < ELEMENTS; i++)
+                queue.offer(i);
+        });
+        for (int i = 0; i < ELEMENTS; i++)
+            bh.consume(queue.get());
+    }
+
+    /**
+     * As transfer, but the benchmark thread takes data in batches of up to 128 elements via Queue#drainTo
+     */
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void transferBatched(final Blackhole bh) {
+        final Queue<Integer> queue = this.queue;
+        producer.execute(() -> {
+            for (int i = 0; i < ELEMENTS; i++)
+                queue.offer(i);
+        });
+        final List<Integer> buffer = new ArrayList<>(
+                                                     128);
+        int taken = 0;
+        while (taken < ELEMENTS) {
+            buffer.clear();
+            taken += queue.drainTo(buffer, 128);
+            bh.consume(buffer);
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.aol.cyclops.internal.react.async.future;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of pushing a value through an ExecutionPipeline via FastFuture#set and reading it back via FastFuture#join.
+ *
+ * The sync executor runs every stage on the calling thread, the async executor hands the first stage
+ * to another thread (measuring cross-thread completion latency).
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FastFutureBenchmark {
+
+    @Param({ "1", "4", "16" })
+    public int stages;
+
+    @Param({ "sync", "async" })
+    public String executor;
+
+    private ExecutorService exec;
+    private PipelineBuilder pipeline;
+    private FuturePool pool;
+
+    @Setup
+    public void setup() {
+        exec = Executors.newSingleThreadExecutor();
+        PipelineBuilder builder = new PipelineBuilder();
+        if ("async".equals(executor))
+            builder = builder.thenApplyAsync((final Integer i) -> i + 1, exec);
+        else
+            builder = builder.thenApply((final Integer i) -> i + 1);
+        for (int i = 1; i < stages; i++)
+            builder = builder.thenApply((final Integer in) -> in + 1);
+        pipeline = builder;
+        pool = new FuturePool(
+                              new ManyToOneConcurrentArrayQueue<>(
+                                                                  16),
+                              16);
+    }
+
+    @TearDown
+    public void tearDown() {
+        exec.shutdownNow();
+    }
+
+    @Benchmark
+    public Integer setJoin() {
+        final FastFuture<Integer> f = pipeline.build();
+        f.set(1);
+        return f.join();
+    }
+
+    @Benchmark
+    public Integer setJoinPooled() {
+        final FastFuture<Integer> f = pool.next(() -> pipeline.build());
+        f.set(1);
+        final Integer result = f.join();
+        pool.done(f);
+        return result;
+    }
+
+    @Benchmark
+    public Object completedFutureJoin() {
+        return FastFuture.completedFuture(1)
+                         .join();
+    }
+}
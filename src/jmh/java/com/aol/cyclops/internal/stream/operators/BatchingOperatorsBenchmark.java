@@ -0,0 +1,76 @@
+package com.aol.cyclops.internal.stream.operators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aol.cyclops.control.ReactiveSeq;
+
+/**
+ * Per element cost of the batching operators (BatchBySizeOperator, BatchByTimeOperator, BatchByTimeAndSizeOperator,
+ * BatchWhileOperator and WindowStatefullyWhileOperator) as exposed via ReactiveSeq
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BatchingOperatorsBenchmark {
+
+    static final int ELEMENTS = 100_000;
+
+    @Param({ "8", "64", "512" })
+    public int batchSize;
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void grouped(final Blackhole bh) {
+        ReactiveSeq.range(0, ELEMENTS)
+                   .grouped(batchSize)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void groupedBySizeAndTime(final Blackhole bh) {
+        ReactiveSeq.range(0, ELEMENTS)
+                   .groupedBySizeAndTime(batchSize, 1, TimeUnit.SECONDS)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void groupedByTime(final Blackhole bh) {
+        ReactiveSeq.range(0, ELEMENTS)
+                   .groupedByTime(1, TimeUnit.MILLISECONDS)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void groupedWhile(final Blackhole bh) {
+        ReactiveSeq.range(0, ELEMENTS)
+                   .groupedWhile(i -> i % batchSize != 0)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void groupedStatefullyUntil(final Blackhole bh) {
+        ReactiveSeq.range(0, ELEMENTS)
+                   .groupedStatefullyUntil((batch, i) -> batch.size() == batchSize)
+                   .forEach(bh::consume);
+    }
+}
@@ -0,0 +1,104 @@
+package com.aol.cyclops.types.futurestream;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.react.collectors.lazy.MaxActive;
+
+/**
+ * Per element cost of map / filter / flatMap on a LazyFutureStream at several MaxActive settings
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LazyFutureStreamBenchmark {
+
+    static final int ELEMENTS = 10_000;
+
+    @Param({ "CPU", "IO", "1000" })
+    public String maxActive;
+
+    private ExecutorService exec;
+    private LazyReact react;
+
+    @Setup
+    public void setup() {
+        exec = Executors.newFixedThreadPool(Runtime.getRuntime()
+                                                   .availableProcessors());
+        react = new LazyReact(
+                              exec).withMaxActive(maxActive(maxActive));
+    }
+
+    @TearDown
+    public void tearDown() {
+        exec.shutdownNow();
+    }
+
+    static MaxActive maxActive(final String name) {
+        switch (name) {
+        case "CPU":
+            return MaxActive.CPU;
+        case "IO":
+            return MaxActive.IO;
+        default:
+            final int max = Integer.parseInt(name);
+            return new MaxActive(
+                                 max, max - max / 10);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public List<Integer> map() {
+        return react.range(0, ELEMENTS)
+                    .map(i -> i + 1)
+                    .toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public List<Integer> filter() {
+        return react.range(0, ELEMENTS)
+                    .filter(i -> i % 2 == 0)
+                    .toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public List<Integer> flatMap() {
+        return react.range(0, ELEMENTS)
+                    .flatMap(i -> Stream.of(i, i))
+                    .toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public List<Integer> mapFilterMap() {
+        return react.range(0, ELEMENTS)
+                    .map(i -> i + 1)
+                    .filter(i -> i % 2 == 0)
+                    .map(i -> i * 2)
+                    .toList();
+    }
+}
@@ -1,7 +1,13 @@
 package com.aol.cyclops;
 
 import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /**
@@ -115,5 +121,182 @@ public interface Monoid<T> extends Semigroup<T> {
             }
         };
     }
-    
+
+    /**
+     * A Monoid specialized for int values, combining values without boxing them
+     * 
+     * <pre>
+     * {@code 
+     *   Monoid.OfInt sum = Monoids.primitiveIntSum;
+     *   
+     *   int total = sum.reduce(IntStream.of(1,2,3));
+     * }
+     * </pre>
+     * 
+     * @see com.aol.cyclops.control.IntSeq#reduce(OfInt)
+     */
+    public static interface OfInt extends IntBinaryOperator {
+
+        /**
+         * @return Identity element
+         */
+        int zero();
+
+        /**
+         * Perform a reduction operation on the supplied IntStream
+         * 
+         * @param toReduce IntStream to reduce
+         * @return Reduced value
+         */
+        default int reduce(final IntStream toReduce) {
+            return toReduce.reduce(zero(), this);
+        }
+
+        /**
+         * @return A boxed Monoid with the same identity element and combiner
+         */
+        default Monoid<Integer> boxed() {
+            return Monoid.fromBiFunction(zero(), (a, b) -> applyAsInt(a, b));
+        }
+
+        /**
+         * Construct a primitive Monoid from the supplied identity element and combining function
+         * 
+         * @param zero Identity element
+         * @param combiner Combining function
+         * @return Monoid consisting of the supplied identity element and combiner
+         */
+        public static OfInt of(final int zero, final IntBinaryOperator combiner) {
+            return new OfInt() {
+                @Override
+                public int zero() {
+                    return zero;
+                }
+
+                @Override
+                public int applyAsInt(final int left, final int right) {
+                    return combiner.applyAsInt(left, right);
+                }
+            };
+        }
+    }
+
+    /**
+     * A Monoid specialized for long values, combining values without boxing them
+     * 
+     * <pre>
+     * {@code 
+     *   Monoid.OfLong sum = Monoids.primitiveLongSum;
+     *   
+     *   long total = sum.reduce(LongStream.of(1,2,3));
+     * }
+     * </pre>
+     * 
+     * @see com.aol.cyclops.control.LongSeq#reduce(OfLong)
+     */
+    public static interface OfLong extends LongBinaryOperator {
+
+        /**
+         * @return Identity element
+         */
+        long zero();
+
+        /**
+         * Perform a reduction operation on the supplied LongStream
+         * 
+         * @param toReduce LongStream to reduce
+         * @return Reduced value
+         */
+        default long reduce(final LongStream toReduce) {
+            return toReduce.reduce(zero(), this);
+        }
+
+        /**
+         * @return A boxed Monoid with the same identity element and combiner
+         */
+        default Monoid<Long> boxed() {
+            return Monoid.fromBiFunction(zero(), (a, b) -> applyAsLong(a, b));
+        }
+
+        /**
+         * Construct a primitive Monoid from the supplied identity element and combining function
+         * 
+         * @param zero Identity element
+         * @param combiner Combining function
+         * @return Monoid consisting of the supplied identity element and combiner
+         */
+        public static OfLong of(final long zero, final LongBinaryOperator combiner) {
+            return new OfLong() {
+                @Override
+                public long zero() {
+                    return zero;
+                }
+
+                @Override
+                public long applyAsLong(final long left, final long right) {
+                    return combiner.applyAsLong(left, right);
+                }
+            };
+        }
+    }
+
+    /**
+     * A Monoid specialized for double values, combining values without boxing them
+     * 
+     * <pre>
+     * {@code 
+     *   Monoid.OfDouble sum = Monoids.primitiveDoubleSum;
+     *   
+     *   double total = sum.reduce(DoubleStream.of(1,2,3));
+     * }
+     * </pre>
+     * 
+     * @see com.aol.cyclops.control.DoubleSeq#reduce(OfDouble)
+     */
+    public static interface OfDouble extends DoubleBinaryOperator {
+
+        /**
+         * @return Identity element
+         */
+        double zero();
+
+        /**
+         * Perform a reduction operation on the supplied DoubleStream
+         * 
+         * @param toReduce DoubleStream to reduce
+         * @return Reduced value
+         */
+        default double reduce(final DoubleStream toReduce) {
+            return toReduce.reduce(zero(), this);
+        }
+
+        /**
+         * @return A boxed Monoid with the same identity element and combiner
+         */
+        default Monoid<Double> boxed() {
+            return Monoid.fromBiFunction(zero(), (a, b) -> applyAsDouble(a, b));
+        }
+
+        /**
+         * Construct a primitive Monoid from the supplied identity element and combining function
+         * 
+         * @param zero Identity element
+         * @param combiner Combining function
+         * @return Monoid consisting of the supplied identity element and combiner
+         */
+        public static OfDouble of(final double zero, final DoubleBinaryOperator combiner) {
+            return new OfDouble() {
+                @Override
+                public double zero() {
+                    return zero;
+                }
+
+                @Override
+                public double applyAsDouble(final double left, final double right) {
+                    return combiner.applyAsDouble(left, right);
+                }
+            };
+        }
+    }
+
 }
@@ -534,6 +534,42 @@ public interface Monoids {
      * Combine two BigIntegers by selecting the min
      */
     static Monoid<BigInteger> bigIntMin = Monoid.of(BigInteger.valueOf(Long.MAX_VALUE), Semigroups.bigIntMin);
+    /**
+     * Combine two ints by summing them, without boxing
+     */
+    static Monoid.OfInt primitiveIntSum = Monoid.OfInt.of(0, (a, b) -> a + b);
+    /**
+     * Combine two longs by summing them, without boxing
+     */
+    static Monoid.OfLong primitiveLongSum = Monoid.OfLong.of(0l, (a, b) -> a + b);
+    /**
+     * Combine two doubles by summing them, without boxing
+     */
+    static Monoid.OfDouble primitiveDoubleSum = Monoid.OfDouble.of(0d, (a, b) -> a + b);
+    /**
+     * Combine two ints by selecting the max, without boxing
+     */
+    static Monoid.OfInt primitiveIntMax = Monoid.OfInt.of(Integer.MIN_VALUE, Math::max);
+    /**
+     * Combine two longs by selecting the max, without boxing
+     */
+    static Monoid.OfLong primitiveLongMax = Monoid.OfLong.of(Long.MIN_VALUE, Math::max);
+    /**
+     * Combine two doubles by selecting the max, without boxing
+     */
+    static Monoid.OfDouble primitiveDoubleMax = Monoid.OfDouble.of(Double.NEGATIVE_INFINITY, Math::max);
+    /**
+     * Combine two ints by selecting the min, without boxing
+     */
+    static Monoid.OfInt primitiveIntMin = Monoid.OfInt.of(Integer.MAX_VALUE, Math::min);
+    /**
+     * Combine two longs by selecting the min, without boxing
+     */
+    static Monoid.OfLong primitiveLongMin = Monoid.OfLong.of(Long.MAX_VALUE, Math::min);
+    /**
+     * Combine two doubles by selecting the min, without boxing
+     */
+    static Monoid.OfDouble primitiveDoubleMin = Monoid.OfDouble.of(Double.POSITIVE_INFINITY, Math::min);
     /**
      * String concatenation
      */
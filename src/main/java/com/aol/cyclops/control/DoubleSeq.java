@@ -0,0 +1,415 @@
+package com.aol.cyclops.control;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.Iterator;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.internal.stream.PrimitiveSlidingWindow;
+
+/**
+ * A sequential Stream of double values, that provides cyclops-react operators (sliding, grouped, scanLeft, zipWithIndex and
+ * Monoid reductions) that operate directly on the primitive values rather than boxing each element.
+ * 
+ * <pre>
+ * {@code 
+ *   double[] rollingTotals = DoubleSeq.of(1,2,3,4,5)
+ *                           .slidingReduce(2,1,Monoids.primitiveDoubleSum)
+ *                           .toArray();
+ *   
+ *   //[3,5,7,9]
+ * }
+ * </pre>
+ * 
+ * Windows produced by sliding and grouped are double[] arrays, use {@link #boxed()} to convert to a ReactiveSeq of Doubles.
+ */
+public final class DoubleSeq {
+
+    private final DoubleStream stream;
+
+    private DoubleSeq(final DoubleStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Function that accepts a double value and its (zero based) position in the sequence
+     *
+     * @param <R> Return type
+     */
+    @FunctionalInterface
+    public static interface IndexedFunction<R> {
+        R apply(double value, long index);
+    }
+
+    /**
+     * Construct a DoubleSeq from the supplied values
+     * 
+     * @param values Values to include in the sequence
+     * @return DoubleSeq of the supplied values
+     */
+    public static DoubleSeq of(final double... values) {
+        return new DoubleSeq(
+                             Arrays.stream(values));
+    }
+
+    /**
+     * @return An empty DoubleSeq
+     */
+    public static DoubleSeq empty() {
+        return new DoubleSeq(
+                             DoubleStream.empty());
+    }
+
+    /**
+     * Construct a DoubleSeq from a DoubleStream
+     * 
+     * @param stream DoubleStream to wrap
+     * @return DoubleSeq of the values in the supplied DoubleStream
+     */
+    public static DoubleSeq fromDoubleStream(final DoubleStream stream) {
+        return new DoubleSeq(
+                             stream.sequential());
+    }
+
+    /**
+     * @see DoubleStream#iterate(double, DoubleUnaryOperator)
+     * @param seed Initial value
+     * @param f Function to compute the next value from the previous one
+     * @return Infinite DoubleSeq
+     */
+    public static DoubleSeq iterate(final double seed, final DoubleUnaryOperator f) {
+        return new DoubleSeq(
+                             DoubleStream.iterate(seed, f));
+    }
+
+    private static DoubleSeq fromIterator(final PrimitiveIterator.OfDouble it) {
+        return new DoubleSeq(
+                             StreamSupport.doubleStream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false));
+    }
+
+    /**
+     * @return The underlying DoubleStream
+     */
+    public DoubleStream doubleStream() {
+        return stream;
+    }
+
+    public DoubleSeq map(final DoubleUnaryOperator mapper) {
+        return new DoubleSeq(
+                             stream.map(mapper));
+    }
+
+    public DoubleSeq filter(final DoublePredicate predicate) {
+        return new DoubleSeq(
+                             stream.filter(predicate));
+    }
+
+    public DoubleSeq peek(final DoubleConsumer action) {
+        return new DoubleSeq(
+                             stream.peek(action));
+    }
+
+    public DoubleSeq limit(final long maxSize) {
+        return new DoubleSeq(
+                             stream.limit(maxSize));
+    }
+
+    public DoubleSeq skip(final long n) {
+        return new DoubleSeq(
+                             stream.skip(n));
+    }
+
+    public DoubleSeq distinct() {
+        return new DoubleSeq(
+                             stream.distinct());
+    }
+
+    public DoubleSeq sorted() {
+        return new DoubleSeq(
+                             stream.sorted());
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(final DoubleFunction<? extends R> mapper) {
+        return ReactiveSeq.fromStream(stream.mapToObj(mapper));
+    }
+
+    public IntSeq mapToInt(final DoubleToIntFunction mapper) {
+        return IntSeq.fromIntStream(stream.mapToInt(mapper));
+    }
+
+    public LongSeq mapToLong(final DoubleToLongFunction mapper) {
+        return LongSeq.fromLongStream(stream.mapToLong(mapper));
+    }
+
+    /**
+     * @return ReactiveSeq of boxed values
+     */
+    public ReactiveSeq<Double> boxed() {
+        return ReactiveSeq.fromStream(stream.boxed());
+    }
+
+    /**
+     * Scan left, emitting the identity and then each intermediate result
+     * 
+     * <pre>
+     * {@code 
+     *  DoubleSeq.of(1,2,3).scanLeft(0,(a,b)->a+b)
+     *  //[0,1,3,6]
+     * }
+     * </pre>
+     * 
+     * @param identity Initial value
+     * @param fn Accumulating function
+     * @return DoubleSeq of intermediate results
+     */
+    public DoubleSeq scanLeft(final double identity, final DoubleBinaryOperator fn) {
+        final PrimitiveIterator.OfDouble it = stream.iterator();
+        return fromIterator(new PrimitiveIterator.OfDouble() {
+            boolean first = true;
+            double current = identity;
+
+            @Override
+            public boolean hasNext() {
+                return first || it.hasNext();
+            }
+
+            @Override
+            public double nextDouble() {
+                if (first)
+                    first = false;
+                else
+                    current = fn.applyAsDouble(current, it.nextDouble());
+                return current;
+            }
+        });
+    }
+
+    /**
+     * Scan left using the supplied Monoid
+     * 
+     * @param monoid Monoid providing the identity and combining function
+     * @return DoubleSeq of intermediate results
+     */
+    public DoubleSeq scanLeft(final Monoid.OfDouble monoid) {
+        return scanLeft(monoid.zero(), monoid);
+    }
+
+    /**
+     * Create a sliding view over this sequence, each window is a new double[]
+     * 
+     * <pre>
+     * {@code 
+     *  DoubleSeq.of(1,2,3,4).sliding(2)
+     *  //[1,2],[2,3],[3,4]
+     * }
+     * </pre>
+     * 
+     * @param windowSize Size of sliding window
+     * @return ReactiveSeq of windows
+     */
+    public ReactiveSeq<double[]> sliding(final int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * Create a sliding view over this sequence, each window is a new double[]
+     * 
+     * @param windowSize Size of sliding window
+     * @param increment Number of elements to move the window on by each time
+     * @return ReactiveSeq of windows
+     * @throws IllegalArgumentException if windowSize or increment is less than 1
+     */
+    public ReactiveSeq<double[]> sliding(final int windowSize, final int increment) {
+        return ReactiveSeq.fromIterator(new Window(
+                                                   stream.iterator(), windowSize, increment));
+    }
+
+    /**
+     * Reduce each sliding window with the supplied Monoid, no per window arrays are created
+     * 
+     * <pre>
+     * {@code 
+     *  DoubleSeq.of(1,2,3,4).slidingReduce(2,1,Monoids.primitiveDoubleSum)
+     *  //[3,5,7]
+     * }
+     * </pre>
+     * 
+     * @param windowSize Size of sliding window
+     * @param increment Number of elements to move the window on by each time
+     * @param monoid Monoid used to reduce each window
+     * @return DoubleSeq of reduced windows
+     */
+    public DoubleSeq slidingReduce(final int windowSize, final int increment, final Monoid.OfDouble monoid) {
+        final Window window = new Window(
+                                         stream.iterator(), windowSize, increment);
+        return fromIterator(new PrimitiveIterator.OfDouble() {
+
+            @Override
+            public boolean hasNext() {
+                return window.hasNext();
+            }
+
+            @Override
+            public double nextDouble() {
+                window.advance();
+                return window.reduce(monoid);
+            }
+        });
+    }
+
+    /**
+     * Group elements into double[] arrays of the specified size (the last group may be smaller)
+     * 
+     * <pre>
+     * {@code 
+     *  DoubleSeq.of(1,2,3,4,5).grouped(2)
+     *  //[1,2],[3,4],[5]
+     * }
+     * </pre>
+     * 
+     * @param groupSize Size of each group
+     * @return ReactiveSeq of groups
+     * @throws IllegalArgumentException if groupSize is less than 1
+     */
+    public ReactiveSeq<double[]> grouped(final int groupSize) {
+        return sliding(groupSize, groupSize);
+    }
+
+    /**
+     * Reduce each group of the specified size with the supplied Monoid, no per group arrays are created
+     * 
+     * @param groupSize Size of each group
+     * @param monoid Monoid used to reduce each group
+     * @return DoubleSeq of reduced groups
+     */
+    public DoubleSeq groupedReduce(final int groupSize, final Monoid.OfDouble monoid) {
+        return slidingReduce(groupSize, groupSize, monoid);
+    }
+
+    /**
+     * Apply the supplied function to each value and its position in the sequence
+     * 
+     * <pre>
+     * {@code 
+     *  DoubleSeq.of(10,20).zipWithIndex((v,i)->v+":"+i)
+     *  //["10:0","20:1"]
+     * }
+     * </pre>
+     * 
+     * @param fn Function that accepts each value and its index
+     * @return ReactiveSeq of results
+     */
+    public <R> ReactiveSeq<R> zipWithIndex(final IndexedFunction<? extends R> fn) {
+        final PrimitiveIterator.OfDouble it = stream.iterator();
+        return ReactiveSeq.fromIterator(new Iterator<R>() {
+            long index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public R next() {
+                return fn.apply(it.nextDouble(), index++);
+            }
+        });
+    }
+
+    /**
+     * Reduce this sequence with the supplied Monoid
+     * 
+     * @param monoid Monoid to reduce with
+     * @return Reduced value, or the Monoid identity if the sequence is empty
+     */
+    public double reduce(final Monoid.OfDouble monoid) {
+        return monoid.reduce(stream);
+    }
+
+    public double reduce(final double identity, final DoubleBinaryOperator op) {
+        return stream.reduce(identity, op);
+    }
+
+    public double sum() {
+        return stream.sum();
+    }
+
+    public OptionalDouble min() {
+        return stream.min();
+    }
+
+    public OptionalDouble max() {
+        return stream.max();
+    }
+
+    public OptionalDouble average() {
+        return stream.average();
+    }
+
+    public long count() {
+        return stream.count();
+    }
+
+    public DoubleSummaryStatistics summaryStatistics() {
+        return stream.summaryStatistics();
+    }
+
+    public double[] toArray() {
+        return stream.toArray();
+    }
+
+    public void forEach(final DoubleConsumer action) {
+        stream.forEach(action);
+    }
+
+    public PrimitiveIterator.OfDouble iterator() {
+        return stream.iterator();
+    }
+
+    /*
+     * Ring buffer backing the sliding and grouped operators
+     */
+    private static final class Window extends PrimitiveSlidingWindow<double[]> {
+        private final PrimitiveIterator.OfDouble it;
+
+        Window(final PrimitiveIterator.OfDouble it, final int windowSize, final int increment) {
+            super(windowSize, increment);
+            this.it = it;
+        }
+
+        @Override
+        protected double[] newArray(final int size) {
+            return new double[size];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        protected void fill(final int slot) {
+            ring[slot] = it.nextDouble();
+        }
+
+        double reduce(final Monoid.OfDouble monoid) {
+            double result = monoid.zero();
+            for (int i = 0; i < size(); i++)
+                result = monoid.applyAsDouble(result, ring[slot(i)]);
+            return result;
+        }
+    }
+}
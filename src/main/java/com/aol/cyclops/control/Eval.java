@@ -2,8 +2,8 @@ package com.aol.cyclops.control;
 
 import static com.aol.cyclops.control.For.Values.each2;
 
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -21,7 +21,6 @@ import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.data.collections.extensions.CollectionX;
 import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
-import com.aol.cyclops.data.collections.extensions.standard.DequeX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.types.Combiner;
 import com.aol.cyclops.types.Filterable;
@@ -32,7 +31,6 @@ import com.aol.cyclops.types.To;
 import com.aol.cyclops.types.Value;
 import com.aol.cyclops.types.applicative.ApplicativeFunctor;
 import com.aol.cyclops.types.stream.reactive.ValueSubscriber;
-import com.aol.cyclops.util.function.Memoize;
 
 /**
  * Represents a computation that can be defered (always), cached (later) or immediate(now).
@@ -117,7 +115,8 @@ public interface Eval<T>
      * @return Eval with specified value
      */
     public static <T> Eval<T> now(final T value) {
-        return always(() -> value);
+        return new Module.Always<T>(
+                                    in -> value);
 
     }
 
@@ -280,6 +279,12 @@ public interface Eval<T>
     @Override
     public <R> Eval<R> flatMap(Function<? super T, ? extends MonadicValue<? extends R>> mapper);
 
+    /**
+     * @deprecated Eval computations are no longer represented as a vector of steps, this returns a single step that
+     *             evaluates this Eval
+     * @return Functions that compute the value of this Eval
+     */
+    @Deprecated
     default PVectorX<Function<Object, Object>> steps() {
         return PVectorX.of(__ -> get());
     }
@@ -501,36 +506,93 @@ public interface Eval<T>
             return value.toEvalAlways();
         }
 
+        /**
+         * @param value Value that is already known
+         * @return A Later Eval that has already been evaluated (transformations are lazy and cached)
+         */
+        static <T> Eval<T> evaluated(final T value) {
+            return new Later<T>(
+                                value);
+        }
+
+        /**
+         * @param eval Eval providing the input to mapper
+         * @param mapper Transformation to apply
+         * @return A Later Eval that applies mapper to the result of eval at most once, even if eval is re-evaluated on each
+         *         get (an Always)
+         */
+        static <T, R> Eval<R> later(final Eval<T> eval, final Function<? super T, ? extends R> mapper) {
+            if (eval instanceof Rec)
+                return new Later<R>(
+                                    (Rec<?>) eval, mapper, false);
+            return Eval.later(() -> mapper.apply(eval.get()));
+        }
+
         public static class Later<T> extends Rec<T>implements Eval<T> {
+            //the cached result, a single volatile read once evaluated
+            private volatile Object value;
 
             Later(final Function<Object, ? extends T> s) {
-                super(PVectorX.of(Rec.raw(Memoize.memoizeFunction(s))));
+                super(null, s, false);
+                value = UNSET;
             }
 
-            Later(final PVectorX<Function<Object, Object>> s) {
-                super(s);
+            private Later(final T value) {
+                super(null, null, false);
+                this.value = value;
+            }
 
+            private Later(final Rec<?> prev, final Function<?, ?> fn, final boolean bind) {
+                super(prev, fn, bind);
+                value = UNSET;
+            }
+
+            @Override
+            Object memo() {
+                return value;
+            }
+
+            @Override
+            void store(final Object result) {
+                value = result;
             }
 
             @Override
             public <R> Eval<R> map(final Function<? super T, ? extends R> mapper) {
 
                 return new Later<R>(
-                                    super.fns.plus(Rec.raw(Memoize.memoizeFunction(mapper))));
+                                    this, mapper, false);
             }
 
             @Override
             public <R> Eval<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-                final RecFunction s = __ -> asEval(mapper.apply(super.apply())).steps();
-
                 return new Later<R>(
-                                    PVectorX.of(s));
+                                    this, mapper, true);
 
             }
 
+            @Override
+            Object apply(final Object input) {
+                synchronized (this) {
+                    //another thread may have evaluated this step while we waited for the lock
+                    final Object result = value;
+                    if (result != UNSET)
+                        return result;
+                    return super.apply(input);
+                }
+            }
+
             @Override
             public T get() {
-                return super.get();
+                final Object result = value;
+                if (result != UNSET)
+                    return (T) result;
+                synchronized (this) {
+                    final Object locked = value;
+                    if (locked != UNSET)
+                        return (T) locked;
+                    return super.get();
+                }
             }
 
             /* (non-Javadoc)
@@ -577,28 +639,25 @@ public interface Eval<T>
         public static class Always<T> extends Rec<T>implements Eval<T> {
 
             Always(final Function<Object, ? extends T> s) {
-                super(PVectorX.of(Rec.raw(s)));
+                super(null, s, false);
             }
 
-            Always(final PVectorX<Function<Object, Object>> s) {
-                super(s);
-
+            private Always(final Rec<?> prev, final Function<?, ?> fn, final boolean bind) {
+                super(prev, fn, bind);
             }
 
             @Override
             public <R> Eval<R> map(final Function<? super T, ? extends R> mapper) {
 
                 return new Always<R>(
-                                     fns.plus(Rec.raw(mapper)));
+                                     this, mapper, false);
 
             }
 
             @Override
             public <R> Eval<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-                final RecFunction s = __ -> asEval(mapper.apply(apply())).steps();
-
                 return new Always<R>(
-                                     PVectorX.of(s));
+                                     this, mapper, true);
             }
 
             @Override
@@ -644,44 +703,104 @@ public interface Eval<T>
 
         }
 
-        private static class Rec<T> {
-            final PVectorX<Function<Object, Object>> fns;
-            private final static Object VOID = new Object();
-
-            Rec(final PVectorX<Function<Object, Object>> s) {
-                fns = s;
+        /**
+         * A single step in an Eval computation. Each step refers to the step that provides its input (prev), a chain of
+         * steps is evaluated iteratively with an explicit stack, flatMap steps are trampolined onto the same stack so
+         * recursive definitions do not consume the Java call stack.
+         */
+        private static abstract class Rec<T> {
+            static final Object UNSET = new Object();
+            //marks a bind step on the stack, whose result should be stored once the returned Eval completes
+            private static final Object RESUME = new Object();
+
+            //null for the initial step, which is applied to null
+            final Rec<?> prev;
+            final Function<Object, Object> fn;
+            //true if fn returns a MonadicValue (flatMap)
+            final boolean bind;
+
+            Rec(final Rec<?> prev, final Function<?, ?> fn, final boolean bind) {
+                this.prev = prev;
+                this.fn = (Function<Object, Object>) fn;
+                this.bind = bind;
             }
 
-            private static Function<Object, Object> raw(final Function<?, ?> fn) {
-                return (Function<Object, Object>) fn;
+            /**
+             * @return The cached result of this step, or UNSET
+             */
+            Object memo() {
+                return UNSET;
             }
 
-            static interface RecFunction extends Function<Object, Object> {
+            void store(final Object result) {
 
             }
 
-            public PVectorX<Function<Object, Object>> steps() {
-                return fns;
+            /**
+             * Apply this step's function and store the result
+             */
+            Object apply(final Object input) {
+                final Object result = fn.apply(input);
+                store(result);
+                return result;
             }
 
-            T apply() {
-                Object input = VOID;
-                for (final Function<Object, Object> n : fns) {
-                    final DequeX<Function<Object, Object>> newFns = DequeX.of(n);
-                    while (newFns.size() > 0) {
-                        final Function<Object, Object> next = newFns.pop();
-                        if (next instanceof RecFunction) {
-                            newFns.plusAll((List) ((RecFunction) next).apply(VOID));
-                        } else
-                            input = next.apply(input);
+            public T get() {
+                return (T) evaluate(this);
+            }
 
+            private static Object evaluate(final Rec<?> root) {
+                Object[] stack = new Object[8];
+                int top = 0;
+                Rec<?> node = root;
+                Object value;
+                for (;;) {
+                    //walk back to the nearest evaluated (or initial) step
+                    for (;;) {
+                        final Object memo = node.memo();
+                        if (memo != UNSET) {
+                            value = memo;
+                            break;
+                        }
+                        if (node.prev == null) {
+                            value = node.apply(null);
+                            break;
+                        }
+                        if (top == stack.length)
+                            stack = Arrays.copyOf(stack, top * 2);
+                        stack[top++] = node;
+                        node = node.prev;
                     }
+                    //apply the pending steps
+                    node = null;
+                    while (top > 0 && node == null) {
+                        final Object frame = stack[--top];
+                        if (frame == RESUME) {
+                            ((Rec<?>) stack[--top]).store(value);
+                            continue;
+                        }
+                        final Rec<?> step = (Rec<?>) frame;
+                        if (!step.bind) {
+                            value = step.apply(value);
+                            continue;
+                        }
+                        final Eval<?> next = asEval((MonadicValue<?>) step.fn.apply(value));
+                        if (next instanceof Rec) {
+                            if (step.memo() == UNSET && step instanceof Later) {
+                                if (top + 2 > stack.length)
+                                    stack = Arrays.copyOf(stack, stack.length * 2);
+                                stack[top++] = step;
+                                stack[top++] = RESUME;
+                            }
+                            node = (Rec<?>) next;
+                        } else {
+                            value = next.get();
+                            step.store(value);
+                        }
+                    }
+                    if (node == null)
+                        return value;
                 }
-                return (T) input;
-            }
-
-            public T get() {
-                return apply();
             }
 
         }
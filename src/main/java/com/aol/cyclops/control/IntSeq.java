@@ -0,0 +1,427 @@
+package com.aol.cyclops.control;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.Iterator;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.internal.stream.PrimitiveSlidingWindow;
+
+/**
+ * A sequential Stream of int values, that provides cyclops-react operators (sliding, grouped, scanLeft, zipWithIndex and
+ * Monoid reductions) that operate directly on the primitive values rather than boxing each element.
+ * 
+ * <pre>
+ * {@code 
+ *   int[] rollingTotals = IntSeq.of(1,2,3,4,5)
+ *                           .slidingReduce(2,1,Monoids.primitiveIntSum)
+ *                           .toArray();
+ *   
+ *   //[3,5,7,9]
+ * }
+ * </pre>
+ * 
+ * Windows produced by sliding and grouped are int[] arrays, use {@link #boxed()} to convert to a ReactiveSeq of Integers.
+ */
+public final class IntSeq {
+
+    private final IntStream stream;
+
+    private IntSeq(final IntStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Function that accepts a int value and its (zero based) position in the sequence
+     *
+     * @param <R> Return type
+     */
+    @FunctionalInterface
+    public static interface IndexedFunction<R> {
+        R apply(int value, long index);
+    }
+
+    /**
+     * Construct a IntSeq from the supplied values
+     * 
+     * @param values Values to include in the sequence
+     * @return IntSeq of the supplied values
+     */
+    public static IntSeq of(final int... values) {
+        return new IntSeq(
+                          Arrays.stream(values));
+    }
+
+    /**
+     * @return An empty IntSeq
+     */
+    public static IntSeq empty() {
+        return new IntSeq(
+                          IntStream.empty());
+    }
+
+    /**
+     * @see IntStream#range(int, int)
+     * @param start Inclusive start
+     * @param end Exclusive end
+     * @return IntSeq of the values from start (inclusive) to end (exclusive)
+     */
+    public static IntSeq range(final int start, final int end) {
+        return new IntSeq(
+                          IntStream.range(start, end));
+    }
+
+    /**
+     * Construct a IntSeq from a IntStream
+     * 
+     * @param stream IntStream to wrap
+     * @return IntSeq of the values in the supplied IntStream
+     */
+    public static IntSeq fromIntStream(final IntStream stream) {
+        return new IntSeq(
+                          stream.sequential());
+    }
+
+    /**
+     * @see IntStream#iterate(int, IntUnaryOperator)
+     * @param seed Initial value
+     * @param f Function to compute the next value from the previous one
+     * @return Infinite IntSeq
+     */
+    public static IntSeq iterate(final int seed, final IntUnaryOperator f) {
+        return new IntSeq(
+                          IntStream.iterate(seed, f));
+    }
+
+    private static IntSeq fromIterator(final PrimitiveIterator.OfInt it) {
+        return new IntSeq(
+                          StreamSupport.intStream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false));
+    }
+
+    /**
+     * @return The underlying IntStream
+     */
+    public IntStream intStream() {
+        return stream;
+    }
+
+    public IntSeq map(final IntUnaryOperator mapper) {
+        return new IntSeq(
+                          stream.map(mapper));
+    }
+
+    public IntSeq filter(final IntPredicate predicate) {
+        return new IntSeq(
+                          stream.filter(predicate));
+    }
+
+    public IntSeq peek(final IntConsumer action) {
+        return new IntSeq(
+                          stream.peek(action));
+    }
+
+    public IntSeq limit(final long maxSize) {
+        return new IntSeq(
+                          stream.limit(maxSize));
+    }
+
+    public IntSeq skip(final long n) {
+        return new IntSeq(
+                          stream.skip(n));
+    }
+
+    public IntSeq distinct() {
+        return new IntSeq(
+                          stream.distinct());
+    }
+
+    public IntSeq sorted() {
+        return new IntSeq(
+                          stream.sorted());
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(final IntFunction<? extends R> mapper) {
+        return ReactiveSeq.fromStream(stream.mapToObj(mapper));
+    }
+
+    public LongSeq mapToLong(final IntToLongFunction mapper) {
+        return LongSeq.fromLongStream(stream.mapToLong(mapper));
+    }
+
+    public DoubleSeq mapToDouble(final IntToDoubleFunction mapper) {
+        return DoubleSeq.fromDoubleStream(stream.mapToDouble(mapper));
+    }
+
+    /**
+     * @return ReactiveSeq of boxed values
+     */
+    public ReactiveSeq<Integer> boxed() {
+        return ReactiveSeq.fromStream(stream.boxed());
+    }
+
+    /**
+     * Scan left, emitting the identity and then each intermediate result
+     * 
+     * <pre>
+     * {@code 
+     *  IntSeq.of(1,2,3).scanLeft(0,(a,b)->a+b)
+     *  //[0,1,3,6]
+     * }
+     * </pre>
+     * 
+     * @param identity Initial value
+     * @param fn Accumulating function
+     * @return IntSeq of intermediate results
+     */
+    public IntSeq scanLeft(final int identity, final IntBinaryOperator fn) {
+        final PrimitiveIterator.OfInt it = stream.iterator();
+        return fromIterator(new PrimitiveIterator.OfInt() {
+            boolean first = true;
+            int current = identity;
+
+            @Override
+            public boolean hasNext() {
+                return first || it.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                if (first)
+                    first = false;
+                else
+                    current = fn.applyAsInt(current, it.nextInt());
+                return current;
+            }
+        });
+    }
+
+    /**
+     * Scan left using the supplied Monoid
+     * 
+     * @param monoid Monoid providing the identity and combining function
+     * @return IntSeq of intermediate results
+     */
+    public IntSeq scanLeft(final Monoid.OfInt monoid) {
+        return scanLeft(monoid.zero(), monoid);
+    }
+
+    /**
+     * Create a sliding view over this sequence, each window is a new int[]
+     * 
+     * <pre>
+     * {@code 
+     *  IntSeq.of(1,2,3,4).sliding(2)
+     *  //[1,2],[2,3],[3,4]
+     * }
+     * </pre>
+     * 
+     * @param windowSize Size of sliding window
+     * @return ReactiveSeq of windows
+     */
+    public ReactiveSeq<int[]> sliding(final int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * Create a sliding view over this sequence, each window is a new int[]
+     * 
+     * @param windowSize Size of sliding window
+     * @param increment Number of elements to move the window on by each time
+     * @return ReactiveSeq of windows
+     * @throws IllegalArgumentException if windowSize or increment is less than 1
+     */
+    public ReactiveSeq<int[]> sliding(final int windowSize, final int increment) {
+        return ReactiveSeq.fromIterator(new Window(
+                                                   stream.iterator(), windowSize, increment));
+    }
+
+    /**
+     * Reduce each sliding window with the supplied Monoid, no per window arrays are created
+     * 
+     * <pre>
+     * {@code 
+     *  IntSeq.of(1,2,3,4).slidingReduce(2,1,Monoids.primitiveIntSum)
+     *  //[3,5,7]
+     * }
+     * </pre>
+     * 
+     * @param windowSize Size of sliding window
+     * @param increment Number of elements to move the window on by each time
+     * @param monoid Monoid used to reduce each window
+     * @return IntSeq of reduced windows
+     */
+    public IntSeq slidingReduce(final int windowSize, final int increment, final Monoid.OfInt monoid) {
+        final Window window = new Window(
+                                         stream.iterator(), windowSize, increment);
+        return fromIterator(new PrimitiveIterator.OfInt() {
+
+            @Override
+            public boolean hasNext() {
+                return window.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                window.advance();
+                return window.reduce(monoid);
+            }
+        });
+    }
+
+    /**
+     * Group elements into int[] arrays of the specified size (the last group may be smaller)
+     * 
+     * <pre>
+     * {@code 
+     *  IntSeq.of(1,2,3,4,5).grouped(2)
+     *  //[1,2],[3,4],[5]
+     * }
+     * </pre>
+     * 
+     * @param groupSize Size of each group
+     * @return ReactiveSeq of groups
+     * @throws IllegalArgumentException if groupSize is less than 1
+     */
+    public ReactiveSeq<int[]> grouped(final int groupSize) {
+        return sliding(groupSize, groupSize);
+    }
+
+    /**
+     * Reduce each group of the specified size with the supplied Monoid, no per group arrays are created
+     * 
+     * @param groupSize Size of each group
+     * @param monoid Monoid used to reduce each group
+     * @return IntSeq of reduced groups
+     */
+    public IntSeq groupedReduce(final int groupSize, final Monoid.OfInt monoid) {
+        return slidingReduce(groupSize, groupSize, monoid);
+    }
+
+    /**
+     * Apply the supplied function to each value and its position in the sequence
+     * 
+     * <pre>
+     * {@code 
+     *  IntSeq.of(10,20).zipWithIndex((v,i)->v+":"+i)
+     *  //["10:0","20:1"]
+     * }
+     * </pre>
+     * 
+     * @param fn Function that accepts each value and its index
+     * @return ReactiveSeq of results
+     */
+    public <R> ReactiveSeq<R> zipWithIndex(final IndexedFunction<? extends R> fn) {
+        final PrimitiveIterator.OfInt it = stream.iterator();
+        return ReactiveSeq.fromIterator(new Iterator<R>() {
+            long index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public R next() {
+                return fn.apply(it.nextInt(), index++);
+            }
+        });
+    }
+
+    /**
+     * Reduce this sequence with the supplied Monoid
+     * 
+     * @param monoid Monoid to reduce with
+     * @return Reduced value, or the Monoid identity if the sequence is empty
+     */
+    public int reduce(final Monoid.OfInt monoid) {
+        return monoid.reduce(stream);
+    }
+
+    public int reduce(final int identity, final IntBinaryOperator op) {
+        return stream.reduce(identity, op);
+    }
+
+    public int sum() {
+        return stream.sum();
+    }
+
+    public OptionalInt min() {
+        return stream.min();
+    }
+
+    public OptionalInt max() {
+        return stream.max();
+    }
+
+    public OptionalDouble average() {
+        return stream.average();
+    }
+
+    public long count() {
+        return stream.count();
+    }
+
+    public IntSummaryStatistics summaryStatistics() {
+        return stream.summaryStatistics();
+    }
+
+    public int[] toArray() {
+        return stream.toArray();
+    }
+
+    public void forEach(final IntConsumer action) {
+        stream.forEach(action);
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return stream.iterator();
+    }
+
+    /*
+     * Ring buffer backing the sliding and grouped operators
+     */
+    private static final class Window extends PrimitiveSlidingWindow<int[]> {
+        private final PrimitiveIterator.OfInt it;
+
+        Window(final PrimitiveIterator.OfInt it, final int windowSize, final int increment) {
+            super(windowSize, increment);
+            this.it = it;
+        }
+
+        @Override
+        protected int[] newArray(final int size) {
+            return new int[size];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        protected void fill(final int slot) {
+            ring[slot] = it.nextInt();
+        }
+
+        int reduce(final Monoid.OfInt monoid) {
+            int result = monoid.zero();
+            for (int i = 0; i < size(); i++)
+                result = monoid.applyAsInt(result, ring[slot(i)]);
+            return result;
+        }
+    }
+}
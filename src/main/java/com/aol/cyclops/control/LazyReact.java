@@ -1,5 +1,7 @@
 package com.aol.cyclops.control;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -31,6 +33,7 @@ import com.aol.cyclops.react.collectors.lazy.MaxActive;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 import com.aol.cyclops.util.function.Cacheable;
+import com.aol.cyclops.util.stream.Framing;
 import com.nurkiewicz.asyncretry.AsyncRetryExecutor;
 import com.nurkiewicz.asyncretry.RetryExecutor;
 
@@ -413,7 +416,7 @@ public class LazyReact implements ReactBuilder {
      */
     public <T> LazyFutureStream<T> fromPublisher(final Publisher<? extends T> publisher) {
         Objects.requireNonNull(publisher);
-        final SeqSubscriber<T> sub = SeqSubscriber.subscriber();
+        final SeqSubscriber<T> sub = SeqSubscriber.subscriber(SeqSubscriber.BATCH_PREFETCH);
         publisher.subscribe(sub);
         return sub.toFutureStream(this);
     }
@@ -622,6 +625,27 @@ public class LazyReact implements ReactBuilder {
         return this.fromStream(seq);
     }
 
+    /**
+     * Build a LazyFutureStream of the records in a memory mapped file, each record is a read-only ByteBuffer slice of the
+     * mapping (no bytes are copied or decoded)
+     * 
+     * <pre>
+     * {@code 
+     *  new LazyReact(10,10).fromMappedFile(Paths.get("events.bin"),Framing.lengthPrefixed())
+     *                      .map(this::parseEvent)
+     *                      .forEach(this::replay);
+     * }
+     * </pre>
+     * 
+     * @param path File to read
+     * @param framing Determines how the file is divided into records
+     * @return LazyFutureStream of records
+     * @see ReactiveSeq#fromMappedFile(Path, Framing)
+     */
+    public LazyFutureStream<ByteBuffer> fromMappedFile(final Path path, final Framing framing) {
+        return this.fromStream(StreamUtils.mappedFile(path, framing));
+    }
+
     /* 
      * Build an LazyFutureStream that reacts Asynchronously to the Suppliers within the
      * specified Stream
@@ -789,6 +813,35 @@ public class LazyReact implements ReactBuilder {
                         .build();
     }
 
+    /**
+     * Construct a LazyReact builder that runs each task on a virtual thread, so that tasks which block (e.g. on JDBC or HTTP calls)
+     * in map / then do not hold a platform thread. MaxActive is raised to match (MaxActive#VIRTUAL_THREADS).
+     * 
+     * On JDKs without virtual threads tasks run on an elastic pool of platform threads, with MaxActive#IO limits.
+     * 
+     * <pre>
+     * {@code 
+     *  LazyReact.virtualThreads()
+     *           .from(urls)
+     *           .map(this::load)
+     *           .forEach(System.out::println);
+     * }
+     * </pre>
+     * 
+     * @see ThreadPools#getVirtualThreadExecutor()
+     * @return LazyReact builder configured to run tasks on virtual threads
+     */
+    public static LazyReact virtualThreads() {
+        return LazyReact.builder()
+                        .executor(ThreadPools.getVirtualThreadExecutor())
+                        .maxActive(ThreadPools.isVirtualThreadsSupported() ? MaxActive.VIRTUAL_THREADS : MaxActive.IO)
+                        .async(true)
+                        .autoOptimize(true)
+                        .retrier(RetryBuilder.getDefaultInstance()
+                                             .withScheduler(ThreadPools.getCommonFreeThreadRetry()))
+                        .build();
+    }
+
     private static final Object NONE = new Object();
 
     /**
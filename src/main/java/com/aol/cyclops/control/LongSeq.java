@@ -0,0 +1,427 @@
+package com.aol.cyclops.control;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LongSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.internal.stream.PrimitiveSlidingWindow;
+
+/**
+ * A sequential Stream of long values, that provides cyclops-react operators (sliding, grouped, scanLeft, zipWithIndex and
+ * Monoid reductions) that operate directly on the primitive values rather than boxing each element.
+ * 
+ * <pre>
+ * {@code 
+ *   long[] rollingTotals = LongSeq.of(1,2,3,4,5)
+ *                           .slidingReduce(2,1,Monoids.primitiveLongSum)
+ *                           .toArray();
+ *   
+ *   //[3,5,7,9]
+ * }
+ * </pre>
+ * 
+ * Windows produced by sliding and grouped are long[] arrays, use {@link #boxed()} to convert to a ReactiveSeq of Longs.
+ */
+public final class LongSeq {
+
+    private final LongStream stream;
+
+    private LongSeq(final LongStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Function that accepts a long value and its (zero based) position in the sequence
+     *
+     * @param <R> Return type
+     */
+    @FunctionalInterface
+    public static interface IndexedFunction<R> {
+        R apply(long value, long index);
+    }
+
+    /**
+     * Construct a LongSeq from the supplied values
+     * 
+     * @param values Values to include in the sequence
+     * @return LongSeq of the supplied values
+     */
+    public static LongSeq of(final long... values) {
+        return new LongSeq(
+                           Arrays.stream(values));
+    }
+
+    /**
+     * @return An empty LongSeq
+     */
+    public static LongSeq empty() {
+        return new LongSeq(
+                           LongStream.empty());
+    }
+
+    /**
+     * @see LongStream#range(long, long)
+     * @param start Inclusive start
+     * @param end Exclusive end
+     * @return LongSeq of the values from start (inclusive) to end (exclusive)
+     */
+    public static LongSeq range(final long start, final long end) {
+        return new LongSeq(
+                           LongStream.range(start, end));
+    }
+
+    /**
+     * Construct a LongSeq from a LongStream
+     * 
+     * @param stream LongStream to wrap
+     * @return LongSeq of the values in the supplied LongStream
+     */
+    public static LongSeq fromLongStream(final LongStream stream) {
+        return new LongSeq(
+                           stream.sequential());
+    }
+
+    /**
+     * @see LongStream#iterate(long, LongUnaryOperator)
+     * @param seed Initial value
+     * @param f Function to compute the next value from the previous one
+     * @return Infinite LongSeq
+     */
+    public static LongSeq iterate(final long seed, final LongUnaryOperator f) {
+        return new LongSeq(
+                           LongStream.iterate(seed, f));
+    }
+
+    private static LongSeq fromIterator(final PrimitiveIterator.OfLong it) {
+        return new LongSeq(
+                           StreamSupport.longStream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false));
+    }
+
+    /**
+     * @return The underlying LongStream
+     */
+    public LongStream longStream() {
+        return stream;
+    }
+
+    public LongSeq map(final LongUnaryOperator mapper) {
+        return new LongSeq(
+                           stream.map(mapper));
+    }
+
+    public LongSeq filter(final LongPredicate predicate) {
+        return new LongSeq(
+                           stream.filter(predicate));
+    }
+
+    public LongSeq peek(final LongConsumer action) {
+        return new LongSeq(
+                           stream.peek(action));
+    }
+
+    public LongSeq limit(final long maxSize) {
+        return new LongSeq(
+                           stream.limit(maxSize));
+    }
+
+    public LongSeq skip(final long n) {
+        return new LongSeq(
+                           stream.skip(n));
+    }
+
+    public LongSeq distinct() {
+        return new LongSeq(
+                           stream.distinct());
+    }
+
+    public LongSeq sorted() {
+        return new LongSeq(
+                           stream.sorted());
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(final LongFunction<? extends R> mapper) {
+        return ReactiveSeq.fromStream(stream.mapToObj(mapper));
+    }
+
+    public IntSeq mapToInt(final LongToIntFunction mapper) {
+        return IntSeq.fromIntStream(stream.mapToInt(mapper));
+    }
+
+    public DoubleSeq mapToDouble(final LongToDoubleFunction mapper) {
+        return DoubleSeq.fromDoubleStream(stream.mapToDouble(mapper));
+    }
+
+    /**
+     * @return ReactiveSeq of boxed values
+     */
+    public ReactiveSeq<Long> boxed() {
+        return ReactiveSeq.fromStream(stream.boxed());
+    }
+
+    /**
+     * Scan left, emitting the identity and then each intermediate result
+     * 
+     * <pre>
+     * {@code 
+     *  LongSeq.of(1,2,3).scanLeft(0,(a,b)->a+b)
+     *  //[0,1,3,6]
+     * }
+     * </pre>
+     * 
+     * @param identity Initial value
+     * @param fn Accumulating function
+     * @return LongSeq of intermediate results
+     */
+    public LongSeq scanLeft(final long identity, final LongBinaryOperator fn) {
+        final PrimitiveIterator.OfLong it = stream.iterator();
+        return fromIterator(new PrimitiveIterator.OfLong() {
+            boolean first = true;
+            long current = identity;
+
+            @Override
+            public boolean hasNext() {
+                return first || it.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                if (first)
+                    first = false;
+                else
+                    current = fn.applyAsLong(current, it.nextLong());
+                return current;
+            }
+        });
+    }
+
+    /**
+     * Scan left using the supplied Monoid
+     * 
+     * @param monoid Monoid providing the identity and combining function
+     * @return LongSeq of intermediate results
+     */
+    public LongSeq scanLeft(final Monoid.OfLong monoid) {
+        return scanLeft(monoid.zero(), monoid);
+    }
+
+    /**
+     * Create a sliding view over this sequence, each window is a new long[]
+     * 
+     * <pre>
+     * {@code 
+     *  LongSeq.of(1,2,3,4).sliding(2)
+     *  //[1,2],[2,3],[3,4]
+     * }
+     * </pre>
+     * 
+     * @param windowSize Size of sliding window
+     * @return ReactiveSeq of windows
+     */
+    public ReactiveSeq<long[]> sliding(final int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * Create a sliding view over this sequence, each window is a new long[]
+     * 
+     * @param windowSize Size of sliding window
+     * @param increment Number of elements to move the window on by each time
+     * @return ReactiveSeq of windows
+     * @throws IllegalArgumentException if windowSize or increment is less than 1
+     */
+    public ReactiveSeq<long[]> sliding(final int windowSize, final int increment) {
+        return ReactiveSeq.fromIterator(new Window(
+                                                   stream.iterator(), windowSize, increment));
+    }
+
+    /**
+     * Reduce each sliding window with the supplied Monoid, no per window arrays are created
+     * 
+     * <pre>
+     * {@code 
+     *  LongSeq.of(1,2,3,4).slidingReduce(2,1,Monoids.primitiveLongSum)
+     *  //[3,5,7]
+     * }
+     * </pre>
+     * 
+     * @param windowSize Size of sliding window
+     * @param increment Number of elements to move the window on by each time
+     * @param monoid Monoid used to reduce each window
+     * @return LongSeq of reduced windows
+     */
+    public LongSeq slidingReduce(final int windowSize, final int increment, final Monoid.OfLong monoid) {
+        final Window window = new Window(
+                                         stream.iterator(), windowSize, increment);
+        return fromIterator(new PrimitiveIterator.OfLong() {
+
+            @Override
+            public boolean hasNext() {
+                return window.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                window.advance();
+                return window.reduce(monoid);
+            }
+        });
+    }
+
+    /**
+     * Group elements into long[] arrays of the specified size (the last group may be smaller)
+     * 
+     * <pre>
+     * {@code 
+     *  LongSeq.of(1,2,3,4,5).grouped(2)
+     *  //[1,2],[3,4],[5]
+     * }
+     * </pre>
+     * 
+     * @param groupSize Size of each group
+     * @return ReactiveSeq of groups
+     * @throws IllegalArgumentException if groupSize is less than 1
+     */
+    public ReactiveSeq<long[]> grouped(final int groupSize) {
+        return sliding(groupSize, groupSize);
+    }
+
+    /**
+     * Reduce each group of the specified size with the supplied Monoid, no per group arrays are created
+     * 
+     * @param groupSize Size of each group
+     * @param monoid Monoid used to reduce each group
+     * @return LongSeq of reduced groups
+     */
+    public LongSeq groupedReduce(final int groupSize, final Monoid.OfLong monoid) {
+        return slidingReduce(groupSize, groupSize, monoid);
+    }
+
+    /**
+     * Apply the supplied function to each value and its position in the sequence
+     * 
+     * <pre>
+     * {@code 
+     *  LongSeq.of(10,20).zipWithIndex((v,i)->v+":"+i)
+     *  //["10:0","20:1"]
+     * }
+     * </pre>
+     * 
+     * @param fn Function that accepts each value and its index
+     * @return ReactiveSeq of results
+     */
+    public <R> ReactiveSeq<R> zipWithIndex(final IndexedFunction<? extends R> fn) {
+        final PrimitiveIterator.OfLong it = stream.iterator();
+        return ReactiveSeq.fromIterator(new Iterator<R>() {
+            long index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public R next() {
+                return fn.apply(it.nextLong(), index++);
+            }
+        });
+    }
+
+    /**
+     * Reduce this sequence with the supplied Monoid
+     * 
+     * @param monoid Monoid to reduce with
+     * @return Reduced value, or the Monoid identity if the sequence is empty
+     */
+    public long reduce(final Monoid.OfLong monoid) {
+        return monoid.reduce(stream);
+    }
+
+    public long reduce(final long identity, final LongBinaryOperator op) {
+        return stream.reduce(identity, op);
+    }
+
+    public long sum() {
+        return stream.sum();
+    }
+
+    public OptionalLong min() {
+        return stream.min();
+    }
+
+    public OptionalLong max() {
+        return stream.max();
+    }
+
+    public OptionalDouble average() {
+        return stream.average();
+    }
+
+    public long count() {
+        return stream.count();
+    }
+
+    public LongSummaryStatistics summaryStatistics() {
+        return stream.summaryStatistics();
+    }
+
+    public long[] toArray() {
+        return stream.toArray();
+    }
+
+    public void forEach(final LongConsumer action) {
+        stream.forEach(action);
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return stream.iterator();
+    }
+
+    /*
+     * Ring buffer backing the sliding and grouped operators
+     */
+    private static final class Window extends PrimitiveSlidingWindow<long[]> {
+        private final PrimitiveIterator.OfLong it;
+
+        Window(final PrimitiveIterator.OfLong it, final int windowSize, final int increment) {
+            super(windowSize, increment);
+            this.it = it;
+        }
+
+        @Override
+        protected long[] newArray(final int size) {
+            return new long[size];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        protected void fill(final int slot) {
+            ring[slot] = it.nextLong();
+        }
+
+        long reduce(final Monoid.OfLong monoid) {
+            long result = monoid.zero();
+            for (int i = 0; i < size(); i++)
+                result = monoid.applyAsLong(result, ring[slot(i)]);
+            return result;
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.aol.cyclops.control;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -189,6 +188,51 @@ public interface Matchable<TYPE> {
         return AsMatchable.asMatchable(o.collect(Collectors.toList()));
     }
 
+    /**
+     * Build the supplied cases once, returning a reusable Function that matches values against them.
+     * The result of applying the Function is the same as calling Matchable.of(value).matches(fn1,otherwise), but
+     * the cases are compiled up front rather than rebuilt on every call.
+     *
+     * <pre>
+     * {@code
+     * import static com.aol.cyclops.control.Matchable.otherwise;
+       import static com.aol.cyclops.control.Matchable.then;
+       import static com.aol.cyclops.control.Matchable.when;
+       import static com.aol.cyclops.util.function.Predicates.instanceOf;
+
+     * Function<Object,Eval<String>> router = Matchable.compile(c->c.is(when(1),then("one"))
+     *                                                              .is(when(instanceOf(String.class)),then("string")),
+     *                                                          otherwise("other"));
+     *
+     * router.apply(1).get();       //"one"
+     * router.apply("hello").get(); //"string"
+     * }
+     * </pre>
+     *
+     * @param fn1 Describes the matching cases
+     * @param otherwise Value if no case matches
+     * @return Function that matches each value it is applied to
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static <T, R> Function<T, Eval<R>> compile(final Function<CheckValue1<T, R>, CheckValue1<T, R>> fn1,
+            final Supplier<? extends R> otherwise) {
+        final PatternMatcher matcher = fn1.apply(new MatchableCase(
+                                                                   new PatternMatcher()).withType1(Tuple1.class))
+                                          .getPatternMatcher();
+        matcher.getCases()
+               .compile();
+
+        if (otherwise instanceof Eval) {
+            final Eval<R> tailRec = (Eval<R>) otherwise;
+            return t -> Eval.later(() -> (R) matcher.<Object> match(Tuple.tuple(t))
+                                                    .orElse(UNSET.VOID))
+                            .flatMap(i -> i == UNSET.VOID ? tailRec : Eval.now(i));
+        }
+
+        return t -> Eval.later(() -> matcher.<R> match(Tuple.tuple(t))
+                                            .orElseGet(otherwise));
+    }
+
     /**
      * Matchable DSL operator for outcomes
      * 
@@ -388,7 +432,7 @@ public interface Matchable<TYPE> {
      */
     public static <T1> MTuple1<Predicate<? super T1>> when(final T1 t1) {
 
-        return () -> Tuple.tuple(test -> Objects.equals(test, t1));
+        return () -> Tuple.tuple(Predicates.eq(t1));
     }
 
     /**
@@ -444,7 +488,7 @@ public interface Matchable<TYPE> {
      */
     public static <T1, T2> MTuple2<Predicate<? super T1>, Predicate<? super T2>> when(final T1 t1, final T2 t2) {
 
-        return () -> Tuple.tuple(test -> Objects.equals(test, t1), test -> Objects.equals(test, t2));
+        return () -> Tuple.tuple(Predicates.eq(t1), Predicates.eq(t2));
     }
 
     /**
@@ -499,7 +543,7 @@ public interface Matchable<TYPE> {
     public static <T1, T2, T3> MTuple3<Predicate<? super T1>, Predicate<? super T2>, Predicate<? super T3>> when(final T1 t1, final T2 t2,
             final T3 t3) {
 
-        return () -> Tuple.tuple(test -> Objects.equals(test, t1), test -> Objects.equals(test, t2), test -> Objects.equals(test, t3));
+        return () -> Tuple.tuple(Predicates.eq(t1), Predicates.eq(t2), Predicates.eq(t3));
     }
 
     /**
@@ -554,8 +598,8 @@ public interface Matchable<TYPE> {
     public static <T1, T2, T3, T4> MTuple4<Predicate<? super T1>, Predicate<? super T2>, Predicate<? super T3>, Predicate<? super T4>> when(
             final T1 t1, final T2 t2, final T3 t3, final T4 t4) {
 
-        return () -> Tuple.tuple(test -> Objects.equals(test, t1), test -> Objects.equals(test, t2), test -> Objects.equals(test, t3),
-                                 test -> Objects.equals(test, t4));
+        return () -> Tuple.tuple(Predicates.eq(t1), Predicates.eq(t2), Predicates.eq(t3),
+                                 Predicates.eq(t4));
     }
 
     /**
@@ -609,8 +653,8 @@ public interface Matchable<TYPE> {
     public static <T1, T2, T3, T4, T5> MTuple5<Predicate<? super T1>, Predicate<? super T2>, Predicate<? super T3>, Predicate<? super T4>, Predicate<? super T5>> when(
             final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) {
 
-        return () -> Tuple.tuple(test -> Objects.equals(test, t1), test -> Objects.equals(test, t2), test -> Objects.equals(test, t3),
-                                 test -> Objects.equals(test, t4), test -> Objects.equals(test, t5));
+        return () -> Tuple.tuple(Predicates.eq(t1), Predicates.eq(t2), Predicates.eq(t3),
+                                 Predicates.eq(t4), Predicates.eq(t5));
     }
 
     /**
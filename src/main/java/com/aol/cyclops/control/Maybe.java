@@ -251,7 +251,7 @@ public interface Maybe<T> extends To<Maybe<T>>,
     static <T> Maybe<T> of(final T value) {
         Objects.requireNonNull(value);
         return new Just<T>(
-                           Eval.later(() -> value));
+                           Eval.Module.evaluated(value));
     }
 
     /**
@@ -736,8 +736,10 @@ public interface Maybe<T> extends To<Maybe<T>>,
 
         @Override
         public <R> Maybe<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-            return new Lazy(
-                            Eval.later(() -> this)).flatMap(mapper);
+            //memoized, so the mapper is applied once even if this Just is backed by an Always
+            return new Lazy<R>(
+                               Eval.Module.later(lazy, t -> narrow(mapper.apply(t)
+                                                                         .toMaybe())));
 
         }
 
@@ -834,18 +836,14 @@ public interface Maybe<T> extends To<Maybe<T>>,
 
         @Override
         public <R> Maybe<R> map(final Function<? super T, ? extends R> mapper) {
-            return flatMap(t -> Maybe.just(mapper.apply(t)));
+            return new Lazy<R>(
+                               lazy.map(m -> m.map(mapper)));
         }
 
         @Override
         public <R> Maybe<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-            final Supplier<Eval<Maybe<R>>> s = () -> Eval.later(() -> Maybe.none());
-            final Eval<Maybe<R>> eval = lazy.get()
-                                            .visit(some -> Eval.later(() -> narrow(mapper.apply(some)
-                                                                                         .toMaybe())),
-                                                   s);
             return new Lazy<R>(
-                               eval);
+                               lazy.map(m -> m.flatMap(mapper)));
 
         }
 
@@ -2,6 +2,8 @@ package com.aol.cyclops.control;
 
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -12,6 +14,7 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -46,6 +49,7 @@ import org.reactivestreams.Publisher;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.Matchable.CheckValue1;
+import com.aol.cyclops.control.StreamUtils.LagPolicy;
 import com.aol.cyclops.data.collections.extensions.CollectionX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.MapX;
@@ -53,6 +57,7 @@ import com.aol.cyclops.internal.stream.spliterators.ReversingArraySpliterator;
 import com.aol.cyclops.internal.stream.spliterators.ReversingListSpliterator;
 import com.aol.cyclops.internal.stream.spliterators.ReversingRangeIntSpliterator;
 import com.aol.cyclops.internal.stream.spliterators.ReversingRangeLongSpliterator;
+import com.aol.cyclops.react.TimerWheel;
 import com.aol.cyclops.types.Combiner;
 import com.aol.cyclops.types.ExtendedTraversable;
 import com.aol.cyclops.types.FilterableFunctor;
@@ -77,6 +82,8 @@ import com.aol.cyclops.types.stream.future.FutureOperations;
 import com.aol.cyclops.types.stream.reactive.ReactiveStreamsTerminalOperations;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.util.stream.Framing;
+import com.aol.cyclops.util.stream.Serializer;
 
 import lombok.val;
 
@@ -287,6 +294,29 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicateSequence();
 
+    /**
+     * Duplicate a Stream, buffering at most maxLag elements for the slower copy. Allows very large Streams to be duplicated
+     * where the copies are consumed at different rates, e.g. on different threads with {@link LagPolicy#BLOCK}
+     * 
+     * <pre>
+     * {@code
+     *  Tuple2<ReactiveSeq<Tick>, ReactiveSeq<Tick>> copies = ticks.duplicateSequence(10_000, LagPolicy.BLOCK);
+     *  
+     *  CompletableFuture.runAsync(() -> copies.v1.forEach(this::write));
+     *  Stats stats = copies.v2.reduce(Stats.empty(), Stats::add);
+     * }
+     * </pre>
+     * 
+     * @param maxLag Maximum number of elements one copy may be ahead of the other
+     * @param policy What to do when the leading copy reaches the maximum lag
+     * @return duplicated stream
+     */
+    default Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicateSequence(final long maxLag, final LagPolicy policy) {
+        final Tuple2<Stream<T>, Stream<T>> tuple = StreamUtils.duplicate(this, maxLag, policy);
+        return tuple.map1(ReactiveSeq::fromStream)
+                    .map2(ReactiveSeq::fromStream);
+    }
+
     /**
      * Triplicates a Stream Buffers intermediate values, leaders may change
      * positions so a limit can be safely applied to the leading stream. Not
@@ -592,6 +622,32 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<ListX<T>> sliding(int windowSize, int increment);
 
+    /**
+     * Create a sliding view over this Sequence, where each window is a read-only view over a shared ring buffer rather than a
+     * copy of the window. Each view is only valid until the next window is emitted, so views should be consumed as they are
+     * emitted (e.g. to calculate a moving average) rather than collected - accessing a stale view throws an IllegalStateException.
+     * 
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5, 6)
+     *             .slidingView(3, 1)
+     *             .map(w -> w.stream().mapToInt(i -> i).average().getAsDouble())
+     *             .toList();
+     *             
+     *  //[2.0,3.0,4.0,5.0]
+     * }
+     * </pre>
+     * 
+     * @param windowSize
+     *            number of elements in each window
+     * @param increment
+     *            for each window
+     * @return ReactiveSeq of read-only window views
+     */
+    default ReactiveSeq<ListX<T>> slidingView(final int windowSize, final int increment) {
+        return fromStream(StreamUtils.slidingView(this, windowSize, increment));
+    }
+
     /**
      * Group elements in a Stream
      * 
@@ -963,6 +1019,83 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<T> sorted(Comparator<? super T> c);
 
+    /**
+     * Sort this Stream holding at most maxInMemory elements on the heap, larger Streams are sorted in runs that are spilled to
+     * temporary files and merged back lazily
+     * 
+     * <pre>
+     * {@code 
+     * 	assertThat(ReactiveSeq.of(4,3,6,7).sorted((a,b) -> b-a,2,Serializer.ints()).toList(),equalTo(Arrays.asList(7,6,4,3)));
+     * }
+     * </pre>
+     * 
+     * @param c
+     *            Comparator to sort with
+     * @param maxInMemory
+     *            Maximum number of elements to hold on the heap
+     * @param serializer
+     *            Serializer used to write elements to temporary files
+     * @return Sorted Stream
+     */
+    default ReactiveSeq<T> sorted(final Comparator<? super T> c, final int maxInMemory, final Serializer<T> serializer) {
+        return fromStream(StreamUtils.sorted(this, c, maxInMemory, serializer));
+    }
+
+    /**
+     * Remove duplicates holding at most maxInMemory distinct elements on the heap, once the budget is exceeded the remaining
+     * elements are hash partitioned across temporary files and deduplicated a partition at a time (so encounter order is not
+     * retained beyond the budget)
+     * 
+     * @param maxInMemory
+     *            Maximum number of elements to hold on the heap
+     * @param serializer
+     *            Serializer used to write elements to temporary files
+     * @return Stream of distinct elements
+     */
+    default ReactiveSeq<T> distinct(final int maxInMemory, final Serializer<T> serializer) {
+        return fromStream(StreamUtils.distinct(this, maxInMemory, serializer));
+    }
+
+    /**
+     * Group elements by key holding at most maxInMemory elements on the heap, once the budget is exceeded elements are hash
+     * partitioned by key across temporary files and grouped a partition at a time
+     * 
+     * <pre>
+     * {@code 
+     *  ReactiveSeq.of(1, 2, 3, 4)
+     *             .groupBy(i -> i % 2, 1000, Serializer.ints())
+     *             .toList();
+     *  //[(1,[1,3]),(0,[2,4])]
+     * }
+     * </pre>
+     * 
+     * @param classifier
+     *            Function to determine the key of each element
+     * @param maxInMemory
+     *            Maximum number of elements to hold on the heap
+     * @param serializer
+     *            Serializer used to write elements to temporary files
+     * @return Stream of key / group pairs
+     */
+    default <K> ReactiveSeq<Tuple2<K, ListX<T>>> groupBy(final Function<? super T, ? extends K> classifier, final int maxInMemory,
+            final Serializer<T> serializer) {
+        return fromStream(StreamUtils.groupBy(this, classifier, maxInMemory, serializer));
+    }
+
+    /**
+     * Reverse this Stream holding at most maxInMemory elements on the heap, larger Streams are spilled to temporary files in runs
+     * which are read back in reverse order
+     * 
+     * @param maxInMemory
+     *            Maximum number of elements to hold on the heap
+     * @param serializer
+     *            Serializer used to write elements to temporary files
+     * @return Reversed Stream
+     */
+    default ReactiveSeq<T> reverse(final int maxInMemory, final Serializer<T> serializer) {
+        return fromStream(StreamUtils.reverse(this, maxInMemory, serializer));
+    }
+
     /* (non-Javadoc)
      * @see com.aol.cyclops.types.Traversable#takeWhile(java.util.function.Predicate)
      */
@@ -1142,12 +1275,47 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     }
 
     /**
-     * @return Does nothing ReactiveSeq is for Sequential Streams
+     * Convert this ReactiveSeq into a parallel Stream. Operations that the JDK can execute in parallel (map, filter, reduce, collect and so on)
+     * are split across the ForkJoinPool used by the terminal operation (the common pool, unless the terminal operation is run
+     * inside another ForkJoinPool - see {@link ReactiveSeq#parallel(ForkJoinPool, Function)}). Operations specific to ReactiveSeq
+     * (e.g. sliding, zip, scanLeft) continue to process the data sequentially.
      * 
+     * <pre>
+     * {@code 
+     *  ReactiveSeq.range(0,1_000_000)
+     *             .parallel()
+     *             .map(this::expensive)
+     *             .reduce(0,(a,b)->a+b);
+     * }
+     * </pre>
+     * 
+     * @return parallel ReactiveSeq
      */
     @Override
     ReactiveSeq<T> parallel();
 
+    /**
+     * Run a parallel version of this ReactiveSeq on the provided ForkJoinPool
+     * 
+     * <pre>
+     * {@code 
+     *  ForkJoinPool analytics = new ForkJoinPool(8);
+     *  
+     *  int total = ReactiveSeq.range(0,1_000_000)
+     *                         .parallel(analytics,s->s.map(this::expensive)
+     *                                                 .reduce(0,(a,b)->a+b));
+     * }
+     * </pre>
+     * 
+     * @param fj ForkJoinPool to execute the parallel operations on
+     * @param fn Function that applies the operations (including a terminal operation) to the parallel ReactiveSeq
+     * @return Result of fn
+     */
+    default <R> R parallel(final ForkJoinPool fj, final Function<? super ReactiveSeq<T>, ? extends R> fn) {
+        return fj.submit(() -> fn.apply(this.parallel()))
+                 .join();
+    }
+
     /**
      * True if predicate matches all elements when Monad converted to a Stream
      * 
@@ -1595,6 +1763,60 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     <R> ReactiveSeq<R> map(Function<? super T, ? extends R> fn);
 
+    /**
+     * Map to a IntSeq, subsequent cyclops operators (sliding, grouped, scanLeft, Monoid reductions) operate on unboxed int values
+     * 
+     * <pre>
+     * {@code 
+     *  ReactiveSeq.of("a","bb","ccc")
+     *             .mapToIntSeq(String::length)
+     *             .scanLeft(Monoids.primitiveIntSum)
+     * }
+     * </pre>
+     * 
+     * @param fn Mapping function
+     * @return IntSeq of mapped values
+     */
+    default IntSeq mapToIntSeq(final ToIntFunction<? super T> fn) {
+        return IntSeq.fromIntStream(mapToInt(fn));
+    }
+
+    /**
+     * Map to a LongSeq, subsequent cyclops operators (sliding, grouped, scanLeft, Monoid reductions) operate on unboxed long values
+     * 
+     * <pre>
+     * {@code 
+     *  ReactiveSeq.of("a","bb","ccc")
+     *             .mapToLongSeq(String::length)
+     *             .scanLeft(Monoids.primitiveLongSum)
+     * }
+     * </pre>
+     * 
+     * @param fn Mapping function
+     * @return LongSeq of mapped values
+     */
+    default LongSeq mapToLongSeq(final ToLongFunction<? super T> fn) {
+        return LongSeq.fromLongStream(mapToLong(fn));
+    }
+
+    /**
+     * Map to a DoubleSeq, subsequent cyclops operators (sliding, grouped, scanLeft, Monoid reductions) operate on unboxed double values
+     * 
+     * <pre>
+     * {@code 
+     *  ReactiveSeq.of("a","bb","ccc")
+     *             .mapToDoubleSeq(String::length)
+     *             .scanLeft(Monoids.primitiveDoubleSum)
+     * }
+     * </pre>
+     * 
+     * @param fn Mapping function
+     * @return DoubleSeq of mapped values
+     */
+    default DoubleSeq mapToDoubleSeq(final ToDoubleFunction<? super T> fn) {
+        return DoubleSeq.fromDoubleStream(mapToDouble(fn));
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1676,6 +1898,29 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     <R> ReactiveSeq<R> flatMapStream(Function<? super T, BaseStream<? extends R, ?>> fn);
 
+    /**
+     * flatMap each element to the records of a memory mapped file, as read-only ByteBuffer slices
+     * 
+     * <pre>
+     * {@code 
+     *  ReactiveSeq.of("day1.log","day2.log")
+     *             .flatMapMappedFile(Paths::get,Framing.lines())
+     *             .map(line->StandardCharsets.UTF_8.decode(line).toString())
+     *             .toList();
+     * }
+     * </pre>
+     * 
+     * @param fn
+     *            Function that identifies the file for each element
+     * @param framing
+     *            Determines how each file is divided into records
+     * @return ReactiveSeq of records
+     * @see #fromMappedFile(Path, Framing)
+     */
+    default ReactiveSeq<ByteBuffer> flatMapMappedFile(final Function<? super T, Path> fn, final Framing framing) {
+        return fromStream(StreamUtils.flatMapMappedFile(this, fn, framing));
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -2537,6 +2782,30 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return fromIterable(() -> iterator);
     }
 
+    /**
+     * Construct a ReactiveSeq of the records in a memory mapped file, each record is a read-only ByteBuffer slice of the
+     * mapping (no bytes are copied or decoded). Delimited and fixed length files are split into byte ranges when the Stream is
+     * run in parallel.
+     * 
+     * <pre>
+     * {@code 
+     *  long errors = ReactiveSeq.fromMappedFile(Paths.get("access.log"),Framing.lines())
+     *                           .parallel()
+     *                           .filter(line->line.get(0)=='E')
+     *                           .count();
+     * }
+     * </pre>
+     * 
+     * @param path
+     *            File to read
+     * @param framing
+     *            Determines how the file is divided into records
+     * @return ReactiveSeq of records, closing it closes the file
+     */
+    public static ReactiveSeq<ByteBuffer> fromMappedFile(final Path path, final Framing framing) {
+        return fromStream(StreamUtils.mappedFile(path, framing));
+    }
+
     /**
      * @see Stream#iterate(Object, UnaryOperator)
      */
@@ -2901,6 +3170,34 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     ReactiveSeq<T> xPer(int x, long time, TimeUnit t);
 
+    /**
+     * emit up to x elements per time period, with each period timed by the supplied TimerWheel
+     * rather than by parking the consuming thread. Data is pulled from this Stream as the
+     * returned Stream is consumed.
+     * 
+     * <pre>
+     * {@code
+     * ReactiveSeq.of(1, 2, 3, 4, 5, 6)
+     *            .xPer(2, 10, TimeUnit.MILLISECONDS, TimerWheel.shared())
+     *            .toList();
+     * //[1,2,3,4,5,6]
+     * }
+     * </pre>
+     * 
+     * @param x
+     *            number of elements to emit
+     * @param time
+     *            period
+     * @param t
+     *            Time unit
+     * @param timer
+     *            TimerWheel to schedule each period on
+     * @return ReactiveSeq that emits x elements per time period
+     */
+    default ReactiveSeq<T> xPer(final int x, final long time, final TimeUnit t, final TimerWheel timer) {
+        return fromStream(StreamUtils.xPer(this, x, time, t, timer));
+    }
+
     /**
      * emit one element per time period
      * 
@@ -2916,12 +3213,39 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      * 						+ individual))
      * 				.forEach(a->{});
      * }
+     * </pre>
+     * 
+     * The consuming thread is parked between elements, see {@link #onePer(long, TimeUnit, TimerWheel)}
+     * for a timer driven equivalent.
+     * 
      * @param time period
      * @param t Time unit
      * @return ReactiveSeq that emits 1 element per time period
      */
     ReactiveSeq<T> onePer(long time, TimeUnit t);
 
+    /**
+     * emit one element per time period, with each period timed by the supplied TimerWheel
+     * rather than by parking the consuming thread
+     * 
+     * <pre>
+     * {@code
+     * ReactiveSeq.of(1, 2, 3)
+     *            .onePer(1, TimeUnit.MILLISECONDS, TimerWheel.shared())
+     *            .toList();
+     * //[1,2,3]
+     * }
+     * </pre>
+     * 
+     * @param time period
+     * @param t Time unit
+     * @param timer TimerWheel to schedule each period on
+     * @return ReactiveSeq that emits 1 element per time period
+     */
+    default ReactiveSeq<T> onePer(final long time, final TimeUnit t, final TimerWheel timer) {
+        return fromStream(StreamUtils.onePer(this, time, t, timer));
+    }
+
     /**
      * Allow one element through per time period, drop all other elements in
      * that time period
@@ -2935,12 +3259,38 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      * }
      * </pre>
      * 
+     * The debounce period is checked as elements are pulled, see {@link #debounce(long, TimeUnit, TimerWheel)}
+     * for a timer driven equivalent that emits the latest element of a period even if no further data arrives.
+     * 
      * @param time Time to apply debouncing over
      * @param t Time unit for debounce period
      * @return ReactiveSeq with debouncing applied
      */
     ReactiveSeq<T> debounce(long time, TimeUnit t);
 
+    /**
+     * Emit the latest element once no new element has arrived for the debounce period, with
+     * the period timed by the supplied TimerWheel. An element still held when this Stream
+     * completes is emitted before completion.
+     * 
+     * <pre>
+     * {@code
+     * ReactiveSeq.of(1,2,3,4,5,6)
+     *          .debounce(1,TimeUnit.SECONDS,TimerWheel.shared()).toList();
+     *          
+     * // 6
+     * }
+     * </pre>
+     * 
+     * @param time Time to apply debouncing over
+     * @param t Time unit for debounce period
+     * @param timer TimerWheel to schedule the debounce period on
+     * @return ReactiveSeq with debouncing applied
+     */
+    default ReactiveSeq<T> debounce(final long time, final TimeUnit t, final TimerWheel timer) {
+        return fromStream(StreamUtils.debounce(this, time, t, timer));
+    }
+
     /**
      * emit elements after a fixed delay
      * 
@@ -198,7 +198,7 @@ public class SimpleReact implements ReactBuilder {
      */
     public <T> SimpleReactStream<T> fromPublisher(final Publisher<? extends T> publisher) {
         Objects.requireNonNull(publisher);
-        final SeqSubscriber<T> sub = SeqSubscriber.subscriber();
+        final SeqSubscriber<T> sub = SeqSubscriber.subscriber(SeqSubscriber.BATCH_PREFETCH);
         publisher.subscribe(sub);
         return sub.toSimpleReact(this);
     }
@@ -362,6 +362,21 @@ public class SimpleReact implements ReactBuilder {
                           .build();
     }
 
+    /**
+     * @return new eager SimpleReact builder that runs each task on a virtual thread, so that tasks which block (e.g. on JDBC or HTTP calls)
+     * do not hold a platform thread. On JDKs without virtual threads tasks run on an elastic pool of platform threads.
+     * 
+     * @see ThreadPools#getVirtualThreadExecutor()
+     */
+    public static SimpleReact virtualThreads() {
+        return SimpleReact.builder()
+                          .executor(ThreadPools.getVirtualThreadExecutor())
+                          .async(true)
+                          .retrier(RetryBuilder.getDefaultInstance()
+                                               .withScheduler(ThreadPools.getCommonFreeThreadRetry()))
+                          .build();
+    }
+
     public SimpleReactStream<Integer> range(final int startInclusive, final int endExclusive) {
         return from(IntStream.range(startInclusive, endExclusive));
     }
@@ -2,7 +2,12 @@ package com.aol.cyclops.control;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -21,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -38,23 +44,22 @@ import org.jooq.lambda.Seq;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
-import org.pcollections.ConsPStack;
-import org.pcollections.PStack;
 import org.reactivestreams.Subscription;
 
 import com.aol.cyclops.CyclopsCollectors;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Reducer;
-import com.aol.cyclops.data.Mutable;
 import com.aol.cyclops.data.collections.extensions.CollectionX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.internal.monads.MonadWrapper;
+import com.aol.cyclops.internal.stream.CopyingBuffer;
 import com.aol.cyclops.internal.stream.FutureStreamUtils;
 import com.aol.cyclops.internal.stream.PausableHotStreamImpl;
 import com.aol.cyclops.internal.stream.ReactiveSeqFutureOpterationsImpl;
 import com.aol.cyclops.internal.stream.ReactiveSeqImpl;
 import com.aol.cyclops.internal.stream.ReversedIterator;
 import com.aol.cyclops.internal.stream.SeqUtils;
+import com.aol.cyclops.internal.stream.SlidingWindow;
 import com.aol.cyclops.internal.stream.operators.BatchBySizeOperator;
 import com.aol.cyclops.internal.stream.operators.BatchByTimeAndSizeOperator;
 import com.aol.cyclops.internal.stream.operators.BatchByTimeOperator;
@@ -69,16 +74,22 @@ import com.aol.cyclops.internal.stream.operators.RecoverOperator;
 import com.aol.cyclops.internal.stream.operators.SkipLastOperator;
 import com.aol.cyclops.internal.stream.operators.SkipWhileOperator;
 import com.aol.cyclops.internal.stream.operators.SkipWhileTimeOperator;
+import com.aol.cyclops.internal.stream.operators.SpillingOperator;
 import com.aol.cyclops.internal.stream.operators.WindowStatefullyWhileOperator;
+import com.aol.cyclops.internal.stream.spliterators.MappedFileSpliterator;
 import com.aol.cyclops.internal.stream.spliterators.ReversableSpliterator;
+import com.aol.cyclops.react.TimerWheel;
+import com.aol.cyclops.types.futurestream.NullValue;
 import com.aol.cyclops.types.stream.HeadAndTail;
 import com.aol.cyclops.types.stream.HotStream;
 import com.aol.cyclops.types.stream.NonPausableHotStream;
 import com.aol.cyclops.types.stream.PausableHotStream;
 import com.aol.cyclops.types.stream.future.FutureOperations;
+import com.aol.cyclops.types.stream.reactive.TimedSubscriber;
 import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.util.stream.Framing;
+import com.aol.cyclops.util.stream.Serializer;
 
-import lombok.AllArgsConstructor;
 import lombok.val;
 import lombok.experimental.UtilityClass;
 
@@ -518,14 +529,58 @@ public class StreamUtils {
 
         final Tuple2<Iterator<T>, Iterator<T>> Tuple2 = StreamUtils.toBufferingDuplicator(stream.iterator());
         return new Tuple2(
-                          StreamUtils.stream(Tuple2.v1()), StreamUtils.stream(Tuple2.v2()));
+                          copyStream(Tuple2.v1()), copyStream(Tuple2.v2()));
+    }
+
+    /**
+     * Duplicate a Stream, buffering at most maxLag elements for the slower copy. Suitable for very large Streams where the copies
+     * are consumed at different rates (e.g. on different threads).
+     * 
+     * <pre>
+     * {@code 
+     *  Tuple2<Stream<Integer>, Stream<Integer>> copies = StreamUtils.duplicate(largeStream,10_000,LagPolicy.BLOCK);
+     *  
+     *  CompletableFuture.runAsync(()->copies.v1.forEach(this::write));
+     *  long total = copies.v2.count();
+     * }
+     * </pre>
+     * 
+     * A copy that will not be read to the end (e.g. one that short-circuits with limit or findFirst) should be closed, so that
+     * it no longer counts towards the lag.
+     * 
+     * <pre>
+     * {@code 
+     *  try(Stream<Integer> first = copies.v1){
+     *      header = first.limit(10).collect(Collectors.toList());
+     *  }
+     * }
+     * </pre>
+     * 
+     * @param stream Stream to duplicate
+     * @param maxLag Maximum number of elements one copy may be ahead of the other (at least 1)
+     * @param policy What to do when the leading copy reaches the maximum lag
+     * @return duplicated stream
+     */
+    public final static <T> Tuple2<Stream<T>, Stream<T>> duplicate(final Stream<T> stream, final long maxLag, final LagPolicy policy) {
+
+        final Tuple2<Iterator<T>, Iterator<T>> Tuple2 = StreamUtils.toBufferingDuplicator(stream.iterator(), maxLag, policy);
+        return new Tuple2(
+                          copyStream(Tuple2.v1()), copyStream(Tuple2.v2()));
+    }
+
+    //closing the Stream releases its copy, so it no longer holds back the other copies
+    private final static <T> Stream<T> copyStream(final Iterator<T> copy) {
+        final Stream<T> stream = StreamUtils.stream(copy);
+        if (copy instanceof CopyingBuffer.Cursor)
+            return stream.onClose(((CopyingBuffer<T>.Cursor) copy)::close);
+        return stream;
     }
 
     private final static <T> Tuple2<Stream<T>, Stream<T>> duplicatePos(final Stream<T> stream, final int pos) {
 
         final Tuple2<Iterator<T>, Iterator<T>> Tuple2 = StreamUtils.toBufferingDuplicator(stream.iterator(), pos);
         return new Tuple2(
-                          StreamUtils.stream(Tuple2.v1()), StreamUtils.stream(Tuple2.v2()));
+                          copyStream(Tuple2.v1()), copyStream(Tuple2.v2()));
     }
 
     /**
@@ -544,7 +599,7 @@ public class StreamUtils {
 
         final Stream<Stream<T>> its = StreamUtils.toBufferingCopier(stream.iterator(), 3)
                                                  .stream()
-                                                 .map(it -> StreamUtils.stream(it));
+                                                 .map(it -> copyStream(it));
         final Iterator<Stream<T>> it = its.iterator();
         return new Tuple3(
                           it.next(), it.next(), it.next());
@@ -569,7 +624,7 @@ public class StreamUtils {
     public final static <T> Tuple4<Stream<T>, Stream<T>, Stream<T>, Stream<T>> quadruplicate(final Stream<T> stream) {
         final Stream<Stream<T>> its = StreamUtils.toBufferingCopier(stream.iterator(), 4)
                                                  .stream()
-                                                 .map(it -> StreamUtils.stream(it));
+                                                 .map(it -> copyStream(it));
         final Iterator<Stream<T>> it = its.iterator();
         return new Tuple4(
                           it.next(), it.next(), it.next(), it.next());
@@ -931,6 +986,124 @@ public class StreamUtils {
                                       list).stream();
     }
 
+    /**
+     * Sort a Stream holding at most maxInMemory elements on the heap. Larger Streams are sorted in runs of maxInMemory elements,
+     * which are spilled to temporary files using the supplied Serializer and merged back lazily. The sort is stable.
+     * 
+     * <pre>
+     * {@code 
+     * assertThat(StreamUtils.sorted(Stream.of(4,3,6,7),(a,b)->a-b,2,Serializer.ints()).collect(Collectors.toList())
+    			,equalTo(Arrays.asList(3,4,6,7)));
+     * }
+     * </pre>
+     * 
+     * @param stream Stream to sort
+     * @param comparator Comparator to sort with
+     * @param maxInMemory Maximum number of elements to hold on the heap
+     * @param serializer Serializer used to write elements to temporary files
+     * @return Sorted Stream, closing it deletes any remaining temporary files
+     */
+    public static <U> Stream<U> sorted(final Stream<U> stream, final Comparator<? super U> comparator, final int maxInMemory,
+            final Serializer<U> serializer) {
+        return new SpillingOperator<>(
+                                      stream, maxInMemory, serializer).sorted(comparator);
+    }
+
+    /**
+     * @see #sorted(Stream, Comparator, int, Serializer)
+     * @param directory Directory to create temporary files in (by default they are created in the directory named by the
+     *            cyclops.spill.dir system property, or the default temporary file directory)
+     */
+    public static <U> Stream<U> sorted(final Stream<U> stream, final Comparator<? super U> comparator, final int maxInMemory,
+            final Serializer<U> serializer, final Path directory) {
+        return new SpillingOperator<>(
+                                      stream, maxInMemory, serializer, directory).sorted(comparator);
+    }
+
+    /**
+     * Remove duplicates from a Stream holding at most maxInMemory distinct elements on the heap. Encounter order is retained
+     * until the budget is exceeded, after that the remaining distinct elements are hash partitioned across temporary files
+     * (using the supplied Serializer) and emitted a partition at a time.
+     * 
+     * @param stream Stream to remove duplicates from
+     * @param maxInMemory Maximum number of elements to hold on the heap
+     * @param serializer Serializer used to write elements to temporary files
+     * @return Stream of distinct elements, closing it deletes any remaining temporary files
+     */
+    public static <U> Stream<U> distinct(final Stream<U> stream, final int maxInMemory, final Serializer<U> serializer) {
+        return new SpillingOperator<>(
+                                      stream, maxInMemory, serializer).distinct();
+    }
+
+    /**
+     * @see #distinct(Stream, int, Serializer)
+     * @param directory Directory to create temporary files in
+     */
+    public static <U> Stream<U> distinct(final Stream<U> stream, final int maxInMemory, final Serializer<U> serializer,
+            final Path directory) {
+        return new SpillingOperator<>(
+                                      stream, maxInMemory, serializer, directory).distinct();
+    }
+
+    /**
+     * Group the elements of a Stream by key holding at most maxInMemory elements on the heap (other than a single group that
+     * is larger than the budget). Above the budget elements are hash partitioned by key across temporary files (using the
+     * supplied Serializer) and grouped a partition at a time. The elements of each group retain their encounter order.
+     * 
+     * <pre>
+     * {@code 
+     * StreamUtils.groupBy(Stream.of(1,2,3,4),i->i%2,2,Serializer.ints())
+     *            .collect(Collectors.toList());
+     * //[(1,[1,3]),(0,[2,4])]           
+     * }
+     * </pre>
+     * 
+     * @param stream Stream to group
+     * @param classifier Function to determine the key of each element
+     * @param maxInMemory Maximum number of elements to hold on the heap
+     * @param serializer Serializer used to write elements to temporary files
+     * @return Stream of groups, closing it deletes any remaining temporary files
+     */
+    public static <U, K> Stream<Tuple2<K, ListX<U>>> groupBy(final Stream<U> stream, final Function<? super U, ? extends K> classifier,
+            final int maxInMemory, final Serializer<U> serializer) {
+        return new SpillingOperator<>(
+                                      stream, maxInMemory, serializer).groupBy(classifier);
+    }
+
+    /**
+     * @see #groupBy(Stream, Function, int, Serializer)
+     * @param directory Directory to create temporary files in
+     */
+    public static <U, K> Stream<Tuple2<K, ListX<U>>> groupBy(final Stream<U> stream, final Function<? super U, ? extends K> classifier,
+            final int maxInMemory, final Serializer<U> serializer, final Path directory) {
+        return new SpillingOperator<>(
+                                      stream, maxInMemory, serializer, directory).groupBy(classifier);
+    }
+
+    /**
+     * Reverse a Stream holding at most maxInMemory elements on the heap. Larger Streams are spilled to temporary files (using
+     * the supplied Serializer) in runs of maxInMemory elements, which are read back in reverse order.
+     * 
+     * @param stream Stream to reverse
+     * @param maxInMemory Maximum number of elements to hold on the heap
+     * @param serializer Serializer used to write elements to temporary files
+     * @return Reversed Stream, closing it deletes any remaining temporary files
+     */
+    public static <U> Stream<U> reverse(final Stream<U> stream, final int maxInMemory, final Serializer<U> serializer) {
+        return new SpillingOperator<>(
+                                      stream, maxInMemory, serializer).reverse();
+    }
+
+    /**
+     * @see #reverse(Stream, int, Serializer)
+     * @param directory Directory to create temporary files in
+     */
+    public static <U> Stream<U> reverse(final Stream<U> stream, final int maxInMemory, final Serializer<U> serializer,
+            final Path directory) {
+        return new SpillingOperator<>(
+                                      stream, maxInMemory, serializer, directory).reverse();
+    }
+
     /**
      * Create a new Stream that infiniteable cycles the provided Stream
      * 
@@ -1279,29 +1452,58 @@ public class StreamUtils {
      * @return Stream with sliding view 
      */
     public final static <T> Stream<ListX<T>> sliding(final Stream<T> stream, final int windowSize, final int increment) {
-        final Iterator<T> it = stream.iterator();
-        final Mutable<PStack<T>> list = Mutable.of(ConsPStack.empty());
+        final SlidingWindow<T> window = new SlidingWindow<>(
+                                                            stream.iterator(), windowSize, increment);
         return StreamUtils.stream(new Iterator<ListX<T>>() {
 
             @Override
             public boolean hasNext() {
-                return it.hasNext();
+                return window.hasNext();
             }
 
             @Override
             public ListX<T> next() {
-                for (int i = 0; i < increment && list.get()
-                                                     .size() > 0; i++)
-                    list.mutate(var -> var.minus(0));
-                for (; list.get()
-                           .size() < windowSize
-                        && it.hasNext();) {
-                    if (it.hasNext()) {
-                        list.mutate(var -> var.plus(Math.max(0, var.size()), it.next()));
-                    }
+                window.next();
+                return ListX.fromIterable(window.copy());
+            }
 
-                }
-                return ListX.fromIterable(list.get());
+        });
+    }
+
+    /**
+     * Create a sliding view over this Stream, where each window is a read-only view over a shared ring buffer rather than a copy.
+     * Each view is only valid until the next window is requested (so views should be processed as they are emitted, e.g. to
+     * calculate a moving average, and not collected) - accessing a stale view throws an IllegalStateException.
+     * 
+     * <pre>
+     * {@code 
+     * List<Double> averages = StreamUtils.slidingView(Stream.of(1,2,3,4,5,6),2,1)
+     *                                    .map(w->w.stream().mapToInt(i->i).average().getAsDouble())
+     *                                    .collect(Collectors.toList());
+     *                                    
+     *  //[1.5,2.5,3.5,4.5,5.5]
+     * }
+     * </pre>
+     * 
+     * @param stream Stream to create sliding view on
+     * @param windowSize Size of sliding window
+     * @param increment Number of elements to move the window on by each time
+     * @return Stream of read-only window views
+     */
+    public final static <T> Stream<ListX<T>> slidingView(final Stream<T> stream, final int windowSize, final int increment) {
+        final SlidingWindow<T> window = new SlidingWindow<>(
+                                                            stream.iterator(), windowSize, increment);
+        return StreamUtils.stream(new Iterator<ListX<T>>() {
+
+            @Override
+            public boolean hasNext() {
+                return window.hasNext();
+            }
+
+            @Override
+            public ListX<T> next() {
+                window.next();
+                return ListX.fromIterable(window.view());
             }
 
         });
@@ -1325,29 +1527,19 @@ public class StreamUtils {
      * @return Stream with sliding view over monad
      */
     public final static <T> Stream<Streamable<T>> window(final Stream<T> stream, final int windowSize, final int increment) {
-        final Iterator<T> it = stream.iterator();
-        final Mutable<PStack<T>> list = Mutable.of(ConsPStack.empty());
+        final SlidingWindow<T> window = new SlidingWindow<>(
+                                                            stream.iterator(), windowSize, increment);
         return StreamUtils.stream(new Iterator<Streamable<T>>() {
 
             @Override
             public boolean hasNext() {
-                return it.hasNext();
+                return window.hasNext();
             }
 
             @Override
             public Streamable<T> next() {
-                for (int i = 0; i < increment && list.get()
-                                                     .size() > 0; i++)
-                    list.mutate(var -> var.minus(0));
-                for (; list.get()
-                           .size() < windowSize
-                        && it.hasNext();) {
-                    if (it.hasNext()) {
-                        list.mutate(var -> var.plus(Math.max(0, var.size()), it.next()));
-                    }
-
-                }
-                return Streamable.fromIterable(list.get());
+                window.next();
+                return Streamable.fromIterable(window.copy());
             }
 
         });
@@ -2009,131 +2201,111 @@ public class StreamUtils {
                                           .sequence();
     }
 
+    /**
+     * Create a Stream of the records in a memory mapped file. Each record is a read-only ByteBuffer slice of the mapping, so no
+     * bytes are copied or decoded (decode only the records, or fields, that are needed). Where the Framing allows records to be
+     * located from an arbitrary position (delimited and fixed length records) the Stream splits the file into byte ranges
+     * when run in parallel.
+     * 
+     * <pre>
+     * {@code 
+     *  long errors = StreamUtils.mappedFile(Paths.get("access.log"),Framing.lines())
+     *                           .parallel()
+     *                           .filter(line->line.get(0)=='E')
+     *                           .count();
+     * }
+     * </pre>
+     * 
+     * @param path File to read
+     * @param framing Determines how the file is divided into records
+     * @return Stream of records, closing the Stream closes the file
+     */
+    public final static Stream<ByteBuffer> mappedFile(final Path path, final Framing framing) {
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        final MappedFileSpliterator spliterator = new MappedFileSpliterator(
+                                                                            channel, framing);
+        return StreamSupport.stream(spliterator, false)
+                            .onClose(spliterator::close);
+    }
+
+    /**
+     * Perform a flatMap operation where the result will be a flattened stream of the records (as read-only ByteBuffer slices)
+     * of the memory mapped files identified by the supplied function
+     * 
+     * @param stream Stream to flatMap
+     * @param fn Function that identifies the file for each element
+     * @param framing Determines how each file is divided into records
+     * @return Stream of records
+     * @see #mappedFile(Path, Framing)
+     */
+    public final static <T> Stream<ByteBuffer> flatMapMappedFile(final Stream<T> stream, final Function<? super T, Path> fn,
+            final Framing framing) {
+        return stream.flatMap(t -> mappedFile(fn.apply(t), framing));
+    }
+
     public static final <A> Tuple2<Iterator<A>, Iterator<A>> toBufferingDuplicator(final Iterator<A> iterator) {
         return toBufferingDuplicator(iterator, Long.MAX_VALUE);
     }
 
     public static final <A> Tuple2<Iterator<A>, Iterator<A>> toBufferingDuplicator(final Iterator<A> iterator, final long pos) {
-        final LinkedList<A> bufferTo = new LinkedList<A>();
-        final LinkedList<A> bufferFrom = new LinkedList<A>();
+        final CopyingBuffer<A> buffer = new CopyingBuffer<>(
+                                                            iterator, Long.MAX_VALUE, LagPolicy.BLOCK);
         return new Tuple2(
-                          new DuplicatingIterator(
-                                                  bufferTo, bufferFrom, iterator, Long.MAX_VALUE, 0),
-                          new DuplicatingIterator(
-                                                  bufferFrom, bufferTo, iterator, pos, 0));
+                          buffer.cursor(pos), buffer.cursor(Long.MAX_VALUE));
     }
 
-    public static final <A> ListX<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies) {
-        final List<Iterator<A>> result = new ArrayList<>();
-        final List<CopyingIterator<A>> leaderboard = new LinkedList<>();
-        final LinkedList<A> buffer = new LinkedList<>();
-        for (int i = 0; i < copies; i++)
-            result.add(new CopyingIterator(
-                                           iterator, leaderboard, buffer, copies));
-        return ListX.fromIterable(result);
-    }
-
-    @AllArgsConstructor
-    static class DuplicatingIterator<T> implements Iterator<T> {
-
-        LinkedList<T> bufferTo;
-        LinkedList<T> bufferFrom;
-        Iterator<T> it;
-        long otherLimit = Long.MAX_VALUE;
-        long counter = 0;
-
-        @Override
-        public boolean hasNext() {
-            if (bufferFrom.size() > 0 || it.hasNext())
-                return true;
-            return false;
-        }
-
-        @Override
-        public T next() {
-            try {
-                if (bufferFrom.size() > 0)
-                    return bufferFrom.remove(0);
-                else {
-                    final T next = it.next();
-                    if (counter < otherLimit)
-                        bufferTo.add(next);
-                    return next;
-                }
-            } finally {
-                counter++;
-            }
-        }
-
+    /**
+     * Duplicate an Iterator, buffering at most maxLag elements for the slower copy
+     * 
+     * @param iterator Iterator to duplicate
+     * @param maxLag Maximum number of elements one copy may be ahead of the other
+     * @param policy What to do when the leading copy reaches the maximum lag
+     * @return Two Iterators, each of which sees every element
+     */
+    public static final <A> Tuple2<Iterator<A>, Iterator<A>> toBufferingDuplicator(final Iterator<A> iterator, final long maxLag,
+            final LagPolicy policy) {
+        final List<Iterator<A>> copies = CopyingBuffer.copies(iterator, 2, maxLag, policy);
+        return new Tuple2(
+                          copies.get(0), copies.get(1));
     }
 
-    static class CopyingIterator<T> implements Iterator<T> {
-
-        LinkedList<T> buffer;
-        Iterator<T> it;
-        List<CopyingIterator<T>> leaderboard = new LinkedList<>();
-        boolean added = false;
-        int total = 0;
-        int counter = 0;
-
-        @Override
-        public boolean hasNext() {
-
-            if (isLeader())
-                return it.hasNext();
-            if (isLast())
-                return buffer.size() > 0 || it.hasNext();
-            if (it.hasNext())
-                return true;
-            return counter < buffer.size();
-        }
-
-        private boolean isLeader() {
-            return leaderboard.size() == 0 || this == leaderboard.get(0);
-        }
-
-        private boolean isLast() {
-            return leaderboard.size() == total && this == leaderboard.get(leaderboard.size() - 1);
-        }
-
-        @Override
-        public T next() {
-
-            if (!added) {
-
-                this.leaderboard.add(this);
-                added = true;
-            }
-
-            if (isLeader()) {
-
-                return handleLeader();
-            }
-            if (isLast()) {
-
-                if (buffer.size() > 0)
-                    return buffer.poll();
-                return it.next();
-            }
-            if (counter < buffer.size())
-                return buffer.get(counter++);
-            return handleLeader(); //exceed buffer, now leading
-
-        }
-
-        private T handleLeader() {
-            final T next = it.next();
-            buffer.offer(next);
-            return next;
-        }
+    public static final <A> ListX<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies) {
+        return toBufferingCopier(iterator, copies, Long.MAX_VALUE, LagPolicy.BLOCK);
+    }
 
-        public CopyingIterator(final Iterator<T> it, final List<CopyingIterator<T>> leaderboard, final LinkedList<T> buffer, final int total) {
+    /**
+     * Make copies of an Iterator, buffering at most maxLag elements between the leading and the slowest copy
+     * 
+     * @param iterator Iterator to copy
+     * @param copies Number of copies
+     * @param maxLag Maximum number of elements the leading copy may be ahead of the slowest copy
+     * @param policy What to do when the leading copy reaches the maximum lag
+     * @return Iterators, each of which sees every element
+     */
+    public static final <A> ListX<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies, final long maxLag,
+            final LagPolicy policy) {
+        return ListX.fromIterable(CopyingBuffer.copies(iterator, copies, maxLag, policy));
+    }
 
-            this.it = it;
-            this.leaderboard = leaderboard;
-            this.buffer = buffer;
-            this.total = total;
-        }
+    /**
+     * Determines what happens when one copy of a duplicated Stream gets too far ahead of another (i.e. the number of
+     * elements buffered for the slower copy reaches the maximum lag)
+     */
+    public static enum LagPolicy {
+        /**
+         * Block the leading copy until the slowest copy catches up. Copies must be consumed on different threads, a single
+         * thread consuming both copies will block forever.
+         */
+        BLOCK,
+        /**
+         * Throw an IllegalStateException from the leading copy
+         */
+        FAIL_FAST
     }
 
     /**
@@ -2164,11 +2336,25 @@ public class StreamUtils {
         return SeqUtils.toConcurrentLazyCollection(iterator);
     }
 
+    /**
+     * Lazily constructs a Collection from specified Stream, retaining only the most recent maxSize elements (approximately,
+     * older elements are evicted in blocks). Collections iterator may be safely used concurrently by multiple threads.
+     * 
+     * @param stream Stream to cache
+     * @param maxSize Maximum number of elements to retain
+     * @return Lazy Collection of the most recent elements
+     */
+    public static final <A> CollectionX<A> toConcurrentLazyCollection(final Stream<A> stream, final long maxSize) {
+        return SeqUtils.toConcurrentLazyCollection(stream.iterator(), maxSize);
+    }
+
     public final static <T> Stream<Streamable<T>> windowByTime(final Stream<T> stream, final long time, final TimeUnit t) {
         final Iterator<T> it = stream.iterator();
         final long toRun = t.toNanos(time);
         return StreamUtils.stream(new Iterator<Streamable<T>>() {
             long start = System.nanoTime();
+            //size the next window from the last one, to avoid repeatedly growing the backing array
+            int lastSize = 10;
 
             @Override
             public boolean hasNext() {
@@ -2178,7 +2364,8 @@ public class StreamUtils {
             @Override
             public Streamable<T> next() {
 
-                final List<T> list = new ArrayList<>();
+                final List<T> list = new ArrayList<>(
+                                                     lastSize);
 
                 while (System.nanoTime() - start < toRun && it.hasNext()) {
                     list.add(it.next());
@@ -2186,6 +2373,7 @@ public class StreamUtils {
                 if (list.size() == 0 && it.hasNext()) //time unit may be too small
                     list.add(it.next());
                 start = System.nanoTime();
+                lastSize = Math.max(10, list.size());
 
                 return Streamable.fromIterable(list);
             }
@@ -2356,6 +2544,73 @@ public class StreamUtils {
                                     stream).onePer(time, t);
     }
 
+    /**
+     * Emit the latest element once no new element has arrived for the debounce period, timed by the supplied
+     * TimerWheel. The held element is flushed when the Stream completes.
+     *
+     * @see com.aol.cyclops.control.ReactiveSeq#debounce(long, TimeUnit, TimerWheel)
+     *
+     * @param stream Stream to debounce
+     * @param time Time to apply debouncing over
+     * @param t Time unit for debounce period
+     * @param timer TimerWheel to schedule the debounce period on
+     * @return Stream with debouncing applied
+     */
+    public final static <T> Stream<T> debounce(final Stream<T> stream, final long time, final TimeUnit t, final TimerWheel timer) {
+        return timed(stream, () -> TimedSubscriber.debounce(timer, time, t));
+    }
+
+    /**
+     * Emit one element per time period, timed by the supplied TimerWheel
+     *
+     * @see com.aol.cyclops.control.ReactiveSeq#onePer(long, TimeUnit, TimerWheel)
+     *
+     * @param stream Stream to emit one element per time period from
+     * @param time  Time period
+     * @param t Time Unit
+     * @param timer TimerWheel to schedule emission on
+     * @return Stream with slowed emission
+     */
+    public final static <T> Stream<T> onePer(final Stream<T> stream, final long time, final TimeUnit t, final TimerWheel timer) {
+        return timed(stream, () -> TimedSubscriber.onePer(timer, time, t));
+    }
+
+    /**
+     * Emit up to x elements per time period, timed by the supplied TimerWheel
+     *
+     * @see com.aol.cyclops.control.ReactiveSeq#xPer(int, long, TimeUnit, TimerWheel)
+     *
+     * @param stream Stream to emit x elements per time period from
+     * @param x Number of elements to emit per time period
+     * @param time  Time period
+     * @param t Time Unit
+     * @param timer TimerWheel to schedule emission on
+     * @return Stream with slowed emission
+     */
+    public final static <T> Stream<T> xPer(final Stream<T> stream, final int x, final long time, final TimeUnit t, final TimerWheel timer) {
+        return timed(stream, () -> TimedSubscriber.xPer(timer, x, time, t));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Stream<T> timed(final Stream<T> stream, final Supplier<TimedSubscriber<Object, Object>> factory) {
+        final AtomicReference<TimedSubscriber<Object, Object>> active = new AtomicReference<>();
+        return StreamSupport.stream(() -> {
+            final TimedSubscriber<Object, Object> sub = factory.get();
+            active.set(sub);
+            ReactiveSeq.fromStream(stream)
+                       .<Object> map(next -> next == null ? NullValue.NULL : next)
+                       .subscribe(sub);
+            return sub.stream()
+                      .map(next -> next == NullValue.NULL ? null : (T) next)
+                      .spliterator();
+        } , Spliterator.ORDERED, false)
+                            .onClose(() -> {
+                                final TimedSubscriber<Object, Object> sub = active.get();
+                                if (sub != null)
+                                    sub.cancel();
+                            });
+    }
+
     /**
      *  Introduce a random jitter / time delay between the emission of elements
      *  
@@ -59,6 +59,7 @@ import com.aol.cyclops.types.stream.HotStream;
 import com.aol.cyclops.types.stream.ToStream;
 import com.aol.cyclops.types.stream.future.FutureOperations;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
+import com.aol.cyclops.util.stream.Serializer;
 
 import lombok.AllArgsConstructor;
 
@@ -100,7 +101,8 @@ public interface Streamable<T> extends To<Streamable<T>>,ToStream<T>, IterableFo
     }
 
     /**
-     * @param toCoerce Efficiently / lazily Makes Stream repeatable, guards iteration with locks on initial iteration
+     * @param toCoerce Efficiently / lazily Makes Stream repeatable, cached elements can be replayed by many threads without locking,
+     *      only threads reaching the end of the cache wait while it is filled
      * @return
      */
     public static <T> Streamable<T> synchronizedFromStream(final Stream<T> toCoerce) {
@@ -113,6 +115,21 @@ public interface Streamable<T> extends To<Streamable<T>>,ToStream<T>, IterableFo
                                   Impl.collectStreamConcurrent(toCoerce));
     }
 
+    /**
+     * Lazily construct a Streamable from a Stream that caches the most recent maxSize elements (approximately, older elements are evicted in blocks).
+     * Many threads may replay the cached elements while the Stream is being consumed, once more than maxSize elements have been
+     * cached the oldest are evicted and replays start from the oldest retained element.
+     * 
+     * @param toCoerce Stream to cache
+     * @param maxSize Maximum number of elements to retain
+     * @return Streamable replaying the most recent elements
+     */
+    public static <T> Streamable<T> synchronizedFromStream(final Stream<T> toCoerce, final long maxSize) {
+        return new StreamableImpl(
+                                  new PrintableIterable<T>(
+                                                           SeqUtils.toConcurrentLazyCollection(toCoerce.iterator(), maxSize)));
+    }
+
     static class Impl {
 
         private static <T> Iterable<T> collectStreamConcurrent(final T object) {
@@ -1298,6 +1315,75 @@ public interface Streamable<T> extends To<Streamable<T>>,ToStream<T>, IterableFo
         return fromStream(reactiveSeq().sorted(c));
     }
 
+    /**
+     * Sort holding at most maxInMemory elements on the heap, larger data sets are sorted in runs that are spilled to temporary
+     * files. The result is not cached, each replay sorts this Streamable again.
+     * 
+     * @param c
+     *            Comparator to sort with
+     * @param maxInMemory
+     *            Maximum number of elements to hold on the heap
+     * @param serializer
+     *            Serializer used to write elements to temporary files
+     * @return Sorted Streamable
+     * @see ReactiveSeq#sorted(Comparator, int, Serializer)
+     */
+    default Streamable<T> sorted(final Comparator<? super T> c, final int maxInMemory, final Serializer<T> serializer) {
+        return fromIterable(() -> reactiveSeq().sorted(c, maxInMemory, serializer)
+                                               .iterator());
+    }
+
+    /**
+     * Remove duplicates holding at most maxInMemory distinct elements on the heap, spilling hash partitions to temporary files
+     * above that budget. The result is not cached, each replay removes duplicates again.
+     * 
+     * @param maxInMemory
+     *            Maximum number of elements to hold on the heap
+     * @param serializer
+     *            Serializer used to write elements to temporary files
+     * @return Streamable of distinct elements
+     * @see ReactiveSeq#distinct(int, Serializer)
+     */
+    default Streamable<T> distinct(final int maxInMemory, final Serializer<T> serializer) {
+        return fromIterable(() -> reactiveSeq().distinct(maxInMemory, serializer)
+                                               .iterator());
+    }
+
+    /**
+     * Group elements by key holding at most maxInMemory elements on the heap, spilling hash partitions to temporary files above
+     * that budget. The result is not cached, each replay groups this Streamable again.
+     * 
+     * @param classifier
+     *            Function to determine the key of each element
+     * @param maxInMemory
+     *            Maximum number of elements to hold on the heap
+     * @param serializer
+     *            Serializer used to write elements to temporary files
+     * @return Streamable of key / group pairs
+     * @see ReactiveSeq#groupBy(Function, int, Serializer)
+     */
+    default <K> Streamable<Tuple2<K, ListX<T>>> groupBy(final Function<? super T, ? extends K> classifier, final int maxInMemory,
+            final Serializer<T> serializer) {
+        return fromIterable(() -> reactiveSeq().<K> groupBy(classifier, maxInMemory, serializer)
+                                                   .iterator());
+    }
+
+    /**
+     * Reverse holding at most maxInMemory elements on the heap, spilling runs to temporary files above that budget. The result
+     * is not cached, each replay reverses this Streamable again.
+     * 
+     * @param maxInMemory
+     *            Maximum number of elements to hold on the heap
+     * @param serializer
+     *            Serializer used to write elements to temporary files
+     * @return Reversed Streamable
+     * @see ReactiveSeq#reverse(int, Serializer)
+     */
+    default Streamable<T> reverse(final int maxInMemory, final Serializer<T> serializer) {
+        return fromIterable(() -> reactiveSeq().reverse(maxInMemory, serializer)
+                                               .iterator());
+    }
+
     /**
      * <pre>
      * {@code assertThat(Streamable.of(4,3,6,7).skip(2).toList(),equalTo(Arrays.asList(6,7))); }
@@ -2,6 +2,7 @@ package com.aol.cyclops.data.async;
 
 
 
+import java.util.AbstractQueue;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -19,9 +20,13 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import org.agrona.concurrent.AbstractConcurrentArrayQueue;
 import org.jooq.lambda.Seq;
 
 import com.aol.cyclops.data.async.Queue.ClosedQueueException;
+import com.aol.cyclops.data.async.wait.DirectWaitStrategy;
+import com.aol.cyclops.data.async.wait.SpinParkWait;
+import com.aol.cyclops.data.async.wait.WaitStrategy;
 import com.aol.cyclops.react.async.subscription.Continueable;
 import com.aol.cyclops.types.futurestream.Continuation;
 
@@ -252,20 +257,166 @@ public interface AdaptersModule {
 
         @Override
         public int remainingCapacity() {
-
-            return 0;
+            if (queue instanceof BlockingQueue)
+                return ((BlockingQueue) queue).remainingCapacity();
+            return Integer.MAX_VALUE; //no intrinsic limit we can see
         }
 
         @Override
         public int drainTo(final Collection c) {
 
-            return 0;
+            return drainTo(c, Integer.MAX_VALUE);
         }
 
         @Override
         public int drainTo(final Collection c, final int maxElements) {
+            int drained = 0;
+            Object next;
+            while (drained < maxElements && (next = queue.poll()) != null) {
+                c.add(next);
+                drained++;
+            }
+            return drained;
+        }
+
+    }
+
+    /**
+     * BlockingQueue adapter for Agrona's bounded wait-free queues (ManyToOneConcurrentArrayQueue, OneToOneConcurrentArrayQueue etc).
+     * 
+     * offer / poll / drainTo are called directly on the Agrona queue. The blocking methods (put / take and the timed offer / poll) retry
+     * using the async.Queue's producer and consumer WaitStrategies until they succeed, time out or the calling thread is interrupted.
+     * A DirectWaitStrategy makes a single attempt, so SpinParkWait is used in its place.
+     * 
+     * @param <T> Data type of elements in the Queue
+     */
+    static class PipeToBlockingQueueWrapper<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+
+        private static final Object TIMED_OUT = new Object();
+
+        private final AbstractConcurrentArrayQueue<T> pipe;
+        private final WaitStrategy<T> consumerWait;
+        private final WaitStrategy<T> producerWait;
+
+        public PipeToBlockingQueueWrapper(final AbstractConcurrentArrayQueue<T> pipe, final WaitStrategy<T> consumerWait,
+                final WaitStrategy<T> producerWait) {
+            this.pipe = pipe;
+            this.consumerWait = retrying(consumerWait);
+            this.producerWait = retrying(producerWait);
+        }
+
+        private static <T> WaitStrategy<T> retrying(final WaitStrategy<T> strategy) {
+            return strategy instanceof DirectWaitStrategy ? new SpinParkWait<>() : strategy;
+        }
+
+        private boolean offerInterruptibly(final T e) throws InterruptedException {
+            if (Thread.interrupted())
+                throw new InterruptedException();
+            return pipe.offer(e);
+        }
+
+        private T pollInterruptibly() throws InterruptedException {
+            if (Thread.interrupted())
+                throw new InterruptedException();
+            return pipe.poll();
+        }
+
+        private static boolean expired(final long deadline) {
+            return System.nanoTime() - deadline >= 0;
+        }
 
-            return 0;
+        @Override
+        public boolean offer(final T e) {
+            return pipe.offer(e);
+        }
+
+        @Override
+        public T poll() {
+            return pipe.poll();
+        }
+
+        @Override
+        public T peek() {
+            return pipe.peek();
+        }
+
+        @Override
+        public int size() {
+            return pipe.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return pipe.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            pipe.clear();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return pipe.iterator();
+        }
+
+        @Override
+        public void put(final T e) throws InterruptedException {
+            if (!pipe.offer(e))
+                producerWait.offer(() -> offerInterruptibly(e));
+        }
+
+        @Override
+        public boolean offer(final T e, final long timeout, final TimeUnit unit) throws InterruptedException {
+            if (pipe.offer(e))
+                return true;
+            final long deadline = System.nanoTime() + unit.toNanos(timeout);
+            final AtomicBoolean accepted = new AtomicBoolean(
+                                                             false);
+            producerWait.offer(() -> {
+                accepted.set(offerInterruptibly(e));
+                return accepted.get() || expired(deadline);
+            });
+            return accepted.get();
+        }
+
+        @Override
+        public T take() throws InterruptedException {
+            final T next = pipe.poll();
+            return next != null ? next : consumerWait.take(this::pollInterruptibly);
+        }
+
+        @Override
+        public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+            final T next = pipe.poll();
+            if (next != null)
+                return next;
+            final long deadline = System.nanoTime() + unit.toNanos(timeout);
+            final T result = consumerWait.take(() -> {
+                final T polled = pollInterruptibly();
+                return polled != null || !expired(deadline) ? polled : (T) TIMED_OUT;
+            });
+            return result == TIMED_OUT ? null : result;
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return pipe.remainingCapacity();
+        }
+
+        @Override
+        public int drainTo(final Collection<? super T> c) {
+            return pipe.drainTo(c, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public int drainTo(final Collection<? super T> c, final int maxElements) {
+            return pipe.drainTo(c, maxElements);
+        }
+
+        @Override
+        public String toString() {
+            return pipe.toString();
         }
 
     }
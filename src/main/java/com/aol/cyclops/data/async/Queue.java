@@ -3,6 +3,7 @@ package com.aol.cyclops.data.async;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -15,8 +16,11 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.agrona.concurrent.AbstractConcurrentArrayQueue;
+
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.async.AdaptersModule.ClosingSpliterator;
+import com.aol.cyclops.data.async.AdaptersModule.PipeToBlockingQueueWrapper;
 import com.aol.cyclops.data.async.AdaptersModule.QueueToBlockingQueueWrapper;
 import com.aol.cyclops.data.async.AdaptersModule.SingleContinuation;
 import com.aol.cyclops.data.async.AdaptersModule.StreamOfContinuations;
@@ -163,9 +167,16 @@ public class Queue<T> implements Adapter<T> {
     }
 
     public Queue(final java.util.Queue<T> q, final WaitStrategy<T> consumer, final WaitStrategy<T> producer) {
-        this(new QueueToBlockingQueueWrapper(
-                                             q),
-             consumer, producer);
+        this(toBlockingQueue(q, consumer, producer), consumer, producer);
+    }
+
+    private static <T> BlockingQueue<T> toBlockingQueue(final java.util.Queue<T> q, final WaitStrategy<T> consumer,
+            final WaitStrategy<T> producer) {
+        if (q instanceof AbstractConcurrentArrayQueue)
+            return new PipeToBlockingQueueWrapper<T>(
+                                                     (AbstractConcurrentArrayQueue<T>) q, consumer, producer);
+        return new QueueToBlockingQueueWrapper(
+                                               q);
     }
 
     public static <T> Queue<T> createMergeQueue() {
@@ -247,6 +258,32 @@ public class Queue<T> implements Adapter<T> {
         return ReactiveSeq.fromStream(closingStreamBatch(batcher.apply((timeout, timeUnit) -> ensureOpen(timeout, timeUnit)), s));
     }
 
+    /**
+     * Return a Stream of batches of data from this Queue. Each batch is populated via {@link Queue#drainTo(Collection, int)}
+     * and so contains at least one and at most maxBatchSize elements.
+     * 
+     * <pre>
+     * {@code 
+     *    queue.streamBatch(1000)
+     *         .forEach(batch -> writer.write(batch));
+     * }
+     * </pre>
+     * 
+     * @param maxBatchSize Max number of elements per batch
+     * @return Sequential Infinite (until Queue is closed) Stream of batches of data from this Queue
+     */
+    public ReactiveSeq<List<T>> streamBatch(final int maxBatchSize) {
+        if (maxBatchSize < 1)
+            throw new IllegalArgumentException(
+                                               "Batch size must be 1 or more");
+        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
+        return ReactiveSeq.fromStream(closingStream(() -> {
+            final List<T> batch = new ArrayList<>();
+            drainTo(batch, maxBatchSize);
+            return batch;
+        } , new AlwaysContinue()));
+    }
+
     public ReactiveSeq<T> streamControl(final Continueable s, final Function<Supplier<T>, Supplier<T>> batcher) {
 
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
@@ -268,9 +305,9 @@ public class Queue<T> implements Adapter<T> {
         return st;
     }
 
-    private Stream<T> closingStream(final Supplier<T> s, final Continueable sub) {
+    private <R> Stream<R> closingStream(final Supplier<R> s, final Continueable sub) {
 
-        final Stream<T> st = StreamSupport.stream(new ClosingSpliterator<T>(
+        final Stream<R> st = StreamSupport.stream(new ClosingSpliterator<R>(
                                                                          Long.MAX_VALUE, s, sub, this),
                                                  false);
 
@@ -361,6 +398,115 @@ public class Queue<T> implements Adapter<T> {
 
     }
 
+    /**
+     * Remove up to maxElements from this Queue, adding them to the supplied Collection. 
+     * 
+     * Blocks (according to the configured consumer WaitStrategy and timeout) until at least one element is available, 
+     * any further elements are only taken if they are immediately available. The supplied buffer can be cleared
+     * and reused across calls.
+     * 
+     * <pre>
+     * {@code 
+     *   List<String> buffer = new ArrayList<>(1000);
+     *   while(true){
+     *      buffer.clear();
+     *      queue.drainTo(buffer,1000);
+     *      writer.write(buffer);
+     *   }
+     * }
+     * </pre>
+     * 
+     * If the Queue is closed mid-batch the data already drained is returned and the next call will fail with a ClosedQueueException.
+     * Poison pills removed while draining are offered back to the backing queue (waking any consumer blocked on it), so each connected
+     * Stream still receives one.
+     * 
+     * @param buffer Collection to add data to
+     * @param maxElements Max number of elements to remove from this Queue
+     * @return Number of elements added to the buffer
+     * @throws ClosedQueueException if the Queue is closed and there is no data left to drain
+     * @throws QueueTimeoutException if no data arrives within the configured timeout
+     */
+    public int drainTo(final Collection<? super T> buffer, final int maxElements) {
+        if (maxElements < 1)
+            return 0;
+        buffer.add(ensureOpen(this.timeout, this.timeUnit));
+        int drained = 1;
+        if (buffer instanceof List) {
+            drained += drainAvailable((List<Object>) buffer, maxElements - 1);
+        } else {
+            while (drained < maxElements) {
+                //stop in front of a poison pill, so the next call fails with a ClosedQueueException
+                if (queue.peek() instanceof PoisonPill)
+                    break;
+                final T next = ensureClear(queue.poll());
+                if (next == null || next == CLEAR_PILL)
+                    break;
+                if (next instanceof PoisonPill) {
+                    //another consumer took the data in front of the pill
+                    requeue(next);
+                    break;
+                }
+                buffer.add((T) nillSafe(next));
+                drained++;
+            }
+        }
+        if (sizeSignal != null)
+            this.sizeSignal.set(queue.size());
+        return drained;
+    }
+
+    /**
+     * Bulk remove immediately available data from the backing queue (a single drainTo call on the underlying JDK / Agrona queue),
+     * then fix up the drained region of the buffer - replacing NILL with null and handling poison pills / clear pills.
+     * 
+     * Data drained after a poison pill stays in this caller's batch, the pill itself is returned to the backing queue.
+     */
+    private int drainAvailable(final List<Object> buffer, final int maxElements) {
+        final int start = buffer.size();
+        queue.drainTo(buffer, maxElements);
+        int drained = 0;
+        int pills = 0;
+        final ListIterator<Object> it = buffer.listIterator(start);
+        while (it.hasNext()) {
+            final Object next = it.next();
+            if (next == CLEAR_PILL) {
+                it.remove();
+                while (it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+                this.queue.clear();
+                return drained;
+            }
+            if (next instanceof PoisonPill) {
+                it.remove();
+                pills++;
+                continue;
+            }
+            if (next == NILL)
+                it.set(null);
+            drained++;
+        }
+        for (int i = 0; i < pills; i++)
+            requeue(POISON_PILL);
+        return drained;
+    }
+
+    /**
+     * Return a poison pill removed by a bulk drain to the backing queue. Offering to the backing queue wakes any consumer blocked on it,
+     * so the Stream the pill was sent to still closes.
+     */
+    private void requeue(final Object pill) {
+        try {
+            if (!queue.offer((T) pill))
+                queue.offer((T) pill, this.offerTimeout, this.offerTimeUnit);
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
     private void handleTimeout(final SimpleTimer timer, final long timeout) {
         if (timer.getElapsedNanoseconds() > timeout) {
 
@@ -482,7 +628,10 @@ public class Queue<T> implements Adapter<T> {
         if (!open)
             throw new ClosedQueueException();
         try {
-            final boolean result = producerWait.offer(() -> this.queue.offer((T) nullSafe(data), this.offerTimeout, this.offerTimeUnit));
+            final T value = (T) nullSafe(data);
+            //try once without waiting, so the wait (and the capturing lambda) is only set up when the Queue is full
+            final boolean result = this.queue.offer(value)
+                    || producerWait.offer(() -> this.queue.offer(value, this.offerTimeout, this.offerTimeUnit));
 
             if (sizeSignal != null)
                 this.sizeSignal.set(queue.size());
@@ -577,14 +726,14 @@ public class Queue<T> implements Adapter<T> {
         Queue<T> queue;
 
         public boolean notEmpty() {
-            return queue.queue.size() != 0;
+            return queue.size() != 0;
         }
 
         @Getter
         private volatile T last = null;
 
         private int size() {
-            return queue.queue.size();
+            return queue.size();
         }
 
         public T next() {
@@ -625,6 +774,13 @@ public class Queue<T> implements Adapter<T> {
         return queue.size();
     }
 
+    /**
+     * @return Number of additional elements that can be added to this Queue without blocking (Integer.MAX_VALUE for unbounded Queues)
+     */
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
     public boolean isOpen() {
         return this.open;
     }
@@ -114,7 +114,8 @@ public class QueueFactories {
     /**
      * Creates an async.Queue backed by a JDK Wait Free unbounded ConcurrentLinkedQueue
      * The provided WaitStrategy is used to determine behaviour of both producers and consumers when the Queue is full (producer) 
-     * or empty (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() }
+     * or empty (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() ,
+     * @see WaitStrategy#spinPark() , @see WaitStrategy#idle(java.util.function.Supplier) }
      * 
      * @param strategy Strategy to be employed by producers when Queue is full, or consumers when Queue is empty
      * @return Factory for unbounded wait free queue backed by ConcurrentLinkedQueue
@@ -150,7 +151,8 @@ public class QueueFactories {
     /**
      * Generate QueueFactory for bounded non blocking queues. Max queue size is determined by the input parameter.
      * The provided WaitStrategy is used to determine behaviour of both producers and consumers when the Queue is full (producer) 
-     * or empty (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() }
+     * or empty (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() ,
+     * @see WaitStrategy#spinPark() , @see WaitStrategy#idle(java.util.function.Supplier) }
      * 
      * @param queueSize Max Queue size
      * @param strategy Strategy to be employed by producers when Queue is full, or consumers when Queue is empty
@@ -188,7 +190,8 @@ public class QueueFactories {
     /**
      * Generate QueueFactory for bounded non blocking queues. Max queue size is determined by the input parameter.
      * The provided WaitStrategy is used to determine behaviour of both producers and consumers when the Queue is full (producer) 
-     * or empty (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() }
+     * or empty (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() ,
+     * @see WaitStrategy#spinPark() , @see WaitStrategy#idle(java.util.function.Supplier) }
      * 
      * @param queueSize Max Queue size
      * @param strategy Strategy to be employed by producers when Queue is full, or consumers when Queue is empty
@@ -1,7 +1,10 @@
 package com.aol.cyclops.data.async;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -10,8 +13,6 @@ import java.util.stream.Stream;
 import org.jooq.lambda.Seq;
 import org.pcollections.HashTreePMap;
 import org.pcollections.PMap;
-import org.pcollections.PVector;
-import org.pcollections.TreePVector;
 
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.react.async.subscription.Continueable;
@@ -31,19 +32,18 @@ import lombok.Synchronized;
 public class Topic<T> implements Adapter<T> {
 
     @Getter(AccessLevel.PACKAGE)
-    private final DistributingCollection<T> distributor = new DistributingCollection<T>();
+    private final DistributingCollection<T> distributor;
     @Getter(AccessLevel.PACKAGE)
     private volatile PMap<Seq, Queue<T>> streamToQueue = HashTreePMap.empty();
     private final Object lock = new Object();
     private volatile int index = 0;
+    private final QueueFactory<T> factory;
 
     /**
      * Construct a new Topic
      */
     public Topic() {
-        final Queue<T> q = new Queue<T>();
-
-        distributor.addQueue(q);
+        this(QueueFactories.unboundedQueue(), OverflowPolicy.BLOCK);
     }
 
     /**
@@ -51,10 +51,48 @@ public class Topic<T> implements Adapter<T> {
      * @param q Queue to back this Topic with
      */
     public Topic(final Queue<T> q) {
-
+        this.factory = QueueFactories.unboundedQueue();
+        this.distributor = new DistributingCollection<T>(
+                                                         OverflowPolicy.BLOCK);
         distributor.addQueue(q);
     }
 
+    /**
+     * Construct a Topic where each subscribing Stream is given a mailbox Queue created by the supplied QueueFactory.
+     * Where the factory creates bounded Queues, the OverflowPolicy determines what happens when publishing to a subscriber whose 
+     * mailbox is full (i.e. when a subscriber is slower than the publisher).
+     * 
+     * <pre>
+     * {@code 
+     *  //each subscriber buffers up to 1,024 messages, messages for subscribers that fall further behind are dropped
+     *  Topic<Event> topic = new Topic<>(QueueFactories.boundedNonBlockingQueue(1024, WaitStrategy.spinPark()),OverflowPolicy.DROP);
+     * }
+     * </pre>
+     * 
+     * @param factory QueueFactory to create subscriber mailboxes with
+     * @param policy Policy for publishing to subscribers with full mailboxes
+     */
+    public Topic(final QueueFactory<T> factory, final OverflowPolicy policy) {
+        this.factory = factory;
+        this.distributor = new DistributingCollection<T>(
+                                                         policy);
+        distributor.addQueue(factory.build());
+    }
+
+    /**
+     * Determines how a Topic publishes to a subscriber whose (bounded) mailbox Queue is full
+     */
+    public static enum OverflowPolicy {
+        /**
+         * Wait for space in the mailbox (according to the Queue's producer WaitStrategy and offer timeout) - a slow subscriber slows the publisher
+         */
+        BLOCK,
+        /**
+         * Drop the message for that subscriber only - a slow subscriber misses messages, the publisher and other subscribers are unaffected
+         */
+        DROP
+    }
+
     /**
      * Topic will maintain a queue for each Subscribing Stream
      * If a Stream is finished with a Topic it is good practice to disconnect from the Topic 
@@ -125,7 +163,7 @@ public class Topic<T> implements Adapter<T> {
         if (index >= this.distributor.getSubscribers()
                                      .size()) {
 
-            this.distributor.addQueue(new Queue());
+            this.distributor.addQueue(factory.build());
 
         }
         return this.distributor.getSubscribers()
@@ -139,8 +177,8 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean close() {
-        this.distributor.getSubscribers()
-                        .forEach(it -> it.close());
+        for (final Queue<T> next : this.distributor.subscribers)
+            next.close();
         return true;
 
     }
@@ -168,42 +206,88 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean offer(final T data) {
-        fromStream(Stream.of(data));
+        distributor.add(data);
         return true;
 
     }
 
+    /**
+     * Publish a batch of data to this Topic. The current subscribers are read once for the batch, and the whole batch
+     * is published to each subscriber in turn.
+     * 
+     * @param data Batch of data to add
+     * @return true
+     */
+    public boolean offerAll(final Collection<? extends T> data) {
+        distributor.addAll(data);
+        return true;
+    }
+
     static class DistributingCollection<T> extends ArrayList<T> {
 
         private static final long serialVersionUID = 1L;
-        @Getter
-        private volatile PVector<Queue<T>> subscribers = TreePVector.empty();
+        private static final Queue[] EMPTY = new Queue[0];
+
+        //copy on write, subscribers change rarely, publishing reads this array once per message / batch
+        private volatile Queue<T>[] subscribers = EMPTY;
+        private final OverflowPolicy policy;
 
         private final Object lock = new Object();
 
+        DistributingCollection(final OverflowPolicy policy) {
+            this.policy = policy;
+        }
+
+        public List<Queue<T>> getSubscribers() {
+            return Collections.unmodifiableList(Arrays.asList(subscribers));
+        }
+
         @Synchronized("lock")
         public void addQueue(final Queue<T> q) {
-            subscribers = subscribers.plus(q);
+            final Queue<T>[] current = subscribers;
+            final Queue<T>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = q;
+            subscribers = next;
         }
 
         @Synchronized("lock")
         public void removeQueue(final Queue<T> q) {
-            subscribers = subscribers.minus(q);
-
+            final Queue<T>[] current = subscribers;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == q) {
+                    final Queue<T>[] next = Arrays.copyOf(current, current.length - 1);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    subscribers = next;
+                    return;
+                }
+            }
         }
 
         @Override
         public boolean add(final T e) {
-            subscribers.forEach(it -> it.offer(e));
+            final Queue<T>[] current = subscribers;
+            for (int i = 0; i < current.length; i++)
+                publish(current[i], e);
             return true;
         }
 
         @Override
         public boolean addAll(final Collection<? extends T> c) {
-            subscribers.forEach(it -> c.forEach(next -> it.offer(next)));
+            final Queue<T>[] current = subscribers;
+            for (int i = 0; i < current.length; i++) {
+                for (final T next : c)
+                    publish(current[i], next);
+            }
             return true;
         }
 
+        private void publish(final Queue<T> q, final T e) {
+            if (policy == OverflowPolicy.DROP)
+                q.add(e);
+            else
+                q.offer(e);
+        }
+
     }
 
     @Override
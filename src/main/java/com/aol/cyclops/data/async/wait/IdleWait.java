@@ -0,0 +1,70 @@
+package com.aol.cyclops.data.async.wait;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Adapts an Agrona IdleStrategy for use as a WaitStrategy. Agrona IdleStrategies are stateful, so a new IdleStrategy is
+ * created (via the supplied factory) for each wait - but only when the first attempt to take / offer fails.
+ *
+ * <pre>
+ * {@code
+ *   QueueFactories.boundedNonBlockingQueue(1024, WaitStrategy.idle(()->new SleepingIdleStrategy(100_000)));
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in the async.Queue
+ */
+@AllArgsConstructor
+public class IdleWait<T> implements WaitStrategy<T> {
+
+    private final Supplier<? extends IdleStrategy> idleStrategy;
+
+    /**
+     * Create an IdleWait that uses a BackoffIdleStrategy (spin, then yield, then park for up to 1ms)
+     */
+    public IdleWait() {
+        this.idleStrategy = () -> new BackoffIdleStrategy(
+                                                          100, 10, 1, TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.data.async.wait.WaitStrategy#take(com.aol.cyclops.data.async.wait.WaitStrategy.Takeable)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t) throws InterruptedException {
+        T result = t.take();
+        if (result != null)
+            return result;
+        final IdleStrategy idle = idleStrategy.get();
+        while ((result = t.take()) == null) {
+            idle.idle();
+            if (Thread.interrupted())
+                throw new InterruptedException();
+        }
+
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.data.async.wait.WaitStrategy#offer(com.aol.cyclops.data.async.wait.WaitStrategy.Offerable)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o) throws InterruptedException {
+        if (o.offer())
+            return true;
+        final IdleStrategy idle = idleStrategy.get();
+        while (!o.offer()) {
+            idle.idle();
+            if (Thread.interrupted())
+                throw new InterruptedException();
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.aol.cyclops.data.async.wait;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Hybrid wait strategy : will busy spin retrying to take or offer for spinTries attempts, then call Thread.yield between
+ * attempts for a further yieldTries attempts and finally park the waiting thread between attempts, with the park time doubling
+ * from minParkNanos up to maxParkNanos.
+ *
+ * Low latency when data is flowing, but idle consumers (or producers waiting on a full Queue) do not burn a core.
+ *
+ * @param <T> Data type of elements in the async.Queue
+ */
+@AllArgsConstructor
+public class SpinParkWait<T> implements WaitStrategy<T> {
+
+    private final int spinTries;
+    private final int yieldTries;
+    private final long minParkNanos;
+    private final long maxParkNanos;
+
+    public SpinParkWait() {
+        this.spinTries = 100;
+        this.yieldTries = 10;
+        this.minParkNanos = 1;
+        this.maxParkNanos = TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.data.async.wait.WaitStrategy#take(com.aol.cyclops.data.async.wait.WaitStrategy.Takeable)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t) throws InterruptedException {
+        int attempts = 0;
+        long parkNanos = minParkNanos;
+        T result;
+
+        while ((result = t.take()) == null) {
+            parkNanos = backoff(attempts++, parkNanos);
+        }
+
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.data.async.wait.WaitStrategy#offer(com.aol.cyclops.data.async.wait.WaitStrategy.Offerable)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o) throws InterruptedException {
+        int attempts = 0;
+        long parkNanos = minParkNanos;
+        while (!o.offer()) {
+            parkNanos = backoff(attempts++, parkNanos);
+        }
+        return true;
+    }
+
+    private long backoff(final int attempts, final long parkNanos) throws InterruptedException {
+        if (attempts < spinTries)
+            return parkNanos;
+        if (attempts < spinTries + yieldTries) {
+            Thread.yield();
+            return parkNanos;
+        }
+        LockSupport.parkNanos(parkNanos);
+        if (Thread.interrupted())
+            throw new InterruptedException();
+        return Math.min(parkNanos << 1, maxParkNanos);
+    }
+
+}
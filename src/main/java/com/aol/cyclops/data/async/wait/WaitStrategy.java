@@ -1,5 +1,9 @@
 package com.aol.cyclops.data.async.wait;
 
+import java.util.function.Supplier;
+
+import org.agrona.concurrent.IdleStrategy;
+
 /**
  * An interface that defines a Waiting strategy to be employed when an async.Queue is full or empty
  * 
@@ -88,6 +92,22 @@ public interface WaitStrategy<T> {
         return new ExponentialBackofWaitStrategy<>();
     }
 
+    /**
+     * @return SpinParkWait strategy {@see SpinParkWait}
+     */
+    static <T> SpinParkWait<T> spinPark() {
+        return new SpinParkWait<>();
+    }
+
+    /**
+     * @param idleStrategy Factory for the Agrona IdleStrategy to use while waiting
+     * @return IdleWait strategy {@see IdleWait}
+     */
+    static <T> IdleWait<T> idle(final Supplier<? extends IdleStrategy> idleStrategy) {
+        return new IdleWait<>(
+                              idleStrategy);
+    }
+
     /**
      * @return DirectWaitStrategy {@see DirectWaitStrategy}
      */
@@ -0,0 +1,152 @@
+package com.aol.cyclops.data.collections.extensions;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import com.aol.cyclops.control.ReactiveSeq;
+
+/**
+ * A Collection that is built from a Stream pipeline the first time it is accessed.
+ *
+ * Further transformations are fused onto the pipeline (via {@link #then(Function, Collector)}) rather than materializing
+ * an intermediate Collection, so a chain such as map / filter / map builds only the final Collection.
+ *
+ * The first Stream of the elements (e.g. for collect or forEach) that is traversed to the end materializes the Collection as it
+ * goes, so the pipeline is not run again. Where a LazyCollection was created from a single use Stream it is materialized the
+ * first time it is accessed or streamed.
+ *
+ * @param <T> Data type of elements in the Collection
+ * @param <C> Collection type
+ */
+public class LazyCollection<T, C extends Collection<T>> implements LazyFluentCollection<T, C> {
+
+    private final Supplier<? extends Stream<T>> pipeline;
+    private Stream<T> pending;
+    private final Collector<T, ?, C> collector;
+    private volatile C materialized;
+
+    /**
+     * @param pipeline Re-runnable pipeline that generates the elements of the Collection
+     * @param collector Collector used to materialize the Collection
+     */
+    public LazyCollection(final Supplier<? extends Stream<T>> pipeline, final Collector<T, ?, C> collector) {
+        this.pipeline = pipeline;
+        this.pending = null;
+        this.collector = collector;
+    }
+
+    private LazyCollection(final Stream<T> pending, final Collector<T, ?, C> collector) {
+        this.pipeline = null;
+        this.pending = pending;
+        this.collector = collector;
+    }
+
+    /**
+     * @param stream Single use Stream
+     * @param collector Collector used to materialize the Collection
+     * @return LazyCollection that materializes the Stream the first time it is accessed
+     */
+    public static <T, C extends Collection<T>> LazyCollection<T, C> fromStream(final Stream<T> stream, final Collector<T, ?, C> collector) {
+        return new LazyCollection<>(
+                                    stream, collector);
+    }
+
+    /**
+     * @return The materialized Collection, the pipeline is run at most once
+     */
+    @Override
+    public C get() {
+        C result = materialized;
+        if (result == null) {
+            synchronized (this) {
+                result = materialized;
+                if (result == null) {
+                    final Stream<T> stream = pending != null ? pending : pipeline.get();
+                    pending = null;
+                    materialized = result = stream.collect(collector);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return true if the Collection has been built
+     */
+    public boolean isMaterialized() {
+        return materialized != null;
+    }
+
+    /**
+     * @return A Stream of the elements, if the Collection has not been built the pipeline is run and the Collection built from
+     *         the elements as they are traversed (once the end is reached)
+     */
+    @Override
+    public ReactiveSeq<T> stream() {
+        final C result = materialized;
+        if (result != null || pipeline == null)
+            return ReactiveSeq.fromIterable(get());
+        return ReactiveSeq.fromIterator(memoizing(pipeline.get()
+                                                          .iterator(),
+                                                  collector));
+    }
+
+    //the pipeline of this LazyCollection, without building it, for fusing into the pipelines of LazyCollections derived from it
+    private ReactiveSeq<T> pipeline() {
+        final C result = materialized;
+        if (result != null || pipeline == null)
+            return ReactiveSeq.fromIterable(get());
+        return ReactiveSeq.fromStream(pipeline.get());
+    }
+
+    private <A> Iterator<T> memoizing(final Iterator<T> it, final Collector<T, A, C> collector) {
+        final A container = collector.supplier()
+                                     .get();
+        final BiConsumer<A, T> accumulator = collector.accumulator();
+        return new Iterator<T>() {
+            boolean complete = false;
+
+            @Override
+            public boolean hasNext() {
+                if (it.hasNext())
+                    return true;
+                if (!complete) {
+                    complete = true;
+                    memoize(collector.finisher()
+                                     .apply(container));
+                }
+                return false;
+            }
+
+            @Override
+            public T next() {
+                final T next = it.next();
+                accumulator.accept(container, next);
+                return next;
+            }
+        };
+    }
+
+    private synchronized void memoize(final C result) {
+        if (materialized == null)
+            materialized = result;
+    }
+
+    /**
+     * Fuse an operation onto this pipeline
+     *
+     * @param op Transformation to apply to the Stream of elements
+     * @param collector Collector used to materialize the resulting Collection
+     * @return LazyCollection whose pipeline applies op to the elements of this LazyCollection
+     */
+    public <R, C2 extends Collection<R>> LazyCollection<R, C2> then(final Function<? super ReactiveSeq<T>, ? extends Stream<R>> op,
+            final Collector<R, ?, C2> collector) {
+        return new LazyCollection<R, C2>(
+                                         () -> op.apply(pipeline()), collector);
+    }
+}
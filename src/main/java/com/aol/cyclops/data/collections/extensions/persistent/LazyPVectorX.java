@@ -0,0 +1,601 @@
+package com.aol.cyclops.data.collections.extensions.persistent;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.data.collections.extensions.LazyCollection;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * A lazy view of a PVectorX, see {@link PVectorX#lazy()}
+ *
+ * Transformations return a new view that fuses the operation onto the pipeline, the PVector is built once (from a
+ * single array backed buffer rather than by repeated plusAll) when it is accessed.
+ *
+ * @param <T> the type of elements held in this collection
+ */
+@AllArgsConstructor
+public class LazyPVectorX<T> implements PVectorX<T> {
+
+    private final LazyCollection<T, PVector<T>> lazy;
+
+    /**
+     * @return Collector that builds a PVector from a single buffered List
+     */
+    static <T> Collector<T, ?, PVector<T>> collector() {
+        return Collectors.collectingAndThen(Collectors.toList(), TreePVector::from);
+    }
+
+    /**
+     * @return true if the PVector has been built
+     */
+    public boolean isMaterialized() {
+        return lazy.isMaterialized();
+    }
+
+    private <R> LazyPVectorX<R> then(final Function<? super ReactiveSeq<T>, ? extends Stream<R>> op) {
+        return new LazyPVectorX<R>(
+                                   lazy.then(op, LazyPVectorX.<R> collector()));
+    }
+
+    @Override
+    public PVectorX<T> lazy() {
+        return this;
+    }
+
+    @Override
+    public ReactiveSeq<T> stream() {
+        return lazy.stream();
+    }
+
+    @Override
+    public <R> PVectorX<R> map(final Function<? super T, ? extends R> mapper) {
+        return then(s -> s.<R> map(mapper));
+    }
+
+    @Override
+    public <R> PVectorX<R> flatMap(final Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        return then(s -> s.<R> flatMap(mapper.andThen(StreamUtils::stream)));
+    }
+
+    @Override
+    public PVectorX<T> filter(final Predicate<? super T> pred) {
+        return then(s -> s.filter(pred));
+    }
+
+    @Override
+    public PVectorX<T> filterNot(final Predicate<? super T> fn) {
+        return then(s -> s.filterNot(fn));
+    }
+
+    @Override
+    public PVectorX<T> peek(final Consumer<? super T> c) {
+        return then(s -> s.peek(c));
+    }
+
+    @Override
+    public PVectorX<T> limit(final long num) {
+        return then(s -> s.limit(num));
+    }
+
+    @Override
+    public PVectorX<T> skip(final long num) {
+        return then(s -> s.skip(num));
+    }
+
+    @Override
+    public PVectorX<T> takeWhile(final Predicate<? super T> p) {
+        return then(s -> s.limitWhile(p));
+    }
+
+    @Override
+    public PVectorX<T> dropWhile(final Predicate<? super T> p) {
+        return then(s -> s.skipWhile(p));
+    }
+
+    @Override
+    public PVectorX<T> distinct() {
+        return then(s -> s.distinct());
+    }
+
+    @Override
+    public PVectorX<T> sorted() {
+        return then(s -> s.sorted());
+    }
+
+    @Override
+    public PVectorX<T> sorted(final Comparator<? super T> c) {
+        return then(s -> s.sorted(c));
+    }
+
+    @Override
+    public PVectorX<T> reverse() {
+        return then(s -> s.reverse());
+    }
+
+    /**
+     * @param action
+     * @see java.lang.Iterable#forEach(java.util.function.Consumer)
+     */
+    @Override
+    public void forEach(final Consumer<? super T> action) {
+        lazy.get()
+            .forEach(action);
+    }
+
+    /**
+     * @return
+     * @see org.pcollections.MapPSet#iterator()
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return lazy.get()
+                   .iterator();
+    }
+
+    /**
+     * @return
+     * @see org.pcollections.MapPSet#size()
+     */
+    @Override
+    public int size() {
+        return lazy.get()
+                   .size();
+    }
+
+    /**
+     * @param e
+     * @return
+     * @see org.pcollections.MapPSet#contains(java.lang.Object)
+     */
+    @Override
+    public boolean contains(final Object e) {
+        return lazy.get()
+                   .contains(e);
+    }
+
+    /**
+     * @param o
+     * @return
+     * @see java.util.AbstractSet#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(final Object o) {
+        return lazy.get()
+                   .equals(o);
+    }
+
+    /**
+     * @param e
+     * @return
+     * @see org.pcollections.MapPSet#plus(java.lang.Object)
+     */
+    @Override
+    public PVectorX<T> plus(final T e) {
+        return new PVectorXImpl<>(
+                                  lazy.get()
+                                      .plus(e));
+    }
+
+    /**
+     * @param e
+     * @return
+     * @see org.pcollections.MapPSet#minus(java.lang.Object)
+     */
+    @Override
+    public PVectorX<T> minus(final Object e) {
+        return new PVectorXImpl<>(
+                                  lazy.get()
+                                      .minus(e));
+    }
+
+    /**
+     * @param list
+     * @return
+     * @see org.pcollections.MapPSet#plusAll(java.util.Collection)
+     */
+    @Override
+    public PVectorX<T> plusAll(final Collection<? extends T> list) {
+        return new PVectorXImpl<>(
+                                  lazy.get()
+                                      .plusAll(list));
+    }
+
+    /**
+     * @param list
+     * @return
+     * @see org.pcollections.MapPSet#minusAll(java.util.Collection)
+     */
+    @Override
+    public PVectorX<T> minusAll(final Collection<?> list) {
+        return new PVectorXImpl<>(
+                                  lazy.get()
+                                      .minusAll(list));
+    }
+
+    /**
+     * @return
+     * @see java.util.AbstractCollection#isEmpty()
+     */
+    @Override
+    public boolean isEmpty() {
+        return lazy.get()
+                   .isEmpty();
+    }
+
+    /**
+     * @return
+     * @see java.util.AbstractSet#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return lazy.get()
+                   .hashCode();
+    }
+
+    /**
+     * @return
+     * @see java.util.AbstractCollection#toArray()
+     */
+    @Override
+    public Object[] toArray() {
+        return lazy.get()
+                   .toArray();
+    }
+
+    /**
+     * @param c
+     * @return
+     * @see java.util.AbstractSet#removeAll(java.util.Collection)
+     */
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        return lazy.get()
+                   .removeAll(c);
+    }
+
+    /**
+     * @param a
+     * @return
+     * @see java.util.AbstractCollection#toArray(java.lang.Object[])
+     */
+    @Override
+    public <T> T[] toArray(final T[] a) {
+        return lazy.get()
+                   .toArray(a);
+    }
+
+    /**
+     * @param e
+     * @return
+     * @see java.util.AbstractCollection#add(java.lang.Object)
+     */
+    @Override
+    public boolean add(final T e) {
+        return lazy.get()
+                   .add(e);
+    }
+
+    /**
+     * @param o
+     * @return
+     * @see java.util.AbstractCollection#remove(java.lang.Object)
+     */
+    @Override
+    public boolean remove(final Object o) {
+        return lazy.get()
+                   .remove(o);
+    }
+
+    /**
+     * @param c
+     * @return
+     * @see java.util.AbstractCollection#containsAll(java.util.Collection)
+     */
+    @Override
+    public boolean containsAll(final Collection<?> c) {
+        return lazy.get()
+                   .containsAll(c);
+    }
+
+    /**
+     * @param c
+     * @return
+     * @see java.util.AbstractCollection#addAll(java.util.Collection)
+     */
+    @Override
+    @Deprecated
+    public boolean addAll(final Collection<? extends T> c) {
+        return lazy.get()
+                   .addAll(c);
+    }
+
+    /**
+     * @param c
+     * @return
+     * @see java.util.AbstractCollection#retainAll(java.util.Collection)
+     */
+    @Override
+    @Deprecated
+    public boolean retainAll(final Collection<?> c) {
+        return lazy.get()
+                   .retainAll(c);
+    }
+
+    /**
+     * 
+     * @see java.util.AbstractCollection#clear()
+     */
+    @Override
+    @Deprecated
+    public void clear() {
+        lazy.get()
+            .clear();
+    }
+
+    /**
+     * @return
+     * @see java.util.AbstractCollection#toString()
+     */
+    @Override
+    public String toString() {
+        return lazy.get()
+                   .toString();
+    }
+
+    /* (non-Javadoc)
+     * @see org.jooq.lambda.Collectable#collect(java.util.stream.Collector)
+     */
+    @Override
+    public <R, A> R collect(final Collector<? super T, A, R> collector) {
+        return stream().collect(collector);
+    }
+
+    /* (non-Javadoc)
+     * @see org.jooq.lambda.Collectable#count()
+     */
+    @Override
+    public long count() {
+        return this.size();
+    }
+
+    /**
+     * @param i
+     * @param e
+     * @return
+     * @see org.pcollections.PStack#with(int, java.lang.Object)
+     */
+    @Override
+    public PVectorX<T> with(final int i, final T e) {
+        return new PVectorXImpl<>(
+                                  lazy.get()
+                                      .with(i, e));
+    }
+
+    /**
+     * @param i
+     * @param e
+     * @return
+     * @see org.pcollections.PStack#plus(int, java.lang.Object)
+     */
+    @Override
+    public PVectorX<T> plus(final int i, final T e) {
+        return new PVectorXImpl<>(
+                                  lazy.get()
+                                      .plus(i, e));
+    }
+
+    /**
+     * @param i
+     * @param list
+     * @return
+     * @see org.pcollections.PStack#plusAll(int, java.util.Collection)
+     */
+    @Override
+    public PVectorX<T> plusAll(final int i, final Collection<? extends T> list) {
+        return new PVectorXImpl<>(
+                                  lazy.get()
+                                      .plusAll(i, list));
+    }
+
+    /**
+     * @param i
+     * @return
+     * @see org.pcollections.PStack#minus(int)
+     */
+    @Override
+    public PVectorX<T> minus(final int i) {
+        return new PVectorXImpl<>(
+                                  lazy.get()
+                                      .minus(i));
+    }
+
+    /**
+     * @param start
+     * @param end
+     * @return
+     * @see org.pcollections.PStack#subList(int, int)
+     */
+    @Override
+    public PVectorX<T> subList(final int start, final int end) {
+        return new PVectorXImpl<>(
+                                  lazy.get()
+                                      .subList(start, end));
+    }
+
+    /**
+     * @param index
+     * @param c
+     * @return
+     * @deprecated
+     * @see org.pcollections.PSequence#addAll(int, java.util.Collection)
+     */
+    @Deprecated
+    @Override
+    public boolean addAll(final int index, final Collection<? extends T> c) {
+        return lazy.get()
+                   .addAll(index, c);
+    }
+
+    /**
+     * @param index
+     * @param element
+     * @return
+     * @deprecated
+     * @see org.pcollections.PSequence#set(int, java.lang.Object)
+     */
+    @Deprecated
+    @Override
+    public T set(final int index, final T element) {
+        return lazy.get()
+                   .set(index, element);
+    }
+
+    /**
+     * @param index
+     * @param element
+     * @deprecated
+     * @see org.pcollections.PSequence#add(int, java.lang.Object)
+     */
+    @Deprecated
+    @Override
+    public void add(final int index, final T element) {
+        lazy.get()
+            .add(index, element);
+    }
+
+    /**
+     * @param index
+     * @return
+     * @deprecated
+     * @see org.pcollections.PSequence#remove(int)
+     */
+    @Deprecated
+    @Override
+    public T remove(final int index) {
+        return lazy.get()
+                   .remove(index);
+    }
+
+    /**
+     * @param operator
+     * @see java.util.List#replaceAll(java.util.function.UnaryOperator)
+     */
+    @Override
+    public void replaceAll(final UnaryOperator<T> operator) {
+        lazy.get()
+            .replaceAll(operator);
+    }
+
+    /**
+     * @param filter
+     * @return
+     * @see java.util.Collection#removeIf(java.util.function.Predicate)
+     */
+    @Override
+    public boolean removeIf(final Predicate<? super T> filter) {
+        return lazy.get()
+                   .removeIf(filter);
+    }
+
+    /**
+     * @param c
+     * @see java.util.List#sort(java.util.Comparator)
+     */
+    @Override
+    public void sort(final Comparator<? super T> c) {
+        lazy.get()
+            .sort(c);
+    }
+
+    /**
+     * @return
+     * @see java.util.Collection#spliterator()
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return lazy.get()
+                   .spliterator();
+    }
+
+    /**
+     * @param index
+     * @return
+     * @see java.util.List#get(int)
+     */
+    @Override
+    public T get(final int index) {
+        return lazy.get()
+                   .get(index);
+    }
+
+    /**
+     * @return
+     * @see java.util.Collection#parallelStream()
+     */
+    @Override
+    public Stream<T> parallelStream() {
+        return lazy.get()
+                   .parallelStream();
+    }
+
+    /**
+     * @param o
+     * @return
+     * @see java.util.List#indexOf(java.lang.Object)
+     */
+    @Override
+    public int indexOf(final Object o) {
+        return lazy.get()
+                   .indexOf(o);
+    }
+
+    /**
+     * @param o
+     * @return
+     * @see java.util.List#lastIndexOf(java.lang.Object)
+     */
+    @Override
+    public int lastIndexOf(final Object o) {
+        return lazy.get()
+                   .lastIndexOf(o);
+    }
+
+    /**
+     * @return
+     * @see java.util.List#listIterator()
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return lazy.get()
+                   .listIterator();
+    }
+
+    /**
+     * @param index
+     * @return
+     * @see java.util.List#listIterator(int)
+     */
+    @Override
+    public ListIterator<T> listIterator(final int index) {
+        return lazy.get()
+                   .listIterator(index);
+    }
+
+}
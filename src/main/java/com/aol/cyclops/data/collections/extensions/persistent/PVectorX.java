@@ -30,6 +30,7 @@ import com.aol.cyclops.Reducers;
 import com.aol.cyclops.control.Matchable.CheckValue1;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.Trampoline;
+import com.aol.cyclops.data.collections.extensions.LazyCollection;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.types.Combiner;
 import com.aol.cyclops.types.OnEmptySwitch;
@@ -303,6 +304,31 @@ public interface PVectorX<T> extends To<PVectorX<T>>,PVector<T>, PersistentColle
         return this;
     }
 
+    /**
+     * Create a lazy view of this PVectorX. Transformations on the view are fused and no intermediate PVectors are built,
+     * the result is materialized (once) when it is accessed.
+     *
+     * <pre>
+     * {@code
+     *  PVectorX<String> result = PVectorX.of(1,2,3,4)
+     *                                    .lazy()
+     *                                    .map(i->i*2)
+     *                                    .filter(i->i>4)
+     *                                    .map(i->"v"+i);
+     *
+     *  //only a single PVector is built, when result is first accessed
+     *  result.get(0); //"v6"
+     * }
+     * </pre>
+     *
+     * @return Lazy view of this PVectorX
+     */
+    default PVectorX<T> lazy() {
+        return new LazyPVectorX<T>(
+                                   new LazyCollection<>(
+                                                        this::stream, LazyPVectorX.<T> collector()));
+    }
+
     /* (non-Javadoc)
      * @see com.aol.cyclops.collections.extensions.persistent.PersistentCollectionX#reverse()
      */
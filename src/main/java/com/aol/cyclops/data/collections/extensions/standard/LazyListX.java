@@ -0,0 +1,347 @@
+package com.aol.cyclops.data.collections.extensions.standard;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.data.collections.extensions.LazyCollection;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * A lazy view of a ListX, see {@link ListX#lazy()}
+ *
+ * Transformations return a new view that fuses the operation onto the pipeline, the List is only built when it is
+ * accessed (e.g. via get, size or iterator). Operators without a fused implementation are deferred until the result is
+ * accessed.
+ *
+ * @param <T> the type of elements held in this collection
+ */
+@AllArgsConstructor
+public class LazyListX<T> implements ListX<T> {
+
+    private final LazyCollection<T, List<T>> lazy;
+    private final Collector<T, ?, List<T>> collector;
+
+    /**
+     * @return true if the List has been built
+     */
+    public boolean isMaterialized() {
+        return lazy.isMaterialized();
+    }
+
+    private <R> LazyListX<R> then(final Function<? super ReactiveSeq<T>, ? extends Stream<R>> op) {
+        final Collector<R, ?, List<R>> next = getCollector();
+        return new LazyListX<R>(
+                                lazy.then(op, next), next);
+    }
+
+    @Override
+    public ListX<T> lazy() {
+        return this;
+    }
+
+    @Override
+    public ReactiveSeq<T> stream() {
+        return lazy.stream();
+    }
+
+    @Override
+    public <X> ListX<X> fromStream(final Stream<X> stream) {
+        final Collector<X, ?, List<X>> next = getCollector();
+        return new LazyListX<X>(
+                                LazyCollection.fromStream(stream, next), next);
+    }
+
+    @Override
+    public <T> Collector<T, ?, List<T>> getCollector() {
+        return (Collector) collector;
+    }
+
+    @Override
+    public <R> ListX<R> map(final Function<? super T, ? extends R> mapper) {
+        return then(s -> s.<R> map(mapper));
+    }
+
+    @Override
+    public <R> ListX<R> flatMap(final Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        return then(s -> s.<R> flatMap(mapper.andThen(StreamUtils::stream)));
+    }
+
+    @Override
+    public ListX<T> filter(final Predicate<? super T> pred) {
+        return then(s -> s.filter(pred));
+    }
+
+    @Override
+    public ListX<T> filterNot(final Predicate<? super T> fn) {
+        return then(s -> s.filterNot(fn));
+    }
+
+    @Override
+    public ListX<T> peek(final Consumer<? super T> c) {
+        return then(s -> s.peek(c));
+    }
+
+    @Override
+    public ListX<T> limit(final long num) {
+        return then(s -> s.limit(num));
+    }
+
+    @Override
+    public ListX<T> skip(final long num) {
+        return then(s -> s.skip(num));
+    }
+
+    @Override
+    public ListX<T> takeWhile(final Predicate<? super T> p) {
+        return then(s -> s.limitWhile(p));
+    }
+
+    @Override
+    public ListX<T> dropWhile(final Predicate<? super T> p) {
+        return then(s -> s.skipWhile(p));
+    }
+
+    @Override
+    public ListX<T> distinct() {
+        return then(s -> s.distinct());
+    }
+
+    @Override
+    public ListX<T> sorted() {
+        return then(s -> s.sorted());
+    }
+
+    @Override
+    public ListX<T> sorted(final Comparator<? super T> c) {
+        return then(s -> s.sorted(c));
+    }
+
+    @Override
+    public ListX<T> reverse() {
+        return then(s -> s.reverse());
+    }
+
+    @Override
+    public void forEach(final Consumer<? super T> action) {
+        lazy.get()
+            .forEach(action);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return lazy.get()
+                   .iterator();
+    }
+
+    @Override
+    public int size() {
+        return lazy.get()
+                   .size();
+    }
+
+    @Override
+    public boolean contains(final Object e) {
+        return lazy.get()
+                   .contains(e);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return lazy.get()
+                   .equals(o);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lazy.get()
+                   .isEmpty();
+    }
+
+    @Override
+    public int hashCode() {
+        return lazy.get()
+                   .hashCode();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return lazy.get()
+                   .toArray();
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        return lazy.get()
+                   .removeAll(c);
+    }
+
+    @Override
+    public <T> T[] toArray(final T[] a) {
+        return lazy.get()
+                   .toArray(a);
+    }
+
+    @Override
+    public boolean add(final T e) {
+        return lazy.get()
+                   .add(e);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        return lazy.get()
+                   .remove(o);
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> c) {
+        return lazy.get()
+                   .containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends T> c) {
+        return lazy.get()
+                   .addAll(c);
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+        return lazy.get()
+                   .retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        lazy.get()
+            .clear();
+    }
+
+    @Override
+    public String toString() {
+        return lazy.get()
+                   .toString();
+    }
+
+    @Override
+    public <R, A> R collect(final Collector<? super T, A, R> collector) {
+        return stream().collect(collector);
+    }
+
+    @Override
+    public long count() {
+        return this.size();
+    }
+
+    @Override
+    public boolean addAll(final int index, final Collection<? extends T> c) {
+        return lazy.get()
+                   .addAll(index, c);
+    }
+
+    @Override
+    public void replaceAll(final UnaryOperator<T> operator) {
+        lazy.get()
+            .replaceAll(operator);
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super T> filter) {
+        return lazy.get()
+                   .removeIf(filter);
+    }
+
+    @Override
+    public void sort(final Comparator<? super T> c) {
+        lazy.get()
+            .sort(c);
+    }
+
+    @Override
+    public T get(final int index) {
+        return lazy.get()
+                   .get(index);
+    }
+
+    @Override
+    public T set(final int index, final T element) {
+        return lazy.get()
+                   .set(index, element);
+    }
+
+    @Override
+    public void add(final int index, final T element) {
+        lazy.get()
+            .add(index, element);
+    }
+
+    @Override
+    public T remove(final int index) {
+        return lazy.get()
+                   .remove(index);
+    }
+
+    @Override
+    public Stream<T> parallelStream() {
+        return lazy.get()
+                   .parallelStream();
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return lazy.get()
+                   .indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return lazy.get()
+                   .lastIndexOf(o);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return lazy.get()
+                   .listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(final int index) {
+        return lazy.get()
+                   .listIterator(index);
+    }
+
+    @Override
+    public ListX<T> subList(final int fromIndex, final int toIndex) {
+        return new ListXImpl<>(
+                               lazy.get()
+                                   .subList(fromIndex, toIndex),
+                               getCollector());
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return lazy.get()
+                   .spliterator();
+    }
+
+    @Override
+    public int compareTo(final T o) {
+        return new ListXImpl<>(
+                               lazy.get(), getCollector()).compareTo(o);
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.aol.cyclops.data.collections.extensions.standard;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.data.collections.extensions.LazyCollection;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * A lazy view of a SetX, see {@link SetX#lazy()}
+ *
+ * Transformations return a new view that fuses the operation onto the pipeline, the Set is only built when it is
+ * accessed (e.g. via get, size or iterator). Operators without a fused implementation are deferred until the result is
+ * accessed.
+ *
+ * @param <T> the type of elements held in this collection
+ */
+@AllArgsConstructor
+public class LazySetX<T> implements SetX<T> {
+
+    private final LazyCollection<T, Set<T>> lazy;
+    private final Collector<T, ?, Set<T>> collector;
+
+    /**
+     * @return true if the Set has been built
+     */
+    public boolean isMaterialized() {
+        return lazy.isMaterialized();
+    }
+
+    private <R> LazySetX<R> then(final Function<? super ReactiveSeq<T>, ? extends Stream<R>> op) {
+        final Collector<R, ?, Set<R>> next = getCollector();
+        return new LazySetX<R>(
+                                lazy.then(op, next), next);
+    }
+
+    @Override
+    public SetX<T> lazy() {
+        return this;
+    }
+
+    @Override
+    public ReactiveSeq<T> stream() {
+        return lazy.stream();
+    }
+
+    @Override
+    public <X> SetX<X> fromStream(final Stream<X> stream) {
+        final Collector<X, ?, Set<X>> next = getCollector();
+        return new LazySetX<X>(
+                                LazyCollection.fromStream(stream, next), next);
+    }
+
+    @Override
+    public <T> Collector<T, ?, Set<T>> getCollector() {
+        return (Collector) collector;
+    }
+
+    @Override
+    public <R> SetX<R> map(final Function<? super T, ? extends R> mapper) {
+        return then(s -> s.<R> map(mapper));
+    }
+
+    @Override
+    public <R> SetX<R> flatMap(final Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        return then(s -> s.<R> flatMap(mapper.andThen(StreamUtils::stream)));
+    }
+
+    @Override
+    public SetX<T> filter(final Predicate<? super T> pred) {
+        return then(s -> s.filter(pred));
+    }
+
+    @Override
+    public SetX<T> filterNot(final Predicate<? super T> fn) {
+        return then(s -> s.filterNot(fn));
+    }
+
+    @Override
+    public SetX<T> peek(final Consumer<? super T> c) {
+        return then(s -> s.peek(c));
+    }
+
+    @Override
+    public SetX<T> limit(final long num) {
+        return then(s -> s.limit(num));
+    }
+
+    @Override
+    public SetX<T> skip(final long num) {
+        return then(s -> s.skip(num));
+    }
+
+    @Override
+    public SetX<T> takeWhile(final Predicate<? super T> p) {
+        return then(s -> s.limitWhile(p));
+    }
+
+    @Override
+    public SetX<T> dropWhile(final Predicate<? super T> p) {
+        return then(s -> s.skipWhile(p));
+    }
+
+    @Override
+    public SetX<T> distinct() {
+        return then(s -> s.distinct());
+    }
+
+    @Override
+    public SetX<T> sorted() {
+        return then(s -> s.sorted());
+    }
+
+    @Override
+    public SetX<T> sorted(final Comparator<? super T> c) {
+        return then(s -> s.sorted(c));
+    }
+
+    @Override
+    public SetX<T> reverse() {
+        return then(s -> s.reverse());
+    }
+
+    @Override
+    public void forEach(final Consumer<? super T> action) {
+        lazy.get()
+            .forEach(action);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return lazy.get()
+                   .iterator();
+    }
+
+    @Override
+    public int size() {
+        return lazy.get()
+                   .size();
+    }
+
+    @Override
+    public boolean contains(final Object e) {
+        return lazy.get()
+                   .contains(e);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return lazy.get()
+                   .equals(o);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lazy.get()
+                   .isEmpty();
+    }
+
+    @Override
+    public int hashCode() {
+        return lazy.get()
+                   .hashCode();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return lazy.get()
+                   .toArray();
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        return lazy.get()
+                   .removeAll(c);
+    }
+
+    @Override
+    public <T> T[] toArray(final T[] a) {
+        return lazy.get()
+                   .toArray(a);
+    }
+
+    @Override
+    public boolean add(final T e) {
+        return lazy.get()
+                   .add(e);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        return lazy.get()
+                   .remove(o);
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> c) {
+        return lazy.get()
+                   .containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends T> c) {
+        return lazy.get()
+                   .addAll(c);
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+        return lazy.get()
+                   .retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        lazy.get()
+            .clear();
+    }
+
+    @Override
+    public String toString() {
+        return lazy.get()
+                   .toString();
+    }
+
+    @Override
+    public <R, A> R collect(final Collector<? super T, A, R> collector) {
+        return stream().collect(collector);
+    }
+
+    @Override
+    public long count() {
+        return this.size();
+    }
+
+}
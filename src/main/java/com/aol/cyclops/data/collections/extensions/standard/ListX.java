@@ -31,6 +31,7 @@ import com.aol.cyclops.control.Matchable.CheckValue1;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.StreamUtils;
 import com.aol.cyclops.control.Trampoline;
+import com.aol.cyclops.data.collections.extensions.LazyCollection;
 import com.aol.cyclops.types.IterableFunctor;
 import com.aol.cyclops.types.OnEmptySwitch;
 import com.aol.cyclops.types.To;
@@ -139,6 +140,33 @@ public interface ListX<T> extends To<ListX<T>>,
         return this;
     }
 
+    /**
+     * Create a lazy view of this ListX. Transformations on the view are fused and no intermediate Lists are built, the
+     * result is materialized (once) when it is accessed.
+     *
+     * <pre>
+     * {@code
+     *  ListX<String> result = ListX.of(1,2,3,4)
+     *                              .lazy()
+     *                              .map(i->i*2)
+     *                              .filter(i->i>4)
+     *                              .map(i->"v"+i);
+     *
+     *  //only a single List is built, when result is first accessed
+     *  result.get(0); //"v6"
+     * }
+     * </pre>
+     *
+     * @return Lazy view of this ListX
+     */
+    default ListX<T> lazy() {
+        final Collector<T, ?, List<T>> collector = getCollector();
+        return new LazyListX<T>(
+                                new LazyCollection<>(
+                                                     this::stream, collector),
+                                collector);
+    }
+
     /**
      * @return A JDK 8 Collector for converting Streams into ListX instances
      */
@@ -30,6 +30,7 @@ import com.aol.cyclops.control.Matchable.CheckValue1;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.StreamUtils;
 import com.aol.cyclops.control.Trampoline;
+import com.aol.cyclops.data.collections.extensions.LazyCollection;
 import com.aol.cyclops.types.Combiner;
 import com.aol.cyclops.types.OnEmptySwitch;
 import com.aol.cyclops.types.To;
@@ -202,6 +203,33 @@ public interface SetX<T> extends To<SetX<T>>,Set<T>, MutableCollectionX<T>, OnEm
     default SetX<T> toSetX() {
         return this;
     }
+
+    /**
+     * Create a lazy view of this SetX. Transformations on the view are fused and no intermediate Sets are built, the
+     * result is materialized (once) when it is accessed.
+     *
+     * <pre>
+     * {@code
+     *  SetX<String> result = SetX.of(1,2,3,4)
+     *                            .lazy()
+     *                            .map(i->i*2)
+     *                            .filter(i->i>4)
+     *                            .map(i->"v"+i);
+     *
+     *  //only a single Set is built, when result is first accessed
+     *  result.size(); //2
+     * }
+     * </pre>
+     *
+     * @return Lazy view of this SetX
+     */
+    default SetX<T> lazy() {
+        final Collector<T, ?, Set<T>> collector = getCollector();
+        return new LazySetX<T>(
+                               new LazyCollection<>(
+                                                    this::stream, collector),
+                               collector);
+    }
  
     @Override
     default ReactiveSeq<T> stream() {
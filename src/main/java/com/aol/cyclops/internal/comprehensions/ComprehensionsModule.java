@@ -270,14 +270,14 @@ public interface ComprehensionsModule {
 
         private final List<Expansion> expansions;
         private final MonadicConverters converters = new MonadicConverters();
+        private final Comprehenders comprehenders = new Comprehenders();
 
         @SuppressWarnings({ "unchecked", "rawtypes" })
         T process(final ContextualExecutor yieldExecutor, final PMap<String, Object> context, final Object currentExpansionUnwrapped,
                 final String lastExpansionName, final int index) {
 
             final Tuple2<Comprehender, Object> comprehender = selectComprehender(currentExpansionUnwrapped).orElseGet(() -> selectComprehender(converters.convertToMonadicForm(currentExpansionUnwrapped)).orElse(new Tuple2(
-                                                                                                                                                                                                                             new InvokeDynamicComprehender(
-                                                                                                                                                                                                                                                           Optional.ofNullable(currentExpansionUnwrapped)
+                                                                                                                                                                                                                             InvokeDynamicComprehender.forType(Optional.ofNullable(currentExpansionUnwrapped)
                                                                                                                                                                                                                                                                    .map(Object::getClass)),
                                                                                                                                                                                                                              currentExpansionUnwrapped)));
 
@@ -324,14 +324,9 @@ public interface ComprehensionsModule {
         private Optional<Tuple2<Comprehender, Object>> selectComprehender(final Object structure) {
             if (structure == null)
                 return Optional.empty();
-            return new Comprehenders().getRegisteredComprehenders()
-                                      .stream()
-                                      .filter(e -> e.getKey()
-                                                    .isAssignableFrom(structure.getClass()))
-                                      .map(e -> e.getValue())
-                                      .map(v -> new Tuple2<Comprehender, Object>(
-                                                                                 v, structure))
-                                      .findFirst();
+            return comprehenders.comprehenderFor(structure.getClass())
+                                .map(v -> new Tuple2<Comprehender, Object>(
+                                                                           v, structure));
         }
 
     }
@@ -2,6 +2,7 @@ package com.aol.cyclops.internal.comprehensions.comprehenders;
 
 import java.util.AbstractMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 
 import org.jooq.lambda.Seq;
@@ -13,12 +14,21 @@ import com.aol.cyclops.types.extensability.Comprehender;
 /**
  * Registered Comprehenders
  * 
+ * Comprehenders are looked up via a dispatch table keyed by class, the registered Comprehenders are scanned (in
+ * priority order) once per class and the result cached in a ClassValue (so the table does not keep classes loaded).
+ * 
  * @author johnmcclean
  *
  */
 public class Comprehenders {
 
     private final static PStack<Map.Entry<Class, Comprehender>> comprehenders;
+    private final static ClassValue<Optional<Comprehender>> dispatch = new ClassValue<Optional<Comprehender>>() {
+        @Override
+        protected Optional<Comprehender> computeValue(final Class<?> type) {
+            return lookup(type);
+        }
+    };
 
     static {
         final ServiceLoader<Comprehender> loader = ServiceLoader.load(Comprehender.class);
@@ -38,4 +48,21 @@ public class Comprehenders {
         return comprehenders;
     }
 
+    /**
+     * @param type Class to find a Comprehender for
+     * @return Highest priority registered Comprehender whose target class is assignable from the supplied type
+     */
+    public Optional<Comprehender> comprehenderFor(final Class type) {
+        return dispatch.get(type);
+    }
+
+    private static Optional<Comprehender> lookup(final Class type) {
+        for (final Map.Entry<Class, Comprehender> e : comprehenders) {
+            if (e.getKey()
+                 .isAssignableFrom(type))
+                return Optional.of(e.getValue());
+        }
+        return Optional.empty();
+    }
+
 }
@@ -1,23 +1,37 @@
 package com.aol.cyclops.internal.comprehensions.comprehenders;
 
+import static java.lang.invoke.MethodType.genericMethodType;
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import com.aol.cyclops.control.ReactiveSeq;
-import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.internal.invokedynamic.InvokeDynamic;
 import com.aol.cyclops.types.extensability.Comprehender;
 import com.aol.cyclops.types.extensability.ValueComprehender;
+import com.aol.cyclops.util.ExceptionSoftener;
 
 import lombok.AllArgsConstructor;
 
+/**
+ * Comprehender for types without a registered Comprehender, map / flatMap / filter and the unit / empty factory methods
+ * are located reflectively.
+ *
+ * Each method is resolved to a MethodHandle once per class (along with a cached Proxy constructor for functional
+ * interfaces other than JDK Function / Predicate), so subsequent calls invoke the handle directly. The handles are cached
+ * in ClassValues, so they do not prevent classes (and their ClassLoaders) from being unloaded.
+ */
 @AllArgsConstructor
 public class InvokeDynamicComprehender implements ValueComprehender {
     @Override
@@ -27,85 +41,78 @@ public class InvokeDynamicComprehender implements ValueComprehender {
 
     Optional<Class> type;
 
-    private static volatile Map<Class, Method> mapMethod = new ConcurrentHashMap<>();
-    private static volatile Map<Class, Method> flatMapMethod = new ConcurrentHashMap<>();
-    private static volatile Map<Class, ListX<Method>> filterMethod = new ConcurrentHashMap<>();
+    private static final List<String> UNIT = Arrays.asList("of", "singleton", "some", "right", "success", "primary");
+    private static final List<String> ZERO = Arrays.asList("empty", "of", "cons", "none", "nil", "left", "failure", "secondary");
+
+    private static final InvokeDynamicComprehender untyped = new InvokeDynamicComprehender(
+                                                                                           Optional.empty());
+    private static final ClassValue<InvokeDynamicComprehender> comprehenders = perClass(c -> new InvokeDynamicComprehender(
+                                                                                                                          Optional.of((Class) c)));
+
+    private static final ClassValue<Call> mapMethod = perClass(c -> Stream.of(c.getMethods())
+                                                                          .filter(method -> "map".equals(method.getName())
+                                                                                  || "transform".equals(method.getName()))
+                                                                          .filter(method -> method.getParameterCount() == 1)
+                                                                          .findFirst()
+                                                                          .map(Call::new)
+                                                                          .get());
+    private static final ClassValue<Call> flatMapMethod = perClass(c -> Stream.of(c.getMethods())
+                                                                              .filter(method -> "flatMap".equals(method.getName())
+                                                                                      || "bind".equals(method.getName())
+                                                                                      || "transformAndConcat".equals(method.getName()))
+                                                                              .filter(method -> method.getParameterCount() == 1)
+                                                                              .findFirst()
+                                                                              .map(Call::new)
+                                                                              .get());
+    private static final ClassValue<Optional<Call>> filterMethod = perClass(c -> Stream.of(c.getMethods())
+                                                                                       .filter(method -> "filter".equals(method.getName()))
+                                                                                       .filter(method -> method.getParameterCount() == 1)
+                                                                                       .filter(method -> method.getParameterTypes()[0].isInterface())
+                                                                                       .findFirst()
+                                                                                       .map(Call::new));
+    private static final ClassValue<Optional<MethodHandle>> unitMethod = perClass(c -> factory(c, UNIT, 1));
+    private static final ClassValue<Optional<MethodHandle>> zeroMethod = perClass(c -> factory(c, ZERO, 0));
+    private static final ClassValue<MethodHandle> proxies = perClass(InvokeDynamicComprehender::proxyConstructor);
+
+    /**
+     * @param type Type to comprehend, if known
+     * @return InvokeDynamicComprehender for the supplied type, shared across calls
+     */
+    public static InvokeDynamicComprehender forType(final Optional<Class> type) {
+        if (!type.isPresent())
+            return untyped;
+        return comprehenders.get(type.get());
+    }
 
     @Override
     public Object filter(final Object t, final Predicate p) {
-        final Class clazz = t.getClass();
-        final ListX<Method> m = filterMethod.computeIfAbsent(clazz, c -> ReactiveSeq.of(c.getMethods())
-                                                                                    .filter(method -> "filter".equals(method.getName()))
-                                                                                    .filter(method -> method.getParameterCount() == 1)
-                                                                                    .toListX()
-                                                                                    .map(m2 -> {
-                                                                                        m2.setAccessible(true);
-                                                                                        return m2;
-                                                                                    }));
-        if (m.size() == 0)
+        final Optional<Call> m = filterMethod.get(t.getClass());
+        if (!m.isPresent())
             return ValueComprehender.super.filter(t, p);
-        for (final Method next : m) {
-
-            final Class z = next.getParameterTypes()[0];
-            if (z.isInterface()) {
 
-                Object target = p;
-                if (!z.isAssignableFrom(Predicate.class)) {
-                    target = Proxy.newProxyInstance(InvokeDynamicComprehender.class.getClassLoader(), new Class[] { z },
-                                                    new FunctionExecutionInvocationHandler(
-                                                                                           input -> p.test(input)));
-                }
-
-                return new InvokeDynamic().executeMethod(next, t, target);
-            }
-        }
-        return ValueComprehender.super.filter(t, p);
+        final Call call = m.get();
+        final Object target = call.param.isAssignableFrom(Predicate.class) ? p : proxy(call.param, input -> p.test(input));
+        return call.invoke(t, target);
 
     }
 
     @Override
     public Object map(final Object t, final Function fn) {
 
-        final Class clazz = t.getClass();
-
-        final Method m = mapMethod.computeIfAbsent(clazz, c -> Stream.of(c.getMethods())
-                                                                     .filter(method -> "map".equals(method.getName())
-                                                                             || "transform".equals(method.getName()))
-                                                                     .filter(method -> method.getParameterCount() == 1)
-                                                                     .findFirst()
-                                                                     .map(m2 -> {
-                                                                         m2.setAccessible(true);
-                                                                         return m2;
-                                                                     })
-                                                                     .get());
+        final Call m = mapMethod.get(t.getClass());
 
         return execute(t, fn, m);
 
     }
 
-    private Object execute(final Object t, final Function fn, final Method m) {
-        final Class z = m.getParameterTypes()[0];
-        Object target = fn;
-        if (!z.isAssignableFrom(Function.class)) {
-            target = Proxy.newProxyInstance(InvokeDynamicComprehender.class.getClassLoader(), new Class[] { z },
-                                            new FunctionExecutionInvocationHandler(
-                                                                                   input -> fn.apply(input)));
-        }
-
-        return new InvokeDynamic().execute(m.getName(), t, target)
-                                  .get();
+    private Object execute(final Object t, final Function fn, final Call m) {
+        final Object target = m.param.isAssignableFrom(Function.class) ? fn : proxy(m.param, input -> fn.apply(input));
+        return m.invoke(t, target);
     }
 
     @Override
     public Object flatMap(final Object t, final Function fn) {
-        final Class clazz = t.getClass();
-        final Method m = flatMapMethod.computeIfAbsent(clazz, c -> Stream.of(c.getMethods())
-                                                                         .filter(method -> "flatMap".equals(method.getName())
-                                                                                 || "bind".equals(method.getName())
-                                                                                 || "transformAndConcat".equals(method.getName()))
-                                                                         .filter(method -> method.getParameterCount() == 1)
-                                                                         .findFirst()
-                                                                         .get());
+        final Call m = flatMapMethod.get(t.getClass());
 
         return execute(t, fn, m);
     }
@@ -132,20 +139,25 @@ public class InvokeDynamicComprehender implements ValueComprehender {
 
     @Override
     public Object of(final Object o) {
-
-        final InvokeDynamic dyn = new InvokeDynamic();
-        final Optional ob = dyn.execute(Arrays.asList("of", "singleton", "some", "right", "success", "primary"), type.get(), o);
-
-        return ob.get();
+        final MethodHandle unit = unitMethod.get(type.get())
+                                            .get();
+        try {
+            return unit.invokeExact(o);
+        } catch (final Throwable t) {
+            throw ExceptionSoftener.throwSoftenedException(t);
+        }
 
     }
 
     @Override
     public Object empty() {
-
-        final InvokeDynamic dyn = new InvokeDynamic();
-        final Optional o = dyn.execute(Arrays.asList("empty", "of", "cons", "none", "nil", "left", "failure", "secondary"), type.get());
-        return o.get();
+        final MethodHandle zero = zeroMethod.get(type.get())
+                                            .get();
+        try {
+            return zero.invokeExact();
+        } catch (final Throwable t) {
+            throw ExceptionSoftener.throwSoftenedException(t);
+        }
     }
 
     @Override
@@ -165,4 +177,89 @@ public class InvokeDynamicComprehender implements ValueComprehender {
 
     }
 
+    /**
+     * The first static method (by name, in order of preference) with the supplied number of parameters
+     */
+    private static Optional<MethodHandle> factory(final Class c, final List<String> names, final int params) {
+        for (final String name : names) {
+            final Optional<Method> m = Stream.of(c.getMethods())
+                                             .filter(method -> Modifier.isStatic(method.getModifiers()))
+                                             .filter(method -> name.equals(method.getName()))
+                                             .filter(method -> method.getParameterCount() == params)
+                                             .findFirst();
+            if (m.isPresent())
+                return Optional.of(unreflect(m.get()).asType(genericMethodType(params)));
+        }
+        return Optional.empty();
+    }
+
+    private static MethodHandle unreflect(final Method m) {
+        try {
+            m.setAccessible(true);
+            return MethodHandles.publicLookup()
+                                .unreflect(m);
+        } catch (final Exception e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Cache a value per class, held by the class itself so that it does not keep the class (or its ClassLoader) reachable
+     */
+    private static <V> ClassValue<V> perClass(final Function<Class<?>, V> compute) {
+        return new ClassValue<V>() {
+            @Override
+            protected V computeValue(final Class<?> type) {
+                return compute.apply(type);
+            }
+        };
+    }
+
+    private static MethodHandle proxyConstructor(final Class iface) {
+        try {
+            final Constructor c = Proxy.getProxyClass(InvokeDynamicComprehender.class.getClassLoader(), iface)
+                                       .getConstructor(InvocationHandler.class);
+            c.setAccessible(true);
+            return MethodHandles.publicLookup()
+                                .unreflectConstructor(c)
+                                .asType(methodType(Object.class, InvocationHandler.class));
+        } catch (final Exception e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Implement the supplied functional interface by delegating to a JDK Function
+     */
+    private static Object proxy(final Class iface, final Function fn) {
+        final MethodHandle constructor = proxies.get(iface);
+        try {
+            return constructor.invokeExact((InvocationHandler) new FunctionExecutionInvocationHandler(
+                                                                                                       fn));
+        } catch (final Throwable t) {
+            throw ExceptionSoftener.throwSoftenedException(t);
+        }
+    }
+
+    /**
+     * A single argument instance method and the type of its parameter
+     */
+    private static class Call {
+        private final MethodHandle handle;
+        private final Class param;
+
+        Call(final Method m) {
+            this.handle = unreflect(m).asType(genericMethodType(2));
+            this.param = m.getParameterTypes()[0];
+        }
+
+        Object invoke(final Object t, final Object arg) {
+            try {
+                return handle.invokeExact(t, arg);
+            } catch (final Throwable e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+    }
+
 }
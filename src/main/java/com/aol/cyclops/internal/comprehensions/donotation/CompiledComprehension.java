@@ -0,0 +1,161 @@
+package com.aol.cyclops.internal.comprehensions.donotation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.jooq.lambda.tuple.Tuple2;
+
+import com.aol.cyclops.internal.comprehensions.comprehenders.Comprehenders;
+import com.aol.cyclops.internal.comprehensions.comprehenders.InvokeDynamicComprehender;
+import com.aol.cyclops.internal.comprehensions.comprehenders.MaterializedList;
+import com.aol.cyclops.internal.comprehensions.converters.MonadicConverters;
+import com.aol.cyclops.internal.comprehensions.donotation.DoBuilderModule.Assignment;
+import com.aol.cyclops.internal.comprehensions.donotation.DoBuilderModule.Entry;
+import com.aol.cyclops.internal.comprehensions.donotation.DoBuilderModule.Guard;
+import com.aol.cyclops.types.Unwrapable;
+import com.aol.cyclops.types.extensability.Comprehender;
+
+/**
+ * A for comprehension compiled into nested flatMap / filter / map calls.
+ *
+ * Bound values are held positionally (the nth generator binds the nth value) and passed to the curried generator, guard
+ * and yield functions directly, rather than being looked up by name. A compiled comprehension holds no state between
+ * runs and can be cached and run any number of times.
+ *
+ * @param <T> Result type
+ */
+public final class CompiledComprehension<T> {
+
+    private static final Object[] NONE = new Object[0];
+    private static final MonadicConverters converters = new MonadicConverters();
+    private static final Comprehenders comprehenders = new Comprehenders();
+
+    //Guard, Assignment or a monadic value for each level after the first
+    private final Object[] steps;
+    private final Object first;
+    private final Function yieldFn;
+
+    private CompiledComprehension(final Object first, final Object[] steps, final Function yieldFn) {
+        this.first = first;
+        this.steps = steps;
+        this.yieldFn = yieldFn;
+    }
+
+    /**
+     * Compile the generators and guards of a for comprehension
+     *
+     * @param entries Generators and guards, in order
+     * @param yieldFn Curried function that accepts each bound value and returns the result
+     * @return Compiled for comprehension
+     */
+    public static <T> CompiledComprehension<T> compile(final List<Entry> entries, final Function yieldFn) {
+        final Object[] steps = new Object[Math.max(0, entries.size() - 1)];
+        for (int i = 0; i < steps.length; i++)
+            steps[i] = entries.get(i + 1)
+                              .getValue();
+        return new CompiledComprehension<>(
+                                           entries.get(0)
+                                                  .getValue(),
+                                           steps, yieldFn);
+    }
+
+    /**
+     * @param fn Yield function
+     * @return true if this comprehension was compiled with the supplied yield function
+     */
+    public boolean yields(final Function fn) {
+        return yieldFn == fn;
+    }
+
+    /**
+     * @return The result of running this comprehension
+     */
+    public T run() {
+        return (T) process(NONE, generate(first, NONE), 0);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object process(final Object[] bound, final Object current, final int index) {
+        final Tuple2<Comprehender, Object> comprehender = comprehender(current);
+        final Comprehender comp = comprehender.v1;
+
+        if (index == steps.length)
+            return comp.map(comprehender.v2, it -> apply(yieldFn, bind(bound, it)));
+
+        final Object step = steps[index];
+        if (step instanceof Guard) {
+            final Function guard = ((Guard) step).getF();
+            final Object filtered = comp.filter(comprehender.v2, it -> (boolean) apply(guard, bind(bound, it)));
+            return process(bound, filtered, index + 1);
+        }
+        final Object result = comp.executeflatMap(comprehender.v2, it -> {
+            final Object[] next = bind(bound, it);
+            return process(next, generate(step, next), index + 1);
+        });
+        return comp.executeflatMap(result, a -> takeFirst(comp, a));
+    }
+
+    private static Object generate(final Object step, final Object[] bound) {
+        if (step instanceof Assignment)
+            return apply(((Assignment) step).getF(), bound);
+        return unwrap(step);
+    }
+
+    private static Object[] bind(final Object[] bound, final Object value) {
+        final Object[] next = Arrays.copyOf(bound, bound.length + 1);
+        next[bound.length] = value;
+        return next;
+    }
+
+    /**
+     * Apply a curried function to each bound value in turn
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object apply(final Function f, final Object[] bound) {
+        Function next = f;
+        Object result = null;
+        for (final Object value : bound) {
+            result = next.apply(value);
+            if (result instanceof Function)
+                next = (Function) result;
+        }
+        return unwrap(result);
+    }
+
+    private static Object unwrap(final Object o) {
+        if (o instanceof Unwrapable)
+            return ((Unwrapable) o).unwrap();
+        return o;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object takeFirst(final Comprehender comp, final Object o) {
+        if (o instanceof MaterializedList) {
+            if (((List) o).size() == 0)
+                return comp.empty();
+
+            return comp.of(((List) o).get(0));
+        }
+        return comp.of(o);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Tuple2<Comprehender, Object> comprehender(final Object structure) {
+        return selectComprehender(structure).orElseGet(() -> selectComprehender(converters.convertToMonadicForm(structure)).orElseGet(() -> new Tuple2(
+                                                                                                                                                    InvokeDynamicComprehender.forType(Optional.ofNullable(structure)
+                                                                                                                                                                                              .map(Object::getClass)),
+                                                                                                                                                    structure)));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Optional<Tuple2<Comprehender, Object>> selectComprehender(final Object structure) {
+        if (structure == null)
+            return Optional.empty();
+        return comprehenders.comprehenderFor(structure.getClass())
+                            .map(v -> new Tuple2<Comprehender, Object>(
+                                                                       v, structure));
+    }
+
+}
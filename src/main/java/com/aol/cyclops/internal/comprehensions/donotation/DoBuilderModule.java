@@ -14,7 +14,6 @@ public interface DoBuilderModule {
 
     @Value
     public static class Entry {
-        String key;
         Object value;
     }
 
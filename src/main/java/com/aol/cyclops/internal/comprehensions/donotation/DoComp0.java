@@ -22,8 +22,7 @@ public class DoComp0 extends DoComp {
 
     public <T1> DoComp1<T1> reader(final Reader<?, T1> seq) {
         return new DoComp1<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$monad" + getAssigned().size(), seq)),
+                             addEntry(seq),
                              getOrgType());
 
     }
@@ -50,8 +49,7 @@ public class DoComp0 extends DoComp {
         else if (o instanceof Set)
             orgType = Set.class;
         return new DoComp1<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$monad" + getAssigned().size(), o)),
+                             addEntry(o),
                              orgType);
     }
 
@@ -60,8 +58,7 @@ public class DoComp0 extends DoComp {
         } else if (o instanceof Set) {
         }
         return new DoComp1<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$monad" + getAssigned().size(), o)),
+                             addEntry(o),
                              getOrgType());
     }
 
@@ -82,8 +79,7 @@ public class DoComp0 extends DoComp {
      */
     public <T1> DoComp1<T1> stream(final BaseStream<T1, ?> o) {
         return new DoComp1<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$monad" + getAssigned().size(), o)),
+                             addEntry(o),
                              getOrgType());
 
     }
@@ -105,8 +101,7 @@ public class DoComp0 extends DoComp {
      */
     public <T1> DoComp1<T1> optional(final Optional<T1> o) {
         return new DoComp1<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$monad" + getAssigned().size(), o)),
+                             addEntry(o),
                              getOrgType());
 
     }
@@ -128,8 +123,7 @@ public class DoComp0 extends DoComp {
      */
     public <T1> DoComp1<T1> future(final CompletableFuture<T1> o) {
         return new DoComp1<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$monad" + getAssigned().size(), o)),
+                             addEntry(o),
                              getOrgType());
 
     }
@@ -151,8 +145,7 @@ public class DoComp0 extends DoComp {
      */
     public <T1> DoComp1<T1> anyM(final AnyM<T1> o) {
         return new DoComp1<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$monad" + getAssigned().size(), o)),
+                             addEntry(o),
                              getOrgType());
 
     }
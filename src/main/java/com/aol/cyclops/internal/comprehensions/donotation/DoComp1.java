@@ -103,9 +103,8 @@ public class DoComp1<T1> extends DoComp {
      */
     public DoComp1<T1> filter(final Predicate<? super T1> f) {
         return new DoComp1<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$internalGUARD" + getAssigned().size(), new Guard(
-                                                                                                                                    f))),
+                             addEntry(new Guard(
+                                               f)),
                              getOrgType());
     }
 
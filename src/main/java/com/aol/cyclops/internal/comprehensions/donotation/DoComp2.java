@@ -116,9 +116,8 @@ public class DoComp2<T1, T2> extends DoComp {
      */
     public DoComp2<T1, T2> filter(final Function<? super T1, Function<? super T2, Boolean>> f) {
         return new DoComp2<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$internalGUARD" + getAssigned().size(), new Guard(
-                                                                                                                                    f))),
+                             addEntry(new Guard(
+                                               f)),
                              getOrgType());
     }
 
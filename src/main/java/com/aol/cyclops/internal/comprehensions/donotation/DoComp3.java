@@ -80,9 +80,8 @@ public class DoComp3<T1, T2, T3> extends DoComp {
 
     public DoComp3<T1, T2, T3> filter(final Function<? super T1, Function<? super T2, Function<? super T3, Boolean>>> f) {
         return new DoComp3<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$internalGUARD" + getAssigned().size(), new Guard(
-                                                                                                                                    f))),
+                             addEntry(new Guard(
+                                               f)),
                              getOrgType());
     }
 
@@ -86,9 +86,8 @@ public class DoComp4<T1, T2, T3, T4> extends DoComp {
 
     public DoComp4<T1, T2, T3, T4> filter(final Function<? super T1, Function<? super T2, Function<? super T3, Function<? super T4, Boolean>>>> f) {
         return new DoComp4<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$internalGUARD" + getAssigned().size(), new Guard(
-                                                                                                                                    f))),
+                             addEntry(new Guard(
+                                               f)),
                              getOrgType());
     }
 
@@ -89,9 +89,8 @@ public class DoComp5<T1, T2, T3, T4, T5> extends DoComp {
     public DoComp5<T1, T2, T3, T4, T5> filter(
             final Function<? super T1, Function<? super T2, Function<? super T3, Function<T4, Function<? super T5, Boolean>>>>> f) {
         return new DoComp5<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$internalGUARD" + getAssigned().size(), new Guard(
-                                                                                                                                    f))),
+                             addEntry(new Guard(
+                                               f)),
                              getOrgType());
     }
 
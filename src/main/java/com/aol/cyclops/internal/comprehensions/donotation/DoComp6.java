@@ -89,9 +89,8 @@ public class DoComp6<T1, T2, T3, T4, T5, T6> extends DoComp {
     public DoComp6<T1, T2, T3, T4, T5, T6> filter(
             final Function<? super T1, Function<? super T2, Function<? super T3, Function<T4, Function<? super T5, Function<? super T6, Boolean>>>>>> f) {
         return new DoComp6<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$internalGUARD" + getAssigned().size(), new Guard(
-                                                                                                                                    f))),
+                             addEntry(new Guard(
+                                               f)),
                              getOrgType());
     }
 
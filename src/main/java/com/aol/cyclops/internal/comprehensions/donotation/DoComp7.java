@@ -90,9 +90,8 @@ public class DoComp7<T1, T2, T3, T4, T5, T6, T7> extends DoComp {
     public DoComp7<T1, T2, T3, T4, T5, T6, T7> filter(
             final Function<? super T1, Function<? super T2, Function<? super T3, Function<T4, Function<? super T5, Function<? super T6, Function<? super T7, Boolean>>>>>>> f) {
         return new DoComp7<>(
-                             getAssigned().plus(getAssigned().size(), new Entry(
-                                                                                "$$internalGUARD" + getAssigned().size(), new Guard(
-                                                                                                                                    f))),
+                             addEntry(new Guard(
+                                               f)),
                              getOrgType());
     }
 
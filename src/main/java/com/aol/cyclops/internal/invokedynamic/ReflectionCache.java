@@ -1,5 +1,9 @@
 package com.aol.cyclops.internal.invokedynamic;
 
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -12,17 +16,62 @@ import java.util.stream.Stream;
 
 import org.jooq.lambda.Seq;
 
+import com.aol.cyclops.util.ExceptionSoftener;
+
 public class ReflectionCache {
     private final static Map<Class, List<Field>> fields = new ConcurrentHashMap<>();
 
     private final static Map<Class, Optional<Method>> unapplyMethods = new ConcurrentHashMap<>();
 
+    private final static Map<Class, MethodHandle[]> getters = new ConcurrentHashMap<>();
+
+    private final static Map<Class, Optional<MethodHandle>> unapplyHandles = new ConcurrentHashMap<>();
+
     public static List<Field> getFields(final Class class1) {
         return getFieldData(class1).stream()
                                    .collect(Collectors.<Field> toList());
 
     }
 
+    /**
+     * Read the values of the (non-static) fields of the supplied Object, in the same order as {@link #getFields(Class)}.
+     * A getter MethodHandle is generated for each field once per class.
+     * 
+     * @param o Object to read
+     * @return Field values
+     */
+    public static Object[] getFieldValues(final Object o) {
+        final MethodHandle[] handles = getFieldGetters(o.getClass());
+        final Object[] values = new Object[handles.length];
+        try {
+            for (int i = 0; i < handles.length; i++)
+                values[i] = handles[i].invokeExact(o);
+        } catch (final Throwable t) {
+            throw ExceptionSoftener.throwSoftenedException(t);
+        }
+        return values;
+    }
+
+    private static MethodHandle[] getFieldGetters(final Class class1) {
+        final MethodHandle[] handles = getters.get(class1);
+        if (handles != null)
+            return handles;
+        return getters.computeIfAbsent(class1, cl -> {
+            final List<Field> data = getFieldData(cl);
+            final MethodHandle[] result = new MethodHandle[data.size()];
+            for (int i = 0; i < result.length; i++) {
+                try {
+                    result[i] = MethodHandles.lookup()
+                                             .unreflectGetter(data.get(i))
+                                             .asType(methodType(Object.class, Object.class));
+                } catch (final IllegalAccessException e) {
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+            }
+            return result;
+        });
+    }
+
     public static Map<String, Field> getFieldMap(final Class class1) {
         return getFieldData(class1).stream()
                                    .collect(Collectors.toMap(f -> f.getName(), f -> f));
@@ -57,4 +106,25 @@ public class ReflectionCache {
 
     }
 
+    /**
+     * @param c Class to find a public, no-args unapply method on
+     * @return MethodHandle for the unapply method (taking the instance to unapply as it's argument), if present
+     */
+    public static Optional<MethodHandle> getUnapplyHandle(final Class c) {
+        final Optional<MethodHandle> handle = unapplyHandles.get(c);
+        if (handle != null)
+            return handle;
+        return unapplyHandles.computeIfAbsent(c, cl -> getUnapplyMethod(cl).map(m -> {
+            try {
+                m.setAccessible(true);
+                return MethodHandles.publicLookup()
+                                    .unreflect(m)
+                                    .asType(methodType(Object.class, Object.class));
+            } catch (final IllegalAccessException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }));
+
+    }
+
 }
@@ -1,13 +1,8 @@
 package com.aol.cyclops.internal.matcher2;
 
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 
-import org.jooq.lambda.tuple.Tuple;
-
-import com.aol.cyclops.control.ReactiveSeq;
-
 import lombok.AllArgsConstructor;
 
 /**
@@ -31,34 +26,20 @@ public class ADTPredicateBuilder<T> {
 
         @SafeVarargs
         final public <V> Predicate<V> hasWhere(final Predicate<V>... values) {
-            final ReactiveSeq<Predicate> predicates = ReactiveSeq.of(values)
-                                                                 .map(nextValue -> convertToPredicate(nextValue));
+            final Predicate[] predicates = predicates(values, false);
 
             return t -> builder.toPredicate()
                                .test(t)
-                    && SeqUtils.seq(Extractors.decomposeCoerced()
-                                              .apply(t))
-                               .zip(predicates, (a, b) -> Tuple.tuple(a, b))
-                               .map(tuple -> tuple.v2.test(tuple.v1))
-                               .allMatch(v -> v == true);
+                    && fieldsMatch(predicates, t);
         }
 
         @SafeVarargs
         final public <V> Predicate<V> isWhere(final Predicate<V>... values) {
-            final Predicate p = test -> SeqUtils.EMPTY == test;
-            final ReactiveSeq<Predicate> predicates = ReactiveSeq.of(values)
-                                                                 .map(nextValue -> convertToPredicate(nextValue))
-                                                                 .concat(p);
-            ;
+            final Predicate[] predicates = predicates(values, true);
 
             return t -> builder.toPredicate()
                                .test(t)
-
-            && SeqUtils.seq(Extractors.decomposeCoerced()
-                                      .apply(t))
-                       .zip(predicates, (a, b) -> Tuple.tuple(a, b))
-                       .map(tuple -> tuple.v2.test(tuple.v1))
-                       .allMatch(v -> v == true);
+                    && fieldsMatch(predicates, t);
         }
 
     }
@@ -99,34 +80,43 @@ public class ADTPredicateBuilder<T> {
      */
     @SafeVarargs
     final public <V> Predicate<V> hasGuard(final V... values) {
-        final ReactiveSeq<Predicate> predicates = ReactiveSeq.of(values)
-                                                             .map(nextValue -> convertToPredicate(nextValue));
-
-        return t -> toPredicate().test(t) && SeqUtils.seq(Extractors.decomposeCoerced()
-                                                                    .apply(t))
-                                                     .zip(predicates, (a, b) -> Tuple.tuple(a, b))
-                                                     .map(tuple -> tuple.v2.test(tuple.v1))
-                                                     .allMatch(v -> v == true);
+        final Predicate[] predicates = predicates(values, false);
+
+        return t -> toPredicate().test(t) && fieldsMatch(predicates, t);
     }
 
     @SafeVarargs
     final public <V> Predicate<V> isGuard(final V... values) {
-        final Predicate p = test -> SeqUtils.EMPTY == test;
-        final ReactiveSeq<Predicate> predicates = ReactiveSeq.of(values)
-                                                             .map(nextValue -> convertToPredicate(nextValue))
-                                                             .concat(p);
-
-        return t -> {
+        final Predicate[] predicates = predicates(values, true);
 
-            return toPredicate().test(t)
+        return t -> toPredicate().test(t) && fieldsMatch(predicates, t);
+    }
 
-            && SeqUtils.seq(Extractors.decomposeCoerced()
-                                      .apply(t))
-                       .zip(predicates, (a, b) -> Tuple.tuple(a, b))
-                       .map(tuple -> tuple.v2.test(tuple.v1))
-                       .allMatch(v -> v == true);
-        };
+    /**
+     * Convert the supplied values to Predicates once, so that the Predicates built from them can be tested repeatedly
+     * 
+     * @param values Comparison values or Predicates
+     * @param exact true if there should be no further fields after those matched by values
+     * @return Predicates to test against each field in turn
+     */
+    private static Predicate[] predicates(final Object[] values, final boolean exact) {
+        final Predicate[] predicates = new Predicate[exact ? values.length + 1 : values.length];
+        for (int i = 0; i < values.length; i++)
+            predicates[i] = convertToPredicate(values[i]);
+        if (exact)
+            predicates[values.length] = test -> SeqUtils.EMPTY == test;
+        return predicates;
+    }
 
+    private static boolean fieldsMatch(final Predicate[] predicates, final Object t) {
+        final Object[] fields = SeqUtils.fields(Extractors.decomposeCoerced()
+                                                          .apply(t),
+                                                predicates.length);
+        for (int i = 0; i < predicates.length; i++) {
+            if (!predicates[i].test(fields[i]))
+                return false;
+        }
+        return true;
     }
 
     public static <T> Predicate<T> convertToPredicateTyped(final Object o) {
@@ -137,10 +127,8 @@ public class ADTPredicateBuilder<T> {
         if (o instanceof Predicate)
             return (Predicate) o;
 
-        return test -> {
-
-            return Objects.equals(test, o);
-        };
+        return new EqualsPredicate<>(
+                                     o);
     }
 
 }
\ No newline at end of file
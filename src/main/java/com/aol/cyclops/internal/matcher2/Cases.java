@@ -2,9 +2,12 @@ package com.aol.cyclops.internal.matcher2;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -13,6 +16,7 @@ import org.pcollections.PStack;
 
 import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.types.Decomposable;
+import com.aol.cyclops.util.function.Predicates;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -32,6 +36,9 @@ public class Cases<T, R> implements Function<T, Maybe<R>> {
     private final PStack<Case<T, R>> cases;
     @Wither(AccessLevel.PRIVATE)
     private final boolean sequential;
+    private final AtomicBoolean matched = new AtomicBoolean(
+                                                            false);
+    private final AtomicReference<CompiledCases<T, R>> compiled = new AtomicReference<>();
 
     Cases() {
         cases = ConsPStack.empty();
@@ -62,11 +69,11 @@ public class Cases<T, R> implements Function<T, Maybe<R>> {
     * @return  New Cases instance (sequential)
     */
     public static <T, R> Cases<T, R> ofList(final List<Case<T, R>> cases) {
+        PStack<Case<T, R>> stack = ConsPStack.empty();
+        for (final ListIterator<Case<T, R>> it = cases.listIterator(cases.size()); it.hasPrevious();)
+            stack = stack.plus(it.previous());
         return new Cases<>(
-                           cases.stream()
-                                .map(ConsPStack::singleton)
-                                .reduce(ConsPStack.empty(), (acc, next) -> acc.plus(acc.size(), next.get(0))),
-                           true);
+                           stack, true);
     }
 
     /**
@@ -77,9 +84,7 @@ public class Cases<T, R> implements Function<T, Maybe<R>> {
      * @return New Cases instance (sequential)
      */
     public static <T, R> Cases<T, R> of(final Case<T, R>... cazes) {
-        return ofPStack(Stream.of(cazes)
-                              .map(ConsPStack::singleton)
-                              .reduce(ConsPStack.empty(), (acc, next) -> acc.plus(acc.size(), next.get(0))));
+        return ofList(Arrays.asList(cazes));
 
     }
 
@@ -248,12 +253,40 @@ public class Cases<T, R> implements Function<T, Maybe<R>> {
      *         Optional.empty()
      */
     public <R> Maybe<R> match(final T t) {
+        final CompiledCases<T, R> program = (CompiledCases<T, R>) compiled.get();
+        if (program != null)
+            return program.match(t);
+        //compile once these Cases are reused, a single match is cheaper as a sequential scan
+        if (matched.compareAndSet(false, true))
+            return scan(t);
+        return compile().<R> compiled()
+                        .match(t);
 
-        return Maybe.fromOptional((Optional) stream().map(pattern -> pattern.match(t))
-                                                     .filter(Optional::isPresent)
-                                                     .map(Optional::get)
-                                                     .findFirst());
+    }
+
+    /**
+     * Compile these Cases into a decision structure that selects candidate cases by class and equality guard (see
+     * {@link Predicates#eq} and {@link Predicates#instanceOf}), rather than testing each case in turn. Cases are compiled
+     * automatically when matched more than once.
+     * 
+     * @return this Cases instance, compiled
+     */
+    public Cases<T, R> compile() {
+        compiled();
+        return this;
+    }
+
+    private <R> CompiledCases<T, R> compiled() {
+        return (CompiledCases<T, R>) compiled.updateAndGet(c -> c == null ? CompiledCases.compile(cases) : c);
+    }
 
+    private <R> Maybe<R> scan(final T t) {
+        for (final Case<T, ?> next : cases) {
+            final Optional<?> result = next.match(t);
+            if (result.isPresent())
+                return Maybe.of((R) result.get());
+        }
+        return Maybe.none();
     }
 
     public Stream<Case<T, R>> stream() {
@@ -0,0 +1,176 @@
+package com.aol.cyclops.internal.matcher2;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.aol.cyclops.control.Maybe;
+
+/**
+ * Pattern matching cases compiled into a flat, array indexed decision structure.
+ *
+ * Cases guarded by an {@link EqualsPredicate} or {@link InstanceOfPredicate} are indexed by value (via a hash lookup) or
+ * by class (resolved once per class), either against the input or, for cases that decompose the input (see
+ * {@link PatternMatcher#inCaseOfManyType}), against its first field. Candidate cases for an input are held as a bit set
+ * over the case indices and tested in their original order, so the first matching case wins as with a sequential
+ * scan. The input is decomposed at most once per match.
+ *
+ * @param <T> Input type
+ * @param <R> Return type
+ */
+final class CompiledCases<T, R> {
+
+    private final int words;
+    private final Case<T, R>[] cases;
+    private final Predicate[] predicates;
+    private final Function[] actions;
+    private final DecomposingPredicate[] decomposing;
+    private final int arity;
+
+    //cases that must be tested for every input (including all decomposing cases)
+    private final long[] always;
+    private final long[] nullInput;
+    private final Map<Object, long[]> byValue = new HashMap<>();
+    private final Map<Class, long[]> byType = new HashMap<>();
+    private final ConcurrentMap<Class, long[]> byClass = new ConcurrentHashMap<>();
+
+    //decomposing cases keyed on their first field
+    private final long[] fieldAlways;
+    private final Map<Object, long[]> byFieldValue = new HashMap<>();
+    private final Map<Class, long[]> byFieldType = new HashMap<>();
+    private final ConcurrentMap<Class, long[]> byFieldClass = new ConcurrentHashMap<>();
+
+    private CompiledCases(final Case<T, R>[] cases) {
+        final int size = cases.length;
+        this.words = (size + 63) >>> 6;
+        this.cases = cases;
+        this.predicates = new Predicate[size];
+        this.actions = new Function[size];
+        this.decomposing = new DecomposingPredicate[size];
+        this.always = new long[words];
+        this.nullInput = new long[words];
+        this.fieldAlways = new long[words];
+
+        int maxArity = 0;
+        for (int i = 0; i < size; i++) {
+            final Case<T, R> next = cases[i];
+            if (next.isEmpty())
+                continue;
+            if (next instanceof ActiveCase) {
+                predicates[i] = next.getPredicate();
+                actions[i] = next.getAction();
+            }
+            final Predicate predicate = predicates[i];
+            if (predicate instanceof EqualsPredicate) {
+                set(byValue.computeIfAbsent(((EqualsPredicate) predicate).getValue(), k -> new long[words]), i);
+            } else if (predicate instanceof InstanceOfPredicate) {
+                set(byType.computeIfAbsent(((InstanceOfPredicate) predicate).getType(), k -> new long[words]), i);
+                set(nullInput, i);
+            } else if (predicate instanceof DecomposingPredicate) {
+                final DecomposingPredicate p = (DecomposingPredicate) predicate;
+                decomposing[i] = p;
+                maxArity = Math.max(maxArity, p.getFields().length);
+                set(always, i);
+                set(nullInput, i);
+                final Predicate first = p.getFields().length > 0 ? p.getFields()[0] : null;
+                if (first instanceof EqualsPredicate)
+                    set(byFieldValue.computeIfAbsent(((EqualsPredicate) first).getValue(), k -> new long[words]), i);
+                else if (first instanceof InstanceOfPredicate)
+                    set(byFieldType.computeIfAbsent(((InstanceOfPredicate) first).getType(), k -> new long[words]), i);
+                else
+                    set(fieldAlways, i);
+            } else {
+                set(always, i);
+                set(nullInput, i);
+            }
+        }
+        this.arity = maxArity;
+    }
+
+    /**
+     * @param cases Cases to compile, in match order
+     * @return Compiled cases
+     */
+    static <T, R> CompiledCases<T, R> compile(final List<Case<T, R>> cases) {
+        return new CompiledCases<>(
+                                   cases.toArray(new Case[cases.size()]));
+    }
+
+    /**
+     * @param t Value to match
+     * @return Result of the first matching case, if any
+     */
+    @SuppressWarnings("unchecked")
+    Maybe<R> match(final T t) {
+        final long[] direct = t == null ? nullInput : classMask(t.getClass());
+        final long[] value = byValue.isEmpty() ? null : byValue.get(t);
+        Object[] fields = null;
+        long[] fieldTypes = null;
+        long[] fieldValue = null;
+        for (int w = 0; w < words; w++) {
+            long candidates = direct[w] | (value == null ? 0L : value[w]);
+            while (candidates != 0) {
+                final long bit = candidates & -candidates;
+                candidates ^= bit;
+                final int i = (w << 6) + Long.numberOfTrailingZeros(bit);
+                final DecomposingPredicate p = decomposing[i];
+                if (p != null) {
+                    if (!p.getMaster()
+                          .test(t))
+                        continue;
+                    if (fields == null) {
+                        fields = DecomposingPredicate.fields(t, arity);
+                        fieldTypes = arity == 0 ? fieldAlways : fieldClassMask(fields[0].getClass());
+                        fieldValue = arity == 0 ? null : byFieldValue.get(fields[0]);
+                    }
+                    if (((fieldTypes[w] | (fieldValue == null ? 0L : fieldValue[w])) & bit) == 0 || !p.test(fields))
+                        continue;
+                } else if (predicates[i] == null) {
+                    final Optional<R> result = cases[i].match(t);
+                    if (result.isPresent())
+                        return Maybe.of(result.get());
+                    continue;
+                } else if (!predicates[i].test(t))
+                    continue;
+                return Maybe.of((R) actions[i].apply(t));
+            }
+        }
+        return Maybe.none();
+    }
+
+    private long[] classMask(final Class type) {
+        final long[] mask = byClass.get(type);
+        if (mask != null)
+            return mask;
+        return byClass.computeIfAbsent(type, c -> union(always, byType, c));
+    }
+
+    private long[] fieldClassMask(final Class type) {
+        final long[] mask = byFieldClass.get(type);
+        if (mask != null)
+            return mask;
+        return byFieldClass.computeIfAbsent(type, c -> union(fieldAlways, byFieldType, c));
+    }
+
+    private long[] union(final long[] base, final Map<Class, long[]> types, final Class c) {
+        final long[] mask = base.clone();
+        for (final Map.Entry<Class, long[]> e : types.entrySet()) {
+            if (e.getKey()
+                 .isAssignableFrom(c)) {
+                for (int w = 0; w < words; w++)
+                    mask[w] |= e.getValue()[w];
+            }
+        }
+        return mask;
+    }
+
+    private static void set(final long[] mask, final int index) {
+        mask[index >>> 6] |= 1L << (index & 63);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.aol.cyclops.internal.matcher2;
+
+import java.util.function.Predicate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Predicate that holds if the master predicate holds for a value, and each field predicate holds for the corresponding
+ * field of the decomposed value.
+ * 
+ * Fields are read as per {@link SeqUtils#seq(Object)}, null fields are replaced with {@link SeqUtils#EMPTY} and missing
+ * fields are treated as {@link SeqUtils#EMPTY}.
+ */
+@AllArgsConstructor
+class DecomposingPredicate implements Predicate<Object> {
+    @Getter
+    private final Predicate master;
+    @Getter
+    private final Predicate[] fields;
+
+    @Override
+    public boolean test(final Object t) {
+        return master.test(t) && test(fields(t, fields.length));
+    }
+
+    /**
+     * @param values Fields of the decomposed value (at least as many as there are field predicates)
+     * @return true if each field predicate holds
+     */
+    boolean test(final Object[] values) {
+        for (int i = 0; i < fields.length; i++) {
+            if (!fields[i].test(values[i]))
+                return false;
+        }
+        return true;
+    }
+
+    static Object[] fields(final Object t, final int arity) {
+        return SeqUtils.fields(Extractors.decompose()
+                                         .apply(t),
+                               arity);
+    }
+}
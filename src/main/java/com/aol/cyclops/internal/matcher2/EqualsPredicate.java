@@ -0,0 +1,24 @@
+package com.aol.cyclops.internal.matcher2;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Predicate that tests for equality with a value, recognised by {@link CompiledCases} so that equality guards can be
+ * resolved via a hash lookup
+ * 
+ * @param <T> Type to test
+ */
+@AllArgsConstructor
+public class EqualsPredicate<T> implements Predicate<T> {
+    @Getter
+    private final Object value;
+
+    @Override
+    public boolean test(final T t) {
+        return Objects.equals(t, value);
+    }
+}
@@ -1,11 +1,12 @@
 package com.aol.cyclops.internal.matcher2;
 
+import java.lang.invoke.MethodHandle;
 import java.util.Optional;
 
-import com.aol.cyclops.control.FluentFunctions;
 import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.internal.invokedynamic.ReflectionCache;
 import com.aol.cyclops.types.Decomposable;
+import com.aol.cyclops.util.ExceptionSoftener;
 
 /**
  * Generic extractors for use s pre and post data extractors.
@@ -45,10 +46,16 @@ public class Extractors {
                 return (R) Maybe.fromOptional((Optional) input);
             }
 
-            return (R) ReflectionCache.getUnapplyMethod(input.getClass())
-                                      .map(FluentFunctions.ofChecked(m -> m.invoke(input)))
-                                      .orElse(AsDecomposable.asDecomposable(input)
-                                                            .unapply());
+            final Optional<MethodHandle> unapply = ReflectionCache.getUnapplyHandle(input.getClass());
+            if (!unapply.isPresent())
+                return (R) AsDecomposable.asDecomposable(input)
+                                         .unapply();
+            try {
+                return (R) unapply.get()
+                                  .invokeExact((Object) input);
+            } catch (final Throwable t) {
+                throw ExceptionSoftener.throwSoftenedException(t);
+            }
 
         };
     }
@@ -0,0 +1,23 @@
+package com.aol.cyclops.internal.matcher2;
+
+import java.util.function.Predicate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Predicate that tests the type of a value, recognised by {@link CompiledCases} so that type guards can be resolved once
+ * per class
+ * 
+ * @param <T> Type to test
+ */
+@AllArgsConstructor
+public class InstanceOfPredicate<T> implements Predicate<T> {
+    @Getter
+    private final Class<?> type;
+
+    @Override
+    public boolean test(final T t) {
+        return type.isAssignableFrom(t.getClass());
+    }
+}
@@ -1,16 +1,11 @@
 package com.aol.cyclops.internal.matcher2;
 
-import static com.aol.cyclops.internal.matcher2.SeqUtils.seq;
-
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import org.jooq.lambda.tuple.Tuple;
-
 import com.aol.cyclops.control.Maybe;
-import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.types.Decomposable;
 
 import lombok.AllArgsConstructor;
@@ -119,13 +114,9 @@ public class PatternMatcher implements Function {
     public <T, V, X> PatternMatcher inCaseOfManyType(final Predicate master, final Function<? super T, ? extends X> a,
             final Predicate<V>... predicates) {
 
-        final ReactiveSeq<Predicate<V>> pred = ReactiveSeq.of(predicates);
-
-        return inCaseOf(it -> master.test(it) && seq(Extractors.decompose()
-                                                               .apply(it)).zip(pred, (a1, b1) -> Tuple.tuple(a1, b1))
-                                                                          .map(t -> t.v2.test((V) t.v1))
-                                                                          .allMatch(v -> v == true),
-                        a);
+        final Predicate<T> decomposing = (Predicate) new DecomposingPredicate(
+                                                                              master, predicates);
+        return inCaseOf(decomposing, a);
 
     }
 
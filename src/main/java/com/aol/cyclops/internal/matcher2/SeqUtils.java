@@ -24,6 +24,29 @@ public class SeqUtils {
         return ReactiveSeq.fromStream(stream(t));
     }
 
+    /**
+     * @param t Object to read fields from
+     * @param arity Number of fields to read
+     * @return The first arity elements of {@link #seq(Object)}
+     */
+    public static Object[] fields(final Object t, final int arity) {
+        final Object[] fields = new Object[arity];
+        int i = 0;
+        if (t instanceof Iterable) {
+            final Iterator<?> it = ((Iterable) t).iterator();
+            for (; i < arity && it.hasNext(); i++)
+                fields[i] = nonNull(it.next());
+        } else if (arity > 0) {
+            final Object[] read = stream(t).limit(arity)
+                                           .toArray();
+            System.arraycopy(read, 0, fields, 0, arity);
+            i = arity;
+        }
+        for (; i < arity; i++)
+            fields[i] = EMPTY;
+        return fields;
+    }
+
     public static Stream<Object> stream(final Object t) {
 
         if (t instanceof Iterable) {
@@ -157,8 +157,16 @@ public class LazyFutureStreamImpl<U> implements LazyFutureStream<U> {
 
     @Override
     public LazyFutureStream<U> maxActive(final int max) {
-        return this.withMaxActive(new MaxActive(
-                                                max, max));
+        return maxActive(new MaxActive(
+                                       max, max));
+    }
+
+    @Override
+    public LazyFutureStream<U> maxActive(final MaxActive maxActive) {
+        final LazyFutureStreamImpl<U> stream = this.withMaxActive(maxActive);
+        //the BatchingCollector supplier captured the previous stream's limits
+        return stream.withLazyCollector(() -> new BatchingCollector<U>(
+                                                                       maxActive, stream));
     }
 
     /**
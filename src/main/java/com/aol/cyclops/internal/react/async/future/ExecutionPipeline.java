@@ -38,10 +38,9 @@ public class ExecutionPipeline {
     }
 
     public <T> ExecutionPipeline peek(final Consumer<? super T> c) {
-        return this.<T, Object> thenApply(i -> {
-            c.accept(i);
-            return i;
-        });
+        return new ExecutionPipeline(
+                                     swapComposeFn(FusedFunction.peek(c)), execList.size() == 0 ? execList.plus(null) : execList, firstRecover,
+                                     onFail);
 
     }
 
@@ -115,10 +114,18 @@ public class ExecutionPipeline {
                                      swapFn(except), execList, firstRecover, onFail);
     }
 
+    /**
+     * Consecutive synchronous stages (thenApply / peek) are held as a single fused Function per executor, each is unwrapped
+     * here if only one stage was added.
+     * 
+     * @return Pipeline to execute
+     */
     public FinalPipeline toFinalPipeline() {
-
+        final Function[] functions = functionList.toArray(new Function[0]);
+        for (int i = 0; i < functions.length; i++)
+            functions[i] = FusedFunction.unwrap(functions[i]);
         return new FinalPipeline(
-                                 functionList.toArray(new Function[0]), execList.toArray(new Executor[0]), firstRecover.toArray(new Function[0]),
+                                 functions, execList.toArray(new Executor[0]), firstRecover.toArray(new Function[0]),
                                  onFail);
     }
 
@@ -175,7 +182,7 @@ public class ExecutionPipeline {
         }
         final Function before = functionList.get(functionList.size() - 1);
         final PStack<Function> removed = functionList.minus(functionList.size() - 1);
-        return removed.plus(removed.size(), fn.compose(before));
+        return removed.plus(removed.size(), FusedFunction.fuse(before, fn));
     }
 
     private Function composeFirstRecovery() {
@@ -3,7 +3,8 @@ package com.aol.cyclops.internal.react.async.future;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -24,74 +25,99 @@ import lombok.Getter;
  * 4. For post-hoc event listeners : single writer (simple-react Stream adds event listeners) : single reader (only one thread can read event listeners - 
  * 						either the thread that sets the result / error and eventually done,
  * 							or if done already set - the calling thread can execute post-hoc events)
+ * 5. Completion and recycling are tracked in a single state word. Result / error fields are plain fields published by the volatile
+ * 		state write. A pooled future is handed back to its pool (via doFinally) exactly once, when both the completing thread has finished 
+ * 		running event listeners and the consumer has released it (join / markComplete).
  */
-@AllArgsConstructor
 public class FastFuture<T> {
 
-    @Getter
-    private volatile boolean done = false;
+    //completion states (low bits)
+    private static final int PENDING = 0;
+    private static final int FAILING = 1; //error set, event listeners running, not yet done
+    private static final int SUCCESS = 2;
+    private static final int FAILED = 3;
+    private static final int COMPLETION_MASK = 3;
+    //release flags
+    private static final int COMPLETER_RELEASED = 4;
+    private static final int CONSUMER_RELEASED = 8;
+
+    //spins before a waiting thread parks
+    private static final int SPINS = 64;
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    private static final AtomicIntegerFieldUpdater<FastFuture> STATE = AtomicIntegerFieldUpdater.newUpdater(FastFuture.class, "state");
+    private static final AtomicIntegerFieldUpdater<FastFuture> COUNT = AtomicIntegerFieldUpdater.newUpdater(FastFuture.class, "count");
+    private static final AtomicReferenceFieldUpdater<FastFuture, Thread> WAITER = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                         Thread.class,
+                                                                                                                         "waiter");
+    private static final AtomicReferenceFieldUpdater<FastFuture, Runnable> TRACKER = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                            Runnable.class,
+                                                                                                                            "tracker");
+    private static final Runnable TRACKED = () -> {
+    };
+
+    private volatile int state = PENDING;
     private volatile Consumer<OnComplete> forXOf;
     private volatile Consumer<OnComplete> essential;
-    @Getter
-    private volatile boolean completedExceptionally = false;
-    private final AtomicReference result = new AtomicReference(
-                                                               UNSET);
-    private final AtomicReference exception = new AtomicReference(
-                                                                  UNSET);
+    private volatile Thread waiter;
+    private volatile Runnable tracker;
+    private Object result;
+    private Throwable exception;
     private final Consumer<FastFuture<T>> doFinally;
-    private static UnSet UNSET = new UnSet();
-
-    static class UnSet {
-    }
 
     @Getter
     private final FinalPipeline pipeline;
 
-    private final AtomicInteger count = new AtomicInteger(
-                                                          0);
-    private final AtomicInteger max = new AtomicInteger(
-                                                        0);
+    private volatile int count = 0;
+    private int max = 0;
 
     public FastFuture() {
-        max.set(0);
         this.doFinally = null;
         this.pipeline = null;
     }
 
-    private T result() {
-        Object res = UNSET;
-        while ((res = result.get()) == UNSET) {
-            Thread.yield();
-        }
-        return (T) res;
-    }
-
-    private Throwable exception() {
-        Object result = UNSET;
-        while ((result = exception.get()) == UNSET) {
-            Thread.yield();
-        }
-        return (Throwable) result;
-    }
-
     public FastFuture(final FinalPipeline pipeline, final Consumer<FastFuture<T>> doFinally) {
-        this.max.set(0);
         this.pipeline = pipeline;
         this.doFinally = doFinally;
 
     }
 
     public FastFuture(final FinalPipeline pipeline, final int max) {
-        this.max.set(max);
+        this.max = max;
         this.pipeline = pipeline;
         this.doFinally = null;
     }
 
-    public void await() {
+    public boolean isDone() {
+        final int completion = state & COMPLETION_MASK;
+        return completion == SUCCESS || completion == FAILED;
+    }
+
+    public boolean isCompletedExceptionally() {
+        final int completion = state & COMPLETION_MASK;
+        return completion == FAILING || completion == FAILED;
+    }
 
-        long spin = 1;
-        while (!done) {
-            LockSupport.parkNanos(spin++);
+    public void await() {
+        if (isDone())
+            return;
+        for (int i = 0; i < SPINS; i++) {
+            if (isDone())
+                return;
+        }
+        final Thread current = Thread.currentThread();
+        if (WAITER.compareAndSet(this, null, current)) {
+            while (!isDone()) {
+                LockSupport.park(this);
+            }
+            waiter = null;
+            return;
+        }
+        //another thread is already registered to be woken, back off instead
+        long parkNanos = 1;
+        while (!isDone()) {
+            LockSupport.parkNanos(parkNanos);
+            parkNanos = Math.min(parkNanos << 1, MAX_PARK_NANOS);
         }
 
     }
@@ -104,28 +130,57 @@ public class FastFuture<T> {
     public T join() {
 
         try {
-            long spin = 1;
-            while (!done) {
-                LockSupport.parkNanos(spin++);
-            }
-            if (completedExceptionally)
+            await();
+            if (isCompletedExceptionally())
                 throw new SimpleReactCompletionException(
-                                                         exception());
-            return result();
+                                                         exception);
+            return (T) result;
         } finally {
             markComplete();
         }
     }
 
+    /**
+     * Release this future from the consumer side, if the completing thread has also finished with it,
+     * it is handed back to it's pool.
+     */
     public void markComplete() {
         if (doFinally != null)
+            release(CONSUMER_RELEASED, COMPLETER_RELEASED);
+    }
+
+    private void releaseCompleter() {
+        if (doFinally != null)
+            release(COMPLETER_RELEASED, CONSUMER_RELEASED);
+    }
+
+    private void release(final int flag, final int other) {
+        int current;
+        do {
+            current = state;
+            if ((current & flag) != 0)
+                return;
+        } while (!STATE.compareAndSet(this, current, current | flag));
+        if ((current & other) != 0)
             doFinally.accept(this);
     }
 
+    private void complete(final int completion) {
+        int current;
+        do {
+            current = state;
+        } while (!STATE.compareAndSet(this, current, (current & ~COMPLETION_MASK) | completion));
+        if (completion != FAILING) {
+            final Thread w = waiter;
+            if (w != null)
+                LockSupport.unpark(w);
+        }
+    }
+
     public static <T> FastFuture<T> completedFuture(final T value) {
         final FastFuture<T> f = new FastFuture();
-        f.result.lazySet(value);
-        f.done = true;
+        f.result = value;
+        f.state = SUCCESS;
         return f;
     }
 
@@ -149,7 +204,7 @@ public class FastFuture<T> {
         cf.thenAccept(i -> this.set(i));
         cf.exceptionally(t -> {
             completedExceptionally(t);
-            return join();
+            return null;
         });
         return this;
     }
@@ -164,21 +219,22 @@ public class FastFuture<T> {
 
             } catch (final Throwable e) {
                 finalError = e;
-                this.exception.lazySet(e);
             }
         }
         this.completeExceptionally(finalError);
 
-        throw (RuntimeException) exception();
+        throw (RuntimeException) finalError;
     }
 
     private FastFuture<T> completeExceptionally(final Throwable t) {
-        exception.lazySet(t);
-        completedExceptionally = true;
+        exception = t;
+        complete(FAILING);
         handleOnComplete(true);
         if (pipeline != null && pipeline.onFail != null)
             pipeline.onFail.accept(t);
-        done = true;
+        complete(FAILED);
+        runTracker();
+        releaseCompleter();
         return this;
     }
 
@@ -194,7 +250,7 @@ public class FastFuture<T> {
         cf.exceptionally(t -> {
 
             f.completedExceptionally(t);
-            return f.join();
+            return null;
         });
         return f;
     }
@@ -210,7 +266,7 @@ public class FastFuture<T> {
             next.onComplete(v -> {
                 if (!count.compareAndSet(0, 1))
                     return;
-                if (allOf.count.incrementAndGet() == allOf.max.get()) {
+                if (COUNT.incrementAndGet(allOf) == allOf.max) {
                     onComplete.run();
                 }
 
@@ -229,7 +285,7 @@ public class FastFuture<T> {
             next.onComplete(v -> {
                 if (!count.compareAndSet(0, 1))
                     return;
-                if (xOf.count.incrementAndGet() >= xOf.max.get()) {
+                if (COUNT.incrementAndGet(xOf) >= xOf.max) {
 
                     onComplete.run();
 
@@ -246,7 +302,7 @@ public class FastFuture<T> {
 
         for (final FastFuture next : futures) {
             next.onComplete(v -> {
-                anyOf.result.lazySet(true);
+                anyOf.result = true;
                 anyOf.done();
 
             });
@@ -261,7 +317,7 @@ public class FastFuture<T> {
             final Object use = result;
 
             if (pipeline == null || pipeline.functions.length == 0) {
-                this.result.lazySet(use);
+                this.result = use;
                 done();
                 return;
             }
@@ -298,13 +354,13 @@ public class FastFuture<T> {
                 return;
             }
 
-            this.result.lazySet(current);
+            this.result = current;
             done();
 
         } catch (final Throwable t) {
             if (t instanceof CompletedException) {
-                if (this.doFinally != null)
-                    doFinally.accept(this);
+                //value already delivered, no consumer will join
+                markComplete();
             }
 
             completeExceptionally(t);
@@ -314,23 +370,56 @@ public class FastFuture<T> {
     }
 
     private boolean done() {
-        this.completedExceptionally = false;
-        this.done = true;
+        complete(SUCCESS);
         handleOnComplete(true);
-
+        runTracker();
+        releaseCompleter();
         return true;
 
     }
 
     public void clearFast() {
-        result.set(UNSET);
-        exception.set(UNSET);
+        this.result = null;
+        this.exception = null;
         this.forXOf = null;
         this.essential = null;
-        this.count.set(0);
-        this.max.set(0);
-        this.completedExceptionally = false;
-        this.done = false;
+        this.waiter = null;
+        this.tracker = null;
+        this.count = 0;
+        this.max = 0;
+        this.state = PENDING;
+    }
+
+    /**
+     * Register a listener for the LazyResultConsumer tracking this future. Unlike onComplete / essential it
+     * is called exactly once (on the completing thread, or immediately if already complete).
+     * 
+     * @param fn Listener to run when this future completes
+     */
+    public void track(final Runnable fn) {
+        Runnable current;
+        do {
+            current = tracker;
+            if (current == TRACKED) {
+                fn.run(); //already completed
+                return;
+            }
+        } while (!TRACKER.compareAndSet(this, current, current == null ? fn : andThen(current, fn)));
+        if (isDone()) //completed without running trackers (e.g. completedFuture)
+            runTracker();
+    }
+
+    private static Runnable andThen(final Runnable first, final Runnable second) {
+        return () -> {
+            first.run();
+            second.run();
+        };
+    }
+
+    private void runTracker() {
+        final Runnable fn = TRACKER.getAndSet(this, TRACKED);
+        if (fn != null && fn != TRACKED)
+            fn.run();
     }
 
     /**
@@ -339,7 +428,7 @@ public class FastFuture<T> {
      */
     public void essential(final Consumer<OnComplete> fn) {
         this.essential = fn; //set - could also be called on a separate thread
-        if (done) { //can be called again
+        if (isDone()) { //can be called again
             fn.accept(buildOnComplete());
         }
     }
@@ -352,7 +441,7 @@ public class FastFuture<T> {
 
         this.forXOf = fn; //set - could also be called on a separate thread
 
-        if (done) { //can be called again
+        if (isDone()) { //can be called again
             fn.accept(buildOnComplete());
         }
     }
@@ -367,9 +456,11 @@ public class FastFuture<T> {
     }
 
     private OnComplete buildOnComplete() {
+        final int completion = state & COMPLETION_MASK;
+        final boolean completedExceptionally = completion == FAILING || completion == FAILED;
         final OnComplete c = new OnComplete(
-                                            !completedExceptionally && done ? result() : null, completedExceptionally ? exception() : null,
-                                            this.completedExceptionally);
+                                            completion == SUCCESS ? result : null, completedExceptionally ? exception : null,
+                                            completedExceptionally);
         return c;
     }
 
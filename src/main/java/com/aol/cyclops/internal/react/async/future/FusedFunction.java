@@ -0,0 +1,90 @@
+package com.aol.cyclops.internal.react.async.future;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A run of consecutive synchronous stages (map / peek / filter) fused into a single Function.
+ *
+ * Each value is passed through the stages in a loop, rather than through a chain of Functions composed one inside the other
+ * (which costs an extra call and a stack frame per stage). Peek stages call the Consumer directly, without a Function wrapper.
+ *
+ * Instances are immutable, appending a stage creates a new FusedFunction.
+ */
+final class FusedFunction implements Function<Object, Object> {
+
+    private final Object[] stages;
+    private final boolean[] peeks;
+
+    private FusedFunction(final Object[] stages, final boolean[] peeks) {
+        this.stages = stages;
+        this.peeks = peeks;
+    }
+
+    /**
+     * @param before Current stage (may already be fused)
+     * @param next Function to run on the output of before (may already be fused)
+     * @return Fused Function running the stages of before and then the stages of next
+     */
+    static FusedFunction fuse(final Function before, final Function next) {
+        final FusedFunction first = of(before);
+        final FusedFunction second = of(next);
+        final Object[] stages = Arrays.copyOf(first.stages, first.stages.length + second.stages.length);
+        final boolean[] peeks = Arrays.copyOf(first.peeks, first.peeks.length + second.peeks.length);
+        System.arraycopy(second.stages, 0, stages, first.stages.length, second.stages.length);
+        System.arraycopy(second.peeks, 0, peeks, first.peeks.length, second.peeks.length);
+        return new FusedFunction(
+                                 stages, peeks);
+    }
+
+    /**
+     * @param next Consumer to wrap
+     * @return Fused Function with a single peek stage
+     */
+    static FusedFunction peek(final Consumer next) {
+        return new FusedFunction(
+                                 new Object[] { next }, new boolean[] { true });
+    }
+
+    /**
+     * @param fn Function from an ExecutionPipeline
+     * @return The Function to run, a FusedFunction holding a single Function stage is replaced by that Function
+     */
+    static Function unwrap(final Function fn) {
+        if (fn instanceof FusedFunction) {
+            final FusedFunction fused = (FusedFunction) fn;
+            if (fused.stages.length == 1 && !fused.peeks[0])
+                return (Function) fused.stages[0];
+        }
+        return fn;
+    }
+
+    private static FusedFunction of(final Function fn) {
+        if (fn instanceof FusedFunction)
+            return (FusedFunction) fn;
+        return new FusedFunction(
+                                 new Object[] { fn }, new boolean[] { false });
+    }
+
+    int size() {
+        return stages.length;
+    }
+
+    @Override
+    public Object apply(final Object t) {
+        Object value = t;
+        for (int i = 0; i < stages.length; i++) {
+            if (peeks[i])
+                ((Consumer) stages[i]).accept(value);
+            else
+                value = ((Function) stages[i]).apply(value);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "FusedFunction[stages=" + stages.length + "]";
+    }
+}
@@ -19,9 +19,9 @@ public class FuturePool {
     private final int max;
 
     public <T> FastFuture<T> next(final Supplier<FastFuture<T>> factory) {
-        if (pool.size() > 0) {
-
-            final FastFuture next = pool.poll();
+        //poll directly - a slot counted by size() may not yet have been published by a producer
+        final FastFuture next = pool.poll();
+        if (next != null) {
             next.clearFast();
             return next;
         }
@@ -31,7 +31,7 @@ public class FuturePool {
 
     public <T> void done(final FastFuture<T> f) {
         if (pool.size() < max) {
-
+            //offer fails (and the future is discarded) if concurrent producers filled the pool
             pool.offer(f);
         }
 
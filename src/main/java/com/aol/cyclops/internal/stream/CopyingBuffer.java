@@ -0,0 +1,189 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.aol.cyclops.control.StreamUtils.LagPolicy;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * Shares a single Iterator between multiple consumers (cursors), each of which sees every element.
+ *
+ * Elements pulled from the source by the leading cursor are stored in a growable circular array until every other active
+ * cursor has read them, so each cursor reads buffered elements in constant time. The number of buffered elements (the lag
+ * between the leading and the slowest cursor) can be limited, with the LagPolicy determining what happens when the leading
+ * cursor would exceed it.
+ *
+ * All access is synchronized on the buffer, so cursors may be consumed on different threads (which is required for
+ * {@link LagPolicy#BLOCK}, as a blocked leader waits for a slower cursor on another thread to catch up).
+ *
+ * A cursor that will not be read to the end (e.g. its Stream short-circuits) should be closed, so it no longer holds back the
+ * other cursors.
+ *
+ * @param <T> Data type of elements
+ */
+public class CopyingBuffer<T> {
+
+    private final Iterator<T> source;
+    private final long maxLag;
+    private final LagPolicy policy;
+    private final List<Cursor> cursors = new ArrayList<>();
+
+    private Object[] buffer = new Object[16];
+    //array index of the oldest buffered element
+    private int head = 0;
+    private int size = 0;
+    //sequence number of the oldest buffered element
+    private long base = 0;
+
+    /**
+     * @param source Iterator to share
+     * @param maxLag Maximum number of elements the leading cursor may be ahead of the slowest cursor
+     * @param policy What to do when the maximum lag is reached
+     * @throws IllegalArgumentException if maxLag is less than 1
+     */
+    public CopyingBuffer(final Iterator<T> source, final long maxLag, final LagPolicy policy) {
+        if (maxLag < 1)
+            throw new IllegalArgumentException(
+                                               "Maximum lag must be at least 1, was " + maxLag);
+        this.source = source;
+        this.maxLag = maxLag;
+        this.policy = policy;
+    }
+
+    /**
+     * @param source Iterator to share
+     * @param copies Number of cursors
+     * @param maxLag Maximum number of elements the leading cursor may be ahead of the slowest cursor
+     * @param policy What to do when the maximum lag is reached
+     * @return Cursors, each of which sees every element of the source
+     */
+    public static <T> List<Iterator<T>> copies(final Iterator<T> source, final int copies, final long maxLag, final LagPolicy policy) {
+        final CopyingBuffer<T> buffer = new CopyingBuffer<>(
+                                                            source, maxLag, policy);
+        final List<Iterator<T>> result = new ArrayList<>();
+        for (int i = 0; i < copies; i++)
+            result.add(buffer.cursor(Long.MAX_VALUE));
+        return result;
+    }
+
+    /**
+     * @param limit Number of elements the cursor will read, elements past the limit are not buffered for it
+     * @return A new cursor starting at the first element of the source, must be created before any cursor is advanced
+     */
+    public synchronized Cursor cursor(final long limit) {
+        final Cursor cursor = new Cursor(
+                                         limit);
+        cursors.add(cursor);
+        return cursor;
+    }
+
+    private T at(final long position) {
+        return (T) buffer[(int) ((head + (position - base)) % buffer.length)];
+    }
+
+    private void append(final T value) {
+        if (size == buffer.length) {
+            final Object[] grown = new Object[buffer.length * 2];
+            for (int i = 0; i < size; i++)
+                grown[i] = buffer[(head + i) % buffer.length];
+            buffer = grown;
+            head = 0;
+        }
+        buffer[(head + size) % buffer.length] = value;
+        size++;
+    }
+
+    //release elements that every active cursor has read
+    private void trim() {
+        long min = base + size;
+        for (final Cursor c : cursors) {
+            if (c.active())
+                min = Math.min(min, c.position);
+        }
+        boolean released = false;
+        while (base < min) {
+            buffer[head] = null;
+            head = (head + 1) % buffer.length;
+            size--;
+            base++;
+            released = true;
+        }
+        if (released && policy == LagPolicy.BLOCK)
+            notifyAll();
+    }
+
+    private boolean awaitCapacity() {
+        if (size < maxLag)
+            return true;
+        if (policy == LagPolicy.FAIL_FAST)
+            throw new IllegalStateException(
+                                            "Maximum lag of " + maxLag + " elements between copies of a Stream exceeded");
+        try {
+            wait();
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        return false;
+    }
+
+    public class Cursor implements Iterator<T> {
+        private final long limit;
+        private long position = 0;
+        private boolean closed = false;
+
+        private Cursor(final long limit) {
+            this.limit = limit;
+        }
+
+        private boolean active() {
+            return !closed && position < limit;
+        }
+
+        @Override
+        public boolean hasNext() {
+            synchronized (CopyingBuffer.this) {
+                if (!active())
+                    return false;
+                return position < base + size || source.hasNext();
+            }
+        }
+
+        @Override
+        public T next() {
+            synchronized (CopyingBuffer.this) {
+                for (;;) {
+                    if (!active())
+                        throw new NoSuchElementException();
+                    if (position < base + size) {
+                        final T value = at(position++);
+                        trim();
+                        return value;
+                    }
+                    if (awaitCapacity()) {
+                        final T value = source.next();
+                        append(value);
+                        position++;
+                        trim();
+                        return value;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Stop reading from this cursor, elements will no longer be buffered for it (or count towards the lag) and a leading
+         * cursor blocked waiting for it is released
+         */
+        public void close() {
+            synchronized (CopyingBuffer.this) {
+                closed = true;
+                trim();
+            }
+        }
+    }
+}
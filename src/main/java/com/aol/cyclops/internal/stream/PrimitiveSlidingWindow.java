@@ -0,0 +1,101 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.Iterator;
+
+/**
+ * The primitive counterpart of {@link SlidingWindow}, a fixed capacity ring buffer (an int[], long[] or double[]) holding the
+ * current window of a sliding view over a primitive Iterator, shared by IntSeq, LongSeq and DoubleSeq.
+ *
+ * Subclasses supply the primitive specific parts : reading the next element into the ring, creating arrays and reducing
+ * a window. Iterating over the windows as new arrays (sliding / grouped) is provided here.
+ *
+ * Not thread safe.
+ *
+ * @param <A> Primitive array type of the ring and of the windows produced
+ */
+public abstract class PrimitiveSlidingWindow<A> implements Iterator<A> {
+
+    protected final A ring;
+    private final int capacity;
+    private final int increment;
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * @param windowSize Size of sliding window
+     * @param increment Number of elements to move the window on by each time
+     */
+    protected PrimitiveSlidingWindow(final int windowSize, final int increment) {
+        if (windowSize < 1)
+            throw new IllegalArgumentException(
+                                               "Window size must be at least 1, was " + windowSize);
+        if (increment < 1)
+            throw new IllegalArgumentException(
+                                               "Increment must be at least 1, was " + increment);
+        this.ring = newArray(windowSize);
+        this.capacity = windowSize;
+        this.increment = increment;
+    }
+
+    /**
+     * @param size Length of the array
+     * @return A new primitive array
+     */
+    protected abstract A newArray(int size);
+
+    /**
+     * @return true if the underlying Iterator has more elements
+     */
+    @Override
+    public abstract boolean hasNext();
+
+    /**
+     * Read the next element from the underlying Iterator into the ring
+     *
+     * @param slot Position in the ring to write to
+     */
+    protected abstract void fill(int slot);
+
+    /**
+     * Move the window on by increment elements (or populate the first window)
+     */
+    public void advance() {
+        final int drop = Math.min(increment, size);
+        head = (head + drop) % capacity;
+        size -= drop;
+        while (size < capacity && hasNext()) {
+            fill((head + size) % capacity);
+            size++;
+        }
+    }
+
+    /**
+     * @return Number of elements in the current window
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index Position within the current window
+     * @return Position of that element in the ring
+     */
+    protected int slot(final int index) {
+        return (head + index) % capacity;
+    }
+
+    /**
+     * Move the window on and copy it into a new array
+     *
+     * @return Next window
+     */
+    @Override
+    public A next() {
+        advance();
+        final A window = newArray(size);
+        final int first = Math.min(size, capacity - head);
+        System.arraycopy(ring, head, window, 0, first);
+        System.arraycopy(ring, 0, window, first, size - first);
+        return window;
+    }
+}
@@ -361,7 +361,9 @@ public class ReactiveSeqImpl<T> implements Unwrapable, ReactiveSeq<T>, Iterable<
 
     @Override
     public final ReactiveSeq<T> parallel() {
-        return this;
+        return StreamUtils.reactiveSeq(new ParallelStream<>(
+                                                            stream.stream()),
+                                       reversable);
     }
 
     @Override
@@ -647,12 +649,18 @@ public class ReactiveSeqImpl<T> implements Unwrapable, ReactiveSeq<T>, Iterable<
 
     @Override
     public boolean isParallel() {
-        return stream.isParallel();
+        return stream.stream()
+                     .isParallel();
     }
 
     @Override
     public ReactiveSeq<T> sequential() {
-        return StreamUtils.reactiveSeq(stream.sequential(), reversable);
+        final Stream<T> unwrapped = stream.stream();
+        if (!(unwrapped instanceof ParallelStream))
+            return StreamUtils.reactiveSeq(stream.sequential(), reversable);
+        return StreamUtils.reactiveSeq(((ParallelStream<T>) unwrapped).unwrap()
+                                                                      .sequential(),
+                                       reversable);
     }
 
     @Override
@@ -761,13 +769,12 @@ public class ReactiveSeqImpl<T> implements Unwrapable, ReactiveSeq<T>, Iterable<
 
     @Override
     public ReactiveSeq<T> onClose(final Runnable closeHandler) {
-
-        return this;
+        return StreamUtils.reactiveSeq(stream.onClose(closeHandler), reversable);
     }
 
     @Override
     public void close() {
-
+        stream.close();
     }
 
     @Override
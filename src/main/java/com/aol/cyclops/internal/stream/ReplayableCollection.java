@@ -0,0 +1,194 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A Collection that lazily caches the elements of an Iterator as they are first requested, so they can be replayed by
+ * subsequent iterations.
+ *
+ * Elements are stored in an append-only array of fixed size segments, and a volatile size is published after each element is
+ * stored. Iterating over elements that have already been cached never blocks, only an Iterator that reaches the end of the
+ * cache fills it from the source Iterator (in concurrent mode only one thread fills the cache at a time, other threads that
+ * reach the end of the cache wait for it).
+ *
+ * An optional maximum size turns the cache into a replay buffer of the most recent elements: once more than maxSize elements
+ * have been cached, the oldest segments are evicted. New Iterators start at the oldest retained element, and Iterators that
+ * fall behind the retained elements skip forward to it.
+ *
+ * @param <T> Data type of elements
+ */
+public class ReplayableCollection<T> extends AbstractCollection<T> {
+
+    private static final int DEFAULT_SEGMENT_SHIFT = 8;
+    private static final Object EVICTED = new Object();
+
+    private final Iterator<T> source;
+    private final ReentrantLock fillLock;
+    private final long maxSize;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    private volatile Directory directory;
+    private volatile long size = 0;
+    private volatile boolean complete = false;
+
+    //segments are numbered from 0, segments[0] holds segment number base
+    private static final class Directory {
+        private final Object[][] segments;
+        private final long base;
+
+        private Directory(final Object[][] segments, final long base) {
+            this.segments = segments;
+            this.base = base;
+        }
+    }
+
+    /**
+     * @param source Iterator to cache
+     * @param concurrent true if the Collection may be iterated by multiple threads while it is being filled
+     */
+    public ReplayableCollection(final Iterator<T> source, final boolean concurrent) {
+        this(source, concurrent, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param source Iterator to cache
+     * @param concurrent true if the Collection may be iterated by multiple threads while it is being filled
+     * @param maxSize Maximum number of elements to retain, the oldest are evicted (a segment at a time) once it is exceeded
+     */
+    public ReplayableCollection(final Iterator<T> source, final boolean concurrent, final long maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException(
+                                               "Maximum size must be at least 1, was " + maxSize);
+        this.source = source;
+        this.fillLock = concurrent ? new ReentrantLock() : null;
+        this.maxSize = maxSize;
+        //with a maximum size, keep segments small relative to it so eviction stays close to the limit
+        this.segmentShift = maxSize == Long.MAX_VALUE ? DEFAULT_SEGMENT_SHIFT
+                : Math.max(4, Math.min(DEFAULT_SEGMENT_SHIFT, 63 - Long.numberOfLeadingZeros(Math.max(1, maxSize / 4))));
+        this.segmentMask = (1 << segmentShift) - 1;
+        this.directory = new Directory(
+                                       new Object[4][], 0);
+    }
+
+    //true if the element at index has been cached, pulling from the source as neccessary
+    private boolean available(final long index) {
+        if (index < size)
+            return true;
+        if (complete)
+            return index < size;
+        if (fillLock != null)
+            fillLock.lock();
+        try {
+            while (size <= index && !complete) {
+                if (source.hasNext())
+                    append(source.next());
+                else
+                    complete = true;
+            }
+        } finally {
+            if (fillLock != null)
+                fillLock.unlock();
+        }
+        return index < size;
+    }
+
+    private void append(final T value) {
+        final long index = size;
+        final long segment = index >>> segmentShift;
+        Directory dir = directory;
+        if (segment - dir.base >= dir.segments.length) {
+            dir = new Directory(
+                                Arrays.copyOf(dir.segments, dir.segments.length * 2), dir.base);
+            directory = dir;
+        }
+        final int slot = (int) (segment - dir.base);
+        if (dir.segments[slot] == null)
+            dir.segments[slot] = new Object[segmentMask + 1];
+        dir.segments[slot][(int) (index & segmentMask)] = value;
+        if (maxSize != Long.MAX_VALUE && (index + 1) - ((dir.base + 1) << segmentShift) >= maxSize) {
+            //the oldest segment is no longer needed to retain maxSize elements
+            directory = new Directory(
+                                      Arrays.copyOfRange(dir.segments, 1, dir.segments.length + 1), dir.base + 1);
+        }
+        size = index + 1;
+    }
+
+    private long firstRetained() {
+        return directory.base << segmentShift;
+    }
+
+    private Object get(final long index) {
+        final Directory dir = directory;
+        final long segment = index >>> segmentShift;
+        if (segment < dir.base)
+            return EVICTED;
+        return dir.segments[(int) (segment - dir.base)][(int) (index & segmentMask)];
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            long position = firstRetained();
+
+            @Override
+            public boolean hasNext() {
+                return available(position);
+            }
+
+            @Override
+            public T next() {
+                for (;;) {
+                    if (!available(position))
+                        throw new NoSuchElementException();
+                    final Object value = get(position);
+                    if (value != EVICTED) {
+                        position++;
+                        return (T) value;
+                    }
+                    position = Math.max(position, firstRetained());
+                }
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        available(Long.MAX_VALUE);
+        return (int) Math.min(Integer.MAX_VALUE, size - firstRetained());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == null)
+            return false;
+        if (!(o instanceof Collection))
+            return false;
+        final Collection<T> c = (Collection) o;
+        final Iterator<T> it1 = iterator();
+        final Iterator<T> it2 = c.iterator();
+        while (it1.hasNext()) {
+            if (!it2.hasNext())
+                return false;
+            if (!Objects.equals(it1.next(), it2.next()))
+                return false;
+        }
+        if (it2.hasNext())
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (final T next : this)
+            hashCode = 31 * hashCode + Objects.hashCode(next);
+        return hashCode;
+    }
+}
@@ -1,12 +1,8 @@
 package com.aol.cyclops.internal.stream;
 
-import java.util.AbstractCollection;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -105,117 +101,22 @@ public class SeqUtils {
 
     }
 
-    private static final <A> Collection<A> createLazyCollection(final Iterator<A> iterator, final boolean concurrent) {
-        return new AbstractCollection<A>() {
-
-            @Override
-            public boolean equals(final Object o) {
-                if (o == null)
-                    return false;
-                if (!(o instanceof Collection))
-                    return false;
-                final Collection<A> c = (Collection) o;
-                final Iterator<A> it1 = iterator();
-                final Iterator<A> it2 = c.iterator();
-                while (it1.hasNext()) {
-                    if (!it2.hasNext())
-                        return false;
-                    if (!Objects.equals(it1.next(), it2.next()))
-                        return false;
-                }
-                if (it2.hasNext())
-                    return false;
-                return true;
-            }
-
-            @Override
-            public int hashCode() {
-                final Iterator<A> it1 = iterator();
-                final List<A> arrayList = new ArrayList<>();
-                while (it1.hasNext()) {
-                    arrayList.add(it1.next());
-                }
-                return Objects.hashCode(arrayList.toArray());
-            }
-
-            List<A> data = new ArrayList<>();
-
-            volatile boolean complete = false;
-
-            Object lock = new Object();
-            ReentrantLock rlock = new ReentrantLock();
-
-            @Override
-            public Iterator<A> iterator() {
-                if (complete)
-                    return data.iterator();
-                return new Iterator<A>() {
-                    int current = -1;
-
-                    @Override
-                    public boolean hasNext() {
-
-                        if (concurrent) {
-
-                            rlock.lock();
-                        }
-                        try {
-
-                            if (current == data.size() - 1 && !complete) {
-                                final boolean result = iterator.hasNext();
-                                complete = !result;
-
-                                return result;
-                            }
-                            if (current + 1 < data.size()) {
-
-                                return true;
-                            }
-                            return false;
-                        } finally {
-                            if (concurrent)
-                                rlock.unlock();
-                        }
-                    }
-
-                    @Override
-                    public A next() {
-
-                        if (concurrent) {
-
-                            rlock.lock();
-                        }
-                        try {
-                            if (current < data.size() && !complete) {
-                                if (iterator.hasNext())
-                                    data.add(iterator.next());
-
-                                return data.get(++current);
-                            }
-                            current++;
-                            return data.get(current);
-                        } finally {
-
-                            if (concurrent)
-                                rlock.unlock();
-                        }
-
-                    }
-
-                };
-
-            }
-
-            @Override
-            public int size() {
-                if (complete)
-                    return data.size();
-                final Iterator it = iterator();
-                while (it.hasNext())
-                    it.next();
+    /**
+     * Lazily constructs a Collection from specified Iterator, that retains the most recent maxSize elements (older elements
+     * are evicted a segment at a time, so slightly more may be retained). Collections iterator may be safely used
+     * concurrently by multiple threads.
+     * 
+     * @param iterator Iterator to cache
+     * @param maxSize Maximum number of elements to retain, older elements are evicted
+     * @return Lazy Collection of the most recent elements
+     */
+    public static final <A> CollectionX<A> toConcurrentLazyCollection(final Iterator<A> iterator, final long maxSize) {
+        return CollectionX.fromCollection(new ReplayableCollection<>(
+                                                                     iterator, true, maxSize));
+    }
 
-                return data.size();
-            }
-        };
+    private static final <A> Collection<A> createLazyCollection(final Iterator<A> iterator, final boolean concurrent) {
+        return new ReplayableCollection<>(
+                                          iterator, concurrent);
     }
 }
@@ -0,0 +1,121 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A fixed capacity ring buffer holding the current window of a sliding view over an Iterator.
+ *
+ * Moving the window on drops up to increment elements from the front of the window (in constant time) and refills it up to
+ * windowSize elements from the Iterator. The first window is populated without dropping any elements.
+ *
+ * Not thread safe.
+ *
+ * @param <T> Data type of elements in the window
+ */
+public class SlidingWindow<T> {
+
+    private final Iterator<T> it;
+    private final Object[] ring;
+    private final int increment;
+    private int head = 0;
+    private int size = 0;
+    //incremented each time the window moves, used to detect stale views
+    private long generation = 0;
+
+    public SlidingWindow(final Iterator<T> it, final int windowSize, final int increment) {
+        if (windowSize < 1)
+            throw new IllegalArgumentException(
+                                               "Window size must be at least 1, was " + windowSize);
+        this.it = it;
+        this.ring = new Object[windowSize];
+        this.increment = increment;
+    }
+
+    /**
+     * @return true if there are more elements available, so the window can be moved on
+     */
+    public boolean hasNext() {
+        return it.hasNext();
+    }
+
+    /**
+     * Move the window on by increment elements (or populate the first window)
+     */
+    public void next() {
+        final int drop = Math.min(increment, size);
+        for (int i = 0; i < drop; i++)
+            ring[(head + i) % ring.length] = null;
+        head = (head + drop) % ring.length;
+        size -= drop;
+        while (size < ring.length && it.hasNext()) {
+            ring[(head + size) % ring.length] = it.next();
+            size++;
+        }
+        generation++;
+    }
+
+    /**
+     * @return Number of elements in the current window
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index Position within the current window
+     * @return Element at the specified position
+     */
+    public T get(final int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(
+                                                "Index: " + index + ", Size: " + size);
+        return (T) ring[(head + index) % ring.length];
+    }
+
+    /**
+     * @return A new List containing the elements of the current window
+     */
+    public List<T> copy() {
+        final List<T> list = new ArrayList<>(
+                                             size);
+        for (int i = 0; i < size; i++)
+            list.add((T) ring[(head + i) % ring.length]);
+        return list;
+    }
+
+    /**
+     * A read-only List backed directly by the ring buffer, no elements are copied. The view is only valid until the window is
+     * next moved on, accessing it after that throws an IllegalStateException.
+     *
+     * @return Read-only view of the current window
+     */
+    public List<T> view() {
+        return new View();
+    }
+
+    private class View extends AbstractList<T> implements RandomAccess {
+        private final long viewOf = generation;
+
+        @Override
+        public T get(final int index) {
+            checkValid();
+            return SlidingWindow.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            checkValid();
+            return size;
+        }
+
+        private void checkValid() {
+            if (viewOf != generation)
+                throw new IllegalStateException(
+                                                "Sliding window view accessed after the window has moved on, copy the view to retain it");
+        }
+    }
+}
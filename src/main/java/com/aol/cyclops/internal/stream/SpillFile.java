@@ -0,0 +1,137 @@
+package com.aol.cyclops.internal.stream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.util.stream.Serializer;
+
+/**
+ * A temporary file of serialized elements, written once and then read back sequentially. The file is deleted once it has been
+ * read to the end, or when it is explicitly deleted.
+ *
+ * @param <T> Data type of elements in the file
+ */
+public class SpillFile<T> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Serializer<T> serializer;
+    private final Path path;
+    private DataOutputStream out;
+    private long count = 0;
+    private DataInputStream in;
+
+    public SpillFile(final Serializer<T> serializer) {
+        this(serializer, null);
+    }
+
+    /**
+     * @param serializer Serializer used to write and read elements
+     * @param directory Directory to create the file in, or null for the default temporary file directory
+     */
+    public SpillFile(final Serializer<T> serializer, final Path directory) {
+        this.serializer = serializer;
+        try {
+            this.path = directory == null ? Files.createTempFile("cyclops-spill", ".tmp")
+                    : Files.createTempFile(directory, "cyclops-spill", ".tmp");
+            this.out = new DataOutputStream(
+                                            new BufferedOutputStream(
+                                                                     Files.newOutputStream(path), BUFFER_SIZE));
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * @param value Value to append to the file
+     */
+    public void write(final T value) {
+        try {
+            serializer.write(out, value);
+            count++;
+        } catch (final IOException e) {
+            delete();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * @return Number of elements written
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Finish writing and read the elements back in the order they were written, can only be called once
+     *
+     * @return Iterator over the elements in the file
+     */
+    public Iterator<T> iterator() {
+        try {
+            out.close();
+            out = null;
+            in = new DataInputStream(
+                                     new BufferedInputStream(
+                                                             Files.newInputStream(path), BUFFER_SIZE));
+        } catch (final IOException e) {
+            delete();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        return new Iterator<T>() {
+            long remaining = count;
+
+            @Override
+            public boolean hasNext() {
+                if (remaining > 0)
+                    return true;
+                delete();
+                return false;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                try {
+                    final T value = serializer.read(in);
+                    remaining--;
+                    return value;
+                } catch (final IOException e) {
+                    delete();
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Close and delete the file, safe to call more than once
+     */
+    public void delete() {
+        try {
+            if (out != null)
+                out.close();
+            if (in != null)
+                in.close();
+        } catch (final IOException e) {
+            //the file is being discarded
+        }
+        out = null;
+        in = null;
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            path.toFile()
+                .deleteOnExit();
+        }
+    }
+}
@@ -1,54 +1,220 @@
 package com.aol.cyclops.internal.stream.operators;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.BiFunction;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
 import java.util.stream.Stream;
 
 import com.aol.cyclops.Monoid;
-import com.aol.cyclops.Reducer;
-import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.Monoids;
 
 import lombok.AllArgsConstructor;
 
+/**
+ * Reduces a Stream with multiple Monoids in a single pass.
+ *
+ * Each Monoid has its own mutable accumulator slot, so no intermediate Lists are created per element. The numeric Monoids
+ * provided by {@link Monoids} (sums, counts, maxima and minima) are accumulated in primitive slots, so their values are only
+ * unboxed as they are read from the Stream and boxed once when the result is built. Partial results from parallel Streams are
+ * combined slot by slot.
+ *
+ * @param <R> Data type of elements in the Stream
+ */
 @AllArgsConstructor
 public class MultiReduceOperator<R> {
 
+    private static final Map<Monoid<?>, Function<Monoid<?>, Slot>> primitiveSlots = new IdentityHashMap<>();
+
+    static {
+        primitiveSlots.put(Monoids.intSum, m -> new IntSlot(
+                                                            m, (a, b) -> a + b, (a, b) -> a + b));
+        primitiveSlots.put(Monoids.intCount, m -> new IntSlot(
+                                                              m, (a, b) -> a + 1, (a, b) -> a + b));
+        primitiveSlots.put(Monoids.intMax, m -> new IntSlot(
+                                                            m, (a, b) -> b > a ? b : a, (a, b) -> b > a ? b : a));
+        primitiveSlots.put(Monoids.intMin, m -> new IntSlot(
+                                                            m, (a, b) -> a < b ? a : b, (a, b) -> a < b ? a : b));
+        primitiveSlots.put(Monoids.longSum, m -> new LongSlot(
+                                                              m, (a, b) -> a + b, (a, b) -> a + b));
+        primitiveSlots.put(Monoids.longCount, m -> new LongSlot(
+                                                                m, (a, b) -> a + 1, (a, b) -> a + b));
+        primitiveSlots.put(Monoids.longMax, m -> new LongSlot(
+                                                              m, (a, b) -> b > a ? b : a, (a, b) -> b > a ? b : a));
+        primitiveSlots.put(Monoids.longMin, m -> new LongSlot(
+                                                              m, (a, b) -> a < b ? a : b, (a, b) -> a < b ? a : b));
+        primitiveSlots.put(Monoids.doubleSum, m -> new DoubleSlot(
+                                                                  m, (a, b) -> a + b, (a, b) -> a + b));
+        primitiveSlots.put(Monoids.doubleCount, m -> new DoubleSlot(
+                                                                    m, (a, b) -> a + 1, (a, b) -> a + b));
+        primitiveSlots.put(Monoids.doubleMax, m -> new DoubleSlot(
+                                                                  m, (a, b) -> b > a ? b : a, (a, b) -> b > a ? b : a));
+        primitiveSlots.put(Monoids.doubleMin, m -> new DoubleSlot(
+                                                                  m, (a, b) -> a < b ? a : b, (a, b) -> a < b ? a : b));
+    }
+
     private final Stream<R> stream;
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     public List<R> reduce(final Iterable<? extends Monoid<R>> reducers) {
-        final Reducer<List<R>> m = new Reducer<List<R>>() {
-            @Override
-            public List<R> zero() {
-                return StreamUtils.stream(reducers)
-                                  .map(r -> r.zero())
-                                  .collect(Collectors.toList());
-            }
-
-           
-
-            @Override
-            public Stream mapToType(final Stream stream) {
-                return stream.map(value -> Arrays.asList(value));
-            }
-
-            @Override
-            public List<R> apply(final List<R> c1, final List<R> c2) {
-                final List l = new ArrayList<>();
-                int i = 0;
-                for (final Monoid next : reducers) {
-                    l.add(next
-                              .apply(c1.get(i), c2.get(0)));
-                    i++;
-                }
-
-                return l;
-
-            }
-        };
-        return m.mapReduce(stream);
+        final List<Monoid<R>> monoids = new ArrayList<>();
+        for (final Monoid<R> next : reducers)
+            monoids.add(next);
+        final Accumulator result = stream.collect(() -> new Accumulator(
+                                                                        monoids),
+                                                  Accumulator::accept, Accumulator::combine);
+        return result.results();
+    }
+
+    private static Slot slot(final Monoid<?> monoid) {
+        final Function<Monoid<?>, Slot> primitive = primitiveSlots.get(monoid);
+        return primitive != null ? primitive.apply(monoid) : new ObjectSlot(
+                                                                            (Monoid<Object>) monoid);
+    }
+
+    private static final class Accumulator {
+        private final Slot[] slots;
+
+        private Accumulator(final List<? extends Monoid<?>> monoids) {
+            slots = new Slot[monoids.size()];
+            for (int i = 0; i < slots.length; i++)
+                slots[i] = slot(monoids.get(i));
+        }
+
+        private void accept(final Object value) {
+            for (final Slot slot : slots)
+                slot.accept(value);
+        }
+
+        private void combine(final Accumulator other) {
+            for (int i = 0; i < slots.length; i++)
+                slots[i].combine(other.slots[i]);
+        }
+
+        private <R> List<R> results() {
+            final List<R> results = new ArrayList<>(
+                                                    slots.length);
+            for (final Slot slot : slots)
+                results.add((R) slot.result());
+            return results;
+        }
+    }
+
+    private static abstract class Slot {
+        abstract void accept(Object value);
+
+        abstract void combine(Slot other);
+
+        abstract Object result();
+    }
+
+    private static final class ObjectSlot extends Slot {
+        private final Monoid<Object> monoid;
+        private Object acc;
+
+        private ObjectSlot(final Monoid<Object> monoid) {
+            this.monoid = monoid;
+            this.acc = monoid.zero();
+        }
+
+        @Override
+        void accept(final Object value) {
+            acc = monoid.apply(acc, value);
+        }
+
+        @Override
+        void combine(final Slot other) {
+            acc = monoid.apply(acc, ((ObjectSlot) other).acc);
+        }
+
+        @Override
+        Object result() {
+            return acc;
+        }
+    }
+
+    //accumulate combines the running value with an element, combine merges two partial results
+    private static final class IntSlot extends Slot {
+        private final IntBinaryOperator accumulate;
+        private final IntBinaryOperator combine;
+        private int acc;
+
+        private IntSlot(final Monoid<?> monoid, final IntBinaryOperator accumulate, final IntBinaryOperator combine) {
+            this.accumulate = accumulate;
+            this.combine = combine;
+            this.acc = (Integer) monoid.zero();
+        }
+
+        @Override
+        void accept(final Object value) {
+            acc = accumulate.applyAsInt(acc, (Integer) value);
+        }
+
+        @Override
+        void combine(final Slot other) {
+            acc = combine.applyAsInt(acc, ((IntSlot) other).acc);
+        }
+
+        @Override
+        Object result() {
+            return acc;
+        }
+    }
+
+    private static final class LongSlot extends Slot {
+        private final LongBinaryOperator accumulate;
+        private final LongBinaryOperator combine;
+        private long acc;
+
+        private LongSlot(final Monoid<?> monoid, final LongBinaryOperator accumulate, final LongBinaryOperator combine) {
+            this.accumulate = accumulate;
+            this.combine = combine;
+            this.acc = (Long) monoid.zero();
+        }
+
+        @Override
+        void accept(final Object value) {
+            acc = accumulate.applyAsLong(acc, (Long) value);
+        }
+
+        @Override
+        void combine(final Slot other) {
+            acc = combine.applyAsLong(acc, ((LongSlot) other).acc);
+        }
+
+        @Override
+        Object result() {
+            return acc;
+        }
+    }
+
+    private static final class DoubleSlot extends Slot {
+        private final DoubleBinaryOperator accumulate;
+        private final DoubleBinaryOperator combine;
+        private double acc;
+
+        private DoubleSlot(final Monoid<?> monoid, final DoubleBinaryOperator accumulate, final DoubleBinaryOperator combine) {
+            this.accumulate = accumulate;
+            this.combine = combine;
+            this.acc = (Double) monoid.zero();
+        }
+
+        @Override
+        void accept(final Object value) {
+            acc = accumulate.applyAsDouble(acc, (Double) value);
+        }
+
+        @Override
+        void combine(final Slot other) {
+            acc = combine.applyAsDouble(acc, ((DoubleSlot) other).acc);
+        }
+
+        @Override
+        Object result() {
+            return acc;
+        }
     }
 }
@@ -0,0 +1,505 @@
+package com.aol.cyclops.internal.stream.operators;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+
+import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.internal.stream.SpillFile;
+import com.aol.cyclops.util.stream.Serializer;
+
+/**
+ * Sort, distinct, groupBy and reverse operators that hold at most maxInMemory elements on the heap, spilling to temporary
+ * files (via the supplied Serializer) above that budget.
+ *
+ * Sorting and reversing spill runs of maxInMemory elements, which are merged (or read back in reverse order) lazily. Distinct
+ * and groupBy hash partition the data across temporary files once the budget is exceeded, and process a partition at a time
+ * (partitions that are still too large are partitioned again with different hash bits, unless that leaves all of their
+ * records together). No files are created when the data fits within the budget. Temporary files are deleted as they are
+ * consumed, or when the Stream is closed.
+ *
+ * Temporary files are created in the directory supplied, by default the directory named by the system property
+ * {@value #DIRECTORY_PROPERTY} or (if that is not set) the default temporary file directory.
+ *
+ * @param <T> Data type of elements in the Stream
+ */
+public class SpillingOperator<T> {
+
+    //maximum number of runs merged at once when sorting
+    private static final int MAX_FAN_IN = 64;
+    private static final int PARTITION_BITS = 4;
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+    private static final int MAX_PARTITION_LEVEL = 32 / PARTITION_BITS - 1;
+    /**
+     * System property naming the default directory for temporary files
+     */
+    public static final String DIRECTORY_PROPERTY = "cyclops.spill.dir";
+
+    private final Stream<T> stream;
+    private final int maxInMemory;
+    private final Serializer<T> serializer;
+    private final Path directory;
+    private final List<SpillFile<?>> files = new ArrayList<>();
+
+    public SpillingOperator(final Stream<T> stream, final int maxInMemory, final Serializer<T> serializer) {
+        this(stream, maxInMemory, serializer, defaultDirectory());
+    }
+
+    /**
+     * @param stream Stream to operate on
+     * @param maxInMemory Maximum number of elements to hold on the heap
+     * @param serializer Serializer used to write elements to temporary files
+     * @param directory Directory to create temporary files in, or null for the default temporary file directory
+     */
+    public SpillingOperator(final Stream<T> stream, final int maxInMemory, final Serializer<T> serializer, final Path directory) {
+        if (maxInMemory < 1)
+            throw new IllegalArgumentException(
+                                               "In memory budget must be at least 1 element, was " + maxInMemory);
+        this.stream = stream;
+        this.maxInMemory = maxInMemory;
+        this.serializer = serializer;
+        this.directory = directory;
+    }
+
+    /**
+     * @return Directory named by the {@value #DIRECTORY_PROPERTY} system property, or null if it is not set
+     */
+    public static Path defaultDirectory() {
+        final String dir = System.getProperty(DIRECTORY_PROPERTY);
+        return dir == null ? null : Paths.get(dir);
+    }
+
+    public Stream<T> sorted(final Comparator<? super T> comparator) {
+        final Iterator<T> it = stream.iterator();
+        return lazily(() -> {
+            final List<SpillFile<T>> runs = new ArrayList<>();
+            List<T> chunk = readChunk(it);
+            while (it.hasNext()) {
+                chunk.sort(comparator);
+                runs.add(spill(chunk.iterator(), serializer));
+                chunk = readChunk(it);
+            }
+            //the last run stays in memory, and is merged last so equal elements keep their order
+            chunk.sort(comparator);
+            final List<Iterator<T>> merging = open(reduceRuns(runs, comparator));
+            merging.add(chunk.iterator());
+            return merge(merging, comparator);
+        });
+    }
+
+    public Stream<T> reverse() {
+        final Iterator<T> it = stream.iterator();
+        return lazily(() -> {
+            final List<SpillFile<T>> runs = new ArrayList<>();
+            List<T> chunk = readChunk(it);
+            while (it.hasNext()) {
+                runs.add(spill(chunk.iterator(), serializer));
+                chunk = readChunk(it);
+            }
+            final List<T> last = chunk;
+            return new Iterator<T>() {
+                List<T> current = last;
+                int index = last.size();
+                int run = runs.size();
+
+                @Override
+                public boolean hasNext() {
+                    while (index == 0 && run > 0) {
+                        final SpillFile<T> file = runs.get(--run);
+                        current = readChunk(file.iterator());
+                        index = current.size();
+                        file.delete();
+                    }
+                    return index > 0;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    final T value = current.get(--index);
+                    current.set(index, null);
+                    return value;
+                }
+            };
+        });
+    }
+
+    public Stream<T> distinct() {
+        final Iterator<T> it = stream.iterator();
+        return StreamUtils.stream(new Iterator<T>() {
+            Set<T> seen = new HashSet<>();
+            Iterator<T> partitioned = null;
+            T next;
+            boolean ready = false;
+
+            @Override
+            public boolean hasNext() {
+                if (ready)
+                    return true;
+                if (partitioned != null)
+                    return partitioned.hasNext();
+                while (it.hasNext()) {
+                    final T value = it.next();
+                    if (seen.contains(value))
+                        continue;
+                    if (seen.size() < maxInMemory) {
+                        seen.add(value);
+                        next = value;
+                        ready = true;
+                        return true;
+                    }
+                    partitioned = spillDistinct(value, it);
+                    return partitioned.hasNext();
+                }
+                return false;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                if (partitioned != null)
+                    return partitioned.next();
+                ready = false;
+                return next;
+            }
+
+            private Iterator<T> spillDistinct(final T first, final Iterator<T> rest) {
+                final Serializer<Flagged<T>> flagged = new FlaggedSerializer<>(
+                                                                               serializer);
+                final List<SpillFile<Flagged<T>>> partitions = partition(flagged);
+                for (final T value : seen)
+                    partitions.get(partitionOf(value, 0))
+                              .write(new Flagged<>(
+                                                   true, value));
+                seen = null;
+                partitions.get(partitionOf(first, 0))
+                          .write(new Flagged<>(
+                                               false, first));
+                while (rest.hasNext()) {
+                    final T value = rest.next();
+                    partitions.get(partitionOf(value, 0))
+                              .write(new Flagged<>(
+                                                   false, value));
+                }
+                return processPartitions(partitions, 0, flagged, f -> f.value, records -> {
+                    //values that were emitted before spilling precede new values in each partition
+                    final Set<T> emitted = new HashSet<>();
+                    final List<T> result = new ArrayList<>();
+                    while (records.hasNext()) {
+                        final Flagged<T> record = records.next();
+                        if (emitted.add(record.value) && !record.emitted)
+                            result.add(record.value);
+                    }
+                    return result.iterator();
+                });
+            }
+        }).onClose(this::deleteFiles);
+    }
+
+    public <K> Stream<Tuple2<K, ListX<T>>> groupBy(final Function<? super T, ? extends K> classifier) {
+        final Iterator<T> it = stream.iterator();
+        return lazily(() -> {
+            final Map<K, ListX<T>> groups = new LinkedHashMap<>();
+            int held = 0;
+            while (it.hasNext() && held < maxInMemory) {
+                final T value = it.next();
+                groups.computeIfAbsent(classifier.apply(value), k -> ListX.empty())
+                      .add(value);
+                held++;
+            }
+            if (!it.hasNext())
+                return toTuples(groups);
+            final Function<T, Object> key = t -> classifier.apply(t);
+            final List<SpillFile<T>> partitions = partition(serializer);
+            for (final ListX<T> group : groups.values())
+                for (final T value : group)
+                    partitions.get(partitionOf(classifier.apply(value), 0))
+                              .write(value);
+            groups.clear();
+            while (it.hasNext()) {
+                final T value = it.next();
+                partitions.get(partitionOf(classifier.apply(value), 0))
+                          .write(value);
+            }
+            return processPartitions(partitions, 0, serializer, key, records -> {
+                final Map<K, ListX<T>> partitionGroups = new LinkedHashMap<>();
+                while (records.hasNext()) {
+                    final T value = records.next();
+                    partitionGroups.computeIfAbsent(classifier.apply(value), k -> ListX.empty())
+                                   .add(value);
+                }
+                return toTuples(partitionGroups);
+            });
+        });
+    }
+
+    private <K> Iterator<Tuple2<K, ListX<T>>> toTuples(final Map<K, ListX<T>> groups) {
+        final Iterator<Map.Entry<K, ListX<T>>> entries = groups.entrySet()
+                                                                .iterator();
+        return new Iterator<Tuple2<K, ListX<T>>>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public Tuple2<K, ListX<T>> next() {
+                final Map.Entry<K, ListX<T>> next = entries.next();
+                //release each group once it has been emitted
+                entries.remove();
+                return Tuple.tuple(next.getKey(), next.getValue());
+            }
+        };
+    }
+
+    private <R> Stream<R> lazily(final Supplier<Iterator<R>> source) {
+        return StreamUtils.stream(new Iterator<R>() {
+            Iterator<R> it;
+
+            @Override
+            public boolean hasNext() {
+                if (it == null)
+                    it = source.get();
+                return it.hasNext();
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return it.next();
+            }
+        })
+                          .onClose(this::deleteFiles);
+    }
+
+    private List<T> readChunk(final Iterator<T> it) {
+        final List<T> chunk = new ArrayList<>();
+        while (chunk.size() < maxInMemory && it.hasNext())
+            chunk.add(it.next());
+        return chunk;
+    }
+
+    private <R> SpillFile<R> spill(final Iterator<R> values, final Serializer<R> s) {
+        final SpillFile<R> file = newFile(s);
+        while (values.hasNext())
+            file.write(values.next());
+        return file;
+    }
+
+    private <R> SpillFile<R> newFile(final Serializer<R> s) {
+        final SpillFile<R> file = new SpillFile<>(
+                                                  s, directory);
+        synchronized (files) {
+            files.add(file);
+        }
+        return file;
+    }
+
+    private void deleteFiles() {
+        synchronized (files) {
+            for (final SpillFile<?> file : files)
+                file.delete();
+            files.clear();
+        }
+    }
+
+    /*
+     * Merge consecutive groups of spilled runs until few enough remain to merge in one pass alongside the in memory run,
+     * preserving the order of equal elements. Only the runs of the group being merged are open at any one time.
+     */
+    private List<SpillFile<T>> reduceRuns(final List<SpillFile<T>> runs, final Comparator<? super T> comparator) {
+        List<SpillFile<T>> current = runs;
+        while (current.size() > MAX_FAN_IN - 1) {
+            final List<SpillFile<T>> next = new ArrayList<>();
+            for (int i = 0; i < current.size(); i += MAX_FAN_IN) {
+                final List<SpillFile<T>> group = current.subList(i, Math.min(current.size(), i + MAX_FAN_IN));
+                if (group.size() == 1) {
+                    next.add(group.get(0));
+                    continue;
+                }
+                next.add(spill(merge(open(group), comparator), serializer));
+                for (final SpillFile<T> merged : group)
+                    merged.delete();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    private List<Iterator<T>> open(final List<SpillFile<T>> runs) {
+        final List<Iterator<T>> iterators = new ArrayList<>(
+                                                            runs.size() + 1);
+        for (final SpillFile<T> run : runs)
+            iterators.add(run.iterator());
+        return iterators;
+    }
+
+    private Iterator<T> merge(final List<Iterator<T>> runs, final Comparator<? super T> comparator) {
+        if (runs.size() == 1)
+            return runs.get(0);
+        final PriorityQueue<Head<T>> heads = new PriorityQueue<>(
+                                                                 runs.size(), (a, b) -> {
+                                                                     final int result = comparator.compare(a.value, b.value);
+                                                                     return result != 0 ? result : Integer.compare(a.run, b.run);
+                                                                 });
+        for (int i = 0; i < runs.size(); i++) {
+            final Iterator<T> run = runs.get(i);
+            if (run.hasNext())
+                heads.add(new Head<>(
+                                     run.next(), i, run));
+        }
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                final Head<T> head = heads.poll();
+                if (head == null)
+                    throw new NoSuchElementException();
+                final T value = head.value;
+                if (head.it.hasNext()) {
+                    head.value = head.it.next();
+                    heads.add(head);
+                }
+                return value;
+            }
+        };
+    }
+
+    private static int partitionOf(final Object key, final int level) {
+        int h = Objects.hashCode(key) * 0x9E3779B9;
+        h ^= h >>> 16;
+        return (h >>> (PARTITION_BITS * level)) & (PARTITIONS - 1);
+    }
+
+    private <R> List<SpillFile<R>> partition(final Serializer<R> s) {
+        final List<SpillFile<R>> partitions = new ArrayList<>(
+                                                              PARTITIONS);
+        for (int i = 0; i < PARTITIONS; i++)
+            partitions.add(newFile(s));
+        return partitions;
+    }
+
+    /*
+     * Lazily process each partition in turn, partitions larger than the in memory budget are split again using the next
+     * PARTITION_BITS of the hash (records keep their relative order). Splitting stops once it leaves every record of a
+     * partition in a single child.
+     */
+    private <R, O> Iterator<O> processPartitions(final List<SpillFile<R>> partitions, final int level, final Serializer<R> s,
+            final Function<R, Object> key, final Function<Iterator<R>, Iterator<O>> process) {
+        return new Iterator<O>() {
+            int index = 0;
+            Iterator<O> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && index < partitions.size()) {
+                    final SpillFile<R> partition = partitions.get(index);
+                    partitions.set(index++, null);
+                    if (partition.size() > maxInMemory && level < MAX_PARTITION_LEVEL) {
+                        final List<SpillFile<R>> split = partition(s);
+                        final Iterator<R> records = partition.iterator();
+                        while (records.hasNext()) {
+                            final R record = records.next();
+                            split.get(partitionOf(key.apply(record), level + 1))
+                                 .write(record);
+                        }
+                        final SpillFile<R> skewed = singleNonEmpty(split, partition.size());
+                        //a split that leaves every record in one child can't make progress (e.g. a single hot key),
+                        //so that child is processed as it is rather than partitioned again
+                        current = skewed != null ? process.apply(skewed.iterator())
+                                : processPartitions(split, level + 1, s, key, process);
+                    } else {
+                        current = process.apply(partition.iterator());
+                    }
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public O next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return current.next();
+            }
+        };
+    }
+
+    private static <R> SpillFile<R> singleNonEmpty(final List<SpillFile<R>> split, final long size) {
+        for (final SpillFile<R> child : split)
+            if (child.size() == size)
+                return child;
+        return null;
+    }
+
+    private static final class Head<T> {
+        private T value;
+        private final int run;
+        private final Iterator<T> it;
+
+        private Head(final T value, final int run, final Iterator<T> it) {
+            this.value = value;
+            this.run = run;
+            this.it = it;
+        }
+    }
+
+    private static final class Flagged<T> {
+        //true if the value was emitted before the data was spilled
+        private final boolean emitted;
+        private final T value;
+
+        private Flagged(final boolean emitted, final T value) {
+            this.emitted = emitted;
+            this.value = value;
+        }
+    }
+
+    private static final class FlaggedSerializer<T> implements Serializer<Flagged<T>> {
+        private final Serializer<T> serializer;
+
+        private FlaggedSerializer(final Serializer<T> serializer) {
+            this.serializer = serializer;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Flagged<T> value) throws IOException {
+            out.writeBoolean(value.emitted);
+            serializer.write(out, value.value);
+        }
+
+        @Override
+        public Flagged<T> read(final DataInput in) throws IOException {
+            final boolean emitted = in.readBoolean();
+            return new Flagged<>(
+                                 emitted, serializer.read(in));
+        }
+    }
+}
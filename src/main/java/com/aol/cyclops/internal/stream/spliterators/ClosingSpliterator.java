@@ -3,12 +3,17 @@ package com.aol.cyclops.internal.stream.spliterators;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Spliterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
+
 public class ClosingSpliterator<T> implements Spliterator<T> {
-    private final long estimate;
+    private long estimate;
 
     private final Queue<T> queue;
     private final AtomicBoolean open;
@@ -56,14 +61,26 @@ public class ClosingSpliterator<T> implements Spliterator<T> {
 
     }
 
+    private static boolean multiConsumer(final Queue<?> queue) {
+        return queue instanceof BlockingQueue || queue instanceof ConcurrentLinkedQueue || queue instanceof ConcurrentLinkedDeque
+                || queue instanceof ManyToManyConcurrentArrayQueue;
+    }
+
     private T nullSafe(final T value) {
         return value;
     }
 
+    /*
+     * Splits share the Queue, each value is taken by whichever split polls it first - so only Queues that support multiple
+     * concurrent consumers are split. The estimate is halved on each split, so the number of splits is bounded.
+     */
     @Override
     public Spliterator<T> trySplit() {
-
-        return this;
+        if (!multiConsumer(queue) || estimate < 2 || !open.get() && queue.size() == 0)
+            return null;
+        estimate = estimate >>> 1;
+        return new ClosingSpliterator<>(
+                                        estimate, queue, open);
     }
 
 }
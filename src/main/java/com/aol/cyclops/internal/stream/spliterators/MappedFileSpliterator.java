@@ -0,0 +1,157 @@
+package com.aol.cyclops.internal.stream.spliterators;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.util.stream.Framing;
+
+/**
+ * A Spliterator over the records of a memory mapped file, each record is a read-only ByteBuffer slice of the mapping.
+ *
+ * The file is mapped a window at a time (a window is remapped from the start of any record that crosses its end, and grown
+ * if a single record is larger than it). Where the Framing can locate record boundaries from an arbitrary position the
+ * Spliterator splits its byte range in half, so large files can be read in parallel.
+ *
+ * The FileChannel is closed once every Spliterator split from the same file has been exhausted, or when the Stream is
+ * closed. Records remain valid after the channel has been closed.
+ */
+public class MappedFileSpliterator implements Spliterator<ByteBuffer> {
+
+    private static final int DEFAULT_WINDOW = 64 * 1024 * 1024;
+    //ranges smaller than this are not split
+    private static final long MIN_SPLIT = 64 * 1024;
+
+    private final FileChannel channel;
+    private final Framing framing;
+    private final AtomicInteger open;
+    private long position;
+    private final long end;
+    private int windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private boolean finished = false;
+
+    public MappedFileSpliterator(final FileChannel channel, final Framing framing) {
+        this(channel, framing, new AtomicInteger(
+                                                 1),
+             0, size(channel), DEFAULT_WINDOW);
+    }
+
+    public MappedFileSpliterator(final FileChannel channel, final Framing framing, final int windowSize) {
+        this(channel, framing, new AtomicInteger(
+                                                 1),
+             0, size(channel), windowSize);
+    }
+
+    private MappedFileSpliterator(final FileChannel channel, final Framing framing, final AtomicInteger open, final long position,
+            final long end, final int windowSize) {
+        this.channel = channel;
+        this.framing = framing;
+        this.open = open;
+        this.position = position;
+        this.end = end;
+        this.windowSize = windowSize;
+    }
+
+    private static long size(final FileChannel channel) {
+        try {
+            return channel.size();
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Close the underlying FileChannel
+     */
+    public void close() {
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    private void finish() {
+        window = null;
+        if (!finished) {
+            finished = true;
+            if (open.decrementAndGet() == 0)
+                close();
+        }
+    }
+
+    private void map(final long from) {
+        try {
+            window = channel.map(MapMode.READ_ONLY, from, Math.min(windowSize, end - from));
+            windowStart = from;
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super ByteBuffer> action) {
+        for (;;) {
+            if (position >= end) {
+                finish();
+                return false;
+            }
+            if (window == null || position < windowStart || position >= windowStart + window.limit())
+                map(position);
+            window.position((int) (position - windowStart));
+            final ByteBuffer record = framing.next(window, windowStart + window.limit() == end);
+            if (record != null) {
+                position = windowStart + window.position();
+                action.accept(record);
+                return true;
+            }
+            if (windowStart == position) {
+                //a single record is larger than the window
+                if (windowSize == Integer.MAX_VALUE)
+                    throw new IllegalStateException(
+                                                    "Record starting at " + position + " is larger than the maximum mappable size");
+                windowSize = (int) Math.min(Integer.MAX_VALUE, windowSize * 2L);
+            }
+            map(position);
+        }
+    }
+
+    @Override
+    public Spliterator<ByteBuffer> trySplit() {
+        if (end - position < MIN_SPLIT)
+            return null;
+        final long boundary;
+        try {
+            boundary = framing.align(channel, position + (end - position) / 2, end);
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        if (boundary <= position || boundary >= end)
+            return null;
+        open.incrementAndGet();
+        final MappedFileSpliterator prefix = new MappedFileSpliterator(
+                                                                       channel, framing, open, position, boundary, windowSize);
+        position = boundary;
+        window = null;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        //the number of records is not known, the remaining bytes are an upper bound
+        return end - position;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+}
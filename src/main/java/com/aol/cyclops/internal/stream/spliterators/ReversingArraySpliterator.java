@@ -4,11 +4,9 @@ import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-@AllArgsConstructor
 public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableSpliterator {
 
     private final Object[] array;
@@ -17,21 +15,37 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
     private boolean reverse;
 
     int index = 0;
+    //bounds of the array covered by this Spliterator [start,end)
+    private int start;
+    private int end;
+
+    public ReversingArraySpliterator(final Object[] array, final boolean reverse, final int index) {
+        this(array, reverse, index, 0, array.length);
+    }
+
+    private ReversingArraySpliterator(final Object[] array, final boolean reverse, final int index, final int start, final int end) {
+        this.array = array;
+        this.reverse = reverse;
+        this.index = index;
+        this.start = start;
+        this.end = end;
+    }
 
     @Override
     public long estimateSize() {
-        return array.length;
+        final long remaining = reverse ? index - start + 1 : end - index;
+        return Math.max(0, remaining);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
 
     @Override
     public ReversingArraySpliterator<T> invert() {
         setReverse(!isReverse());
-        index = array.length - 1;
+        index = reverse ? end - 1 : start;
         return this;
     }
 
@@ -40,12 +54,12 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
         Objects.requireNonNull(action);
 
         if (!reverse) {
-            if (index < array.length && index > -1) {
+            if (index < end && index >= start) {
                 action.accept((T) array[index++]);
                 return true;
             }
         } else {
-            if (index > -1 & index < array.length) {
+            if (index >= start & index < end) {
                 action.accept((T) array[index--]);
                 return true;
             }
@@ -54,16 +68,35 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
     }
 
+    /*
+     * Splits off the first half of the remaining elements (in the current direction), so encounter order is preserved
+     * whether or not the Spliterator has been reversed.
+     */
     @Override
     public Spliterator<T> trySplit() {
-
-        return this;
+        final int remaining = (int) estimateSize();
+        if (remaining < 2)
+            return null;
+        final int half = remaining >>> 1;
+        if (!reverse) {
+            final int mid = index + half;
+            final ReversingArraySpliterator<T> prefix = new ReversingArraySpliterator<>(
+                                                                                        array, false, index, index, mid);
+            index = start = mid;
+            return prefix;
+        }
+        final int mid = index - half;
+        final ReversingArraySpliterator<T> prefix = new ReversingArraySpliterator<>(
+                                                                                    array, true, index, mid + 1, index + 1);
+        index = mid;
+        end = mid + 1;
+        return prefix;
     }
 
     @Override
     public ReversableSpliterator copy() {
         return new ReversingArraySpliterator<T>(
-                                                array, reverse, index);
+                                                array, reverse, index, start, end);
     }
 
 }
@@ -3,14 +3,13 @@ package com.aol.cyclops.internal.stream.spliterators;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-@AllArgsConstructor
 public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSpliterator {
 
     private final List<T> list;
@@ -18,36 +17,52 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
     @Getter
     @Setter
     private boolean reverse = false;
+    //bounds of the list covered by this Spliterator [start,end), until split end tracks the size of the list
+    private int start;
+    private int end = -1;
 
     public ReversingListSpliterator(final List<T> elements, final boolean reverse) {
         this.list = elements;
         this.reverse = reverse;
         this.it = elements.listIterator();
+        this.start = 0;
 
     }
 
+    private ReversingListSpliterator(final List<T> list, final boolean reverse, final int position, final int start, final int end) {
+        this.list = list;
+        this.reverse = reverse;
+        this.it = list.listIterator(position);
+        this.start = start;
+        this.end = end;
+    }
+
+    private int end() {
+        return end < 0 ? list.size() : end;
+    }
+
     @Override
     public ReversingListSpliterator<T> invert() {
         setReverse(!isReverse());
-        it = list.listIterator(list.size());
+        it = list.listIterator(reverse ? end() : start);
         return this;
     }
 
     @Override
     public ReversableSpliterator copy() {
-        return new ReversingListSpliterator(
-                                            list, reverse);
+        return new ReversingListSpliterator<T>(
+                                               list, reverse, it.nextIndex(), start, end);
 
     }
 
     @Override
     public long estimateSize() {
-        return list.size();
+        return Math.max(0, reverse ? it.nextIndex() - start : end() - it.nextIndex());
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
 
     @Override
@@ -55,13 +70,13 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
         Objects.requireNonNull(action);
 
         if (!reverse) {
-            if (it.hasNext()) {
+            if (it.nextIndex() < end() && it.hasNext()) {
                 action.accept(it.next());
                 return true;
             }
 
         } else {
-            if (it.hasPrevious()) {
+            if (it.previousIndex() >= start && it.hasPrevious()) {
                 action.accept(it.previous());
                 return true;
             }
@@ -71,10 +86,34 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 
     }
 
+    /*
+     * Random access Lists are split in half (the first half of the remaining elements in the current direction is split off,
+     * preserving encounter order), other Lists are not split.
+     */
     @Override
     public Spliterator<T> trySplit() {
-
-        return this;
+        if (!(list instanceof RandomAccess))
+            return null;
+        final int remaining = (int) estimateSize();
+        if (remaining < 2)
+            return null;
+        final int half = remaining >>> 1;
+        final int position = it.nextIndex();
+        if (!reverse) {
+            final int mid = position + half;
+            final ReversingListSpliterator<T> prefix = new ReversingListSpliterator<>(
+                                                                                      list, false, position, position, mid);
+            end = end();
+            start = mid;
+            it = list.listIterator(mid);
+            return prefix;
+        }
+        final int mid = position - half;
+        final ReversingListSpliterator<T> prefix = new ReversingListSpliterator<>(
+                                                                                  list, true, position, mid, position);
+        end = mid;
+        it = list.listIterator(mid);
+        return prefix;
     }
 
 }
@@ -9,8 +9,9 @@ import lombok.Setter;
 
 public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator {
 
-    private final int min;
-    private final int max;
+    //exclusive bounds of the range covered by this Spliterator (min,max)
+    private int min;
+    private int max;
     private int index;
 
     @Getter
@@ -24,10 +25,17 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
         index = Math.min(min, max);
     }
 
+    private ReversingRangeIntSpliterator(final int index, final int min, final int max, final boolean reverse) {
+        this.index = index;
+        this.min = min;
+        this.max = max;
+        this.reverse = reverse;
+    }
+
     @Override
     public ReversableSpliterator invert() {
         setReverse(!isReverse());
-        index = max - 1;
+        index = reverse ? max - 1 : min + 1;
         return this;
     }
 
@@ -51,23 +59,45 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
 
     @Override
     public long estimateSize() {
-        return max;
+        final long remaining = reverse ? (long) index - min : (long) max - index;
+        return Math.max(0, remaining);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED | NONNULL;
     }
 
+    /*
+     * Splits off the first half of the remaining range (in the current direction), so encounter order is preserved
+     * whether or not the Spliterator has been reversed.
+     */
     @Override
     public Spliterator.OfInt trySplit() {
-        return this;
+        final long remaining = estimateSize();
+        if (remaining < 2)
+            return null;
+        final int half = (int) (remaining >>> 1);
+        if (!reverse) {
+            final int mid = index + half;
+            final ReversingRangeIntSpliterator prefix = new ReversingRangeIntSpliterator(
+                                                                                      index, index - 1, mid, false);
+            index = mid;
+            min = mid - 1;
+            return prefix;
+        }
+        final int mid = index - half;
+        final ReversingRangeIntSpliterator prefix = new ReversingRangeIntSpliterator(
+                                                                                  index, mid, index + 1, true);
+        index = mid;
+        max = mid + 1;
+        return prefix;
     }
 
     @Override
     public ReversableSpliterator copy() {
         return new ReversingRangeIntSpliterator(
-                                                index, max, reverse);
+                                                index, min, max, reverse);
     }
 
-}
\ No newline at end of file
+}
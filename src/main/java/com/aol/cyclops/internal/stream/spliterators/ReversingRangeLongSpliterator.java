@@ -4,16 +4,16 @@ import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.LongConsumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-@AllArgsConstructor
 public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator {
 
+    //exclusive bounds of the range covered by this Spliterator (min,max)
+    private long min;
+    private long max;
     private long index;
-    private final long min;
-    private final long max;
+
     @Getter
     @Setter
     private boolean reverse;
@@ -25,10 +25,17 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
         index = Math.min(min, max);
     }
 
+    private ReversingRangeLongSpliterator(final long index, final long min, final long max, final boolean reverse) {
+        this.index = index;
+        this.min = min;
+        this.max = max;
+        this.reverse = reverse;
+    }
+
     @Override
     public ReversableSpliterator invert() {
         setReverse(!isReverse());
-        index = max - 1;
+        index = reverse ? max - 1 : min + 1;
         return this;
     }
 
@@ -50,25 +57,54 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
         return false;
     }
 
+    //number of remaining elements, negative if the range is too large to be represented as a long
+    private long remaining() {
+        return reverse ? index - min : max - index;
+    }
+
     @Override
     public long estimateSize() {
-        return max;
+        final long remaining = remaining();
+        return remaining < 0 ? Long.MAX_VALUE : remaining;
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        if (remaining() < 0)
+            return IMMUTABLE | ORDERED | NONNULL;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED | NONNULL;
     }
 
+    /*
+     * Splits off the first half of the remaining range (in the current direction), so encounter order is preserved
+     * whether or not the Spliterator has been reversed.
+     */
     @Override
     public Spliterator.OfLong trySplit() {
-        return this;
+        final long remaining = remaining();
+        if (remaining >= 0 && remaining < 2)
+            return null;
+        final long half = remaining >>> 1;
+        if (!reverse) {
+            final long mid = index + half;
+            final ReversingRangeLongSpliterator prefix = new ReversingRangeLongSpliterator(
+                                                                                      index, index - 1, mid, false);
+            index = mid;
+            min = mid - 1;
+            return prefix;
+        }
+        final long mid = index - half;
+        final ReversingRangeLongSpliterator prefix = new ReversingRangeLongSpliterator(
+                                                                                  index, mid, index + 1, true);
+        index = mid;
+        max = mid + 1;
+        return prefix;
     }
 
     @Override
     public ReversableSpliterator copy() {
         return new ReversingRangeLongSpliterator(
-                                                 index, max, reverse);
+                                                index, min, max, reverse);
     }
 
-}
\ No newline at end of file
+}
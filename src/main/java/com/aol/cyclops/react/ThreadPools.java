@@ -1,6 +1,8 @@
 package com.aol.cyclops.react;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
@@ -28,6 +30,8 @@ public class ThreadPools {
     private static final ScheduledExecutorService commonStanardRetry = Executors.newScheduledThreadPool(Runtime.getRuntime()
                                                                                                                .availableProcessors());
 
+    private static final Method virtualThreadPerTask = virtualThreadPerTaskMethod();
+
     public static enum ExecutionMode {
         CURRENT,
         COMMON_FREE,
@@ -86,4 +90,79 @@ public class ThreadPools {
     public static void setUseCommon(final boolean useCommon) {
         ThreadPools.useCommon = useCommon;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return true if this JVM can run tasks on virtual threads (Executors#newVirtualThreadPerTaskExecutor is available and enabled)
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VirtualThreads.supported;
+    }
+
+    /**
+     * @return Executor that runs each task on a new virtual thread, shared by all virtual thread x-react builders.
+     *         On JVMs without virtual threads an elastic (cached) pool of daemon platform threads is used instead.
+     */
+    public static Executor getVirtualThreadExecutor() {
+        return VirtualThreads.common;
+    }
+
+    /**
+     * @param executor Executor to check
+     * @return true if executor is the shared virtual thread Executor
+     * @see ThreadPools#getVirtualThreadExecutor()
+     */
+    public static boolean isVirtualThreadExecutor(final Executor executor) {
+        return executor == VirtualThreads.common;
+    }
+
+    /**
+     * @return A new Executor that runs each task on a new virtual thread, or where virtual threads are unavailable
+     *         an elastic (cached) pool of daemon platform threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        final ExecutorService virtual = virtualThreadPerTaskExecutor();
+        return virtual != null ? virtual : elasticPlatformExecutor();
+    }
+
+    private static ExecutorService virtualThreadPerTaskExecutor() {
+        if (virtualThreadPerTask == null)
+            return null;
+        try {
+            return (ExecutorService) virtualThreadPerTask.invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null; //e.g. virtual threads are a preview feature that is not enabled
+        }
+    }
+
+    private static ExecutorService elasticPlatformExecutor() {
+        return Executors.newCachedThreadPool(r -> {
+            final Thread t = new Thread(
+                                        r);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /*
+     * Executors#newVirtualThreadPerTaskExecutor is looked up reflectively (alongside Thread#ofVirtual) so this class still
+     * loads on Java 8.
+     */
+    private static Method virtualThreadPerTaskMethod() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /*
+     * The shared Executor is created on first use. Whether virtual threads are supported is only known for certain once it has
+     * been created, as on JDKs where they are a preview feature the methods exist but fail unless the preview is enabled.
+     */
+    private static class VirtualThreads {
+        private static final ExecutorService virtual = virtualThreadPerTaskExecutor();
+        static final boolean supported = virtual != null;
+        static final ExecutorService common = supported ? virtual : elasticPlatformExecutor();
+    }
+}
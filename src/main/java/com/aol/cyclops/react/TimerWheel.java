@@ -0,0 +1,292 @@
+package com.aol.cyclops.react;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timer wheel, a single worker thread runs the expiry of any number of timeouts.
+ *
+ * Timeouts are hashed into a fixed number of buckets by their deadline tick, so scheduling and cancelling a timeout are
+ * constant time operations and the cost of a tick is proportional to the number of timeouts in one bucket. Timeouts fire on
+ * the first tick at or after their deadline, so the timer resolution is the tick duration.
+ *
+ * Tasks are run on the worker thread and should be short (e.g. handing data on to a Queue). The worker thread is a daemon
+ * thread that is started when the first timeout is scheduled, and parks without ticking while no timeouts are scheduled.
+ *
+ * <pre>
+ * {@code
+ *  Timeout timeout = TimerWheel.shared()
+ *                              .schedule(()->System.out.println("fired"),100,TimeUnit.MILLISECONDS);
+ * }
+ * </pre>
+ *
+ * A manual TimerWheel (see {@link #manual(long, TimeUnit, int)}) has no worker thread, its clock only moves forward (and its
+ * timeouts only fire, on the calling thread) when {@link #advance(long, TimeUnit)} is called. This allows time based operators
+ * to be tested deterministically.
+ *
+ */
+public class TimerWheel {
+
+    private static final AtomicLong threadCount = new AtomicLong(
+                                                                 0);
+    private static final TimerWheel SHARED = new TimerWheel(
+                                                            1, TimeUnit.MILLISECONDS, 512);
+
+    private final long tickNanos;
+    private final List<Timeout>[] wheel;
+    private final int mask;
+    private final ConcurrentLinkedQueue<Timeout> added = new ConcurrentLinkedQueue<>();
+    //timeouts scheduled but not yet expired or removed by the worker thread
+    private final AtomicInteger scheduled = new AtomicInteger(
+                                                              0);
+    //null unless this is a manual TimerWheel
+    private final AtomicLong manualNanos;
+    private final long start;
+
+    private volatile Thread worker;
+    private volatile boolean running = true;
+    //the last tick processed, only accessed by the worker thread (or the thread advancing a manual TimerWheel)
+    private long processed = -1;
+
+    /**
+     * @param tick Tick duration (timer resolution)
+     * @param unit Time unit for the tick duration
+     * @param buckets Number of buckets in the wheel (rounded up to a power of 2)
+     */
+    public TimerWheel(final long tick, final TimeUnit unit, final int buckets) {
+        this(tick, unit, buckets, null);
+    }
+
+    private TimerWheel(final long tick, final TimeUnit unit, final int buckets, final AtomicLong manualNanos) {
+        if (tick < 1)
+            throw new IllegalArgumentException(
+                                               "Tick duration must be at least 1, was " + tick);
+        if (buckets < 1)
+            throw new IllegalArgumentException(
+                                               "Number of buckets must be at least 1, was " + buckets);
+        this.tickNanos = unit.toNanos(tick);
+        final int size = Integer.highestOneBit(buckets) == buckets ? buckets : Integer.highestOneBit(buckets) << 1;
+        this.wheel = new List[size];
+        for (int i = 0; i < size; i++)
+            wheel[i] = new ArrayList<>();
+        this.mask = size - 1;
+        this.manualNanos = manualNanos;
+        this.start = nanoTime();
+    }
+
+    /**
+     * Create a TimerWheel whose clock is advanced manually, timeouts fire on the thread calling {@link #advance(long, TimeUnit)}
+     *
+     * <pre>
+     * {@code
+     *  TimerWheel timer = TimerWheel.manual(1,TimeUnit.MILLISECONDS,64);
+     *  timer.schedule(()->System.out.println("fired"),100,TimeUnit.MILLISECONDS);
+     *  timer.advance(100,TimeUnit.MILLISECONDS);
+     *  //fired
+     * }
+     * </pre>
+     *
+     * @param tick Tick duration (timer resolution)
+     * @param unit Time unit for the tick duration
+     * @param buckets Number of buckets in the wheel (rounded up to a power of 2)
+     * @return TimerWheel driven by calls to advance
+     */
+    public static TimerWheel manual(final long tick, final TimeUnit unit, final int buckets) {
+        return new TimerWheel(
+                              tick, unit, buckets, new AtomicLong(
+                                                                  0));
+    }
+
+    /**
+     * @return A TimerWheel with a 1 millisecond tick, shared by the scheduled operators of all Streams
+     */
+    public static TimerWheel shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return Current time of this TimerWheel's clock in nanoseconds, System.nanoTime unless this is a manual TimerWheel
+     */
+    public long nanoTime() {
+        return manualNanos == null ? System.nanoTime() : manualNanos.get();
+    }
+
+    /**
+     * @return true if called from the worker thread of this TimerWheel
+     */
+    public boolean isTimerThread() {
+        return Thread.currentThread() == worker;
+    }
+
+    /**
+     * Move the clock of a manual TimerWheel forward, running (on the calling thread) every timeout that falls due, including
+     * those scheduled by the timeouts run
+     *
+     * @param time Time to move the clock forward by
+     * @param unit Time unit for the time
+     * @throws IllegalStateException if this is not a manual TimerWheel
+     */
+    public synchronized void advance(final long time, final TimeUnit unit) {
+        if (manualNanos == null)
+            throw new IllegalStateException(
+                                            "Only a manual TimerWheel can be advanced");
+        final long target = manualNanos.get() + Math.max(0, unit.toNanos(time));
+        //the clock is moved on a tick at a time, so timeouts see (and schedule further timeouts from) the time they were due
+        while (start + (processed + 1) * tickNanos <= target) {
+            final long next = processed + 1;
+            manualNanos.set(Math.max(manualNanos.get(), start + next * tickNanos));
+            tick(next);
+        }
+        manualNanos.set(target);
+    }
+
+    /**
+     * Run the supplied task once the delay has passed
+     *
+     * @param task Task to run on the worker thread
+     * @param delay Delay before running the task
+     * @param unit Time unit for the delay
+     * @return Timeout that can be used to cancel the task
+     */
+    public Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        if (!running)
+            throw new IllegalStateException(
+                                            "TimerWheel has been stopped");
+        final long deadline = nanoTime() + Math.max(0, unit.toNanos(delay)) - start;
+        final Timeout timeout = new Timeout(
+                                            task, (deadline + tickNanos - 1) / tickNanos);
+        scheduled.incrementAndGet();
+        added.add(timeout);
+        if (manualNanos != null)
+            return timeout;
+        final Thread current = worker;
+        if (current == null)
+            startWorker();
+        else
+            LockSupport.unpark(current);
+        return timeout;
+    }
+
+    /**
+     * Stop the worker thread, pending timeouts will not fire
+     */
+    public void stop() {
+        running = false;
+        final Thread current = worker;
+        if (current != null)
+            LockSupport.unpark(current);
+    }
+
+    private synchronized void startWorker() {
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            return;
+        }
+        final Thread t = new Thread(
+                                    this::run, "cyclops-timer-wheel-" + threadCount.incrementAndGet());
+        t.setDaemon(true);
+        worker = t;
+        t.start();
+    }
+
+    private long currentTick() {
+        return (nanoTime() - start) / tickNanos;
+    }
+
+    private void run() {
+        while (running) {
+            if (scheduled.get() == 0) {
+                LockSupport.park(this);
+                //nothing was scheduled while parked, so there are no missed ticks to catch up on
+                processed = Math.max(processed, currentTick() - 1);
+                continue;
+            }
+            final long next = processed + 1;
+            final long wait = start + next * tickNanos - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+                continue;
+            }
+            tick(next);
+        }
+    }
+
+    private void tick(final long tick) {
+        transferAdded(tick);
+        expire(tick);
+        processed = tick;
+    }
+
+    private void transferAdded(final long tick) {
+        Timeout timeout;
+        while ((timeout = added.poll()) != null) {
+            final long deadlineTick = Math.max(tick, timeout.deadlineTick);
+            timeout.rounds = (deadlineTick - tick) / wheel.length;
+            wheel[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(final long tick) {
+        final List<Timeout> bucket = wheel[(int) (tick & mask)];
+        int retained = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            final Timeout timeout = bucket.get(i);
+            if (timeout.cancelled) {
+                scheduled.decrementAndGet();
+            } else if (timeout.rounds > 0) {
+                timeout.rounds--;
+                bucket.set(retained++, timeout);
+            } else {
+                scheduled.decrementAndGet();
+                timeout.fire();
+            }
+        }
+        for (int i = bucket.size() - 1; i >= retained; i--)
+            bucket.remove(i);
+    }
+
+    /**
+     * A task scheduled on a TimerWheel
+     */
+    public static class Timeout {
+        private final Runnable task;
+        private final long deadlineTick;
+        //full turns of the wheel remaining before expiry, only accessed by the worker thread
+        private long rounds;
+        private volatile boolean cancelled = false;
+
+        private Timeout(final Runnable task, final long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Cancel this Timeout, if it has not already fired its task will not be run
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * @return true if this Timeout has been cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void fire() {
+            try {
+                task.run();
+            } catch (final Throwable t) {
+                final Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler()
+                       .uncaughtException(current, t);
+            }
+        }
+    }
+}
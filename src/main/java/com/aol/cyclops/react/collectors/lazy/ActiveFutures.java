@@ -0,0 +1,140 @@
+package com.aol.cyclops.react.collectors.lazy;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.aol.cyclops.internal.react.async.future.FastFuture;
+
+/**
+ * The futures made active by a lazy collector, in the order they were made active.
+ *
+ * Each future counts itself out when it completes (via FastFuture#track), so the number still running is known without
+ * scanning, and a collector that has hit its MaxActive limit is woken by completing futures rather than re-registering with
+ * all of them. Completed futures are removed from the front as they are reached, if the oldest future is slow to complete
+ * those behind it are compacted out once they outnumber the running futures by the limit.
+ *
+ * Single consumer : only the collector thread calls the methods on this class.
+ *
+ * @param <T> Result type
+ */
+class ActiveFutures<T> {
+
+    private final ArrayDeque<FastFuture<T>> futures = new ArrayDeque<>();
+    private final AtomicInteger completed = new AtomicInteger(
+                                                              0);
+    private int admitted = 0;
+    private volatile Thread waiter;
+    private final Runnable countDown = this::countDown;
+
+    /**
+     * Make a future active
+     *
+     * @param f Future to track
+     * @param maxActive Limits, if adaptive task starts / completions are reported to it
+     */
+    public void add(final FastFuture<T> f, final MaxActive maxActive) {
+        admitted++;
+        futures.add(f);
+        if (maxActive.isAdaptive()) {
+            final long start = System.nanoTime();
+            maxActive.started();
+            f.track(() -> {
+                maxActive.completed(System.nanoTime() - start);
+                countDown();
+            });
+        } else {
+            f.track(countDown);
+        }
+    }
+
+    private void countDown() {
+        completed.incrementAndGet();
+        final Thread w = waiter;
+        if (w != null)
+            LockSupport.unpark(w);
+    }
+
+    /**
+     * @return Number of active futures that have not yet completed
+     */
+    public int running() {
+        return admitted - completed.get();
+    }
+
+    /**
+     * @return Number of futures held (running, or completed but not yet removed)
+     */
+    public int size() {
+        return futures.size();
+    }
+
+    /**
+     * Block the calling thread until no more than the target number of futures are running
+     *
+     * @param target Number of running futures to wait for
+     */
+    public void await(final int target) {
+        if (running() <= target)
+            return;
+        boolean interrupted = false;
+        waiter = Thread.currentThread();
+        try {
+            while (running() > target) {
+                LockSupport.park(this);
+                if (Thread.interrupted())
+                    interrupted = true;
+            }
+        } finally {
+            waiter = null;
+            if (interrupted)
+                Thread.currentThread()
+                      .interrupt();
+        }
+    }
+
+    /**
+     * Remove completed futures from the front, compacting if completed futures are held behind a slow running future
+     *
+     * @param limit Current MaxActive limit
+     * @param done Consumer for completed futures
+     */
+    public void removeCompleted(final int limit, final Consumer<FastFuture<T>> done) {
+        FastFuture<T> next;
+        while ((next = futures.peek()) != null && next.isDone()) {
+            futures.poll();
+            done.accept(next);
+        }
+        if (futures.size() - running() > Math.max(limit, 1)) {
+            final Iterator<FastFuture<T>> it = futures.iterator();
+            while (it.hasNext()) {
+                next = it.next();
+                if (next.isDone()) {
+                    it.remove();
+                    done.accept(next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove all futures (running or completed)
+     *
+     * @param all Consumer for each future, in the order they were made active
+     */
+    public void removeAll(final Consumer<FastFuture<T>> all) {
+        FastFuture<T> next;
+        while ((next = futures.poll()) != null)
+            all.accept(next);
+    }
+
+    /**
+     * @param each Consumer for each future held, in the order they were made active
+     */
+    public void forEach(final Consumer<FastFuture<T>> each) {
+        futures.forEach(each);
+    }
+
+}
@@ -0,0 +1,197 @@
+package com.aol.cyclops.react.collectors.lazy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A MaxActive whose limits tune themselves at runtime from the observed task completion latency and the number of
+ * active tasks, using a gradient algorithm.
+ *
+ * The lazy collectors report each task as it is started and completed. Every window of completed tasks, the mean latency
+ * of the window is compared against a long term (exponentially weighted) average. While latency stays within tolerance of the
+ * long term average the limit grows (by the square root of the current limit per window), once latency rises beyond that the limit
+ * shrinks in proportion to the rise. The limit only changes in windows where the peak number of active tasks reached the saturation
+ * threshold (by default half of the current limit) - while fewer tasks are active the limit is not what holds the Stream back, so
+ * neither latency gains nor losses are attributed to it.
+ *
+ * <pre>
+ * {@code
+ *  new LazyReact(exec).withMaxActive(MaxActive.adaptive())
+ *                     .from(urls)
+ *                     .map(this::load)
+ *                     .forEach(System.out::println);
+ * }
+ * </pre>
+ *
+ * All Streams sharing an AdaptiveMaxActive instance (e.g. those created from the same LazyReact) share the tuned limit.
+ *
+ */
+public class AdaptiveMaxActive extends MaxActive {
+
+    private static final double LONG_TERM_WEIGHT = 0.05;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    /**
+     * Default fraction of the current limit that must have been active at once during a window for the limit to be adjusted
+     */
+    public static final double DEFAULT_SATURATION = 0.5;
+    /**
+     * When the long term average latency is more than SPIKE_RATIO times the latest window's, the long term average is still
+     * inflated by an earlier latency spike, and is additionally decayed by SPIKE_DECAY each window so the limit can grow again
+     * without waiting for the exponentially weighted average to catch up on its own
+     */
+    private static final double SPIKE_RATIO = 2.0;
+    private static final double SPIKE_DECAY = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final int window;
+    private final double saturation;
+
+    private volatile int limit;
+    private final AtomicInteger active = new AtomicInteger(
+                                                           0);
+    private final AtomicInteger peakActive = new AtomicInteger(
+                                                               0);
+    private final LongAdder latencySum = new LongAdder();
+    private final AtomicInteger samples = new AtomicInteger(
+                                                            0);
+    private final AtomicBoolean updating = new AtomicBoolean(
+                                                             false);
+    //only read / written by the thread holding updating
+    private double longTermLatency = 0;
+    private double estimatedLimit;
+
+    /**
+     * Adaptive limit between 1 and 1,000 concurrent tasks, starting at 100 (the same as MaxActive.IO)
+     */
+    public AdaptiveMaxActive() {
+        this(1, 100, 1000);
+    }
+
+    /**
+     * @param minLimit Lowest the limit can fall to
+     * @param initialLimit Starting limit
+     * @param maxLimit Highest the limit can rise to
+     */
+    public AdaptiveMaxActive(final int minLimit, final int initialLimit, final int maxLimit) {
+        this(minLimit, initialLimit, maxLimit, 1.5, 100);
+    }
+
+    /**
+     * @param minLimit Lowest the limit can fall to
+     * @param initialLimit Starting limit
+     * @param maxLimit Highest the limit can rise to
+     * @param tolerance How far (as a multiple of the long term average) latency can rise before the limit shrinks
+     * @param window Number of completed tasks between limit updates
+     */
+    public AdaptiveMaxActive(final int minLimit, final int initialLimit, final int maxLimit, final double tolerance, final int window) {
+        this(minLimit, initialLimit, maxLimit, tolerance, window, DEFAULT_SATURATION);
+    }
+
+    /**
+     * @param minLimit Lowest the limit can fall to
+     * @param initialLimit Starting limit
+     * @param maxLimit Highest the limit can rise to
+     * @param tolerance How far (as a multiple of the long term average) latency can rise before the limit shrinks
+     * @param window Number of completed tasks between limit updates
+     * @param saturation Fraction (greater than 0, at most 1) of the current limit that must have been active at once during a window
+     *            for the limit to be adjusted at the end of it
+     */
+    public AdaptiveMaxActive(final int minLimit, final int initialLimit, final int maxLimit, final double tolerance, final int window,
+            final double saturation) {
+        super(initialLimit, reduceTo(initialLimit));
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit)
+            throw new IllegalArgumentException(
+                                               "Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        if (tolerance < 1.0)
+            throw new IllegalArgumentException(
+                                               "Tolerance must be at least 1.0");
+        if (window < 1)
+            throw new IllegalArgumentException(
+                                               "Window must be at least 1");
+        if (saturation <= 0 || saturation > 1.0)
+            throw new IllegalArgumentException(
+                                               "Saturation must be greater than 0 and at most 1.0");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.window = window;
+        this.saturation = saturation;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    private static int reduceTo(final int limit) {
+        return limit - Math.max(1, limit / 10);
+    }
+
+    /*
+     * @return Current limit
+     * @see com.aol.cyclops.react.collectors.lazy.MaxActive#getMaxActive()
+     */
+    @Override
+    public int getMaxActive() {
+        return limit;
+    }
+
+    /*
+     * @return Active tasks to reduce to once the current limit is exceeded
+     * @see com.aol.cyclops.react.collectors.lazy.MaxActive#getReduceTo()
+     */
+    @Override
+    public int getReduceTo() {
+        return reduceTo(limit);
+    }
+
+    @Override
+    public boolean isAdaptive() {
+        return true;
+    }
+
+    @Override
+    public void started() {
+        final int now = active.incrementAndGet();
+        int peak;
+        while (now > (peak = peakActive.get()) && !peakActive.compareAndSet(peak, now)) {
+        }
+    }
+
+    @Override
+    public void completed(final long latencyNanos) {
+        active.decrementAndGet();
+        latencySum.add(latencyNanos);
+        if (samples.incrementAndGet() >= window && updating.compareAndSet(false, true)) {
+            try {
+                update();
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    private void update() {
+        final int count = samples.getAndSet(0);
+        if (count == 0)
+            return;
+        final double latency = Math.max(1.0, (double) latencySum.sumThenReset() / count);
+        final int peak = peakActive.getAndSet(active.get());
+
+        longTermLatency = longTermLatency == 0 ? latency : longTermLatency * (1 - LONG_TERM_WEIGHT) + latency * LONG_TERM_WEIGHT;
+        if (longTermLatency / latency > SPIKE_RATIO)
+            longTermLatency = longTermLatency * SPIKE_DECAY;
+
+        final int current = limit;
+        if (peak < current * saturation)
+            return; //the limit isn't what is bounding the number of active tasks, so the latency says nothing about it
+
+        final double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longTermLatency / latency));
+        final double next = gradient < 1.0 ? current * gradient : current + Math.sqrt(current);
+        estimatedLimit = estimatedLimit * (1 - SMOOTHING) + next * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+
+}
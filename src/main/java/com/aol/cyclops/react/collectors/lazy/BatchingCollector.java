@@ -1,11 +1,8 @@
 package com.aol.cyclops.react.collectors.lazy;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.aol.cyclops.internal.react.async.future.FastFuture;
 import com.aol.cyclops.types.futurestream.BlockingStream;
@@ -30,11 +27,12 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
     @Getter
     private final Collection<FastFuture<T>> results;
-    private final List<FastFuture<T>> active = new ArrayList<>();
+    private final ActiveFutures<T> active = new ActiveFutures<>();
     @Getter
     private final MaxActive maxActive;
     @Getter
     private final BlockingStream<T> blocking;
+    private final Consumer<FastFuture<T>> addResult = this::addResult;
 
     /**
      * @param maxActive Controls batch size
@@ -51,29 +49,17 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(final FastFuture<T> t) {
 
-        active.add(t);
+        active.add(t, maxActive);
 
-        if (active.size() > maxActive.getMaxActive()) {
+        if (active.running() > maxActive.getMaxActive())
+            active.await(maxActive.getReduceTo());
 
-            while (active.size() > maxActive.getReduceTo()) {
+        active.removeCompleted(maxActive.getMaxActive(), addResult);
 
-                final List<FastFuture<T>> toRemove = active.stream()
-                                                           .filter(cf -> cf.isDone())
-                                                           .collect(Collectors.toList());
-                active.removeAll(toRemove);
-                results.addAll(toRemove);
-                if (active.size() > maxActive.getReduceTo()) {
-                    final CompletableFuture promise = new CompletableFuture();
-                    FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
-                        promise.complete(true);
-                    } , active.toArray(new FastFuture[0]));
-
-                    promise.join();
-                }
-
-            }
-        }
+    }
 
+    private void addResult(final FastFuture<T> f) {
+        results.add(f);
     }
 
     /* (non-Javadoc)
@@ -81,12 +67,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
      */
     @Override
     public void block(final Function<FastFuture<T>, T> safeJoin) {
-        if (active.size() == 0)
-            return;
-        active.stream()
-              .peek(f -> safeJoin.apply(f))
-              .forEach(a -> {
-              });
+        active.forEach(f -> safeJoin.apply(f));
 
     }
 
@@ -105,8 +86,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
      */
     @Override
     public Collection<FastFuture<T>> getAllResults() {
-        results.addAll(active);
-        active.clear();
+        active.removeAll(addResult);
         return results;
     }
 
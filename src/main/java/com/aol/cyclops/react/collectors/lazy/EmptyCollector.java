@@ -2,10 +2,8 @@ package com.aol.cyclops.react.collectors.lazy;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.aol.cyclops.internal.react.async.future.FastFuture;
 
@@ -24,11 +22,12 @@ import lombok.experimental.Wither;
 @AllArgsConstructor
 public class EmptyCollector<T> implements LazyResultConsumer<T> {
 
-    private final List<FastFuture<T>> active = new ArrayList<>();
+    private final ActiveFutures<T> active = new ActiveFutures<>();
     @Getter
     private final MaxActive maxActive;
     @Getter
     private final Function<FastFuture<T>, T> safeJoin;
+    private final Consumer<FastFuture<T>> handleExceptions = this::handleExceptions;
 
     EmptyCollector() {
         maxActive = MaxActive.IO;
@@ -42,35 +41,20 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(final FastFuture<T> t) {
 
-        active.add(t);
+        active.add(t, maxActive);
 
-        if (active.size() > maxActive.getMaxActive()) {
+        if (active.running() > maxActive.getMaxActive())
+            active.await(maxActive.getReduceTo());
 
-            while (active.size() > maxActive.getReduceTo()) {
-
-                final List<FastFuture> toRemove = active.stream()
-                                                        .filter(cf -> cf.isDone())
-                                                        .peek(this::handleExceptions)
-                                                        .collect(Collectors.toList());
-
-                active.removeAll(toRemove);
-                if (active.size() > maxActive.getReduceTo()) {
-                    final CompletableFuture promise = new CompletableFuture();
-                    FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> promise.complete(true), active.toArray(new FastFuture[0]));
-
-                    promise.join();
-                }
-
-            }
-        }
+        active.removeCompleted(maxActive.getMaxActive(), handleExceptions);
 
     }
 
     public void add(final FastFuture<T> t) {
-        active.add(t);
+        active.add(t, maxActive);
     }
 
-    private void handleExceptions(final FastFuture cf) {
+    private void handleExceptions(final FastFuture<T> cf) {
         if (cf.isCompletedExceptionally())
             safeJoin.apply(cf);
     }
@@ -87,12 +71,7 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void block(final Function<FastFuture<T>, T> safeJoin) {
 
-        if (active.size() == 0)
-            return;
-        active.stream()
-              .peek(cf -> safeJoin.apply(cf))
-              .forEach(a -> {
-              });
+        active.forEach(cf -> safeJoin.apply(cf));
 
     }
 
@@ -102,9 +81,7 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
      */
     @Override
     public Collection<FastFuture<T>> getResults() {
-        active.stream()
-              .forEach(cf -> safeJoin.apply(cf));
-        active.clear();
+        active.removeAll(cf -> safeJoin.apply(cf));
         return new ArrayList<>();
     }
 
@@ -118,7 +95,7 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
     }
 
     public boolean hasCapacity(final int i) {
-        return maxActive.getMaxActive() + i > active.size();
+        return maxActive.getMaxActive() + i > active.running();
     }
 
 }
\ No newline at end of file
@@ -37,6 +37,8 @@ public class IncrementalReducer<T> {
     }
 
     public void forEachResults(final Collection<FastFuture<T>> results, final Consumer<? super T> c, final Function<FastFuture, T> safeJoin) {
+        if (results.isEmpty())
+            return;
         final Stream<FastFuture<T>> streamToUse = results.stream();
         streamToUse.map(safeJoin)
                    .filter(v -> v != MissingValue.MISSING_VALUE)
@@ -52,6 +54,8 @@ public class IncrementalReducer<T> {
 
     public T reduceResults(final Collection<FastFuture<T>> results, final Function<FastFuture, T> safeJoin, final T identity,
             final BinaryOperator<T> accumulator) {
+        if (results.isEmpty())
+            return identity;
         final Stream<FastFuture<T>> streamToUse = results.stream();
 
         final T result = streamToUse.map(safeJoin)
@@ -70,6 +74,8 @@ public class IncrementalReducer<T> {
 
     public Optional<T> reduceResults(final Collection<FastFuture<T>> results, final Function<FastFuture, T> safeJoin,
             final BinaryOperator<T> accumulator) {
+        if (results.isEmpty())
+            return Optional.empty();
         final Stream<FastFuture<T>> streamToUse = results.stream();
 
         final Optional<T> result = streamToUse.map(safeJoin)
@@ -96,6 +102,8 @@ public class IncrementalReducer<T> {
 
     public <U> U reduceResults(final Collection<FastFuture<T>> results, final Function<FastFuture, T> safeJoin, final U identity,
             final BiFunction<U, ? super T, U> accumulator, final BinaryOperator<U> combiner) {
+        if (results.isEmpty())
+            return identity;
         final Stream<FastFuture<T>> streamToUse = results.stream();
 
         final U result = streamToUse.map(safeJoin)
@@ -108,6 +116,8 @@ public class IncrementalReducer<T> {
 
     public <U> U reduceResults(final Collection<FastFuture<T>> results, final Function<FastFuture, T> safeJoin, final U identity,
             final BiFunction<U, ? super T, U> accumulator) {
+        if (results.isEmpty())
+            return identity;
         final Stream<FastFuture<T>> streamToUse = results.stream();
 
         final U result = Seq.seq(streamToUse)
@@ -23,5 +23,53 @@ public class MaxActive {
                                                              .availableProcessors() - 1);
     public static final MaxActive SEQUENTIAL = new MaxActive(
                                                              10, 1);
+    /**
+     * Limits for tasks that block on I/O while running on virtual threads, where a blocked task does not hold a platform thread
+     */
+    public static final MaxActive VIRTUAL_THREADS = new MaxActive(
+                                                                  10_000, 9_000);
+
+    /**
+     * @return A new limit that tunes itself from observed task latency, starting at 100 active tasks (between 1 and 1,000)
+     * @see AdaptiveMaxActive
+     */
+    public static MaxActive adaptive() {
+        return new AdaptiveMaxActive();
+    }
+
+    /**
+     * @param minLimit Lowest the limit can fall to
+     * @param initialLimit Starting limit
+     * @param maxLimit Highest the limit can rise to
+     * @return A new limit that tunes itself from observed task latency
+     * @see AdaptiveMaxActive
+     */
+    public static MaxActive adaptive(final int minLimit, final int initialLimit, final int maxLimit) {
+        return new AdaptiveMaxActive(
+                                     minLimit, initialLimit, maxLimit);
+    }
+
+    /**
+     * @return true if the limits change at runtime, in which case collectors report task starts and completions
+     */
+    public boolean isAdaptive() {
+        return false;
+    }
+
+    /**
+     * Called by the lazy collectors when a task is made active (for adaptive limits)
+     */
+    public void started() {
+
+    }
+
+    /**
+     * Called by the lazy collectors when an active task completes (for adaptive limits)
+     * 
+     * @param latencyNanos Time since the task was made active
+     */
+    public void completed(final long latencyNanos) {
+
+    }
 
 }
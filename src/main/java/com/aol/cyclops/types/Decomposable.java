@@ -1,9 +1,8 @@
 package com.aol.cyclops.types;
 
-import java.util.stream.Collectors;
+import java.util.Arrays;
 
 import com.aol.cyclops.internal.invokedynamic.ReflectionCache;
-import com.aol.cyclops.util.ExceptionSoftener;
 
 /**
  * Unapply returns an ordered Iterable of the values of this types fields
@@ -46,27 +45,11 @@ public interface Decomposable {
      */
     @SuppressWarnings("unchecked")
     default <I extends Iterable<?>> I unapply() {
+        final Object instance = unwrap();
+        if (instance instanceof Iterable)
+            return (I) instance;
 
-        if (unwrap() instanceof Iterable)
-            return (I) unwrap();
-        try {
-
-            return (I) ReflectionCache.getFields(unwrap().getClass())
-                                      .stream()
-                                      .map(f -> {
-                                          try {
-
-                                              return f.get(unwrap());
-                                          } catch (final Exception e) {
-                                              throw ExceptionSoftener.throwSoftenedException(e);
-
-                                          }
-                                      })
-                                      .collect(Collectors.toList());
-        } catch (final Exception e) {
-            throw ExceptionSoftener.throwSoftenedException(e);
-
-        }
+        return (I) Arrays.asList(ReflectionCache.getFieldValues(instance));
 
     }
 
@@ -3,6 +3,8 @@ package com.aol.cyclops.types.futurestream;
 import static java.util.Spliterator.ORDERED;
 import static java.util.Spliterators.spliteratorUnknownSize;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -89,6 +91,7 @@ import com.aol.cyclops.types.applicative.zipping.ZippingApplicativable;
 import com.aol.cyclops.types.stream.HotStream;
 import com.aol.cyclops.types.stream.future.FutureOperations;
 import com.aol.cyclops.types.stream.reactive.FutureStreamSynchronousPublisher;
+import com.aol.cyclops.util.stream.Framing;
 import com.nurkiewicz.asyncretry.AsyncRetryExecutor;
 import com.nurkiewicz.asyncretry.RetryExecutor;
 
@@ -870,6 +873,24 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
      */
     public LazyFutureStream<U> maxActive(int concurrentTasks);
 
+    /**
+     * Configure the max active concurrent tasks with a MaxActive, e.g. one that tunes itself at runtime. The last set value wins, this can't be set per stage.
+     *
+     * <pre>
+     *    {@code
+     *    	List<String> data = new LazyReact().react(urlFile)
+     *    										.maxActive(MaxActive.adaptive())
+     *    										.flatMap(this::loadUrls)
+     *    										.map(this::callUrls)
+     *    										.block();
+     *    }
+     * </pre>
+     *
+     * @param maxActive Limits on active task chains
+     * @return LazyFutureStream with new limits set
+     */
+    public LazyFutureStream<U> maxActive(MaxActive maxActive);
+
     /*
      * Equivalent functionally to map / then but always applied on the completing thread (from the previous stage)
      *
@@ -2905,6 +2926,15 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
                                      .flatMapStream(fn));
     }
 
+    /*
+     * @see com.aol.cyclops.control.ReactiveSeq#flatMapMappedFile(java.util.function.Function, com.aol.cyclops.util.stream.Framing)
+     */
+    @Override
+    default LazyFutureStream<ByteBuffer> flatMapMappedFile(final Function<? super U, Path> fn, final Framing framing) {
+        return fromStream(ReactiveSeq.fromStream(toQueue().stream(getSubscription()))
+                                     .flatMapMappedFile(fn, framing));
+    }
+
     /*
      * @see com.aol.cyclops.control.ReactiveSeq#toLazyCollection()
      */
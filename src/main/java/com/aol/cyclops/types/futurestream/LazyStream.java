@@ -3,6 +3,8 @@ package com.aol.cyclops.types.futurestream;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -17,6 +19,7 @@ import com.aol.cyclops.internal.react.exceptions.SimpleReactProcessingException;
 import com.aol.cyclops.internal.react.stream.LazyStreamWrapper;
 import com.aol.cyclops.internal.react.stream.MissingValue;
 import com.aol.cyclops.internal.react.stream.Runner;
+import com.aol.cyclops.react.ThreadPools;
 import com.aol.cyclops.react.collectors.lazy.EmptyCollector;
 import com.aol.cyclops.react.collectors.lazy.IncrementalReducer;
 import com.aol.cyclops.react.collectors.lazy.LazyResultConsumer;
@@ -37,14 +40,20 @@ public interface LazyStream<U> extends BlockingStream<U> {
 
     public Iterator<U> iterator();
 
+    Executor getTaskExecutor();
+
     /**
      * Trigger a lazy stream as a task on the provided Executor
      * 
-     *
-     * 
+     * Streams running on virtual threads are run on a virtual thread of their own, otherwise a sequential x-react builder
+     * is borrowed from SequentialElasticPools to run the Stream.
      * 
      */
     default void run() {
+        if (ThreadPools.isVirtualThreadExecutor(getTaskExecutor())) {
+            CompletableFuture.runAsync(() -> run(new NonCollector<>()), getTaskExecutor());
+            return;
+        }
         final SimpleReact reactor = SequentialElasticPools.simpleReact.nextReactor();
         reactor.ofAsync(() -> run(new NonCollector<>()))
                .peek(n -> SequentialElasticPools.simpleReact.populate(reactor))
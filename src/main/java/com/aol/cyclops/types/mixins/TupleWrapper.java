@@ -1,10 +1,9 @@
 package com.aol.cyclops.types.mixins;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.aol.cyclops.internal.invokedynamic.ReflectionCache;
-import com.aol.cyclops.util.ExceptionSoftener;
 @Deprecated //internal interface - move in 2.0.0
 public interface TupleWrapper {
 
@@ -13,22 +12,6 @@ public interface TupleWrapper {
     @SuppressWarnings("unchecked")
     default List<Object> values() {
 
-        try {
-            return ReflectionCache.getFields(getInstance().getClass())
-                                  .stream()
-                                  .map(f -> {
-                                      try {
-
-                                          return f.get(getInstance());
-                                      } catch (final Exception e) {
-                                          ExceptionSoftener.throwSoftenedException(e);
-                                          return null;
-                                      }
-                                  })
-                                  .collect(Collectors.toList());
-        } catch (final Exception e) {
-            throw ExceptionSoftener.throwSoftenedException(e);
-
-        }
+        return Arrays.asList(ReflectionCache.getFieldValues(getInstance()));
     }
 }
\ No newline at end of file
@@ -3,7 +3,6 @@ package com.aol.cyclops.types.stream.lazy;
 import java.util.DoubleSummaryStatistics;
 import java.util.OptionalDouble;
 import java.util.function.ToDoubleFunction;
-import java.util.stream.DoubleStream;
 
 import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.types.stream.HasStream;
@@ -17,7 +16,7 @@ public interface DoubleOperatorsMixin<T> extends DoubleOperators<T>, HasStream<T
     @Override
     default Eval<Double> sumDouble(final ToDoubleFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToDouble(t -> DoubleStream.of(fn.applyAsDouble(t)))
+        return Eval.later(() -> getStream().mapToDouble(fn)
                                            .sum());
 
     }
@@ -30,7 +29,7 @@ public interface DoubleOperatorsMixin<T> extends DoubleOperators<T>, HasStream<T
     @Override
     default Eval<OptionalDouble> maxDouble(final ToDoubleFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToDouble(t -> DoubleStream.of(fn.applyAsDouble(t)))
+        return Eval.later(() -> getStream().mapToDouble(fn)
                                            .max());
 
     }
@@ -43,7 +42,7 @@ public interface DoubleOperatorsMixin<T> extends DoubleOperators<T>, HasStream<T
     @Override
     default Eval<OptionalDouble> minDouble(final ToDoubleFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToDouble(t -> DoubleStream.of(fn.applyAsDouble(t)))
+        return Eval.later(() -> getStream().mapToDouble(fn)
                                            .min());
 
     }
@@ -56,7 +55,7 @@ public interface DoubleOperatorsMixin<T> extends DoubleOperators<T>, HasStream<T
     @Override
     default Eval<OptionalDouble> averageDouble(final ToDoubleFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToDouble(t -> DoubleStream.of(fn.applyAsDouble(t)))
+        return Eval.later(() -> getStream().mapToDouble(fn)
                                            .average());
 
     }
@@ -69,7 +68,7 @@ public interface DoubleOperatorsMixin<T> extends DoubleOperators<T>, HasStream<T
     @Override
     default Eval<DoubleSummaryStatistics> summaryStatisticsDouble(final ToDoubleFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToDouble(t -> DoubleStream.of(fn.applyAsDouble(t)))
+        return Eval.later(() -> getStream().mapToDouble(fn)
                                            .summaryStatistics());
 
     }
@@ -4,7 +4,6 @@ import java.util.IntSummaryStatistics;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.function.ToIntFunction;
-import java.util.stream.IntStream;
 
 import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.types.stream.HasStream;
@@ -19,7 +18,7 @@ public interface IntOperatorsMixin<T> extends IntOperators<T>, HasStream<T> {
     @Override
     default Eval<Integer> sumInt(final ToIntFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToInt(t -> IntStream.of(fn.applyAsInt(t)))
+        return Eval.later(() -> getStream().mapToInt(fn)
                                            .sum());
 
     }
@@ -32,7 +31,7 @@ public interface IntOperatorsMixin<T> extends IntOperators<T>, HasStream<T> {
     @Override
     default Eval<OptionalInt> maxInt(final ToIntFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToInt(t -> IntStream.of(fn.applyAsInt(t)))
+        return Eval.later(() -> getStream().mapToInt(fn)
                                            .max());
 
     }
@@ -45,7 +44,7 @@ public interface IntOperatorsMixin<T> extends IntOperators<T>, HasStream<T> {
     @Override
     default Eval<OptionalInt> minInt(final ToIntFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToInt(t -> IntStream.of(fn.applyAsInt(t)))
+        return Eval.later(() -> getStream().mapToInt(fn)
                                            .min());
 
     }
@@ -58,7 +57,7 @@ public interface IntOperatorsMixin<T> extends IntOperators<T>, HasStream<T> {
     @Override
     default Eval<OptionalDouble> averageInt(final ToIntFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToInt(t -> IntStream.of(fn.applyAsInt(t)))
+        return Eval.later(() -> getStream().mapToInt(fn)
                                            .average());
 
     }
@@ -71,7 +70,7 @@ public interface IntOperatorsMixin<T> extends IntOperators<T>, HasStream<T> {
     @Override
     default Eval<IntSummaryStatistics> summaryStatisticsInt(final ToIntFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToInt(t -> IntStream.of(fn.applyAsInt(t)))
+        return Eval.later(() -> getStream().mapToInt(fn)
                                            .summaryStatistics());
 
     }
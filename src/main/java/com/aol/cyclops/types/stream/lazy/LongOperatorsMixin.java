@@ -4,7 +4,6 @@ import java.util.LongSummaryStatistics;
 import java.util.OptionalDouble;
 import java.util.OptionalLong;
 import java.util.function.ToLongFunction;
-import java.util.stream.LongStream;
 
 import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.types.stream.HasStream;
@@ -19,7 +18,7 @@ public interface LongOperatorsMixin<T> extends LongOperators<T>, HasStream<T> {
     @Override
     default Eval<Long> sumLong(final ToLongFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToLong(t -> LongStream.of(fn.applyAsLong(t)))
+        return Eval.later(() -> getStream().mapToLong(fn)
                                            .sum());
 
     }
@@ -32,7 +31,7 @@ public interface LongOperatorsMixin<T> extends LongOperators<T>, HasStream<T> {
     @Override
     default Eval<OptionalLong> maxLong(final ToLongFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToLong(t -> LongStream.of(fn.applyAsLong(t)))
+        return Eval.later(() -> getStream().mapToLong(fn)
                                            .max());
 
     }
@@ -45,7 +44,7 @@ public interface LongOperatorsMixin<T> extends LongOperators<T>, HasStream<T> {
     @Override
     default Eval<OptionalLong> minLong(final ToLongFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToLong(t -> LongStream.of(fn.applyAsLong(t)))
+        return Eval.later(() -> getStream().mapToLong(fn)
                                            .min());
 
     }
@@ -58,7 +57,7 @@ public interface LongOperatorsMixin<T> extends LongOperators<T>, HasStream<T> {
     @Override
     default Eval<OptionalDouble> averageLong(final ToLongFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToLong(t -> LongStream.of(fn.applyAsLong(t)))
+        return Eval.later(() -> getStream().mapToLong(fn)
                                            .average());
 
     }
@@ -71,7 +70,7 @@ public interface LongOperatorsMixin<T> extends LongOperators<T>, HasStream<T> {
     @Override
     default Eval<LongSummaryStatistics> summaryStatisticsLong(final ToLongFunction<? super T> fn) {
 
-        return Eval.later(() -> getStream().flatMapToLong(t -> LongStream.of(fn.applyAsLong(t)))
+        return Eval.later(() -> getStream().mapToLong(fn)
                                            .summaryStatistics());
 
     }
@@ -2,9 +2,10 @@ package com.aol.cyclops.types.stream.reactive;
 
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -54,9 +55,11 @@ public interface FutureStreamSynchronousPublisher<T> extends Publisher<T> {
                 volatile boolean complete = false;
 
                 volatile boolean cancelled = false;
-                final LinkedList<Long> requests = new LinkedList<Long>();
-
-                boolean active = false;
+                final AtomicLong demand = new AtomicLong(
+                                                         0);
+                final AtomicInteger wip = new AtomicInteger(
+                                                            0);
+                final List<CompletableFuture> results = new ArrayList<>();
 
                 private void handleNext(final T data) {
                     if (!cancelled) {
@@ -65,48 +68,56 @@ public interface FutureStreamSynchronousPublisher<T> extends Publisher<T> {
 
                 }
 
+                /*
+                 * Requests accumulate into a single demand counter (Long.MAX_VALUE is unbounded), the thread that finds no other
+                 * thread emitting drains the demand in a loop - including demand added re-entrantly from onNext or concurrently
+                 * from other threads - rather than queuing and draining each request in turn.
+                 */
                 @Override
                 public void request(final long n) {
 
                     if (n < 1) {
                         s.onError(new IllegalArgumentException(
                                                                "3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                        return;
                     }
-                    requests.add(n);
-
-                    final List<CompletableFuture> results = new ArrayList<>();
-                    if (active) {
+                    long current;
+                    long next;
+                    do {
+                        current = demand.get();
+                        if (current == Long.MAX_VALUE)
+                            break;
+                        next = current + n;
+                        if (next < 0)
+                            next = Long.MAX_VALUE;
+                    } while (!demand.compareAndSet(current, next));
+
+                    if (wip.getAndIncrement() != 0) {
 
                         return;
                     }
-                    active = true;
-
-                    try {
-
-                        while (!cancelled && requests.size() > 0) {
-                            final long n2 = requests.peek();
-
-                            for (int i = 0; i < n2; i++) {
-                                try {
-
-                                    if (it.hasNext()) {
-                                        handleNext(s, it, results);
-
-                                    } else {
-                                        handleComplete(results, s);
-                                        break;
-                                    }
-                                } catch (final Throwable t) {
-                                    s.onError(t);
+                    int missed = 1;
+                    do {
+                        final long requested = demand.get();
+                        long emitted = 0;
+                        while (emitted != requested && !cancelled && !complete) {
+                            try {
+
+                                if (it.hasNext()) {
+                                    handleNext(s, it, results);
+
+                                } else {
+                                    handleComplete(results, s);
                                 }
-
+                            } catch (final Throwable t) {
+                                s.onError(t);
                             }
-                            requests.pop();
+                            emitted++;
                         }
-
-                    } finally {
-                        active = false;
-                    }
+                        if (emitted != 0 && requested != Long.MAX_VALUE)
+                            demand.addAndGet(-emitted);
+                        missed = wip.addAndGet(-missed);
+                    } while (missed != 0);
 
                 }
 
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
@@ -19,6 +20,7 @@ import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.async.Queue;
 import com.aol.cyclops.data.async.Queue.ClosedQueueException;
+import com.aol.cyclops.data.async.Queue.QueueTimeoutException;
 import com.aol.cyclops.data.async.QueueFactory;
 import com.aol.cyclops.data.collections.extensions.standard.QueueX;
 import com.aol.cyclops.react.async.subscription.Continueable;
@@ -103,6 +105,9 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
     private volatile Consumer<Throwable> errorHandler;
 
     private final Counter counter;
+    //elements requested from this subscription and not yet received
+    private final AtomicLong demand = new AtomicLong(
+                                                     0);
 
     public QueueBasedSubscriber(final Counter counter, final int maxConcurrency) {
         this.maxConcurrency = maxConcurrency;
@@ -112,7 +117,7 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
         queue = new Queue<T>() {
             @Override
             public T get() {
-                counter.subscription.forEach(s -> s.request(1));
+                counter.consumed(this);
 
                 return super.get();
             }
@@ -134,7 +139,7 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
                                   factory) {
             @Override
             public T get() {
-                counter.subscription.forEach(s -> s.request(1));
+                counter.consumed(this);
 
                 return super.get();
             }
@@ -180,16 +185,36 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
 
         subscription = s;
 
-        while (counter.subscription.size() > maxConcurrency) {
+        while (counter.subscribers.size() > maxConcurrency) {
 
             LockSupport.parkNanos(100l); 
         }
-        counter.subscription.plus(subscription);
+        counter.subscribers.plus(this);
 
-        s.request(1);
+        requestMore();
 
     }
 
+    /**
+     * Top up the demand from this subscription to the Counter's prefetch, limited to the free capacity of the Queue not already
+     * promised to other subscriptions sharing it (so that elements can always be added without blocking or being dropped)
+     */
+    void requestMore() {
+        final Subscription s = subscription;
+        if (s == null)
+            return;
+        long n;
+        long promised;
+        do {
+            promised = counter.outstanding.get();
+            n = Math.min(counter.prefetch - demand.get(), queue.remainingCapacity() - promised);
+            if (n <= 0)
+                return;
+        } while (!counter.outstanding.compareAndSet(promised, promised + n));
+        demand.addAndGet(n);
+        s.request(n);
+    }
+
     /* (non-Javadoc)
      * @see org.reactivestreams.Subscriber#onNext(java.lang.Object)
      */
@@ -197,11 +222,30 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
     public void onNext(final T t) {
 
         Objects.requireNonNull(t);
-        queue.add(t);
-        counter.added++;
+        demand.decrementAndGet();
+        counter.outstanding.decrementAndGet();
+        if (queue.add(t) || offer(t))
+            counter.added++;
 
     }
 
+    /*
+     * Demand never exceeds the free capacity of the Queue, but other writers to a shared Queue can still fill it first. Wait for space
+     * (up to the Queue's offer timeout) rather than dropping the element, and cancel the subscription if the Queue is closed or the
+     * wait times out.
+     */
+    private boolean offer(final T t) {
+        try {
+            if (queue.offer(t))
+                return true;
+            subscription.cancel();
+            onError(new QueueTimeoutException());
+        } catch (final ClosedQueueException e) {
+            subscription.cancel();
+        }
+        return false;
+    }
+
     /* (non-Javadoc)
      * @see org.reactivestreams.Subscriber#onError(java.lang.Throwable)
      */
@@ -209,6 +253,7 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
     public void onError(final Throwable t) {
 
         Objects.requireNonNull(t);
+        counter.outstanding.addAndGet(-demand.getAndSet(0));
         if (stream != null)
             ((Consumer) stream.getErrorHandler()
                               .orElse((Consumer) h -> {
@@ -218,14 +263,61 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
 
     }
 
+    /**
+     * Tracks the subscriptions feeding a Queue, and the demand signalled to them.
+     * 
+     * Each subscription is sent an initial request for up to prefetch elements, as elements are taken from the Queue further demand
+     * is requested in batches (once three quarters of the prefetch has been taken, or the Queue has been emptied) rather than one
+     * element at a time. Outstanding demand across all subscriptions is capped at the free capacity of a bounded Queue, so
+     * published elements always fit.
+     */
     public static class Counter {
+        /**
+         * Elements requested up front from each subscription
+         */
+        public static final int DEFAULT_PREFETCH = 32;
+
         public AtomicLong active = new AtomicLong(
                                                   0);
         volatile boolean completable = false;
-        final QueueX<Subscription> subscription = QueueX.fromIterable(Collectors.toCollection(() -> new ConcurrentLinkedQueue<Subscription>()),
-                                                                      Arrays.<Subscription> asList());
+        final QueueX<QueueBasedSubscriber<?>> subscribers = QueueX.fromIterable(Collectors.toCollection(() -> new ConcurrentLinkedQueue<QueueBasedSubscriber<?>>()),
+                                                                                Arrays.<QueueBasedSubscriber<?>> asList());
         volatile boolean closed = false;
         volatile int added = 0;
+        final int prefetch;
+        private final int limit;
+        private final AtomicInteger consumed = new AtomicInteger(
+                                                                 0);
+        //elements requested from all subscriptions and not yet received
+        final AtomicLong outstanding = new AtomicLong(
+                                                      0);
+
+        public Counter() {
+            this(DEFAULT_PREFETCH);
+        }
+
+        /**
+         * @param prefetch Elements to request up front from each subscription (1 requests each element as the previous is taken)
+         */
+        public Counter(final int prefetch) {
+            if (prefetch < 1)
+                throw new IllegalArgumentException(
+                                                   "Prefetch must be at least 1");
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        /**
+         * Record an element being taken from the Queue, replenishing demand from each subscription once a batch has been taken
+         * (or the Queue is empty, as a bounded Queue can be smaller than a batch)
+         * 
+         * @param queue Queue being taken from
+         */
+        void consumed(final Queue<?> queue) {
+            final int taken = consumed.incrementAndGet();
+            if ((taken >= limit || queue.size() == 0) && consumed.compareAndSet(taken, 0))
+                subscribers.forEach(QueueBasedSubscriber::requestMore);
+        }
     }
 
     /* (non-Javadoc)
@@ -235,7 +327,8 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
     public void onComplete() {
 
         counter.active.decrementAndGet();
-        counter.subscription.minus(subscription);
+        counter.subscribers.minus(this);
+        counter.outstanding.addAndGet(-demand.getAndSet(0)); //never going to arrive
         if (queue != null && counter.active.get() == 0) {
 
             if (counter.completable) {
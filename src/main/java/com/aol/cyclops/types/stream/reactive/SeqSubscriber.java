@@ -4,6 +4,7 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
@@ -34,36 +35,64 @@ import com.aol.cyclops.util.ExceptionSoftener;
  */
 public class SeqSubscriber<T> implements Subscriber<T>, Supplier<T>, ConvertableSequence<T> {
 
+    /**
+     * Prefetch used when a Publisher is bridged into a FutureStream (LazyReact / SimpleReact#fromPublisher)
+     */
+    public static final int BATCH_PREFETCH = 256;
+
     private final Object UNSET = new Object();
-    private final AtomicReference lastValue = new AtomicReference(
-                                                                  UNSET);
+    private final ConcurrentLinkedQueue<T> buffer = new ConcurrentLinkedQueue<>();
     private final AtomicReference lastError = new AtomicReference(
                                                                   UNSET);
     private final Runnable onComplete;
+    private final int prefetch;
+    private final int limit;
     private volatile boolean complete = false;
-    private volatile boolean unread = false;
     private volatile Subscription s;
+    private volatile Thread waiter;
+    //only accessed by the consuming thread
+    private Object next = UNSET;
+    private int consumed = 0;
 
     protected SeqSubscriber() {
-        this.onComplete = () -> {
-        };
+        this(() -> {
+        }, 1);
     }
 
-    private SeqSubscriber(final Runnable onComplete) {
+    private SeqSubscriber(final Runnable onComplete, final int prefetch) {
         super();
+        if (prefetch < 1)
+            throw new IllegalArgumentException(
+                                               "Prefetch must be at least 1");
         this.onComplete = onComplete;
+        this.prefetch = prefetch;
+        this.limit = prefetch - (prefetch >> 2);
     }
 
     public static <T> SeqSubscriber<T> subscriber(final Runnable onComplete) {
         return new SeqSubscriber<>(
-                                   onComplete);
+                                   onComplete, 1);
     }
 
     public static <T> SeqSubscriber<T> subscriber() {
 
         return new SeqSubscriber<>(
                                    () -> {
-                                   });
+                                   }, 1);
+    }
+
+    /**
+     * Create a SeqSubscriber that requests prefetch elements up front, and requests more in batches (once three quarters of the
+     * prefetched elements have been read) rather than one element at a time. Elements requested but not read are buffered
+     * by the Subscriber, so this is best suited to Publishers that will be read to completion.
+     * 
+     * @param prefetch Number of elements to request up front
+     * @return SeqSubscriber
+     */
+    public static <T> SeqSubscriber<T> subscriber(final int prefetch) {
+        return new SeqSubscriber<>(
+                                   () -> {
+                                   }, prefetch);
     }
 
     @Override
@@ -71,7 +100,7 @@ public class SeqSubscriber<T> implements Subscriber<T>, Supplier<T>, Convertable
         Objects.requireNonNull(s);
         if (this.s == null) {
             this.s = s;
-            s.request(1);
+            s.request(prefetch);
         } else
             s.cancel();
 
@@ -79,81 +108,91 @@ public class SeqSubscriber<T> implements Subscriber<T>, Supplier<T>, Convertable
 
     @Override
     public void onNext(final T t) {
-        unread = true;
         Objects.requireNonNull(t);
-        lastValue.set(t);
+        buffer.offer(t);
+        signal();
     }
 
     @Override
     public void onError(final Throwable t) {
         Objects.requireNonNull(t);
         lastError.set(t);
+        signal();
     }
 
     @Override
     public void onComplete() {
         complete = true;
         this.onComplete.run();
+        signal();
+
+    }
 
+    private void signal() {
+        final Thread w = waiter;
+        if (w != null)
+            LockSupport.unpark(w);
     }
 
     @Override
     public T get() {
-        try {
-            while (lastValue.get() == UNSET && lastError.get() == UNSET)
-                LockSupport.parkNanos(1000000l);
-            if (lastError.get() != UNSET) {
-                final Throwable toThrow = (Throwable) lastError.get();
-                reset();
+        final Object result = peekNext();
+        return result == UNSET ? null : (T) result;
 
-                throw ExceptionSoftener.throwSoftenedException(toThrow);
-            }
-            final T result = (T) lastValue.get();
-
-            return result;
-        } finally {
-            unread = false;
-        }
+    }
 
+    private Object peekNext() {
+        if (next == UNSET)
+            next = take();
+        return next;
     }
 
-    private void reset() {
-        lastValue.set(UNSET);
-        lastError.set(UNSET);
+    private Object take() {
+        if (consumed >= limit) {
+            final int n = consumed;
+            consumed = 0;
+            s.request(n);
+        }
+        T value;
+        while ((value = buffer.poll()) == null) {
+            if (lastError.get() != UNSET) {
+                final Throwable toThrow = (Throwable) lastError.getAndSet(UNSET);
+                complete = true; //onError is terminal
+                throw ExceptionSoftener.throwSoftenedException(toThrow);
+            }
+            if (complete) {
+                value = buffer.poll();
+                if (value == null)
+                    return UNSET;
+                break;
+            }
+            //publish the waiter before re-checking: a signal() racing with the checks either sees the waiter and unparks it,
+            //or its data / error / completion was written before the checks read it, so no timed wake up is needed
+            waiter = Thread.currentThread();
+            if (buffer.isEmpty() && lastError.get() == UNSET && !complete)
+                LockSupport.park(this);
+            waiter = null;
+        }
+        consumed++;
+        return value;
     }
 
     @Override
     public Iterator<T> iterator() {
         return new Iterator<T>() {
-            boolean requested = true;
-            Object next = complete ? UNSET : get();
 
             @Override
             public boolean hasNext() {
-                if (!requested) {
-                    reset();
-                    s.request(1l);
-                    requested = true;
-                    if (unread)
-                        next = get();
-                    else
-                        next = UNSET;
-
-                }
-                return next != UNSET;
+                return peekNext() != UNSET;
             }
 
             @Override
             public T next() {
-                if (!requested) {
-                    if (!hasNext()) {
-                        throw new NoSuchElementException();
-                    }
-                }
-                if (next == UNSET)
+                final Object result = peekNext();
+                if (result == UNSET)
                     throw new NoSuchElementException();
-                requested = false;
-                return (T) next;
+                next = UNSET;
+                return (T) result;
             }
 
         };
@@ -162,21 +201,15 @@ public class SeqSubscriber<T> implements Subscriber<T>, Supplier<T>, Convertable
     @Override
     public Spliterator<T> spliterator() {
         return new Spliterator<T>() {
-            boolean requested = true;
 
             @Override
             public boolean tryAdvance(final Consumer<? super T> action) {
-                if (!requested)
-                    s.request(1l);
-                else
-                    requested = false;
-                final Object next = complete ? !unread ? UNSET : get() : get();
-
-                if (next != UNSET) {
-                    action.accept((T) next);
-                    return true;
-                }
-                return false;
+                final Object result = peekNext();
+                if (result == UNSET)
+                    return false;
+                next = UNSET;
+                action.accept((T) result);
+                return true;
 
             }
 
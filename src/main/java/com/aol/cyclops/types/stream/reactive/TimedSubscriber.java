@@ -0,0 +1,773 @@
+package com.aol.cyclops.types.stream.reactive;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.react.ThreadPools;
+import com.aol.cyclops.react.TimerWheel;
+import com.aol.cyclops.react.TimerWheel.Timeout;
+
+/**
+ * A reactive-streams Subscriber that applies a time based operator (debounce, onePer, xPer, fixedDelay, jitter or batching by
+ * time) to the data pushed to it, driven by a {@link TimerWheel} rather than by the consuming thread.
+ *
+ * Unlike the pull based equivalents on ReactiveSeq, no thread is parked or put to sleep while waiting for the next emission,
+ * and pending emissions (the latest debounced value, a partially filled time batch) are made when their time is due, even if
+ * no further data arrives. Any number of TimedSubscribers share the single worker thread of a TimerWheel.
+ *
+ * Data may be pushed by subscribing to a Publisher, or by calling onNext / onComplete directly (serially, as per the
+ * reactive-streams rules). A TimedSubscriber is also a Publisher (of a single Subscriber) of the data it emits, which is pushed
+ * to its Subscriber from the thread that emits it (typically the TimerWheel's), without holding any lock. Results can also be
+ * consumed as a ReactiveSeq, on any thread.
+ *
+ * Data is requested from the upstream Subscription in batches of at most {@link #PREFETCH} elements, and only while the
+ * downstream Subscriber has outstanding demand. Elements received but not yet emitted (e.g. those buffered to be paced out)
+ * count against the batch, so the data held by a TimedSubscriber is bounded. Requests are made on the thread whose action
+ * freed up space (usually the consuming thread), those that fall due on the TimerWheel's worker thread are handed to
+ * {@link ThreadPools#getVirtualThreadExecutor()}, so a Publisher that blocks while producing data holds neither the worker
+ * thread nor a thread of a shared pool.
+ *
+ * <pre>
+ * {@code
+ *  TimedSubscriber<Event,List<Event>> batcher = TimedSubscriber.groupedByTime(100,TimeUnit.MILLISECONDS);
+ *  publisher.subscribe(batcher);
+ *
+ *  batcher.stream()
+ *         .forEach(this::save);
+ * }
+ * </pre>
+ *
+ * @param <T> Type of data pushed to this Subscriber
+ * @param <R> Type of data emitted
+ */
+public abstract class TimedSubscriber<T, R> implements Subscriber<T>, Publisher<R> {
+
+    /**
+     * Maximum number of elements requested from the upstream Subscription but not yet emitted
+     */
+    public static final int PREFETCH = 32;
+    //requests are made once at least a quarter of the prefetch is free
+    private static final int REPLENISH = PREFETCH / 4;
+    //requests that fall due on the TimerWheel's worker thread are made from here, so a synchronous Publisher isn't run on it
+    private static final Executor REQUESTS = ThreadPools.getVirtualThreadExecutor();
+    private static final Object COMPLETE = new Object();
+
+    protected final TimerWheel timer;
+    private volatile Subscription subscription;
+    //requests not yet made to the upstream Subscription, requests are made by one thread at a time (the one that increments requesting from 0)
+    private final AtomicLong pendingRequests = new AtomicLong(
+                                                             0);
+    private final AtomicInteger requesting = new AtomicInteger(
+                                                               0);
+    //signals are pushed downstream by one thread at a time (the one that increments delivering from 0), outside the lock
+    private final AtomicInteger delivering = new AtomicInteger(
+                                                               0);
+
+    //the remaining fields are guarded by the lock on this Subscriber
+    private boolean done = false;
+    private boolean upstreamTerminated = false;
+    //requested from upstream, but not yet received
+    private long outstanding = 0;
+    private final ArrayDeque<R> ready = new ArrayDeque<>();
+    private boolean subscribed = false;
+    private Subscriber<? super R> downstream;
+    private long demand = 0;
+    private boolean cancelled = false;
+    //COMPLETE or the error to signal downstream once ready has been drained
+    private Object terminal;
+    private boolean terminated = false;
+
+    protected TimedSubscriber(final TimerWheel timer) {
+        this.timer = timer;
+    }
+
+    /**
+     * At most one element is emitted per time period, if further elements arrive within a period the most recent is emitted
+     * at the end of that period. An element still held back when the upstream completes is emitted on completion.
+     *
+     * @param time Debounce period
+     * @param t Time unit for the debounce period
+     * @return Debouncing TimedSubscriber using the shared TimerWheel
+     */
+    public static <T> TimedSubscriber<T, T> debounce(final long time, final TimeUnit t) {
+        return debounce(TimerWheel.shared(), time, t);
+    }
+
+    /**
+     * @see #debounce(long, TimeUnit)
+     */
+    public static <T> TimedSubscriber<T, T> debounce(final TimerWheel timer, final long time, final TimeUnit t) {
+        return new Debounce<>(
+                              timer, t.toNanos(time));
+    }
+
+    /**
+     * Emit one element per time period, elements that arrive faster are buffered
+     *
+     * @param time Period
+     * @param t Time unit for the period
+     * @return Rate limiting TimedSubscriber using the shared TimerWheel
+     */
+    public static <T> TimedSubscriber<T, T> onePer(final long time, final TimeUnit t) {
+        return onePer(TimerWheel.shared(), time, t);
+    }
+
+    /**
+     * @see #onePer(long, TimeUnit)
+     */
+    public static <T> TimedSubscriber<T, T> onePer(final TimerWheel timer, final long time, final TimeUnit t) {
+        final long period = t.toNanos(time);
+        return new Paced<>(
+                           timer, new Pacer() {
+                               boolean emitted = false;
+                               long last;
+
+                               @Override
+                               public long due(final long now) {
+                                   return emitted ? Math.max(now, last + period) : now;
+                               }
+
+                               @Override
+                               public void emitted(final long now) {
+                                   emitted = true;
+                                   last = now;
+                               }
+                           });
+    }
+
+    /**
+     * Emit at most x elements per time period, elements that arrive faster are buffered
+     *
+     * @param x Number of elements per period
+     * @param time Period
+     * @param t Time unit for the period
+     * @return Rate limiting TimedSubscriber using the shared TimerWheel
+     */
+    public static <T> TimedSubscriber<T, T> xPer(final int x, final long time, final TimeUnit t) {
+        return xPer(TimerWheel.shared(), x, time, t);
+    }
+
+    /**
+     * @see #xPer(int, long, TimeUnit)
+     */
+    public static <T> TimedSubscriber<T, T> xPer(final TimerWheel timer, final int x, final long time, final TimeUnit t) {
+        final long period = t.toNanos(time);
+        return new Paced<>(
+                           timer, new Pacer() {
+                               boolean started = false;
+                               long windowStart;
+                               int count;
+
+                               @Override
+                               public long due(final long now) {
+                                   if (!started || now - windowStart >= period) {
+                                       started = true;
+                                       windowStart = now;
+                                       count = 0;
+                                   }
+                                   return count < x ? now : windowStart + period;
+                               }
+
+                               @Override
+                               public void emitted(final long now) {
+                                   count++;
+                               }
+                           });
+    }
+
+    /**
+     * Emit each element after a fixed delay from the previous emission (or from its arrival, if later)
+     *
+     * @param time Delay
+     * @param t Time unit for the delay
+     * @return Delaying TimedSubscriber using the shared TimerWheel
+     */
+    public static <T> TimedSubscriber<T, T> fixedDelay(final long time, final TimeUnit t) {
+        return fixedDelay(TimerWheel.shared(), time, t);
+    }
+
+    /**
+     * @see #fixedDelay(long, TimeUnit)
+     */
+    public static <T> TimedSubscriber<T, T> fixedDelay(final TimerWheel timer, final long time, final TimeUnit t) {
+        final long delay = t.toNanos(time);
+        return new Paced<>(
+                           timer, new DelayPacer() {
+                               @Override
+                               long delay() {
+                                   return delay;
+                               }
+                           });
+    }
+
+    /**
+     * Introduce a random delay, less than the maximum jitter period, between the emission of elements
+     *
+     * @param maxJitterPeriodInNanos Maximum delay between elements
+     * @return Jittering TimedSubscriber using the shared TimerWheel
+     */
+    public static <T> TimedSubscriber<T, T> jitter(final long maxJitterPeriodInNanos) {
+        return jitter(TimerWheel.shared(), maxJitterPeriodInNanos);
+    }
+
+    /**
+     * @see #jitter(long)
+     */
+    public static <T> TimedSubscriber<T, T> jitter(final TimerWheel timer, final long maxJitterPeriodInNanos) {
+        final Random r = new Random();
+        return new Paced<>(
+                           timer, new DelayPacer() {
+                               @Override
+                               long delay() {
+                                   return (long) (maxJitterPeriodInNanos * r.nextDouble());
+                               }
+                           });
+    }
+
+    /**
+     * Batch elements into Lists, each batch is emitted the specified time after its first element arrived
+     *
+     * @param time Time period for each batch
+     * @param t Time unit for the period
+     * @return Batching TimedSubscriber using the shared TimerWheel
+     */
+    public static <T> TimedSubscriber<T, ListX<T>> groupedByTime(final long time, final TimeUnit t) {
+        return groupedBySizeAndTime(TimerWheel.shared(), Integer.MAX_VALUE, time, t, () -> ListX.empty());
+    }
+
+    /**
+     * Batch elements into Lists, each batch is emitted when it reaches the specified size, or the specified time after its
+     * first element arrived, whichever comes first
+     *
+     * @param size Maximum batch size
+     * @param time Maximum time period for each batch
+     * @param t Time unit for the period
+     * @return Batching TimedSubscriber using the shared TimerWheel
+     */
+    public static <T> TimedSubscriber<T, ListX<T>> groupedBySizeAndTime(final int size, final long time, final TimeUnit t) {
+        return groupedBySizeAndTime(TimerWheel.shared(), size, time, t, () -> ListX.empty());
+    }
+
+    /**
+     * @see #groupedBySizeAndTime(int, long, TimeUnit)
+     * @param factory Collection factory for each batch
+     */
+    public static <T, C extends Collection<? super T>> TimedSubscriber<T, C> groupedBySizeAndTime(final TimerWheel timer,
+            final int size, final long time, final TimeUnit t, final Supplier<C> factory) {
+        if (size < 1)
+            throw new IllegalArgumentException(
+                                               "Batch size must be at least 1, was " + size);
+        return new Batch<>(
+                           timer, size, t.toNanos(time), factory);
+    }
+
+    /**
+     * Subscribe to this TimedSubscriber as a Stream
+     *
+     * @return Stream of the data emitted by this TimedSubscriber, completes when this Subscriber completes (and rethrows any
+     *         error it received). Closing the Stream cancels this Subscriber.
+     */
+    public ReactiveSeq<R> stream() {
+        final SeqSubscriber<R> sub = SeqSubscriber.subscriber();
+        subscribe(sub);
+        return sub.stream()
+                  .onClose(this::cancel);
+    }
+
+    /**
+     * Cancel the upstream Subscription (if any) and stop emitting data, the Stream of emitted data completes
+     */
+    public void cancel() {
+        final Subscription s = subscription;
+        if (s != null)
+            s.cancel();
+        synchronized (this) {
+            upstreamTerminated = true;
+            cancelPending();
+            finish();
+        }
+        deliver();
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super R> s) {
+        Objects.requireNonNull(s);
+        final boolean first;
+        synchronized (this) {
+            first = !subscribed;
+            subscribed = true;
+        }
+        if (!first) {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            s.onError(new IllegalStateException(
+                                                "A TimedSubscriber supports a single Subscriber"));
+            return;
+        }
+        s.onSubscribe(new Subscription() {
+            @Override
+            public void request(final long n) {
+                TimedSubscriber.this.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                synchronized (TimedSubscriber.this) {
+                    cancelled = true;
+                    ready.clear();
+                }
+                TimedSubscriber.this.cancel();
+            }
+        });
+        synchronized (this) {
+            //nothing is pushed to the Subscriber until onSubscribe has returned
+            downstream = s;
+        }
+        deliverAndRequest();
+    }
+
+    private void request(final long n) {
+        if (n < 1) {
+            final Subscription s = subscription;
+            if (s != null)
+                s.cancel();
+            synchronized (this) {
+                upstreamTerminated = true;
+                cancelPending();
+                ready.clear();
+                done = true;
+                terminal = new IllegalArgumentException(
+                                                        "3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0.");
+            }
+            deliver();
+            return;
+        }
+        synchronized (this) {
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        }
+        deliverAndRequest();
+    }
+
+    @Override
+    public void onSubscribe(final Subscription s) {
+        Objects.requireNonNull(s);
+        if (subscription != null) {
+            s.cancel();
+            return;
+        }
+        subscription = s;
+        final long n;
+        synchronized (this) {
+            n = upstreamDemand();
+        }
+        requestUpstream(n);
+    }
+
+    @Override
+    public void onNext(final T t) {
+        Objects.requireNonNull(t);
+        synchronized (this) {
+            if (outstanding > 0)
+                outstanding--;
+            if (!done)
+                next(t);
+        }
+        deliverAndRequest();
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        Objects.requireNonNull(t);
+        synchronized (this) {
+            upstreamTerminated = true;
+            if (done)
+                return;
+            done = true;
+            cancelPending();
+            terminal = t;
+        }
+        deliver();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            upstreamTerminated = true;
+            if (!done)
+                complete();
+        }
+        deliver();
+    }
+
+    /**
+     * Handle the next element, called while holding the lock on this Subscriber
+     */
+    protected abstract void next(T t);
+
+    /**
+     * Handle the completion of the upstream, called while holding the lock on this Subscriber. Implementations must
+     * eventually call {@link #finish()}.
+     */
+    protected abstract void complete();
+
+    /**
+     * Cancel any scheduled Timeouts, called while holding the lock on this Subscriber
+     */
+    protected abstract void cancelPending();
+
+    /**
+     * @return Number of elements received but not yet emitted, called while holding the lock on this Subscriber
+     */
+    protected int held() {
+        return 0;
+    }
+
+    /**
+     * Emit a value, called while holding the lock on this Subscriber. The value is pushed downstream once the lock is released.
+     */
+    protected void emit(final R value) {
+        if (done)
+            return;
+        ready.add(value);
+    }
+
+    /**
+     * Complete the Stream of emitted data, called while holding the lock on this Subscriber
+     */
+    protected void finish() {
+        if (done)
+            return;
+        done = true;
+        terminal = COMPLETE;
+    }
+
+    /**
+     * Schedule a task to run on the TimerWheel while holding the lock on this Subscriber
+     */
+    protected Timeout schedule(final Runnable task, final long delayNanos) {
+        return timer.schedule(() -> {
+            synchronized (this) {
+                if (done)
+                    return;
+                task.run();
+            }
+            deliverAndRequest();
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return Current time of the TimerWheel's clock
+     */
+    protected long now() {
+        return timer.nanoTime();
+    }
+
+    private void deliverAndRequest() {
+        deliver();
+        final long n;
+        synchronized (this) {
+            n = upstreamDemand();
+        }
+        requestUpstream(n);
+    }
+
+    /*
+     * Push ready data (and then any terminal signal) to the Subscriber. Each signal is taken from ready under the lock and
+     * pushed once it has been released, signals that become ready while another thread is delivering are pushed by that thread.
+     */
+    private void deliver() {
+        if (delivering.getAndIncrement() != 0)
+            return;
+        int missed = 1;
+        for (;;) {
+            for (;;) {
+                final Subscriber<? super R> s;
+                final R next;
+                Object signal = null;
+                synchronized (this) {
+                    s = downstream;
+                    if (s == null || cancelled)
+                        break;
+                    if (demand > 0 && !ready.isEmpty()) {
+                        if (demand != Long.MAX_VALUE)
+                            demand--;
+                        next = ready.poll();
+                    } else {
+                        next = null;
+                        if (ready.isEmpty() && terminal != null && !terminated) {
+                            terminated = true;
+                            signal = terminal;
+                        }
+                    }
+                }
+                if (next != null)
+                    s.onNext(next);
+                else if (signal == COMPLETE)
+                    s.onComplete();
+                else if (signal != null)
+                    s.onError((Throwable) signal);
+                else
+                    break;
+            }
+            missed = delivering.addAndGet(-missed);
+            if (missed == 0)
+                return;
+        }
+    }
+
+    //number of elements to request from upstream, called while holding the lock on this Subscriber
+    private long upstreamDemand() {
+        if (subscription == null || upstreamTerminated || done || demand == 0)
+            return 0;
+        final long available = PREFETCH - outstanding - held() - ready.size();
+        if (available < REPLENISH)
+            return 0;
+        outstanding += available;
+        return available;
+    }
+
+    private void requestUpstream(final long n) {
+        if (n <= 0)
+            return;
+        pendingRequests.addAndGet(n);
+        if (requesting.getAndIncrement() != 0)
+            return;
+        if (timer.isTimerThread())
+            REQUESTS.execute(this::drainRequests);
+        else
+            drainRequests();
+    }
+
+    //a request may synchronously push data, whose processing adds further requests - these are made here once it returns
+    private void drainRequests() {
+        int missed = 1;
+        for (;;) {
+            final long n = pendingRequests.getAndSet(0);
+            if (n > 0)
+                subscription.request(n);
+            missed = requesting.addAndGet(-missed);
+            if (missed == 0)
+                return;
+        }
+    }
+
+    private static final class Debounce<T> extends TimedSubscriber<T, T> {
+        private final long period;
+        private boolean emitted = false;
+        private long last;
+        private T latest;
+        private Timeout timeout;
+
+        private Debounce(final TimerWheel timer, final long period) {
+            super(timer);
+            this.period = period;
+        }
+
+        @Override
+        protected void next(final T t) {
+            final long now = now();
+            if (timeout == null && (!emitted || now - last >= period)) {
+                emit(t);
+                emitted = true;
+                last = now;
+                return;
+            }
+            latest = t;
+            if (timeout == null)
+                timeout = schedule(this::fire, last + period - now);
+        }
+
+        private void fire() {
+            timeout = null;
+            if (latest != null) {
+                emit(latest);
+                latest = null;
+                last = now();
+            }
+        }
+
+        @Override
+        protected void complete() {
+            //no further data can replace the element held back, so it is flushed now
+            final T held = latest;
+            cancelPending();
+            if (held != null)
+                emit(held);
+            finish();
+        }
+
+        @Override
+        protected void cancelPending() {
+            if (timeout != null)
+                timeout.cancel();
+            timeout = null;
+            latest = null;
+        }
+    }
+
+    /**
+     * Determines when buffered elements may be emitted
+     */
+    private static interface Pacer {
+        /**
+         * @return Time (from the TimerWheel's clock) at which the next element may be emitted
+         */
+        long due(long now);
+
+        void emitted(long now);
+    }
+
+    //delays each element from the previous emission or from the time it was first ready to go, if later
+    private static abstract class DelayPacer implements Pacer {
+        private boolean emitted = false;
+        private long last;
+        private long due;
+        private boolean pending = false;
+
+        abstract long delay();
+
+        @Override
+        public long due(final long now) {
+            if (!pending) {
+                due = (emitted ? Math.max(now, last) : now) + delay();
+                pending = true;
+            }
+            return due;
+        }
+
+        @Override
+        public void emitted(final long now) {
+            emitted = true;
+            last = now;
+            pending = false;
+        }
+    }
+
+    private static final class Paced<T> extends TimedSubscriber<T, T> {
+        private final Pacer pacer;
+        private final ArrayDeque<T> buffer = new ArrayDeque<>();
+        private boolean completed = false;
+        private Timeout timeout;
+
+        private Paced(final TimerWheel timer, final Pacer pacer) {
+            super(timer);
+            this.pacer = pacer;
+        }
+
+        @Override
+        protected void next(final T t) {
+            buffer.add(t);
+            if (timeout == null)
+                drain();
+        }
+
+        private void drain() {
+            timeout = null;
+            while (!buffer.isEmpty()) {
+                final long now = now();
+                final long due = pacer.due(now);
+                if (due - now > 0) {
+                    timeout = schedule(this::drain, due - now);
+                    return;
+                }
+                emit(buffer.poll());
+                pacer.emitted(now);
+            }
+            if (completed)
+                finish();
+        }
+
+        @Override
+        protected void complete() {
+            completed = true;
+            if (timeout == null)
+                finish();
+        }
+
+        @Override
+        protected int held() {
+            return buffer.size();
+        }
+
+        @Override
+        protected void cancelPending() {
+            if (timeout != null)
+                timeout.cancel();
+            timeout = null;
+            buffer.clear();
+        }
+    }
+
+    private static final class Batch<T, C extends Collection<? super T>> extends TimedSubscriber<T, C> {
+        private final int size;
+        private final long period;
+        private final Supplier<C> factory;
+        private C batch;
+        private Timeout timeout;
+
+        private Batch(final TimerWheel timer, final int size, final long period, final Supplier<C> factory) {
+            super(timer);
+            this.size = size;
+            this.period = period;
+            this.factory = factory;
+        }
+
+        @Override
+        protected void next(final T t) {
+            if (batch == null) {
+                final C current = factory.get();
+                batch = current;
+                timeout = schedule(() -> flush(current), period);
+            }
+            batch.add(t);
+            if (batch.size() >= size)
+                flush(batch);
+        }
+
+        private void flush(final C expected) {
+            //a Timeout may fire for a batch that was already emitted by size
+            if (batch != expected)
+                return;
+            if (timeout != null)
+                timeout.cancel();
+            timeout = null;
+            batch = null;
+            emit(expected);
+        }
+
+        @Override
+        protected void complete() {
+            if (batch != null)
+                flush(batch);
+            finish();
+        }
+
+        @Override
+        protected void cancelPending() {
+            if (timeout != null)
+                timeout.cancel();
+            timeout = null;
+            batch = null;
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.aol.cyclops.util.function;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -17,6 +16,8 @@ import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.internal.matcher2.ADTPredicateBuilder;
+import com.aol.cyclops.internal.matcher2.EqualsPredicate;
+import com.aol.cyclops.internal.matcher2.InstanceOfPredicate;
 import com.aol.cyclops.types.Value;
 
 import lombok.NoArgsConstructor;
@@ -701,7 +702,8 @@ public class Predicates {
      */
     public static <V> Predicate<V> eq(final V value) {
 
-        return test -> Objects.equals(test, value);
+        return new EqualsPredicate<>(
+                                     value);
     }
 
     /**
@@ -826,35 +828,53 @@ public static <T1> Predicate<Iterable<? super T1>> endsWith(final T1... items) {
 
 public static <T1> Predicate<? super T1> instanceOf(final Class<?> clazz) {
 
-        return test -> clazz.isAssignableFrom(test.getClass());
+        return new InstanceOfPredicate<>(
+                                         clazz);
     }
 
     @SafeVarargs
     public static <T1> Predicate<? super T1> allOf(final Predicate<? super T1>... preds) {
-        return test -> ReactiveSeq.of(preds)
-                                  .map(t -> t.test(test))
-                                  .allMatch(r -> r);
+        return test -> {
+            for (final Predicate<? super T1> next : preds) {
+                if (!next.test(test))
+                    return false;
+            }
+            return true;
+        };
     }
 
     @SafeVarargs
     public static <T1> Predicate<? super T1> anyOf(final Predicate<? super T1>... preds) {
-        return test -> ReactiveSeq.of(preds)
-                                  .map(t -> t.test(test))
-                                  .anyMatch(r -> r);
+        return test -> {
+            for (final Predicate<? super T1> next : preds) {
+                if (next.test(test))
+                    return true;
+            }
+            return false;
+        };
     }
 
     @SafeVarargs
     public static <T1> Predicate<? super T1> noneOf(final Predicate<? super T1>... preds) {
-        return test -> ReactiveSeq.of(preds)
-                                  .map(t -> t.test(test))
-                                  .noneMatch(r -> r);
+        return test -> {
+            for (final Predicate<? super T1> next : preds) {
+                if (next.test(test))
+                    return false;
+            }
+            return true;
+        };
     }
 
     @SafeVarargs
     public static <T1> Predicate<? super T1> xOf(final int x, final Predicate<? super T1>... preds) {
-        return test -> ReactiveSeq.of(preds)
-                                  .map(t -> t.test(test))
-                                  .xMatch(x, r -> r);
+        return test -> {
+            int matches = 0;
+            for (final Predicate<? super T1> next : preds) {
+                if (next.test(test))
+                    matches++;
+            }
+            return matches == x;
+        };
     }
 
 }
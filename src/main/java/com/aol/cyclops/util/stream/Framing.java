@@ -0,0 +1,191 @@
+package com.aol.cyclops.util.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Determines how a memory mapped file is divided into records, see {@link com.aol.cyclops.control.ReactiveSeq#fromMappedFile}.
+ *
+ * Records are returned as read-only ByteBuffer slices of the mapped file, no bytes are copied or decoded.
+ *
+ * <pre>
+ * {@code
+ *  long errors = ReactiveSeq.fromMappedFile(Paths.get("access.log"),Framing.lines())
+ *                           .parallel()
+ *                           .filter(line->line.hasRemaining() && line.get(0)=='E')
+ *                           .count();
+ * }
+ * </pre>
+ */
+public interface Framing {
+
+    /**
+     * Read the record starting at the position of the supplied buffer, advancing the position past the record (and any
+     * delimiter or header)
+     *
+     * @param buffer Mapped region of the file, starting at the position
+     * @param atEnd true if the buffer extends to the end of the data being read
+     * @return A slice containing the record, or null if the record is not complete within the buffer (and atEnd is false)
+     */
+    ByteBuffer next(ByteBuffer buffer, boolean atEnd);
+
+    /**
+     * Find the first record boundary at or after the supplied position, used to split a file into ranges that can be read in
+     * parallel
+     *
+     * @param channel File being read
+     * @param position Position to align
+     * @param end End of the range being split
+     * @return Start of the first record at or after position (end if there is none), or -1 if records can not be located from
+     *         an arbitrary position (the file is then read sequentially)
+     * @throws IOException If the file can not be read
+     */
+    long align(FileChannel channel, long position, long end) throws IOException;
+
+    /**
+     * @return Records delimited by '\n', a trailing '\r' is excluded from each record (as with BufferedReader#readLine)
+     */
+    public static Framing lines() {
+        return new Delimited(
+                             (byte) '\n', true);
+    }
+
+    /**
+     * @param delimiter Byte that terminates each record, the delimiter is not included in the record
+     * @return Records delimited by the supplied byte
+     */
+    public static Framing delimited(final byte delimiter) {
+        return new Delimited(
+                             delimiter, false);
+    }
+
+    /**
+     * @return Records preceded by a 4 byte big-endian length header, the header is not included in the record. Length prefixed
+     *         files can not be split for parallel reading. A negative length header is reported as an IllegalStateException,
+     *         as is a truncated record.
+     */
+    public static Framing lengthPrefixed() {
+        return new Framing() {
+            @Override
+            public ByteBuffer next(final ByteBuffer buffer, final boolean atEnd) {
+                final int start = buffer.position();
+                if (buffer.remaining() < 4) {
+                    if (atEnd)
+                        throw new IllegalStateException(
+                                                        "Truncated length prefixed record");
+                    return null;
+                }
+                final int length = buffer.getInt(start);
+                if (length < 0)
+                    throw new IllegalStateException(
+                                                    "Invalid length prefix " + length);
+                if (buffer.remaining() - 4 < length) {
+                    if (atEnd)
+                        throw new IllegalStateException(
+                                                        "Truncated length prefixed record");
+                    return null;
+                }
+                return slice(buffer, start + 4, start + 4 + length, start + 4 + length);
+            }
+
+            @Override
+            public long align(final FileChannel channel, final long position, final long end) {
+                return -1;
+            }
+        };
+    }
+
+    /**
+     * @param length Size of each record in bytes
+     * @return Records of a fixed size
+     */
+    public static Framing fixedLength(final int length) {
+        if (length < 1)
+            throw new IllegalArgumentException(
+                                               "Record length must be at least 1, was " + length);
+        return new Framing() {
+            @Override
+            public ByteBuffer next(final ByteBuffer buffer, final boolean atEnd) {
+                final int start = buffer.position();
+                if (buffer.remaining() < length) {
+                    if (atEnd)
+                        throw new IllegalStateException(
+                                                        "Truncated fixed length record");
+                    return null;
+                }
+                return slice(buffer, start, start + length, start + length);
+            }
+
+            @Override
+            public long align(final FileChannel channel, final long position, final long end) {
+                return Math.min(end, (position + length - 1) / length * length);
+            }
+        };
+    }
+
+    /**
+     * @return A read-only slice of buffer from start (inclusive) to end (exclusive), the position of buffer is set to next
+     */
+    static ByteBuffer slice(final ByteBuffer buffer, final int start, final int end, final int next) {
+        final ByteBuffer record = buffer.duplicate();
+        record.limit(end)
+              .position(start);
+        buffer.position(next);
+        return record.slice()
+                     .asReadOnlyBuffer();
+    }
+
+    static final class Delimited implements Framing {
+        private static final int SCAN_SIZE = 8192;
+
+        private final byte delimiter;
+        private final boolean stripCarriageReturn;
+
+        private Delimited(final byte delimiter, final boolean stripCarriageReturn) {
+            this.delimiter = delimiter;
+            this.stripCarriageReturn = stripCarriageReturn;
+        }
+
+        @Override
+        public ByteBuffer next(final ByteBuffer buffer, final boolean atEnd) {
+            final int start = buffer.position();
+            final int limit = buffer.limit();
+            for (int i = start; i < limit; i++) {
+                if (buffer.get(i) == delimiter)
+                    return slice(buffer, start, strip(buffer, start, i), i + 1);
+            }
+            if (!atEnd)
+                return null;
+            //the final record need not be terminated
+            return slice(buffer, start, strip(buffer, start, limit), limit);
+        }
+
+        private int strip(final ByteBuffer buffer, final int start, final int end) {
+            if (stripCarriageReturn && end > start && buffer.get(end - 1) == '\r')
+                return end - 1;
+            return end;
+        }
+
+        @Override
+        public long align(final FileChannel channel, final long position, final long end) throws IOException {
+            if (position == 0)
+                return 0;
+            //a record starts immediately after a delimiter, so scan from the byte before position
+            final ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+            long offset = position - 1;
+            while (offset < end) {
+                scan.clear();
+                final int read = channel.read(scan, offset);
+                if (read <= 0)
+                    return end;
+                for (int i = 0; i < read; i++) {
+                    if (scan.get(i) == delimiter)
+                        return Math.min(end, offset + i + 1);
+                }
+                offset += read;
+            }
+            return end;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.aol.cyclops.util.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes and reads Stream elements to and from temporary files, used by the spilling (external) operators on ReactiveSeq when
+ * the data being sorted, deduplicated or grouped exceeds the in memory budget.
+ *
+ * <pre>
+ * {@code
+ *  ReactiveSeq.fromIterable(lines)
+ *             .sorted(Comparator.naturalOrder(),1_000_000,Serializer.strings());
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of the elements serialized
+ */
+public interface Serializer<T> {
+
+    /**
+     * @param out Output to write to
+     * @param value Value to write
+     * @throws IOException If the value could not be written
+     */
+    void write(DataOutput out, T value) throws IOException;
+
+    /**
+     * @param in Input to read from
+     * @return Next value
+     * @throws IOException If a value could not be read
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * @return Serializer for (non-null) Strings, of any length, encoded as UTF-8
+     */
+    public static Serializer<String> strings() {
+        return new Serializer<String>() {
+            @Override
+            public void write(final DataOutput out, final String value) throws IOException {
+                final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            @Override
+            public String read(final DataInput in) throws IOException {
+                final byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return new String(
+                                  bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * @return Serializer for (non-null) Integers
+     */
+    public static Serializer<Integer> ints() {
+        return new Serializer<Integer>() {
+            @Override
+            public void write(final DataOutput out, final Integer value) throws IOException {
+                out.writeInt(value);
+            }
+
+            @Override
+            public Integer read(final DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+    }
+
+    /**
+     * @return Serializer for (non-null) Longs
+     */
+    public static Serializer<Long> longs() {
+        return new Serializer<Long>() {
+            @Override
+            public void write(final DataOutput out, final Long value) throws IOException {
+                out.writeLong(value);
+            }
+
+            @Override
+            public Long read(final DataInput in) throws IOException {
+                return in.readLong();
+            }
+        };
+    }
+
+    /**
+     * @return Serializer for (non-null) Doubles
+     */
+    public static Serializer<Double> doubles() {
+        return new Serializer<Double>() {
+            @Override
+            public void write(final DataOutput out, final Double value) throws IOException {
+                out.writeDouble(value);
+            }
+
+            @Override
+            public Double read(final DataInput in) throws IOException {
+                return in.readDouble();
+            }
+        };
+    }
+
+    /**
+     * Serializer that uses Java serialization for each element, simple but comparatively slow and verbose. Prefer a dedicated
+     * Serializer for large data sets.
+     *
+     * @return Serializer for Serializable values
+     */
+    public static <T extends Serializable> Serializer<T> java() {
+        return new Serializer<T>() {
+            @Override
+            public void write(final DataOutput out, final T value) throws IOException {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(
+                                                                     bytes)) {
+                    oos.writeObject(value);
+                }
+                out.writeInt(bytes.size());
+                out.write(bytes.toByteArray());
+            }
+
+            @Override
+            public T read(final DataInput in) throws IOException {
+                final byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                try (ObjectInputStream ois = new ObjectInputStream(
+                                                                   new ByteArrayInputStream(
+                                                                                            bytes))) {
+                    return (T) ois.readObject();
+                } catch (final ClassNotFoundException e) {
+                    throw new IOException(
+                                          e);
+                }
+            }
+        };
+    }
+}
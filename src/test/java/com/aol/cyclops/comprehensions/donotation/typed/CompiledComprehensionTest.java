@@ -0,0 +1,65 @@
+package com.aol.cyclops.comprehensions.donotation.typed;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.For;
+import com.aol.cyclops.internal.comprehensions.donotation.DoComp2;
+
+public class CompiledComprehensionTest {
+
+	@Test
+	public void guardsBetweenGenerators(){
+		assertThat(For.iterable(asList(1,2,3))
+						.filter(a->a>1)
+						.iterable(a->asList(a,a*2))
+						.filter(a->b->b>a)
+						.yield(a->b->a+b)
+						.stream().toList(),equalTo(asList(6,9)));
+	}
+	@Test
+	public void bindingsArePositional(){
+		assertThat(For.iterable(asList(1,2))
+						.iterable(a->asList(10,20))
+						.iterable(a->b->asList(100))
+						.iterable(a->b->c->asList(a+b+c))
+						.yield(a->b->c->d->a+":"+b+":"+c+":"+d)
+						.stream().toList(),
+						equalTo(asList("1:10:100:111","1:20:100:121","2:10:100:112","2:20:100:122")));
+	}
+	@Test
+	public void lazyStreamsSeeTheirOwnBindings(){
+		assertThat(For.stream(Stream.of(1,2,3))
+						.stream(a->Stream.of(a*10,a*100))
+						.yield(a->b->a+b)
+						.stream().toList(),equalTo(asList(11,101,22,202,33,303)));
+	}
+	@Test
+	public void emptyShortCircuits(){
+		AtomicInteger calls = new AtomicInteger(0);
+		Optional<Integer> result = For.optional(Optional.of(1))
+										.optional(a->Optional.<Integer>empty())
+										.optional(a->b->{ calls.incrementAndGet(); return Optional.of(b);})
+										.yield(a->b->c->a+b+c)
+										.unwrap();
+		assertThat(result,equalTo(Optional.empty()));
+		assertThat(calls.get(),equalTo(0));
+	}
+	@Test
+	public void compiledComprehensionIsReusable(){
+		DoComp2<Integer,Integer> query = For.iterable(asList(1,2,3))
+											.iterable(a->asList(a*2));
+		Function<Integer,Function<? super Integer,? extends Integer>> sum = a->b->a+b;
+		assertThat(query.yield(sum).stream().toList(),equalTo(asList(3,6,9)));
+		assertThat(query.yield(sum).stream().toList(),equalTo(asList(3,6,9)));
+		assertThat(query.yield(a->b->a*b).stream().toList(),equalTo(asList(2,8,18)));
+	}
+}
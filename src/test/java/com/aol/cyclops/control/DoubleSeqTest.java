@@ -0,0 +1,40 @@
+package com.aol.cyclops.control;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.aol.cyclops.Monoids;
+
+public class DoubleSeqTest {
+
+	@Test
+	public void grouped(){
+		List<double[]> groups = DoubleSeq.of(1,2,3).grouped(2).toList();
+		assertThat(groups.size(),equalTo(2));
+		assertArrayEquals(new double[]{1,2},groups.get(0),0);
+		assertArrayEquals(new double[]{3},groups.get(1),0);
+	}
+	@Test
+	public void slidingReduce(){
+		assertArrayEquals(new double[]{1.5,2.5},DoubleSeq.of(1,2,3).slidingReduce(2,1,Monoids.primitiveDoubleSum)
+																	.map(d->d/2).toArray(),0);
+	}
+	@Test
+	public void minMax(){
+		assertThat(DoubleSeq.of(-1,-2).reduce(Monoids.primitiveDoubleMax),equalTo(-1d));
+		assertThat(DoubleSeq.of(1,2).reduce(Monoids.primitiveDoubleMin),equalTo(1d));
+	}
+	@Test
+	public void zipWithIndex(){
+		assertThat(DoubleSeq.of(0.5).zipWithIndex((v,i)->v+i).toList().get(0),equalTo(0.5));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void slidingReduceZeroWindow(){
+		DoubleSeq.of(1,2,3).slidingReduce(0,1,Monoids.primitiveDoubleSum);
+	}
+}
@@ -4,8 +4,13 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.Seq;
@@ -78,6 +83,38 @@ public class EvalTest {
 		assertThat(count,equalTo(1));
 	}
 	@Test
+	public void laterEvaluatesOnceConcurrently() throws InterruptedException{
+		for(int run=0;run<20;run++){
+			AtomicInteger calls = new AtomicInteger(0);
+			Eval<Integer> eval = Eval.later(()->{
+				calls.incrementAndGet();
+				LockSupport.parkNanos(1_000_000);
+				return 1;
+			});
+			Eval<Integer> mapped = eval.map(i->i+2);
+			CountDownLatch start = new CountDownLatch(1);
+			List<Thread> threads = new ArrayList<>();
+			for(int i=0;i<8;i++){
+				Eval<Integer> target = i%2==0 ? eval : mapped;
+				Thread t = new Thread(()->{
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					target.get();
+				});
+				t.start();
+				threads.add(t);
+			}
+			start.countDown();
+			for(Thread t : threads)
+				t.join();
+			assertThat(calls.get(),equalTo(1));
+			assertThat(mapped.get(),equalTo(3));
+		}
+	}
+	@Test
 	public void always(){
 		assertThat(Eval.always(()->1).map(i->i+2).get(),equalTo(3));
 	}
@@ -216,4 +253,70 @@ public class EvalTest {
 
 	}
 	
+	@Test
+	public void laterMapChainIsStackSafe(){
+		Eval<Integer> eval = Eval.later(()->0);
+		for(int i=0;i<100_000;i++)
+			eval = eval.map(x->x+1);
+		assertThat(eval.get(),equalTo(100_000));
+	}
+	@Test
+	public void laterFlatMapIsStackSafe(){
+		assertThat(countDown(Eval.later(()->100_000)).get(),equalTo("done"));
+	}
+	private Eval<String> countDown(Eval<Integer> n){
+		return n.flatMap(x-> x<=0 ? Eval.now("done") : countDown(Eval.later(()->x-1)));
+	}
+	@Test
+	public void laterFlatMapCaches(){
+		count = 0;
+		Eval<Integer> eval = Eval.later(()->1)
+								 .flatMap(i->{
+									 count++;
+									 return Eval.now(i+1);
+								 });
+		eval.get();
+		assertThat(eval.get(),equalTo(2));
+		assertThat(count,equalTo(1));
+	}
+	@Test
+	public void laterCachesEachStep(){
+		count = 0;
+		Eval<Integer> eval = Eval.later(()->1).map(i->{
+			count++;
+			return i+1;
+		});
+		Eval<Integer> plus10 = eval.map(i->i+10);
+		Eval<Integer> plus20 = eval.map(i->i+20);
+		assertThat(plus10.get()+plus20.get(),equalTo(34));
+		assertThat(count,equalTo(1));
+	}
+	@Test
+	public void alwaysFlatMapDoesNotCache(){
+		count = 0;
+		Eval<Integer> eval = Eval.always(()->1)
+								 .flatMap(i->{
+									 count++;
+									 return Eval.later(()->i+1);
+								 });
+		eval.get();
+		assertThat(eval.get(),equalTo(2));
+		assertThat(count,equalTo(2));
+	}
+	@Test
+	public void nowMapDoesNotCache(){
+		count = 0;
+		Eval<Integer> eval = Eval.now(1).map(i->{
+			count++;
+			return i+1;
+		});
+		eval.get();
+		assertThat(eval.get(),equalTo(2));
+		assertThat(count,equalTo(2));
+	}
+	@Test
+	public void nullValues(){
+		assertThat(Eval.now(null).get(),equalTo(null));
+		assertThat(Eval.later(()->null).map(i->"x"+i).get(),equalTo("xnull"));
+	}
 }
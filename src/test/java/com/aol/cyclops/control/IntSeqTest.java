@@ -0,0 +1,95 @@
+package com.aol.cyclops.control;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.aol.cyclops.Monoids;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+public class IntSeqTest {
+
+	@Test
+	public void slidingMatchesReactiveSeq(){
+		List<List<Integer>> expected = ReactiveSeq.of(1,2,3,4,5,6).sliding(3,2).map(l->(List<Integer>)l).toList();
+		List<List<Integer>> windows = IntSeq.of(1,2,3,4,5,6).sliding(3,2).map(a->(List<Integer>)ListX.fromIterable(IntSeq.of(a).boxed())).toList();
+		assertThat(windows,equalTo(expected));
+	}
+	@Test
+	public void sliding(){
+		List<int[]> windows = IntSeq.of(1,2,3,4).sliding(2).toList();
+		assertThat(windows.size(),equalTo(3));
+		assertArrayEquals(new int[]{1,2},windows.get(0));
+		assertArrayEquals(new int[]{2,3},windows.get(1));
+		assertArrayEquals(new int[]{3,4},windows.get(2));
+	}
+	@Test
+	public void slidingShort(){
+		List<int[]> windows = IntSeq.of(1).sliding(3).toList();
+		assertThat(windows.size(),equalTo(1));
+		assertArrayEquals(new int[]{1},windows.get(0));
+		assertThat(IntSeq.empty().sliding(3).count(),equalTo(0l));
+	}
+	@Test
+	public void slidingReduce(){
+		assertArrayEquals(new int[]{3,5,7,9},IntSeq.of(1,2,3,4,5).slidingReduce(2,1,Monoids.primitiveIntSum).toArray());
+		assertArrayEquals(new int[]{2,4,5},IntSeq.of(1,2,3,4,5).slidingReduce(2,2,Monoids.primitiveIntMax).toArray());
+	}
+	@Test
+	public void grouped(){
+		List<int[]> groups = IntSeq.range(1,6).grouped(2).toList();
+		assertThat(groups.size(),equalTo(3));
+		assertArrayEquals(new int[]{1,2},groups.get(0));
+		assertArrayEquals(new int[]{3,4},groups.get(1));
+		assertArrayEquals(new int[]{5},groups.get(2));
+	}
+	@Test
+	public void groupedReduce(){
+		assertArrayEquals(new int[]{3,7,5},IntSeq.range(1,6).groupedReduce(2,Monoids.primitiveIntSum).toArray());
+	}
+	@Test
+	public void scanLeft(){
+		assertArrayEquals(new int[]{0,1,3,6},IntSeq.of(1,2,3).scanLeft(Monoids.primitiveIntSum).toArray());
+		assertArrayEquals(new int[]{10},IntSeq.empty().scanLeft(10,(a,b)->a+b).toArray());
+	}
+	@Test
+	public void zipWithIndex(){
+		assertThat(IntSeq.of(10,20).zipWithIndex((v,i)->v+":"+i).toList(),equalTo(Arrays.asList("10:0","20:1")));
+	}
+	@Test
+	public void reduce(){
+		assertThat(IntSeq.range(0,100).reduce(Monoids.primitiveIntSum),equalTo(4950));
+		assertThat(IntSeq.empty().reduce(Monoids.primitiveIntMin),equalTo(Integer.MAX_VALUE));
+		assertThat(Monoids.primitiveIntSum.boxed().reduce(ReactiveSeq.of(1,2,3)),equalTo(6));
+	}
+	@Test
+	public void fromReactiveSeq(){
+		assertThat(ReactiveSeq.of("a","bb","ccc").mapToIntSeq(String::length).sum(),equalTo(6));
+		assertThat(IntSeq.of(1,2,3).mapToLong(i->i*10l).sum(),equalTo(60l));
+		assertThat(IntSeq.of(1,2,3).boxed().toList(),equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void slidingZeroWindow(){
+		IntSeq.range(0,10).sliding(0,1);
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void slidingZeroIncrement(){
+		IntSeq.range(0,10).sliding(2,0);
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void groupedZeroSize(){
+		IntSeq.range(0,10).grouped(0);
+	}
+	@Test
+	public void slidingWraps(){
+		List<int[]> windows = IntSeq.range(0,7).sliding(3,2).toList();
+		assertThat(windows.size(),equalTo(3));
+		assertArrayEquals(new int[]{2,3,4},windows.get(1));
+		assertArrayEquals(new int[]{4,5,6},windows.get(2));
+	}
+}
@@ -0,0 +1,42 @@
+package com.aol.cyclops.control;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.aol.cyclops.Monoids;
+
+public class LongSeqTest {
+
+	@Test
+	public void sliding(){
+		List<long[]> windows = LongSeq.range(1,5).sliding(2).toList();
+		assertThat(windows.size(),equalTo(3));
+		assertArrayEquals(new long[]{1,2},windows.get(0));
+		assertArrayEquals(new long[]{3,4},windows.get(2));
+	}
+	@Test
+	public void slidingReduce(){
+		assertArrayEquals(new long[]{6,9,12},LongSeq.range(1,6).slidingReduce(3,1,Monoids.primitiveLongSum).toArray());
+	}
+	@Test
+	public void groupedReduce(){
+		assertArrayEquals(new long[]{2,4,5},LongSeq.range(1,6).groupedReduce(2,Monoids.primitiveLongMax).toArray());
+	}
+	@Test
+	public void scanLeft(){
+		assertArrayEquals(new long[]{0,1,3,6},LongSeq.of(1,2,3).scanLeft(Monoids.primitiveLongSum).toArray());
+	}
+	@Test
+	public void reduce(){
+		assertThat(ReactiveSeq.of("1","2").mapToLongSeq(Long::parseLong).reduce(Monoids.primitiveLongSum),equalTo(3l));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void slidingNegativeIncrement(){
+		LongSeq.range(0,10).sliding(2,-1);
+	}
+}
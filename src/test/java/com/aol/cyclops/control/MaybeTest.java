@@ -19,6 +19,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -72,6 +73,17 @@ public class MaybeTest implements Printable {
         
     }
 
+    @Test
+    public void flatMapOverAlwaysIsMemoized() {
+        AtomicInteger calls = new AtomicInteger(0);
+        Maybe<Integer> mapped = Maybe.fromEval(Eval.always(() -> 10))
+                                     .flatMap(i -> Maybe.just(i + calls.incrementAndGet()));
+        assertThat(mapped.get(), equalTo(11));
+        assertThat(mapped.get(), equalTo(11));
+        assertThat(mapped.map(i -> i * 2).get(), equalTo(22));
+        assertThat(calls.get(), equalTo(1));
+    }
+
     @Test
     public void testApFeatureToggle() {
 
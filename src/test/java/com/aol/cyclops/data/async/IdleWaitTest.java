@@ -0,0 +1,54 @@
+package com.aol.cyclops.data.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.agrona.concurrent.YieldingIdleStrategy;
+import org.junit.Test;
+
+import com.aol.cyclops.data.async.wait.IdleWait;
+import com.aol.cyclops.data.async.wait.WaitStrategy.Offerable;
+import com.aol.cyclops.data.async.wait.WaitStrategy.Takeable;
+
+public class IdleWaitTest {
+	int called = 0;
+	Takeable<String> takeable = ()->{ 
+		called++;
+		if(called<100)
+			return null;
+		return "hello";
+	};
+	Offerable offerable = ()->{ 
+		called++;
+		if(called<100)
+			return false;
+		return true;
+	};
+	@Test
+	public void testTakeable() throws InterruptedException {
+		
+		called =0;
+		String result = new IdleWait<String>(()->new YieldingIdleStrategy()).take(takeable);
+		assertThat(result,equalTo("hello"));
+		assertThat(called,equalTo(100));
+		
+	}
+	@Test
+	public void testOfferable() throws InterruptedException {
+		called =0;
+		boolean result = new IdleWait<String>().offer(offerable);
+		assertThat(result,equalTo(true));
+		assertThat(called,equalTo(100));
+	}
+	@Test
+	public void testwithQueue(){
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(100),
+									new IdleWait<>(),
+									new IdleWait<>());
+		
+		q.offer("hello");
+		assertThat(q.get(),equalTo("hello"));
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.aol.cyclops.data.async;
 
 import static com.aol.cyclops.types.futurestream.BaseSimpleReactStream.parallel;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
@@ -8,25 +9,36 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.internal.verification.Times;
 
 import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.SimpleReact;
+import com.aol.cyclops.data.async.wait.DirectWaitStrategy;
+import com.aol.cyclops.data.async.wait.WaitStrategy;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.types.futurestream.BaseSimpleReactStream;
 
 public class QueueTest {
@@ -484,6 +496,301 @@ public class QueueTest {
 
 	}
 
+	@Test
+	public void drainToReusesBuffer() {
+		Queue<Integer> q = QueueFactories.<Integer> unboundedQueue().build();
+		for(int i=0;i<25;i++)
+			q.add(i);
+		List<Integer> buffer = new ArrayList<>();
+		assertThat(q.drainTo(buffer, 10), is(10));
+		assertThat(buffer, equalTo(ListX.range(0, 10)));
+		buffer.clear();
+		assertThat(q.drainTo(buffer, 10), is(10));
+		buffer.clear();
+		assertThat(q.drainTo(buffer, 10), is(5));
+		assertThat(buffer, equalTo(ListX.range(20, 25)));
+	}
+
+	@Test
+	public void drainToNulls() {
+		Queue<Integer> q = QueueFactories.<Integer> unboundedNonBlockingQueue().build();
+		q.offer(1);
+		q.offer(null);
+		q.offer(3);
+		List<Integer> buffer = new ArrayList<>();
+		q.drainTo(buffer, 10);
+		assertThat(buffer, equalTo(Arrays.asList(1, null, 3)));
+	}
+
+	@Test
+	public void drainToClosedMidBatch() {
+		Queue<Integer> q = QueueFactories.<Integer> boundedQueue(100).build();
+		q.stream();
+		for(int i=0;i<5;i++)
+			q.add(i);
+		q.close();
+		List<Integer> buffer = new ArrayList<>();
+		assertThat(q.drainTo(buffer, 10), is(5));
+		try {
+			q.drainTo(buffer, 10);
+			fail("expected ClosedQueueException");
+		} catch (Queue.ClosedQueueException e) {
+			assertThat(buffer.size(), is(5));
+		}
+	}
+
+	@Test
+	public void drainToDisconnectedMidBatch() {
+		Queue<Integer> q = QueueFactories.<Integer> unboundedQueue().build();
+		for(int i=0;i<5;i++)
+			q.add(i);
+		q.disconnectStreams(1);
+		q.add(5);
+		List<Integer> buffer = new ArrayList<>();
+		assertThat(q.drainTo(buffer, 10), is(6));
+		assertThat(buffer, equalTo(ListX.range(0, 6)));
+		q.add(6);
+		buffer.clear();
+		try {
+			q.drainTo(buffer, 10);
+			fail("expected ClosedQueueException");
+		} catch (Queue.ClosedQueueException e) {
+
+		}
+		assertThat(q.drainTo(buffer, 10), is(1));
+		assertThat(buffer, equalTo(Arrays.asList(6)));
+	}
+
+	@Test
+	public void drainToReturnsPoisonPillsToQueue() {
+		Queue<Integer> q = QueueFactories.<Integer> unboundedQueue().build();
+		q.stream();
+		q.stream();
+		q.add(1);
+		q.close();
+		List<Integer> buffer = new ArrayList<>();
+		assertThat(q.drainTo(buffer, 10), is(1));
+		assertThat(q.size(), is(2));
+		for(int i=0;i<2;i++){
+			try {
+				q.drainTo(buffer, 10);
+				fail("expected ClosedQueueException");
+			} catch (Queue.ClosedQueueException e) {
+
+			}
+		}
+	}
+
+	@Test
+	public void drainToMultipleConsumersClose() throws InterruptedException {
+		for(int run=0;run<200;run++){
+			Queue<Integer> q = QueueFactories.<Integer> unboundedQueue().build();
+			AtomicInteger received = new AtomicInteger(0);
+			List<Thread> consumers = new ArrayList<>();
+			for(int i=0;i<3;i++){
+				ReactiveSeq<List<Integer>> batches = q.streamBatch(5);
+				consumers.add(new Thread(() -> batches.forEach(b -> received.addAndGet(b.size()))));
+			}
+			consumers.forEach(Thread::start);
+			for(int i=0;i<1000;i++)
+				q.offer(i);
+			q.close();
+			for(Thread t : consumers){
+				t.join(5000);
+				assertFalse(t.isAlive());
+			}
+			assertThat(received.get(), is(1000));
+		}
+	}
+
+	@Test
+	public void drainToKeepsOrderAfterPoisonPill() {
+		Queue<Integer> q = QueueFactories.<Integer> boundedQueue(8).build();
+		for(int i=0;i<4;i++)
+			q.add(i);
+		q.disconnectStreams(1);
+		for(int i=4;i<7;i++)
+			q.add(i);
+		Collection<Integer> buffer = new ArrayDeque<>();
+		assertThat(q.drainTo(buffer, 8), is(4));
+		assertThat(new ArrayList<>(buffer), equalTo(Arrays.asList(0, 1, 2, 3)));
+		q.add(7);
+		try {
+			q.drainTo(buffer, 8);
+			fail("expected ClosedQueueException");
+		} catch (Queue.ClosedQueueException e) {
+
+		}
+		buffer.clear();
+		assertThat(q.drainTo(buffer, 8), is(4));
+		assertThat(new ArrayList<>(buffer), equalTo(Arrays.asList(4, 5, 6, 7)));
+	}
+
+	@Test
+	public void drainToTerminatesWhenFullAndClosed() {
+		Queue<Integer> q = QueueFactories.<Integer> boundedQueue(8).build();
+		q.stream();
+		for(int i=0;i<8;i++)
+			q.add(i);
+		q.close();
+		Collection<Integer> buffer = new ArrayDeque<>();
+		assertThat(q.drainTo(buffer, 3), is(3));
+		assertThat(q.drainTo(buffer, 3), is(3));
+		assertThat(q.drainTo(buffer, 3), is(2));
+		assertThat(new ArrayList<>(buffer), equalTo(ListX.range(0, 8)));
+		try {
+			q.drainTo(buffer, 3);
+			fail("expected ClosedQueueException");
+		} catch (Queue.ClosedQueueException e) {
+
+		}
+	}
+
+	@Test
+	public void drainToClearMidBatch() {
+		Queue<Integer> q = QueueFactories.<Integer> unboundedQueue().build();
+		for(int i=0;i<5;i++)
+			q.add(i);
+		q.closeAndClear();
+		List<Integer> buffer = new ArrayList<>();
+		assertThat(q.drainTo(buffer, 10), is(5));
+		assertThat(q.size(), is(0));
+	}
+
+	@Test
+	public void drainToAgronaClosedMidBatch() {
+		Queue<Integer> q = QueueFactories.<Integer> boundedNonBlockingQueue(128, WaitStrategy.spinPark()).build();
+		q.stream();
+		for(int i=0;i<5;i++)
+			q.offer(i);
+		q.offer(null);
+		q.close();
+		List<Integer> buffer = new ArrayList<>();
+		assertThat(q.drainTo(buffer, 100), is(6));
+		assertThat(buffer, equalTo(Arrays.asList(0, 1, 2, 3, 4, null)));
+		try {
+			q.drainTo(buffer, 100);
+			fail("expected ClosedQueueException");
+		} catch (Queue.ClosedQueueException e) {
+
+		}
+	}
+
+	@Test
+	public void drainToSingleWriterFullAndClosed() {
+		Queue<Integer> q = QueueFactories.<Integer> singleWriterboundedNonBlockingQueue(8, WaitStrategy.spinPark()).build();
+		q.stream();
+		for(int i=0;i<7;i++)
+			assertTrue(q.offer(i));
+		q.close();
+		List<Integer> buffer = new ArrayList<>();
+		assertThat(q.drainTo(buffer, 100), is(7));
+		assertThat(buffer, equalTo(ListX.range(0, 7)));
+		try {
+			q.drainTo(buffer, 100);
+			fail("expected ClosedQueueException");
+		} catch (Queue.ClosedQueueException e) {
+
+		}
+		assertThat(q.size(), is(0));
+	}
+
+	@Test
+	public void drainToSingleWriterReturnsDataAfterPoisonPill() {
+		Queue<Integer> q = QueueFactories.<Integer> singleWriterboundedNonBlockingQueue(8, WaitStrategy.spinPark()).build();
+		for(int i=0;i<4;i++)
+			q.offer(i);
+		q.disconnectStreams(1);
+		for(int i=4;i<7;i++)
+			q.offer(i);
+		List<Integer> buffer = new ArrayList<>();
+		assertThat(q.drainTo(buffer, 100), is(7));
+		assertThat(buffer, equalTo(ListX.range(0, 7)));
+		q.offer(7);
+		try {
+			q.drainTo(buffer, 100);
+			fail("expected ClosedQueueException");
+		} catch (Queue.ClosedQueueException e) {
+
+		}
+		buffer.clear();
+		assertThat(q.drainTo(buffer, 100), is(1));
+		assertThat(buffer, equalTo(Arrays.asList(7)));
+	}
+
+	@Test
+	public void pipeWrapperTakeWaitsForData() throws InterruptedException {
+		BlockingQueue<Integer> pipe = new AdaptersModule.PipeToBlockingQueueWrapper<>(new ManyToOneConcurrentArrayQueue<>(8),
+																						WaitStrategy.spinPark(), WaitStrategy.spinPark());
+		new Thread(() -> {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+			pipe.offer(1);
+		}).start();
+		assertThat(pipe.take(), is(1));
+	}
+
+	@Test
+	public void pipeWrapperTimedPollAndOffer() throws InterruptedException {
+		BlockingQueue<Integer> pipe = new AdaptersModule.PipeToBlockingQueueWrapper<>(new ManyToOneConcurrentArrayQueue<>(8),
+																						new DirectWaitStrategy<>(), new DirectWaitStrategy<>());
+		long start = System.nanoTime();
+		assertThat(pipe.poll(20, TimeUnit.MILLISECONDS), is((Integer) null));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+		while (pipe.offer(1)) {
+		}
+		start = System.nanoTime();
+		assertFalse(pipe.offer(2, 20, TimeUnit.MILLISECONDS));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+	}
+
+	@Test
+	public void pipeWrapperPutWaitsForSpace() throws InterruptedException {
+		BlockingQueue<Integer> pipe = new AdaptersModule.PipeToBlockingQueueWrapper<>(new ManyToOneConcurrentArrayQueue<>(8),
+																						WaitStrategy.spinPark(), WaitStrategy.spinPark());
+		int size = 0;
+		while (pipe.offer(size))
+			size++;
+		new Thread(() -> {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+			pipe.poll();
+		}).start();
+		pipe.put(-1);
+		assertThat(pipe.size(), is(size));
+	}
+
+	@Test(expected = InterruptedException.class)
+	public void pipeWrapperTakeInterrupted() throws InterruptedException {
+		BlockingQueue<Integer> pipe = new AdaptersModule.PipeToBlockingQueueWrapper<>(new ManyToOneConcurrentArrayQueue<>(8),
+																						WaitStrategy.spinPark(), WaitStrategy.spinPark());
+		Thread.currentThread().interrupt();
+		pipe.take();
+	}
+
+	@Test
+	public void streamBatchAgrona() {
+		Queue<Integer> q = QueueFactories.<Integer> singleWriterboundedNonBlockingQueue(64, WaitStrategy.spinPark()).build();
+		new Thread(() -> {
+			for(int i=0;i<1000;i++)
+				q.offer(i);
+			q.close();
+		}).start();
+		List<List<Integer>> batches = q.streamBatch(100).toList();
+		assertThat(batches.stream().flatMap(List::stream).collect(Collectors.toList()), equalTo(ListX.range(0, 1000)));
+	}
+
+	@Test
+	public void streamBatch() {
+		Queue<Integer> q = QueueFactories.<Integer> unboundedQueue().build();
+		new Thread(() -> {
+			for(int i=0;i<1000;i++)
+				q.offer(i);
+			q.close();
+		}).start();
+		List<List<Integer>> batches = q.streamBatch(100).toList();
+		assertTrue(batches.stream().allMatch(b -> b.size() > 0 && b.size() <= 100));
+		assertThat(batches.stream().flatMap(List::stream).collect(Collectors.toList()), equalTo(ListX.range(0, 1000)));
+	}
+
 	boolean called = false;
 	@Test
 	public void stackOverflowQuestion() {
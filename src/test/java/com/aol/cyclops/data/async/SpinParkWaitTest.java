@@ -0,0 +1,53 @@
+package com.aol.cyclops.data.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.junit.Test;
+
+import com.aol.cyclops.data.async.wait.SpinParkWait;
+import com.aol.cyclops.data.async.wait.WaitStrategy.Offerable;
+import com.aol.cyclops.data.async.wait.WaitStrategy.Takeable;
+
+public class SpinParkWaitTest {
+	int called = 0;
+	Takeable<String> takeable = ()->{ 
+		called++;
+		if(called<100)
+			return null;
+		return "hello";
+	};
+	Offerable offerable = ()->{ 
+		called++;
+		if(called<100)
+			return false;
+		return true;
+	};
+	@Test
+	public void testTakeable() throws InterruptedException {
+		
+		called =0;
+		String result = new SpinParkWait<String>(10, 10, 1, 1000).take(takeable);
+		assertThat(result,equalTo("hello"));
+		assertThat(called,equalTo(100));
+		
+	}
+	@Test
+	public void testOfferable() throws InterruptedException {
+		called =0;
+		boolean result = new SpinParkWait<String>(10, 10, 1, 1000).offer(offerable);
+		assertThat(result,equalTo(true));
+		assertThat(called,equalTo(100));
+	}
+	@Test
+	public void testwithQueue(){
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(100),
+									new SpinParkWait<>(),
+									new SpinParkWait<>());
+		
+		q.offer("hello");
+		assertThat(q.get(),equalTo("hello"));
+	}
+
+}
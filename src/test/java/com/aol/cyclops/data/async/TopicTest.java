@@ -1,6 +1,7 @@
 package com.aol.cyclops.data.async;
 
 import static com.aol.cyclops.types.futurestream.BaseSimpleReactStream.parallel;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -20,6 +21,7 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.SimpleReact;
 import com.aol.cyclops.types.futurestream.BaseSimpleReactStream;
 
@@ -228,6 +230,40 @@ public class TopicTest {
 	
 	}
 	
+	@Test
+	public void offerAllBatch(){
+		Topic<Integer> topic = new Topic<>();
+		ReactiveSeq<Integer> s1 = topic.stream();
+		ReactiveSeq<Integer> s2 = topic.stream();
+		
+		topic.offerAll(Arrays.asList(1,2,3));
+		
+		assertThat(s1.limit(3).toList(),equalTo(Arrays.asList(1,2,3)));
+		assertThat(s2.limit(3).toList(),equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void dropPolicySlowSubscriberMissesMessages(){
+		Topic<Integer> topic = new Topic<>(QueueFactories.boundedQueue(2),Topic.OverflowPolicy.DROP);
+		ReactiveSeq<Integer> slow = topic.stream();
+		
+		for(int i=1;i<=5;i++)
+			topic.offer(i);
+		
+		assertThat(slow.limit(2).toList(),equalTo(Arrays.asList(1,2)));
+	}
+	@Test
+	public void blockPolicyWaitsForSlowSubscriber() throws InterruptedException{
+		Topic<Integer> topic = new Topic<>(QueueFactories.boundedQueue(2),Topic.OverflowPolicy.BLOCK);
+		ReactiveSeq<Integer> slow = topic.stream();
+		Thread publisher = new Thread(()->{
+			for(int i=1;i<=5;i++)
+				topic.offer(i);
+		});
+		publisher.start();
+		
+		assertThat(slow.limit(5).toList(),equalTo(Arrays.asList(1,2,3,4,5)));
+		publisher.join();
+	}
 	@Test
 	public void multipleQueues(){
 		Topic<Integer> topic = new Topic<>();
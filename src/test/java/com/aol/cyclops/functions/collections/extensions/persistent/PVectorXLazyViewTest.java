@@ -0,0 +1,84 @@
+package com.aol.cyclops.functions.collections.extensions.persistent;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.data.collections.extensions.FluentCollectionX;
+import com.aol.cyclops.data.collections.extensions.persistent.LazyPVectorX;
+import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
+
+public class PVectorXLazyViewTest extends PVectorXTest {
+
+    @Override
+    public <T> FluentCollectionX<T> of(T... values) {
+        return PVectorX.of(values).lazy();
+    }
+
+    @Override
+    public <T> FluentCollectionX<T> empty() {
+        return PVectorX.<T>empty().lazy();
+    }
+
+    @Override
+    public FluentCollectionX<Integer> range(int start, int end) {
+        return PVectorX.range(start, end).lazy();
+    }
+
+    @Override
+    public FluentCollectionX<Long> rangeLong(long start, long end) {
+        return PVectorX.rangeLong(start, end).lazy();
+    }
+
+    @Override
+    public <T> FluentCollectionX<T> iterate(int times, T seed, UnaryOperator<T> fn) {
+        return PVectorX.iterate(times, seed, fn).lazy();
+    }
+
+    @Override
+    public <T> FluentCollectionX<T> generate(int times, Supplier<T> fn) {
+        return PVectorX.generate(times, fn).lazy();
+    }
+
+    @Override
+    public <U, T> FluentCollectionX<T> unfold(U seed, Function<? super U, Optional<Tuple2<T, U>>> unfolder) {
+        return PVectorX.unfold(seed, unfolder).lazy();
+    }
+
+    @Test
+    public void notMaterializedUntilAccessed() {
+        AtomicInteger calls = new AtomicInteger(0);
+        PVectorX<Integer> result = PVectorX.of(1, 2, 3, 4)
+                                           .lazy()
+                                           .map(i -> {
+                                               calls.incrementAndGet();
+                                               return i * 2;
+                                           })
+                                           .filter(i -> i > 4);
+        assertThat(calls.get(), equalTo(0));
+        assertThat(((LazyPVectorX<Integer>) result).isMaterialized(), equalTo(false));
+        assertThat(result, equalTo(Arrays.asList(6, 8)));
+        assertThat(((LazyPVectorX<Integer>) result).isMaterialized(), equalTo(true));
+    }
+
+    @Test
+    public void materializedOnce() {
+        AtomicInteger calls = new AtomicInteger(0);
+        PVectorX<Integer> result = PVectorX.of(1, 2, 3)
+                                           .lazy()
+                                           .map(i -> calls.incrementAndGet());
+        assertThat(result.size(), equalTo(3));
+        assertThat(result.get(2), equalTo(3));
+        assertThat(result.stream().toList(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(calls.get(), equalTo(3));
+    }
+}
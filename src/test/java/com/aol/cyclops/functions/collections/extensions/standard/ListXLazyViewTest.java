@@ -0,0 +1,121 @@
+package com.aol.cyclops.functions.collections.extensions.standard;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.data.collections.extensions.FluentCollectionX;
+import com.aol.cyclops.data.collections.extensions.standard.LazyListX;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+public class ListXLazyViewTest extends ListXTest {
+
+    @Override
+    public <T> FluentCollectionX<T> of(T... values) {
+        return ListX.of(values).lazy();
+    }
+
+    @Override
+    public <T> FluentCollectionX<T> empty() {
+        return ListX.<T>empty().lazy();
+    }
+
+    @Override
+    public FluentCollectionX<Integer> range(int start, int end) {
+        return ListX.range(start, end).lazy();
+    }
+
+    @Override
+    public FluentCollectionX<Long> rangeLong(long start, long end) {
+        return ListX.rangeLong(start, end).lazy();
+    }
+
+    @Override
+    public <T> FluentCollectionX<T> iterate(int times, T seed, UnaryOperator<T> fn) {
+        return ListX.iterate(times, seed, fn).lazy();
+    }
+
+    @Override
+    public <T> FluentCollectionX<T> generate(int times, Supplier<T> fn) {
+        return ListX.generate(times, fn).lazy();
+    }
+
+    @Override
+    public <U, T> FluentCollectionX<T> unfold(U seed, Function<? super U, Optional<Tuple2<T, U>>> unfolder) {
+        return ListX.unfold(seed, unfolder).lazy();
+    }
+
+    @Test
+    public void notMaterializedUntilAccessed() {
+        AtomicInteger calls = new AtomicInteger(0);
+        ListX<Integer> result = ListX.of(1, 2, 3, 4)
+                                     .lazy()
+                                     .map(i -> i * 2)
+                                     .peek(i -> calls.incrementAndGet())
+                                     .filter(i -> i > 4);
+        assertThat(calls.get(), equalTo(0));
+        assertThat(((LazyListX<Integer>) result).isMaterialized(), equalTo(false));
+        assertThat(result, equalTo(Arrays.asList(6, 8)));
+        assertThat(((LazyListX<Integer>) result).isMaterialized(), equalTo(true));
+    }
+
+    @Test
+    public void materializedOnce() {
+        AtomicInteger calls = new AtomicInteger(0);
+        ListX<Integer> result = ListX.of(1, 2, 3)
+                                     .lazy()
+                                     .map(i -> calls.incrementAndGet());
+        assertThat(result.size(), equalTo(3));
+        assertThat(result.get(2), equalTo(3));
+        assertThat(result.stream().toList(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(calls.get(), equalTo(3));
+    }
+
+    @Test
+    public void streamedOnce() {
+        AtomicInteger calls = new AtomicInteger(0);
+        ListX<Integer> result = ListX.of(1, 2, 3)
+                                     .lazy()
+                                     .map(i -> calls.incrementAndGet());
+        assertThat(result.stream().limit(1).toList(), equalTo(Arrays.asList(1)));
+        assertThat(((LazyListX<Integer>) result).isMaterialized(), equalTo(false));
+        calls.set(0);
+        assertThat(result.stream().toList(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(((LazyListX<Integer>) result).isMaterialized(), equalTo(true));
+        assertThat(result.collect(Collectors.toList()), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(result.stream().toList(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(calls.get(), equalTo(3));
+    }
+
+    @Test
+    public void intermediateViewsAreReusable() {
+        ListX<Integer> by10 = ListX.of(1, 2, 3).lazy().map(i -> i * 10);
+        ListX<Integer> plus2 = by10.map(i -> i + 2);
+        ListX<Integer> big = by10.filter(i -> i > 10);
+        assertThat(plus2, equalTo(Arrays.asList(12, 22, 32)));
+        assertThat(big, equalTo(Arrays.asList(20, 30)));
+        assertThat(by10, equalTo(Arrays.asList(10, 20, 30)));
+    }
+
+    @Test
+    public void unfusedOperatorsAreDeferred() {
+        AtomicInteger calls = new AtomicInteger(0);
+        ListX<ListX<Integer>> grouped = ListX.of(1, 2, 3, 4)
+                                             .lazy()
+                                             .peek(i -> calls.incrementAndGet())
+                                             .grouped(2);
+        assertThat(calls.get(), equalTo(0));
+        assertThat(grouped.size(), equalTo(2));
+        assertThat(calls.get(), equalTo(4));
+    }
+}
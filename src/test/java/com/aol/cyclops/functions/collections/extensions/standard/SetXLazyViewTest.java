@@ -0,0 +1,72 @@
+package com.aol.cyclops.functions.collections.extensions.standard;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.data.collections.extensions.FluentCollectionX;
+import com.aol.cyclops.data.collections.extensions.standard.LazySetX;
+import com.aol.cyclops.data.collections.extensions.standard.SetX;
+
+public class SetXLazyViewTest extends SetXTest {
+
+    @Override
+    public <T> FluentCollectionX<T> of(T... values) {
+        return SetX.of(values).lazy();
+    }
+
+    @Override
+    public <T> FluentCollectionX<T> empty() {
+        return SetX.<T>empty().lazy();
+    }
+
+    @Override
+    public FluentCollectionX<Integer> range(int start, int end) {
+        return SetX.range(start, end).lazy();
+    }
+
+    @Override
+    public FluentCollectionX<Long> rangeLong(long start, long end) {
+        return SetX.rangeLong(start, end).lazy();
+    }
+
+    @Override
+    public <T> FluentCollectionX<T> iterate(int times, T seed, UnaryOperator<T> fn) {
+        return SetX.iterate(times, seed, fn).lazy();
+    }
+
+    @Override
+    public <T> FluentCollectionX<T> generate(int times, Supplier<T> fn) {
+        return SetX.generate(times, fn).lazy();
+    }
+
+    @Override
+    public <U, T> FluentCollectionX<T> unfold(U seed, Function<? super U, Optional<Tuple2<T, U>>> unfolder) {
+        return SetX.unfold(seed, unfolder).lazy();
+    }
+
+    @Test
+    public void fusedSetView() {
+        AtomicInteger calls = new AtomicInteger(0);
+        SetX<Integer> result = SetX.of(1, 2, 3, 4)
+                                   .lazy()
+                                   .map(i -> {
+                                       calls.incrementAndGet();
+                                       return i % 2;
+                                   });
+        assertThat(calls.get(), equalTo(0));
+        assertThat(result, equalTo(new HashSet<>(Arrays.asList(0, 1))));
+        assertThat(((LazySetX<Integer>) result).isMaterialized(), equalTo(true));
+        assertThat(calls.get(), equalTo(4));
+    }
+}
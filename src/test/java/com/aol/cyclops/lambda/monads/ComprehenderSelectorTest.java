@@ -1,6 +1,7 @@
 package com.aol.cyclops.lambda.monads;
 
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
@@ -29,6 +30,7 @@ import java.util.stream.Stream;
 import org.junit.Test;
 
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.internal.comprehensions.comprehenders.InvokeDynamicComprehender;
 import com.aol.cyclops.internal.comprehensions.comprehenders.ListComprehender;
 import com.aol.cyclops.internal.comprehensions.comprehenders.StreamComprehender;
 import com.aol.cyclops.internal.monads.ComprehenderSelector;
@@ -58,6 +60,20 @@ public class ComprehenderSelectorTest {
 	public void testSelectComprehenderClassObject() {
 		Stream stream = Arrays.asList(1,2,3).stream();
 		assertThat(new ComprehenderSelector().selectComprehender(stream),instanceOf(StreamComprehender.class));
+	}
+	@Test
+	public void selectionIsShared() {
+		assertThat(new ComprehenderSelector().selectComprehender(MyStream.class),
+				sameInstance(new ComprehenderSelector().selectComprehender(new MyStream())));
+	}
+	@Test
+	public void unregisteredTypesShareInvokeDynamicComprehender() {
+		assertThat(new ComprehenderSelector().selectComprehender(Unregistered.class),instanceOf(InvokeDynamicComprehender.class));
+		assertThat(new ComprehenderSelector().selectComprehender(Unregistered.class),
+				sameInstance(new ComprehenderSelector().selectComprehender(new Unregistered())));
+	}
+	static class Unregistered{
+		
 	}
 	static class MyStream implements Stream{
 
@@ -0,0 +1,118 @@
+package com.aol.cyclops.matcher;
+
+import static com.aol.cyclops.control.Matchable.otherwise;
+import static com.aol.cyclops.control.Matchable.then;
+import static com.aol.cyclops.control.Matchable.when;
+import static com.aol.cyclops.util.function.Predicates.__;
+import static com.aol.cyclops.util.function.Predicates.eq;
+import static com.aol.cyclops.util.function.Predicates.instanceOf;
+import static com.aol.cyclops.util.function.Predicates.type;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.Eval;
+import com.aol.cyclops.control.Matchable;
+import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.internal.matcher2.Case;
+import com.aol.cyclops.internal.matcher2.Cases;
+import com.aol.cyclops.types.Decomposable;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+public class CompiledCasesTest {
+
+	@Value
+	@AllArgsConstructor
+	static class Point implements Decomposable{
+		int x;
+		int y;
+	}
+
+	Cases<Object,String> mixed(){
+		return Cases.of(Case.<Object,String>of(i->i instanceof Integer && ((Integer)i)>5,i->"big"),
+						Case.<Object,String>of(eq(2),i->"two"),
+						Case.<Object,String>of(instanceOf(Integer.class),i->"int"),
+						Case.<Object,String>of(eq("hello"),i->"greeting"),
+						Case.<Object,String>of(instanceOf(CharSequence.class),i->"chars"));
+	}
+
+	@Test
+	public void compiledMatchesSequentialOrder(){
+		Cases<Object,String> sequential = mixed();
+		Cases<Object,String> compiled = mixed().compile();
+		for(Object next : new Object[]{10,2,3,"hello","world",new StringBuilder("sb"),1.0d}){
+			assertThat(compiled.match(next),equalTo(sequential.match(next)));
+		}
+		assertThat(compiled.match(10),equalTo(Maybe.of("big")));
+		assertThat(compiled.match(2),equalTo(Maybe.of("two")));
+		assertThat(compiled.match("hello"),equalTo(Maybe.of("greeting")));
+		assertThat(compiled.match(new StringBuilder("sb")),equalTo(Maybe.of("chars")));
+		assertThat(compiled.match(1.0d),equalTo(Maybe.none()));
+	}
+	@Test
+	public void matchingTwiceUsesCompiledCases(){
+		Cases<Object,String> cases = mixed();
+		assertThat(cases.match(3),equalTo(Maybe.of("int")));
+		assertThat(cases.match(3),equalTo(Maybe.of("int")));
+		assertThat(cases.match("world"),equalTo(Maybe.of("chars")));
+	}
+	@Test
+	public void equalsNull(){
+		Cases<Object,String> cases = Cases.of(Case.<Object,String>of(eq(null),i->"null"),
+											  Case.<Object,String>of(i->true,i->"other")).compile();
+		assertThat(cases.match((Object)null),equalTo(Maybe.of("null")));
+		assertThat(cases.match(1),equalTo(Maybe.of("other")));
+	}
+	@Test
+	public void manyCases(){
+		Case<Object,String>[] many = new Case[150];
+		for(int i=0;i<many.length;i++){
+			int value = i;
+			many[i] = Case.<Object,String>of(eq(value),in->"v"+value);
+		}
+		Cases<Object,String> cases = Cases.of(many).compile();
+		assertThat(cases.match(0),equalTo(Maybe.of("v0")));
+		assertThat(cases.match(70),equalTo(Maybe.of("v70")));
+		assertThat(cases.match(149),equalTo(Maybe.of("v149")));
+		assertThat(cases.match(150),equalTo(Maybe.none()));
+	}
+	@Test
+	public void compiledFunctionIsReusable(){
+		AtomicInteger calls = new AtomicInteger(0);
+		Function<Object,Eval<String>> router = Matchable.compile(c->c.is(when(1),then("one"))
+																	 .is(when(instanceOf(String.class)),then("string"))
+																	 .is(when(instanceOf(Integer.class)),()->"int"+calls.incrementAndGet()),
+																otherwise("other"));
+		assertThat(router.apply(1).get(),equalTo("one"));
+		assertThat(router.apply("hello").get(),equalTo("string"));
+		assertThat(router.apply(2).get(),equalTo("int1"));
+		assertThat(router.apply(3).get(),equalTo("int2"));
+		assertThat(router.apply(1.0d).get(),equalTo("other"));
+	}
+	@Test
+	public void compiledFunctionDecomposes(){
+		Function<Point,Eval<String>> router = Matchable.compile(c->c.is(when(type(Point.class).isGuard(1,2)),then("origin"))
+																	.is(when(type(Point.class).isGuard(1,__)),then("x1"))
+																	.is(when(type(Point.class).isGuard(__,5)),then("y5")),
+																 otherwise("none"));
+
+		for(Point next : new Point[]{new Point(1,2),new Point(1,3),new Point(4,5),new Point(4,4)}){
+			assertThat(router.apply(next).get(),
+						equalTo(Matchable.of(next)
+										 .matches(c->c.is(when(type(Point.class).isGuard(1,2)),then("origin"))
+													  .is(when(type(Point.class).isGuard(1,__)),then("x1"))
+													  .is(when(type(Point.class).isGuard(__,5)),then("y5")),
+												  otherwise("none")).get()));
+		}
+		assertThat(router.apply(new Point(1,2)).get(),equalTo("origin"));
+		assertThat(router.apply(new Point(1,3)).get(),equalTo("x1"));
+		assertThat(router.apply(new Point(4,5)).get(),equalTo("y5"));
+		assertThat(router.apply(new Point(4,4)).get(),equalTo("none"));
+	}
+}
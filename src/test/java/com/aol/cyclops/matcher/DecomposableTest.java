@@ -8,6 +8,8 @@ import java.util.List;
 
 import org.junit.Test;
 
+import com.aol.cyclops.internal.matcher2.Extractor;
+import com.aol.cyclops.internal.matcher2.Extractors;
 import com.aol.cyclops.types.Decomposable;
 
 import lombok.AllArgsConstructor;
@@ -32,5 +34,48 @@ public class DecomposableTest {
 		
 	}
 	
+	@Test
+	public void testSuperClassFieldsFirst(){
+		assertThat(new ChildDecomposable(1,"hello").unapply(),is(Arrays.asList(1,"hello")));
+		assertThat(new ChildDecomposable(2,null).unapply(),is(Arrays.asList(2,null)));
+	}
+	@Test
+	public void testCoercedUsesUnapplyMethod(){
+		Extractor<Object,Iterable<?>> extractor = Extractors.decomposeCoerced();
+		assertThat(extractor.apply(new Unapplyable(3)),is(Arrays.asList(3,3)));
+		assertThat(extractor.apply(new Unapplyable(4)),is(Arrays.asList(4,4)));
+	}
+	@Test
+	public void testCoercedReadsFields(){
+		Extractor<Object,Iterable<?>> extractor = Extractors.decomposeCoerced();
+		assertThat(extractor.apply(new PlainObject(5,"world")),is(Arrays.asList(5,"world")));
+	}
 	@Value static final class DefaultDecomposable implements Decomposable{ int num; String name; int num2;}
+
+	static class ParentDecomposable implements Decomposable{
+		private final int num;
+		ParentDecomposable(int num){
+			this.num = num;
+		}
+	}
+	static class ChildDecomposable extends ParentDecomposable{
+		private static final String IGNORED = "static";
+		private final String name;
+		ChildDecomposable(int num,String name){
+			super(num);
+			this.name = name;
+		}
+	}
+	@AllArgsConstructor
+	public static class Unapplyable{
+		private final int num;
+		public List<Integer> unapply(){
+			return Arrays.asList(num,num);
+		}
+	}
+	@AllArgsConstructor
+	static class PlainObject{
+		private final int num;
+		private final String name;
+	}
 }
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -521,4 +522,94 @@ public class FastFutureTest {
 		
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void joinWakesWhenCompletedOnAnotherThread() throws InterruptedException {
+		for (int i = 0; i < TIMES; i++) {
+			FastFuture<String> f = new FastFuture<>(FinalPipeline.empty(),0);
+			new Thread(()->f.set("done")).start();
+			assertThat(f.join(),equalTo("done"));
+		}
+	}
+	@Test
+	public void recycledOnceAfterJoin() {
+		AtomicInteger recycled = new AtomicInteger(0);
+		FastFuture<String> f = new FastFuture<>(FinalPipeline.empty(),a->recycled.incrementAndGet());
+		f.set("done");
+		assertThat(recycled.get(),equalTo(0));
+		f.join();
+		f.markComplete();
+		assertThat(recycled.get(),equalTo(1));
+	}
+	@Test
+	public void notRecycledBeforeCompletion() {
+		AtomicInteger recycled = new AtomicInteger(0);
+		FastFuture<String> f = new FastFuture<>(FinalPipeline.empty(),a->recycled.incrementAndGet());
+		f.markComplete();
+		assertThat(recycled.get(),equalTo(0));
+		f.set("done");
+		assertThat(recycled.get(),equalTo(1));
+	}
+	@Test
+	public void clearFastResets() {
+		FastFuture<String> f = new FastFuture<>(FinalPipeline.empty(),a->{});
+		f.set("done");
+		f.join();
+		f.clearFast();
+		assertFalse(f.isDone());
+		f.set("again");
+		assertThat(f.join(),equalTo("again"));
+	}
+	@Test
+	public void trackCalledOnce() {
+		AtomicInteger tracked = new AtomicInteger(0);
+		FastFuture<String> f = new FastFuture<>(FinalPipeline.empty(),0);
+		f.track(()->tracked.incrementAndGet());
+		f.set("done");
+		assertThat(tracked.get(),equalTo(1));
+		
+		FastFuture.completedFuture("done").track(()->tracked.incrementAndGet());
+		assertThat(tracked.get(),equalTo(2));
+	}
+	@Test
+	public void syncStagesFused() {
+		List<Object> peeked = new ArrayList<>();
+		FastFuture f = future.thenApply(v -> v + "1")
+				.peek(v -> peeked.add(v))
+				.thenApply(v -> v + "2")
+				.peek(v -> peeked.add(v))
+				.thenApply(v -> v + "3").build();
+
+		assertThat(f.getPipeline().functions.length, equalTo(1));
+		f.set("boo!");
+		assertThat(f.join(), equalTo("boo!123"));
+		assertThat(peeked, equalTo(java.util.Arrays.asList("boo!1", "boo!12")));
+	}
+	@Test
+	public void fusedStagesRecovered() {
+		List<Object> peeked = new ArrayList<>();
+		FastFuture f = future.thenApply(v -> v + "1")
+				.thenApply(v -> {
+					throw new RuntimeException();
+				})
+				.peek(v -> peeked.add(v))
+				.exceptionally(e -> "hello world")
+				.thenApply(v -> v + "!").build();
+
+		f.set("boo!");
+		assertThat(f.join(), equalTo("hello world!"));
+		assertThat(peeked.size(), equalTo(0));
+	}
+	@Test
+	public void fusedStagesFail() {
+		FastFuture f = future.onFail(t -> failed = t)
+				.thenApply(v -> v + "1")
+				.peek(v -> {
+					throw new RuntimeException();
+				})
+				.thenApply(v -> v + "2").build();
+
+		f.set("boo!");
+		assertNotNull(failed);
+		assertTrue(f.isCompletedExceptionally());
+	}
+}
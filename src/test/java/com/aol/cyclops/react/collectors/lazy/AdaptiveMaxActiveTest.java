@@ -0,0 +1,118 @@
+package com.aol.cyclops.react.collectors.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.LazyReact;
+
+public class AdaptiveMaxActiveTest {
+
+	private void run(MaxActive max,int tasks,long latency){
+		for(int i=0;i<tasks;i++){
+			max.started();
+			max.completed(latency);
+		}
+	}
+	private void saturate(MaxActive max,int windows,long latency){
+		for(int w=0;w<windows;w++){
+			int active = max.getMaxActive();
+			for(int i=0;i<active;i++)
+				max.started();
+			for(int i=0;i<100;i++){
+				max.completed(latency);
+				max.started();
+			}
+			for(int i=0;i<active;i++)
+				max.completed(latency);
+		}
+	}
+	@Test
+	public void isAdaptive(){
+		assertTrue(MaxActive.adaptive().isAdaptive());
+		assertThat(MaxActive.IO.isAdaptive(),equalTo(false));
+	}
+	@Test
+	public void initialLimits(){
+		MaxActive max = MaxActive.adaptive(1,100,1000);
+		assertThat(max.getMaxActive(),equalTo(100));
+		assertThat(max.getReduceTo(),equalTo(90));
+	}
+	@Test
+	public void growsWhileLatencyStableAndSaturated(){
+		MaxActive max = MaxActive.adaptive(1,10,1000);
+		saturate(max,20,1_000_000);
+		assertThat(max.getMaxActive(),greaterThan(10));
+	}
+	@Test
+	public void doesNotGrowWhenUnderused(){
+		MaxActive max = MaxActive.adaptive(1,100,1000);
+		run(max,10_000,1_000_000);
+		assertThat(max.getMaxActive(),equalTo(100));
+	}
+	@Test
+	public void shrinksWhenLatencyRises(){
+		MaxActive max = MaxActive.adaptive(1,100,1000);
+		saturate(max,5,1_000_000);
+		int before = max.getMaxActive();
+		saturate(max,20,10_000_000);
+		assertThat(max.getMaxActive(),lessThan(before));
+	}
+	@Test
+	public void doesNotShrinkWhenUnderused(){
+		MaxActive max = MaxActive.adaptive(1,100,1000);
+		run(max,1_000,1_000_000);
+		run(max,10_000,100_000_000);
+		assertThat(max.getMaxActive(),equalTo(100));
+	}
+	@Test
+	public void saturationThreshold(){
+		MaxActive max = new AdaptiveMaxActive(1,10,1000,1.5,100,0.1);
+		run(max,10_000,1_000_000);
+		assertThat(max.getMaxActive(),greaterThan(10));
+	}
+	@Test
+	public void staysWithinBounds(){
+		MaxActive max = MaxActive.adaptive(5,10,20);
+		saturate(max,100,1_000_000);
+		assertThat(max.getMaxActive(),equalTo(20));
+		
+		max = MaxActive.adaptive(5,6,20);
+		saturate(max,5,1_000_000);
+		saturate(max,20,1_000_000_000);
+		assertThat(max.getMaxActive(),equalTo(5));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void invalidLimits(){
+		MaxActive.adaptive(10,5,20);
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void invalidSaturation(){
+		new AdaptiveMaxActive(1,5,20,1.5,100,0);
+	}
+	@Test
+	public void lazyReact(){
+		ExecutorService exec = Executors.newFixedThreadPool(4);
+		try{
+			assertThat(new LazyReact(exec).withMaxActive(MaxActive.adaptive(1,4,16))
+										.range(0,1000)
+										.map(i->i+1)
+										.toList()
+										.size(),equalTo(1000));
+			assertThat(new LazyReact(exec).range(0,1000)
+										.maxActive(MaxActive.adaptive(1,4,16))
+										.map(i->i+1)
+										.toList()
+										.size(),equalTo(1000));
+		}finally{
+			exec.shutdown();
+		}
+	}
+}
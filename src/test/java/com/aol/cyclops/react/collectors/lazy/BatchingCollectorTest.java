@@ -1,25 +1,84 @@
 package com.aol.cyclops.react.collectors.lazy;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.Mockito;
 
 import com.aol.cyclops.control.LazyReact;
 import com.aol.cyclops.internal.react.async.future.FastFuture;
+import com.aol.cyclops.internal.react.async.future.FinalPipeline;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 
 public class BatchingCollectorTest {
 
 	BatchingCollector collector;
+	
+	static FastFuture completedMock(){
+		FastFuture cf = mock(FastFuture.class);
+		given(cf.isDone()).willReturn(true);
+		willAnswer(i->{
+			((Runnable)i.getArguments()[0]).run();
+			return null;
+		}).given(cf).track(any(Runnable.class));
+		return cf;
+	}
+	/*
+	 * Accept maxActive+1 incomplete futures on another thread, the last accept should block until the number running
+	 * falls to reduceTo
+	 */
+	static void assertBlocksAtMaxActive(Consumer<FastFuture> collector,int maxActive,int reduceTo) throws InterruptedException{
+		List<FastFuture<Integer>> futures = new ArrayList<>();
+		for(int i=0;i<=maxActive;i++)
+			futures.add(new FastFuture<>(FinalPipeline.empty(),0));
+		AtomicInteger accepted = new AtomicInteger(0);
+		Thread t = new Thread(()->{
+			for(FastFuture<Integer> next : futures){
+				collector.accept(next);
+				accepted.incrementAndGet();
+			}
+		});
+		t.start();
+		awaitAccepted(accepted,maxActive);
+		Thread.sleep(50);
+		assertThat(accepted.get(),equalTo(maxActive));
+		for(int i=0;i<maxActive-reduceTo;i++)
+			futures.get(i).set(i);
+		Thread.sleep(50);
+		assertThat(accepted.get(),equalTo(maxActive));
+		futures.get(maxActive-reduceTo).set(maxActive-reduceTo);
+		awaitAccepted(accepted,maxActive+1);
+		for(FastFuture<Integer> next : futures)
+			if(!next.isDone())
+				next.set(-1);
+		t.join(10000);
+	}
+	private static void awaitAccepted(AtomicInteger accepted,int count) throws InterruptedException{
+		long deadline = System.currentTimeMillis()+10000;
+		while(accepted.get()<count && System.currentTimeMillis()<deadline)
+			Thread.sleep(1);
+		assertThat(accepted.get(),equalTo(count));
+	}
 	 @Before
 	 public void setup(){
 		 collector = new BatchingCollector(MaxActive.IO,LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList());
@@ -32,66 +91,95 @@ public class BatchingCollectorTest {
 	}
 	@Test
 	public void testAcceptMock() {
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
 		verify(cf,atLeastOnce()).isDone();
 	}
 	@Test
-	public void testAcceptMock495() {
+	public void testAcceptMock495() throws InterruptedException {
 		collector = new BatchingCollector(new MaxActive(500,5),LazyFutureStream.of(1)).withResults(new ArrayList<>());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,times(1000)).isDone();
+		assertBlocksAtMaxActive(collector::accept,500,5);
 	}
 	@Test
-	public void testAcceptMock50() {
+	public void testAcceptMock50() throws InterruptedException {
 		collector = new BatchingCollector(new MaxActive(500,450),LazyFutureStream.of(1)).withResults(new ArrayList<>());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,times(1000)).isDone();
+		assertBlocksAtMaxActive(collector::accept,500,450);
 	}
 
 	@Test
-	public void testBuilder() {
+	public void testBuilder() throws InterruptedException {
 		collector = BatchingCollector.builder().blocking(LazyFutureStream.of(1)).maxActive(new MaxActive(2,1)).results(new ArrayList<>()).build();
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(999)).isDone();
+		verify(cf,times(1000)).isDone();
+		assertBlocksAtMaxActive(collector::accept,2,1);
 	}
 
 	@Test
-	public void testWithMaxActive() {
+	public void testWithMaxActive() throws InterruptedException {
 		collector = collector.withMaxActive(new MaxActive(10000,5));
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(0)).isDone();
+		verify(cf,times(1000)).isDone();
+		assertBlocksAtMaxActive(collector::accept,10000,5);
 	}
 
 	@Test
-	public void testBatchingCollectorMaxActive() {
+	public void testBatchingCollectorMaxActive() throws InterruptedException {
 		collector = new BatchingCollector(new MaxActive(10,5),LazyFutureStream.of(1)).withResults(new HashSet<>());
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(990)).isDone();
+		verify(cf,times(1000)).isDone();
+		assertBlocksAtMaxActive(collector::accept,10,5);
+	}
+	@Test
+	public void acceptWaitsForRunningToReduce() throws InterruptedException {
+		collector = new BatchingCollector(new MaxActive(2,1),LazyFutureStream.of(1)).withResults(new ArrayList<>());
+		FastFuture<Integer> f1 = new FastFuture<>(FinalPipeline.empty(),0);
+		FastFuture<Integer> f2 = new FastFuture<>(FinalPipeline.empty(),0);
+		FastFuture<Integer> f3 = new FastFuture<>(FinalPipeline.empty(),0);
+		CountDownLatch accepted = new CountDownLatch(1);
+		Thread t = new Thread(()->{
+			collector.accept(f1);
+			collector.accept(f2);
+			collector.accept(f3);
+			accepted.countDown();
+		});
+		t.start();
+		
+		assertFalse(accepted.await(100, TimeUnit.MILLISECONDS));
+		f2.set(2);
+		assertFalse(accepted.await(100, TimeUnit.MILLISECONDS)); //reduce to 1 running
+		f1.set(1);
+		assertTrue(accepted.await(10, TimeUnit.SECONDS));
+		assertThat(collector.getResults().size(),equalTo(2));
+		
+		assertThat(collector.getAllResults().size(),equalTo(3));
+	}
+	@Test
+	public void completedResultsCollectedInOrder() {
+		for(int i=0;i<10;i++)
+			collector.accept(FastFuture.completedFuture(i));
+		assertThat(((List<FastFuture>)collector.getResults()).stream().map(FastFuture::join).collect(Collectors.toList()),
+						equalTo(Arrays.asList(0,1,2,3,4,5,6,7,8,9)));
 	}
-
 
 }
@@ -1,11 +1,10 @@
 package com.aol.cyclops.react.collectors.lazy;
 
+import static com.aol.cyclops.react.collectors.lazy.BatchingCollectorTest.assertBlocksAtMaxActive;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -29,32 +28,31 @@ public class EmptyCollectorTest {
 	}
 	@Test
 	public void testAcceptMock() {
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = BatchingCollectorTest.completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
 		verify(cf,atLeastOnce()).isDone();
 	}
 	@Test
-	public void testAcceptMock495() {
+	public void testAcceptMock495() throws InterruptedException {
 		collector = new EmptyCollector<>(new MaxActive(500,5),cf -> cf.join());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = BatchingCollectorTest.completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,times(1000)).isDone();
+		assertBlocksAtMaxActive(collector::accept,500,5);
 	}
 	@Test
-	public void testAcceptMock50() {
+	public void testAcceptMock50() throws InterruptedException {
 		collector = new EmptyCollector<>(new MaxActive(500,450),cf -> cf.join());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = BatchingCollectorTest.completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,times(1000)).isDone();
+		assertBlocksAtMaxActive(collector::accept,500,450);
 	}
 
 	@Test
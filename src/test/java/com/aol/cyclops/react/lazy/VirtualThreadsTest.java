@@ -0,0 +1,63 @@
+package com.aol.cyclops.react.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.control.SimpleReact;
+import com.aol.cyclops.react.ThreadPools;
+import com.aol.cyclops.react.collectors.lazy.MaxActive;
+
+public class VirtualThreadsTest {
+
+	private int sleep(int i){
+		try {
+			Thread.sleep(100);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return i;
+	}
+	@Test
+	public void usesVirtualThreadExecutor(){
+		LazyReact react = LazyReact.virtualThreads();
+		assertTrue(ThreadPools.isVirtualThreadExecutor(react.getExecutor()));
+		assertTrue(react.isAsync());
+		assertThat(react.getMaxActive(),equalTo(ThreadPools.isVirtualThreadsSupported() ? MaxActive.VIRTUAL_THREADS : MaxActive.IO));
+		assertTrue(ThreadPools.isVirtualThreadExecutor(SimpleReact.virtualThreads().getExecutor()));
+	}
+	@Test
+	public void blockingTasksRunConcurrently(){
+		long start = System.currentTimeMillis();
+		assertThat(LazyReact.virtualThreads()
+							.range(0,100)
+							.map(this::sleep)
+							.toList()
+							.size(),equalTo(100));
+		assertThat(System.currentTimeMillis()-start,lessThan(5_000l));
+	}
+	@Test
+	public void simpleReact(){
+		assertThat(SimpleReact.virtualThreads()
+							  .range(0,100)
+							  .then(this::sleep)
+							  .block()
+							  .size(),equalTo(100));
+	}
+	@Test
+	public void run() throws InterruptedException{
+		CountDownLatch latch = new CountDownLatch(100);
+		LazyReact.virtualThreads()
+				 .range(0,100)
+				 .peek(i->latch.countDown())
+				 .run();
+		assertTrue(latch.await(10,TimeUnit.SECONDS));
+	}
+}
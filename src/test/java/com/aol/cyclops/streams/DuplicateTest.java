@@ -0,0 +1,93 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.control.StreamUtils.LagPolicy;
+
+public class DuplicateTest {
+
+	@Test
+	public void copiesSeeAllElements(){
+		List<Iterator<Integer>> copies = StreamUtils.toBufferingCopier(Arrays.asList(1,2,3).iterator(),3);
+		assertThat(copies.get(2).next(),equalTo(1));
+		assertThat(copies.get(0).next(),equalTo(1));
+		assertThat(copies.get(0).next(),equalTo(2));
+		assertThat(copies.get(0).next(),equalTo(3));
+		assertFalse(copies.get(0).hasNext());
+		assertThat(copies.get(1).next(),equalTo(1));
+		assertThat(copies.get(1).next(),equalTo(2));
+		assertThat(copies.get(2).next(),equalTo(2));
+		assertThat(copies.get(2).next(),equalTo(3));
+		assertThat(copies.get(1).next(),equalTo(3));
+		assertFalse(copies.get(1).hasNext());
+		assertFalse(copies.get(2).hasNext());
+	}
+	@Test
+	public void largeDuplicate(){
+		Tuple2<ReactiveSeq<Integer>,ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,100_000).duplicateSequence();
+		assertThat(copies.v1.count(),equalTo(100_000l));
+		assertThat(copies.v2.map(i->(long)i).reduce(0l,Long::sum),equalTo(4_999_950_000l));
+	}
+	@Test
+	public void failFast(){
+		Tuple2<ReactiveSeq<Integer>,ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,1000).duplicateSequence(100,LagPolicy.FAIL_FAST);
+		try{
+			copies.v1.toList();
+			fail("IllegalStateException expected");
+		}catch(IllegalStateException e){
+
+		}
+	}
+	@Test
+	public void failFastWithinLag(){
+		Tuple2<ReactiveSeq<Integer>,ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,1000).duplicateSequence(100,LagPolicy.FAIL_FAST);
+		Iterator<Integer> a = copies.v1.iterator();
+		Iterator<Integer> b = copies.v2.iterator();
+		int count = 0;
+		while(a.hasNext()){
+			assertThat(a.next(),equalTo(b.next()));
+			count++;
+		}
+		assertThat(count,equalTo(1000));
+	}
+	@Test
+	public void blockWithSeparateThreads(){
+		Tuple2<ReactiveSeq<Integer>,ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,100_000).duplicateSequence(64,LagPolicy.BLOCK);
+		CompletableFuture<Long> writer = CompletableFuture.supplyAsync(()->copies.v1.count());
+		assertThat(copies.v2.map(i->(long)i).reduce(0l,Long::sum),equalTo(4_999_950_000l));
+		assertThat(writer.join(),equalTo(100_000l));
+	}
+	@Test
+	public void blockReleasedByClosedShortCircuitingCopy() throws Exception{
+		Tuple2<ReactiveSeq<Integer>,ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,10_000).duplicateSequence(16,LagPolicy.BLOCK);
+		try(ReactiveSeq<Integer> first = copies.v1){
+			assertThat(first.limit(5).toList(),equalTo(Arrays.asList(0,1,2,3,4)));
+		}
+		CompletableFuture<Long> rest = CompletableFuture.supplyAsync(()->copies.v2.count());
+		assertThat(rest.get(10,TimeUnit.SECONDS),equalTo(10_000l));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void maxLagAtLeastOne(){
+		ReactiveSeq.range(0,10).duplicateSequence(0,LagPolicy.BLOCK);
+	}
+	@Test
+	public void insertAtUsesLimitedCopy(){
+		assertThat(StreamUtils.insertAt(ReactiveSeq.of(1,2,3),1,100).collect(Collectors.toList()),equalTo(Arrays.asList(1,100,2,3)));
+		assertThat(StreamUtils.deleteBetween(ReactiveSeq.of(1,2,3,4),1,3).collect(Collectors.toList()),equalTo(Arrays.asList(1,4)));
+	}
+}
@@ -0,0 +1,141 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.internal.stream.spliterators.MappedFileSpliterator;
+import com.aol.cyclops.util.stream.Framing;
+
+public class MappedFileTest {
+
+	List<Path> files = new ArrayList<>();
+
+	@After
+	public void cleanup() throws IOException{
+		for(Path p : files)
+			Files.deleteIfExists(p);
+	}
+	private Path file(byte[] content) throws IOException{
+		Path p = Files.createTempFile("mapped", ".txt");
+		files.add(p);
+		Files.write(p, content);
+		return p;
+	}
+	private Path file(String content) throws IOException{
+		return file(content.getBytes(StandardCharsets.UTF_8));
+	}
+	private static String decode(ByteBuffer b){
+		return StandardCharsets.UTF_8.decode(b).toString();
+	}
+
+	@Test
+	public void lines() throws IOException{
+		Path p = file("hello\r\nworld\n\nlast");
+		assertThat(ReactiveSeq.fromMappedFile(p,Framing.lines()).map(MappedFileTest::decode).toList(),
+				equalTo(Arrays.asList("hello","world","","last")));
+	}
+	@Test
+	public void trailingDelimiter() throws IOException{
+		Path p = file("a,b,");
+		assertThat(ReactiveSeq.fromMappedFile(p,Framing.delimited((byte)',')).map(MappedFileTest::decode).toList(),
+				equalTo(Arrays.asList("a","b")));
+	}
+	@Test
+	public void emptyFile() throws IOException{
+		Path p = file("");
+		assertThat(ReactiveSeq.fromMappedFile(p,Framing.lines()).count(),equalTo(0l));
+	}
+	@Test
+	public void lengthPrefixed() throws IOException{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		for(String s : Arrays.asList("one","","three")){
+			out.writeInt(s.length());
+			out.write(s.getBytes(StandardCharsets.UTF_8));
+		}
+		Path p = file(bytes.toByteArray());
+		assertThat(ReactiveSeq.fromMappedFile(p,Framing.lengthPrefixed()).map(MappedFileTest::decode).toList(),
+				equalTo(Arrays.asList("one","","three")));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void negativeLengthPrefix() throws IOException{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(-5);
+		out.write("hello".getBytes(StandardCharsets.UTF_8));
+		Path p = file(bytes.toByteArray());
+		ReactiveSeq.fromMappedFile(p,Framing.lengthPrefixed()).toList();
+	}
+	@Test
+	public void fixedLength() throws IOException{
+		Path p = file("aabbcc");
+		assertThat(ReactiveSeq.fromMappedFile(p,Framing.fixedLength(2)).map(MappedFileTest::decode).toList(),
+				equalTo(Arrays.asList("aa","bb","cc")));
+	}
+	@Test
+	public void recordsAreReadOnly() throws IOException{
+		Path p = file("abc");
+		assertThat(ReactiveSeq.fromMappedFile(p,Framing.lines()).toList().get(0).isReadOnly(),equalTo(true));
+	}
+	@Test
+	public void smallWindowRemaps() throws IOException{
+		String content = ReactiveSeq.range(0,1000).map(i->"line"+i).join("\n");
+		Path p = file(content);
+		try(FileChannel channel = FileChannel.open(p,StandardOpenOption.READ)){
+			List<String> lines = StreamSupport.stream(new MappedFileSpliterator(channel,Framing.lines(),4),false)
+												.map(MappedFileTest::decode)
+												.collect(Collectors.toList());
+			assertThat(lines,equalTo(ReactiveSeq.range(0,1000).map(i->"line"+i).toList()));
+		}
+	}
+	@Test
+	public void parallelSplitsLines() throws IOException{
+		List<String> expected = ReactiveSeq.range(0,50_000).map(i->"record-"+i).toList();
+		Path p = file(String.join("\n",expected));
+		assertThat(ReactiveSeq.fromMappedFile(p,Framing.lines()).spliterator().trySplit()!=null,equalTo(true));
+		assertThat(ReactiveSeq.fromMappedFile(p,Framing.lines()).parallel().map(MappedFileTest::decode).toList(),
+				equalTo(expected));
+	}
+	@Test
+	public void parallelSplitsFixedLength() throws IOException{
+		StringBuilder b = new StringBuilder();
+		for(int i=0;i<40_000;i++)
+			b.append(String.format("%08d",i));
+		Path p = file(b.toString());
+		assertThat(ReactiveSeq.fromMappedFile(p,Framing.fixedLength(8)).parallel().map(MappedFileTest::decode).map(Integer::parseInt).toList(),
+				equalTo(ReactiveSeq.range(0,40_000).toList()));
+	}
+	@Test
+	public void flatMapMappedFile() throws IOException{
+		Path a = file("1\n2");
+		Path b = file("3\n4");
+		assertThat(ReactiveSeq.of(a,b).flatMapMappedFile(path->path,Framing.lines()).map(MappedFileTest::decode).toList(),
+				equalTo(Arrays.asList("1","2","3","4")));
+	}
+	@Test
+	public void lazyFutureStream() throws IOException{
+		Path p = file("x\ny\nz");
+		assertThat(new LazyReact().fromMappedFile(p,Framing.lines()).map(MappedFileTest::decode).toList(),
+				equalTo(Arrays.asList("x","y","z")));
+	}
+}
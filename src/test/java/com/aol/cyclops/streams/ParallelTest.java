@@ -0,0 +1,92 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.ReactiveSeq;
+
+public class ParallelTest {
+
+	@Test
+	public void isParallel(){
+		assertFalse(ReactiveSeq.of(1,2,3).isParallel());
+		assertTrue(ReactiveSeq.of(1,2,3).parallel().isParallel());
+		assertFalse(ReactiveSeq.of(1,2,3).parallel().sequential().isParallel());
+	}
+	@Test
+	public void rangeSum(){
+		assertThat(ReactiveSeq.range(0,100_000).parallel().map(i->(long)i).reduce(0l,Long::sum),
+					equalTo(LongStream.range(0,100_000).sum()));
+	}
+	@Test
+	public void rangeOrder(){
+		assertThat(ReactiveSeq.range(0,10_000).parallel().map(i->i*2).collect(Collectors.toList()),
+					equalTo(IntStream.range(0,10_000).map(i->i*2).boxed().collect(Collectors.toList())));
+	}
+	@Test
+	public void rangeLongOrder(){
+		assertThat(ReactiveSeq.rangeLong(0,10_000).parallel().collect(Collectors.toList()),
+					equalTo(LongStream.range(0,10_000).boxed().collect(Collectors.toList())));
+	}
+	@Test
+	public void arrayOrder(){
+		Integer[] array = IntStream.range(0,10_000).boxed().toArray(Integer[]::new);
+		assertThat(ReactiveSeq.of(array).parallel().collect(Collectors.toList()),equalTo(Arrays.asList(array)));
+	}
+	@Test
+	public void listOrder(){
+		List<Integer> list = new ArrayList<>();
+		for(int i=0;i<10_000;i++)
+			list.add(i);
+		assertThat(ReactiveSeq.fromList(list).parallel().collect(Collectors.toList()),equalTo(list));
+	}
+	@Test
+	public void reversedParallel(){
+		List<Integer> expected = new ArrayList<>();
+		for(int i=9_999;i>=0;i--)
+			expected.add(i);
+		Integer[] array = IntStream.range(0,10_000).boxed().toArray(Integer[]::new);
+		List<Integer> list = Arrays.asList(array);
+		assertThat(ReactiveSeq.of(array).reverse().parallel().collect(Collectors.toList()),equalTo(expected));
+		assertThat(ReactiveSeq.fromList(list).reverse().parallel().collect(Collectors.toList()),equalTo(expected));
+		assertThat(ReactiveSeq.range(0,10_000).reverse().parallel().collect(Collectors.toList()),equalTo(expected));
+	}
+	@Test
+	public void reverseTwice(){
+		assertThat(ReactiveSeq.of(1,2,3).reverse().reverse().toList(),equalTo(Arrays.asList(1,2,3)));
+		assertThat(ReactiveSeq.range(0,3).reverse().reverse().toList(),equalTo(Arrays.asList(0,1,2)));
+		assertThat(ReactiveSeq.fromList(Arrays.asList(1,2,3)).reverse().reverse().toList(),equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void splits(){
+		assertThat(ReactiveSeq.range(0,1000).spliterator().trySplit().estimateSize(),equalTo(500l));
+		assertThat(ReactiveSeq.of(1,2,3,4).spliterator().trySplit().estimateSize(),equalTo(2l));
+	}
+	@Test
+	public void customPool(){
+		ForkJoinPool pool = new ForkJoinPool(2);
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		long count = ReactiveSeq.range(0,10_000)
+								.parallel(pool,s->s.peek(i->threads.add(Thread.currentThread())).map(i->1l).reduce(0l,Long::sum));
+		assertThat(count,equalTo(10_000l));
+		assertThat(threads.size(),greaterThan(0));
+		for(Thread t : threads)
+			assertTrue(t.getName().startsWith("ForkJoinPool-"));
+		pool.shutdown();
+	}
+}
@@ -4,8 +4,13 @@ package com.aol.cyclops.streams;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
 import org.junit.Test;
 
+import com.aol.cyclops.Monoid;
+import com.aol.cyclops.Monoids;
 import com.aol.cyclops.Reducers;
 import com.aol.cyclops.control.ReactiveSeq;
 
@@ -42,4 +47,23 @@ public class ReductionTest {
 				equalTo(",hello,2,world,4"));
 	}
 	
+	@Test
+	public void multiReducePrimitiveAndObject(){
+		Monoid<Integer> mult = Monoid.of(1,(a,b)->a*b);
+		assertThat(ReactiveSeq.of(1,2,3,4).reduce(Arrays.asList(Monoids.intSum,mult,Monoids.intMax,Monoids.intMin,Monoids.intCount)),
+				equalTo(Arrays.asList(10,24,4,1,4)));
+	}
+	@Test
+	public void multiReduceEmpty(){
+		assertThat(ReactiveSeq.<Long>empty().reduce(Arrays.asList(Monoids.longSum,Monoids.longMax)),
+				equalTo(Arrays.asList(0l,Long.MIN_VALUE)));
+	}
+	@Test
+	public void multiReduceParallel(){
+		assertThat(ReactiveSeq.range(0,100_000).parallel().reduce(Arrays.asList(Monoids.intSum,Monoids.intMax,Monoids.intMin,Monoids.intCount)),
+				equalTo(Arrays.asList(IntStream.range(0,100_000).sum(),99_999,0,100_000)));
+		assertThat(ReactiveSeq.range(0,1000).map(i->(double)i).parallel().reduce(Arrays.asList(Monoids.doubleSum,Monoids.doubleMax)),
+				equalTo(Arrays.asList(499500d,999d)));
+	}
+	
 }
@@ -0,0 +1,87 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.control.Streamable;
+import com.aol.cyclops.data.collections.extensions.CollectionX;
+import com.aol.cyclops.internal.stream.ReplayableCollection;
+
+public class ReplayableCollectionTest {
+
+	@Test
+	public void replaysAcrossSegments(){
+		List<Integer> expected = IntStream.range(0,10_000).boxed().collect(Collectors.toList());
+		Streamable<Integer> streamable = Streamable.fromStream(expected.stream());
+		assertThat(streamable.stream().limit(10).toList(),equalTo(expected.subList(0,10)));
+		assertThat(streamable.toList(),equalTo(expected));
+		assertThat(streamable.toList(),equalTo(expected));
+	}
+	@Test
+	public void pullsSourceOnce(){
+		AtomicInteger pulled = new AtomicInteger(0);
+		CollectionX<Integer> lazy = StreamUtils.toConcurrentLazyCollection(Stream.of(1,2,3).peek(i->pulled.incrementAndGet()));
+		assertThat(pulled.get(),equalTo(0));
+		assertThat(lazy.size(),equalTo(3));
+		assertThat(new ArrayList<>(lazy),equalTo(Arrays.asList(1,2,3)));
+		assertThat(pulled.get(),equalTo(3));
+	}
+	@Test
+	public void equalsAndHashCode(){
+		ReplayableCollection<Integer> a = new ReplayableCollection<>(Arrays.asList(1,2,3).iterator(),false);
+		ReplayableCollection<Integer> b = new ReplayableCollection<>(Arrays.asList(1,2,3).iterator(),true);
+		assertThat(a,equalTo(b));
+		assertThat(a.hashCode(),equalTo(b.hashCode()));
+		assertThat(a.hashCode(),equalTo(Arrays.asList(1,2,3).hashCode()));
+	}
+	@Test
+	public void nullElements(){
+		assertThat(new ArrayList<>(new ReplayableCollection<>(Arrays.asList(1,null,3).iterator(),true)),equalTo(Arrays.asList(1,null,3)));
+	}
+	@Test
+	public void concurrentReplay(){
+		Streamable<Integer> streamable = Streamable.synchronizedFromStream(IntStream.range(0,100_000).boxed());
+		List<CompletableFuture<Long>> sums = new ArrayList<>();
+		for(int i=0;i<8;i++)
+			sums.add(CompletableFuture.supplyAsync(()->streamable.stream().map(n->(long)n).reduce(0l,Long::sum)));
+		for(CompletableFuture<Long> sum : sums)
+			assertThat(sum.join(),equalTo(4_999_950_000l));
+	}
+	@Test
+	public void maxSizeEvicts(){
+		Streamable<Integer> streamable = Streamable.synchronizedFromStream(ReactiveSeq.range(0,1000),100);
+		assertThat(streamable.stream().count(),equalTo(1000l));
+		List<Integer> retained = streamable.toList();
+		assertThat(retained.size(),greaterThanOrEqualTo(100));
+		assertThat(retained.size(),lessThan(1000));
+		assertThat(retained.get(retained.size()-1),equalTo(999));
+		assertThat(retained,equalTo(IntStream.range(1000-retained.size(),1000).boxed().collect(Collectors.toList())));
+	}
+	@Test
+	public void laggingIteratorSkipsEvicted(){
+		ReplayableCollection<Integer> cache = new ReplayableCollection<>(IntStream.range(0,1000).iterator(),true,16);
+		Iterator<Integer> slow = cache.iterator();
+		assertThat(slow.next(),equalTo(0));
+		Iterator<Integer> fast = cache.iterator();
+		while(fast.hasNext())
+			fast.next();
+		int next = slow.next();
+		assertThat(next,greaterThanOrEqualTo(1000-32));
+	}
+}
@@ -0,0 +1,71 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+public class SlidingViewTest {
+
+	@Test
+	public void slidingMatchesPrevious(){
+		assertThat(StreamUtils.sliding(Stream.of(1,2,3,4,5,6),3,2).collect(Collectors.toList()),
+				equalTo(Arrays.asList(Arrays.asList(1,2,3),Arrays.asList(3,4,5),Arrays.asList(5,6))));
+		assertThat(StreamUtils.sliding(Stream.of(1,2,3),2,3).collect(Collectors.toList()),
+				equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3))));
+		assertThat(StreamUtils.sliding(Stream.of(1),3).collect(Collectors.toList()),
+				equalTo(Arrays.asList(Arrays.asList(1))));
+		assertThat(StreamUtils.sliding(Stream.of(),3).count(),equalTo(0l));
+	}
+	@Test
+	public void windowsAreIndependent(){
+		List<ListX<Integer>> windows = ReactiveSeq.range(0,1000).sliding(100).toList();
+		assertThat(windows.size(),equalTo(901));
+		assertThat(windows.get(0).get(99),equalTo(99));
+		assertThat(windows.get(900).get(0),equalTo(900));
+	}
+	@Test
+	public void window(){
+		assertThat(StreamUtils.window(Stream.of(1,2,3,4),2,1).map(s->s.toList()).collect(Collectors.toList()),
+				equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(2,3),Arrays.asList(3,4))));
+	}
+	@Test
+	public void movingAverage(){
+		assertThat(ReactiveSeq.of(1,2,3,4,5,6)
+							.slidingView(3,1)
+							.map(w->w.stream().mapToInt(i->i).average().getAsDouble())
+							.toList(),equalTo(Arrays.asList(2.0,3.0,4.0,5.0)));
+	}
+	@Test
+	public void largeMovingAverage(){
+		double last = ReactiveSeq.range(0,100_000)
+								.slidingView(1000,1)
+								.map(w->w.get(w.size()-1)-w.get(0))
+								.reduce(0,(a,b)->b);
+		assertThat(last,equalTo(999d));
+	}
+	@Test
+	public void viewIsReadOnly(){
+		try{
+			ReactiveSeq.of(1,2,3).slidingView(2,1).forEach(w->w.add(4));
+			fail("UnsupportedOperationException expected");
+		}catch(UnsupportedOperationException e){
+
+		}
+	}
+	@Test(expected=IllegalStateException.class)
+	public void staleView(){
+		List<ListX<Integer>> views = ReactiveSeq.of(1,2,3).slidingView(2,1).toList();
+		views.get(0).get(0);
+	}
+}
@@ -0,0 +1,165 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.control.Streamable;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.internal.stream.operators.SpillingOperator;
+import com.aol.cyclops.util.stream.Serializer;
+
+public class SpillingTest {
+
+	private List<Integer> randomInts(int size,int bound){
+		Random r = new Random(42);
+		List<Integer> list = new ArrayList<>();
+		for(int i=0;i<size;i++)
+			list.add(r.nextInt(bound));
+		return list;
+	}
+	private int spillFiles(){
+		String[] files = new File(System.getProperty("java.io.tmpdir")).list((d,n)->n.startsWith("cyclops-spill"));
+		return files==null ? 0 : files.length;
+	}
+
+	@Test
+	public void sortedInMemory(){
+		assertThat(ReactiveSeq.of(4,3,6,7).sorted(Comparator.naturalOrder(),10,Serializer.ints()).toList(),
+				equalTo(Arrays.asList(3,4,6,7)));
+	}
+	@Test
+	public void sortedSpills(){
+		int before = spillFiles();
+		List<Integer> data = randomInts(10_000,1_000_000);
+		List<Integer> expected = new ArrayList<>(data);
+		Collections.sort(expected);
+		assertThat(ReactiveSeq.fromList(data).sorted(Comparator.naturalOrder(),100,Serializer.ints()).toList(),
+				equalTo(expected));
+		assertThat(spillFiles(),equalTo(before));
+	}
+	@Test
+	public void sortedMergesRunsInGroups() throws IOException{
+		Path dir = Files.createTempDirectory("spilling-test");
+		try{
+			List<Integer> data = randomInts(10_000,1_000_000);
+			List<Integer> expected = new ArrayList<>(data);
+			Collections.sort(expected);
+			Iterator<Integer> it = StreamUtils.sorted(data.stream(),Comparator.naturalOrder(),10,Serializer.ints(),dir).iterator();
+			List<Integer> result = new ArrayList<>();
+			result.add(it.next());
+			//999 spilled runs have been merged down to fewer than the maximum fan in
+			assertThat((int)Files.list(dir).count(),lessThan(64));
+			it.forEachRemaining(result::add);
+			assertThat(result,equalTo(expected));
+			assertThat(Files.list(dir).count(),equalTo(0L));
+		}finally{
+			Files.delete(dir);
+		}
+	}
+	@Test
+	public void sortedIsStable(){
+		List<String> data = ReactiveSeq.range(0,1000).map(i->(i%10)+":"+i).toList();
+		List<String> expected = new ArrayList<>(data);
+		Comparator<String> byPrefix = Comparator.comparing(s->s.charAt(0));
+		expected.sort(byPrefix);
+		assertThat(ReactiveSeq.fromList(data).sorted(byPrefix,7,Serializer.strings()).toList(),
+				equalTo(expected));
+	}
+	@Test
+	public void distinctSpills(){
+		List<Integer> data = randomInts(10_000,2_000);
+		Set<Integer> result = new HashSet<>();
+		List<Integer> list = ReactiveSeq.fromList(data).distinct(50,Serializer.ints()).toList();
+		result.addAll(list);
+		assertThat(list.size(),equalTo(result.size()));
+		assertThat(result,equalTo(new HashSet<>(data)));
+	}
+	@Test
+	public void distinctInMemoryKeepsOrder(){
+		assertThat(ReactiveSeq.of(3,1,3,2,1).distinct(10,Serializer.ints()).toList(),
+				equalTo(Arrays.asList(3,1,2)));
+		assertThat(ReactiveSeq.of(3,1,3,2,1).distinct(2,Serializer.ints()).toSet(),
+				equalTo(new HashSet<>(Arrays.asList(3,1,2))));
+	}
+	@Test
+	public void groupBySpills(){
+		List<Integer> data = randomInts(5_000,1_000);
+		Map<Integer,List<Integer>> expected = data.stream().collect(Collectors.groupingBy(i->i%37,TreeMap::new,Collectors.toList()));
+		Map<Integer,List<Integer>> result = new TreeMap<>();
+		for(Tuple2<Integer,ListX<Integer>> group : ReactiveSeq.fromList(data).groupBy(i->i%37,100,Serializer.ints()))
+			result.put(group.v1,group.v2);
+		assertThat(result,equalTo(expected));
+	}
+	@Test
+	public void groupBySingleHotKeyStopsPartitioning() throws IOException{
+		Path dir = Files.createTempDirectory("spilling-test");
+		try{
+			Iterator<Tuple2<Integer,ListX<Integer>>> it = new SpillingOperator<>(ReactiveSeq.range(0,1_000),10,Serializer.ints(),dir)
+					.groupBy(i->0).iterator();
+			Tuple2<Integer,ListX<Integer>> group = it.next();
+			//one split shows every record shares a partition, there is no point partitioning all the way down
+			assertThat((int)Files.list(dir).count(),lessThan(48));
+			assertThat(group.v2,equalTo(ReactiveSeq.range(0,1_000).toList()));
+			assertThat(it.hasNext(),equalTo(false));
+		}finally{
+			Files.list(dir).forEach(f->f.toFile().delete());
+			Files.delete(dir);
+		}
+	}
+	@Test
+	public void groupByInMemory(){
+		assertThat(ReactiveSeq.of(1,2,3,4).groupBy(i->i%2,10,Serializer.ints()).map(t->t.v1).toList(),
+				equalTo(Arrays.asList(1,0)));
+	}
+	@Test
+	public void reverseSpills(){
+		int before = spillFiles();
+		List<Integer> data = ReactiveSeq.range(0,1_005).toList();
+		List<Integer> expected = new ArrayList<>(data);
+		Collections.reverse(expected);
+		assertThat(ReactiveSeq.fromList(data).reverse(10,Serializer.ints()).toList(),equalTo(expected));
+		assertThat(spillFiles(),equalTo(before));
+	}
+	@Test
+	public void streamableReplays(){
+		Streamable<String> sorted = Streamable.of("c","a","b").sorted(Comparator.naturalOrder(),1,Serializer.strings());
+		assertThat(sorted.toList(),equalTo(Arrays.asList("a","b","c")));
+		assertThat(sorted.toList(),equalTo(Arrays.asList("a","b","c")));
+		assertThat(Streamable.of("a","b","a").distinct(1,Serializer.strings()).toList().size(),equalTo(2));
+	}
+	@Test
+	public void closeDeletesFiles(){
+		int before = spillFiles();
+		ReactiveSeq<Integer> sorted = ReactiveSeq.fromList(randomInts(1000,100)).sorted(Comparator.naturalOrder(),10,Serializer.ints());
+		sorted.limit(5).forEach(i->{});
+		sorted.close();
+		assertThat(spillFiles(),equalTo(before));
+		Set<String> javaSerialized = new LinkedHashSet<>(ReactiveSeq.of("x","y","x")
+				.distinct(1,Serializer.<String>java()).toList());
+		assertThat(javaSerialized,equalTo(new HashSet<>(Arrays.asList("x","y"))));
+	}
+}
@@ -0,0 +1,273 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.react.TimerWheel;
+import com.aol.cyclops.react.TimerWheel.Timeout;
+import com.aol.cyclops.types.stream.reactive.TimedSubscriber;
+
+public class TimedSubscriberTest {
+
+	@Test
+	public void timerWheelFires() throws InterruptedException{
+		CountDownLatch latch = new CountDownLatch(1000);
+		for(int i=0;i<1000;i++)
+			TimerWheel.shared().schedule(latch::countDown,i%50,TimeUnit.MILLISECONDS);
+		assertTrue(latch.await(5,TimeUnit.SECONDS));
+	}
+	@Test
+	public void timerWheelLongDelay() throws InterruptedException{
+		TimerWheel wheel = new TimerWheel(1,TimeUnit.MILLISECONDS,4);
+		CountDownLatch latch = new CountDownLatch(1);
+		long start = System.nanoTime();
+		wheel.schedule(latch::countDown,50,TimeUnit.MILLISECONDS);
+		assertTrue(latch.await(5,TimeUnit.SECONDS));
+		assertThat(System.nanoTime()-start,greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50)));
+		wheel.stop();
+	}
+	@Test
+	public void timerWheelCancel(){
+		TimerWheel timer = TimerWheel.manual(1,TimeUnit.MILLISECONDS,64);
+		AtomicBoolean fired = new AtomicBoolean(false);
+		Timeout timeout = timer.schedule(()->fired.set(true),20,TimeUnit.MILLISECONDS);
+		timeout.cancel();
+		timer.advance(100,TimeUnit.MILLISECONDS);
+		assertFalse(fired.get());
+	}
+	@Test
+	public void manualTimerWheel(){
+		TimerWheel timer = TimerWheel.manual(1,TimeUnit.MILLISECONDS,4);
+		List<Thread> fired = new ArrayList<>();
+		timer.schedule(()->fired.add(Thread.currentThread()),10,TimeUnit.MILLISECONDS);
+		timer.advance(9,TimeUnit.MILLISECONDS);
+		assertTrue(fired.isEmpty());
+		timer.advance(1,TimeUnit.MILLISECONDS);
+		assertThat(fired,equalTo(Arrays.asList(Thread.currentThread())));
+		assertThat(timer.nanoTime(),equalTo(TimeUnit.MILLISECONDS.toNanos(10)));
+	}
+	@Test
+	public void debounceEmitsLatestWhileIdle(){
+		TimerWheel timer = TimerWheel.manual(1,TimeUnit.MILLISECONDS,64);
+		TimedSubscriber<Integer,Integer> debounce = TimedSubscriber.debounce(timer,50,TimeUnit.MILLISECONDS);
+		Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+		debounce.subscribe(recorder);
+		debounce.onNext(1);
+		debounce.onNext(2);
+		debounce.onNext(3);
+		assertThat(recorder.values,equalTo(Arrays.asList(1)));
+		timer.advance(49,TimeUnit.MILLISECONDS);
+		assertThat(recorder.values,equalTo(Arrays.asList(1)));
+		//no further data and no completion, the trailing value is still emitted
+		timer.advance(1,TimeUnit.MILLISECONDS);
+		assertThat(recorder.values,equalTo(Arrays.asList(1,3)));
+		assertFalse(recorder.complete);
+	}
+	@Test
+	public void debounceFlushesLatestOnComplete(){
+		TimerWheel timer = TimerWheel.manual(1,TimeUnit.MILLISECONDS,64);
+		TimedSubscriber<Integer,Integer> debounce = TimedSubscriber.debounce(timer,20,TimeUnit.MILLISECONDS);
+		ReactiveSeq.of(1,2,3,4).subscribe(debounce);
+		Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+		debounce.subscribe(recorder);
+		assertThat(recorder.values,equalTo(Arrays.asList(1,4)));
+		assertTrue(recorder.complete);
+	}
+	@Test
+	public void reactiveSeqDebounce(){
+		assertThat(ReactiveSeq.of(1,2,3,4)
+							  .debounce(1,TimeUnit.SECONDS,TimerWheel.shared())
+							  .toList(),equalTo(Arrays.asList(1,4)));
+		assertThat(ReactiveSeq.of(1,2,3,4)
+							  .debounce(1,TimeUnit.SECONDS)
+							  .toList(),equalTo(Arrays.asList(1)));
+	}
+	@Test
+	public void groupedByTimeFlushesWhileIdle(){
+		TimerWheel timer = TimerWheel.manual(1,TimeUnit.MILLISECONDS,64);
+		TimedSubscriber<Integer,ListX<Integer>> batcher = TimedSubscriber.groupedBySizeAndTime(timer,Integer.MAX_VALUE,20,TimeUnit.MILLISECONDS,
+																								()->ListX.empty());
+		Recorder<ListX<Integer>> recorder = new Recorder<>(Long.MAX_VALUE);
+		batcher.subscribe(recorder);
+		batcher.onNext(1);
+		batcher.onNext(2);
+		timer.advance(19,TimeUnit.MILLISECONDS);
+		assertTrue(recorder.values.isEmpty());
+		timer.advance(1,TimeUnit.MILLISECONDS);
+		assertThat(recorder.values,equalTo(Arrays.asList(Arrays.asList(1,2))));
+		batcher.onNext(3);
+		batcher.onComplete();
+		assertThat(recorder.values,equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3))));
+		assertTrue(recorder.complete);
+	}
+	@Test
+	public void groupedBySizeAndTime(){
+		TimedSubscriber<Integer,ListX<Integer>> batcher = TimedSubscriber.groupedBySizeAndTime(2,10,TimeUnit.SECONDS);
+		ReactiveSeq.of(1,2,3,4,5).subscribe(batcher);
+		assertThat(batcher.stream().toList(),equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3,4),Arrays.asList(5))));
+	}
+	@Test
+	public void onePer(){
+		TimerWheel timer = TimerWheel.manual(1,TimeUnit.MILLISECONDS,64);
+		TimedSubscriber<Integer,Integer> paced = TimedSubscriber.onePer(timer,10,TimeUnit.MILLISECONDS);
+		ReactiveSeq.of(1,2,3,4).subscribe(paced);
+		Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+		paced.subscribe(recorder);
+		assertThat(recorder.values,equalTo(Arrays.asList(1)));
+		timer.advance(9,TimeUnit.MILLISECONDS);
+		assertThat(recorder.values,equalTo(Arrays.asList(1)));
+		timer.advance(1,TimeUnit.MILLISECONDS);
+		assertThat(recorder.values,equalTo(Arrays.asList(1,2)));
+		timer.advance(20,TimeUnit.MILLISECONDS);
+		assertThat(recorder.values,equalTo(Arrays.asList(1,2,3,4)));
+		assertTrue(recorder.complete);
+	}
+	@Test
+	public void xPer(){
+		TimerWheel timer = TimerWheel.manual(1,TimeUnit.MILLISECONDS,64);
+		TimedSubscriber<Integer,Integer> paced = TimedSubscriber.xPer(timer,2,20,TimeUnit.MILLISECONDS);
+		ReactiveSeq.of(1,2,3,4,5).subscribe(paced);
+		Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+		paced.subscribe(recorder);
+		assertThat(recorder.values,equalTo(Arrays.asList(1,2)));
+		timer.advance(20,TimeUnit.MILLISECONDS);
+		assertThat(recorder.values,equalTo(Arrays.asList(1,2,3,4)));
+		timer.advance(20,TimeUnit.MILLISECONDS);
+		assertThat(recorder.values,equalTo(Arrays.asList(1,2,3,4,5)));
+		assertTrue(recorder.complete);
+	}
+	@Test
+	public void fixedDelay(){
+		TimerWheel timer = TimerWheel.manual(1,TimeUnit.MILLISECONDS,64);
+		TimedSubscriber<Integer,Integer> delayed = TimedSubscriber.fixedDelay(timer,5,TimeUnit.MILLISECONDS);
+		ReactiveSeq.of(1,2,3).subscribe(delayed);
+		Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+		delayed.subscribe(recorder);
+		assertTrue(recorder.values.isEmpty());
+		timer.advance(5,TimeUnit.MILLISECONDS);
+		assertThat(recorder.values,equalTo(Arrays.asList(1)));
+		timer.advance(10,TimeUnit.MILLISECONDS);
+		assertThat(recorder.values,equalTo(Arrays.asList(1,2,3)));
+		assertTrue(recorder.complete);
+	}
+	@Test
+	public void upstreamDemandIsBounded(){
+		TimerWheel timer = TimerWheel.manual(1,TimeUnit.MILLISECONDS,64);
+		AtomicInteger pulled = new AtomicInteger(0);
+		TimedSubscriber<Integer,Integer> paced = TimedSubscriber.onePer(timer,1,TimeUnit.MILLISECONDS);
+		ReactiveSeq.range(0,1000).peek(i->pulled.incrementAndGet()).subscribe(paced);
+		Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+		paced.subscribe(recorder);
+		assertThat(pulled.get(),equalTo(TimedSubscriber.PREFETCH));
+		timer.advance(100,TimeUnit.MILLISECONDS);
+		assertThat(recorder.values.size(),equalTo(101));
+		assertThat(pulled.get(),lessThanOrEqualTo(101+TimedSubscriber.PREFETCH));
+		assertThat(pulled.get(),greaterThanOrEqualTo(101));
+	}
+	@Test
+	public void upstreamRequestedOnlyWithDownstreamDemand(){
+		TimerWheel timer = TimerWheel.manual(1,TimeUnit.MILLISECONDS,64);
+		AtomicInteger pulled = new AtomicInteger(0);
+		TimedSubscriber<Integer,ListX<Integer>> batcher = TimedSubscriber.groupedBySizeAndTime(timer,2,10,TimeUnit.MILLISECONDS,
+																								()->ListX.empty());
+		ReactiveSeq.range(0,1000).peek(i->pulled.incrementAndGet()).subscribe(batcher);
+		Recorder<ListX<Integer>> recorder = new Recorder<>(0);
+		batcher.subscribe(recorder);
+		assertThat(pulled.get(),equalTo(0));
+		recorder.subscription.request(1);
+		assertThat(recorder.values,equalTo(Arrays.asList(Arrays.asList(0,1))));
+		assertThat(pulled.get(),equalTo(TimedSubscriber.PREFETCH));
+	}
+	@Test
+	public void singleSubscriber(){
+		TimedSubscriber<Integer,Integer> paced = TimedSubscriber.onePer(1,TimeUnit.MILLISECONDS);
+		paced.subscribe(new Recorder<>(1));
+		Recorder<Integer> second = new Recorder<>(1);
+		paced.subscribe(second);
+		assertThat(second.error,instanceOf(IllegalStateException.class));
+	}
+	@Test
+	public void reactiveSeqOnePerPullsOnDemand(){
+		assertThat(ReactiveSeq.iterate(0,i->i+1)
+							  .onePer(1,TimeUnit.MILLISECONDS,TimerWheel.shared())
+							  .limit(3)
+							  .toList(),equalTo(Arrays.asList(0,1,2)));
+	}
+	@Test
+	public void jitter(){
+		TimedSubscriber<Integer,Integer> jittered = TimedSubscriber.jitter(1_000_000);
+		ReactiveSeq.of(1,2,3).subscribe(jittered);
+		assertThat(jittered.stream().toList(),equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void error(){
+		TimedSubscriber<Integer,Integer> paced = TimedSubscriber.onePer(1,TimeUnit.MILLISECONDS);
+		paced.onError(new IllegalStateException());
+		paced.stream().toList();
+	}
+	@Test
+	public void cancel(){
+		TimedSubscriber<Integer,Integer> paced = TimedSubscriber.onePer(1,TimeUnit.HOURS);
+		paced.onNext(1);
+		paced.onNext(2);
+		paced.cancel();
+		List<Integer> result = paced.stream().toList();
+		assertThat(result,equalTo(Arrays.asList(1)));
+	}
+
+	@Test
+	public void reactiveSeqNulls(){
+		assertThat(ReactiveSeq.of(1,null,2)
+							  .xPer(2,1,TimeUnit.MILLISECONDS,TimerWheel.shared())
+							  .toList(),equalTo(Arrays.asList(1,null,2)));
+	}
+	static class Recorder<T> implements Subscriber<T>{
+		final List<T> values = new ArrayList<>();
+		final long initialRequest;
+		Subscription subscription;
+		boolean complete = false;
+		Throwable error;
+
+		Recorder(long initialRequest){
+			this.initialRequest = initialRequest;
+		}
+		@Override
+		public void onSubscribe(Subscription s) {
+			subscription = s;
+			if(initialRequest>0)
+				s.request(initialRequest);
+		}
+		@Override
+		public void onNext(T t) {
+			values.add(t);
+		}
+		@Override
+		public void onError(Throwable t) {
+			error = t;
+		}
+		@Override
+		public void onComplete() {
+			complete = true;
+		}
+	}
+}
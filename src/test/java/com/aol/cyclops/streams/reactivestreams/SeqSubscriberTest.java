@@ -0,0 +1,132 @@
+package com.aol.cyclops.streams.reactivestreams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.async.QueueFactories;
+import com.aol.cyclops.types.stream.reactive.QueueBasedSubscriber;
+import com.aol.cyclops.types.stream.reactive.QueueBasedSubscriber.Counter;
+import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
+
+public class SeqSubscriberTest {
+
+	static class CountingPublisher implements Publisher<Integer> {
+		final int count;
+		final RuntimeException error;
+		final List<Long> requests = new CopyOnWriteArrayList<>();
+		CountingPublisher(int count){
+			this(count,null);
+		}
+		CountingPublisher(int count,RuntimeException error){
+			this.count = count;
+			this.error = error;
+		}
+		@Override
+		public void subscribe(Subscriber<? super Integer> s) {
+			s.onSubscribe(new Subscription(){
+				int next = 0;
+				boolean done = false;
+				@Override
+				public void request(long n) {
+					requests.add(n);
+					for(long i=0;i<n && next<count;i++)
+						s.onNext(next++);
+					if(next==count && !done){
+						done = true;
+						if(error!=null)
+							s.onError(error);
+						else
+							s.onComplete();
+					}
+				}
+				@Override
+				public void cancel() {
+
+				}
+			});
+		}
+	}
+	@Test
+	public void requestsOneAtATimeByDefault(){
+		CountingPublisher pub = new CountingPublisher(100);
+		SeqSubscriber<Integer> sub = SeqSubscriber.subscriber();
+		pub.subscribe(sub);
+		assertThat(sub.stream().limit(3).toList(),equalTo(Arrays.asList(0,1,2)));
+		assertThat(pub.requests,equalTo(Arrays.asList(1l,1l,1l)));
+	}
+	@Test
+	public void prefetchRequestsInBatches(){
+		CountingPublisher pub = new CountingPublisher(100);
+		SeqSubscriber<Integer> sub = SeqSubscriber.subscriber(16);
+		pub.subscribe(sub);
+		assertThat(sub.stream().toList(),equalTo(ReactiveSeq.range(0,100).toList()));
+		assertThat(pub.requests.get(0),equalTo(16l));
+		assertThat(pub.requests.get(1),equalTo(12l));
+		assertThat(pub.requests.size(),lessThan(10));
+	}
+	@Test
+	public void valuesBeforeError(){
+		CountingPublisher pub = new CountingPublisher(5,new IllegalStateException());
+		SeqSubscriber<Integer> sub = SeqSubscriber.subscriber(16);
+		pub.subscribe(sub);
+		List<Integer> values = new CopyOnWriteArrayList<>();
+		try{
+			sub.stream().forEach(values::add);
+			fail("error expected");
+		}catch(IllegalStateException e){
+			assertThat(values,equalTo(Arrays.asList(0,1,2,3,4)));
+		}
+	}
+	@Test
+	public void lazyReactFromPublisher(){
+		CountingPublisher pub = new CountingPublisher(1000);
+		assertThat(new LazyReact().fromPublisher(pub).toList().size(),equalTo(1000));
+		assertThat(pub.requests.size(),lessThan(10));
+	}
+	@Test
+	public void queueBasedSubscriberRequestsInBatches(){
+		CountingPublisher pub = new CountingPublisher(100);
+		Counter counter = new Counter(16);
+		counter.active.set(1);
+		QueueBasedSubscriber<Integer> sub = QueueBasedSubscriber.subscriber(QueueFactories.unboundedQueue(),counter,1);
+		pub.subscribe(sub);
+		sub.close();
+		assertThat(sub.reactiveSeq().toList(),equalTo(ReactiveSeq.range(0,100).toList()));
+		assertThat(pub.requests.get(0),equalTo(16l));
+		assertThat(pub.requests.size(),lessThan(20));
+	}
+	@Test
+	public void queueBasedSubscriberBoundedQueue(){
+		CountingPublisher pub = new CountingPublisher(1000);
+		Counter counter = new Counter();
+		counter.active.set(1);
+		QueueBasedSubscriber<Integer> sub = QueueBasedSubscriber.subscriber(QueueFactories.boundedQueue(10),counter,1);
+		pub.subscribe(sub);
+		sub.close();
+		assertThat(sub.reactiveSeq().toList(),equalTo(ReactiveSeq.range(0,1000).toList()));
+		assertThat(pub.requests.stream().mapToLong(l->l).max().getAsLong(),lessThan(11l));
+	}
+	@Test
+	public void mergePublishersIntoBoundedQueue(){
+		List<Integer> merged = ReactiveSeq.<Integer>of()
+										  .mergePublisher(Arrays.asList(new CountingPublisher(500),new CountingPublisher(500),new CountingPublisher(500)),
+												  		  QueueFactories.boundedQueue(5))
+										  .toList();
+		assertThat(merged.size(),equalTo(1500));
+		assertThat(ReactiveSeq.fromList(merged).sorted().toList(),
+					equalTo(ReactiveSeq.range(0,500).flatMap(i->ReactiveSeq.of(i,i,i)).toList()));
+	}
+}